@@ -0,0 +1,45 @@
+package com.demo.island.bench;
+
+import com.demo.island.game.GameItemType;
+import com.demo.island.game.GameSession;
+import com.demo.island.world.Direction8;
+import com.demo.island.world.GardenerWorldConfig;
+import com.demo.island.world.IslandTile;
+import com.demo.island.world.ItemThing;
+import com.demo.island.world.WorldGeometryConfig;
+
+/**
+ * Shared fixtures for the benchmarks: sized worlds and sessions with extra things around the spawn.
+ */
+final class BenchWorlds {
+
+    private BenchWorlds() {
+    }
+
+    /**
+     * Geometry for a {@code WIDTHxHEIGHT} world-size parameter; {@code 10x9} is the default island.
+     */
+    static WorldGeometryConfig geometry(String worldSize) {
+        String[] parts = worldSize.toLowerCase().split("x");
+        return WorldGeometryConfig.island(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+    }
+
+    /**
+     * Fresh session on a cached world of the given size, with {@code extraThings} items spread over the spawn
+     * plot and its neighbors.
+     */
+    static GameSession session(String worldSize, int extraThings) {
+        GameSession session = GameSession.newSession(geometry(worldSize), GardenerWorldConfig.defaultConfig());
+        IslandTile spawn = session.getLocationTile();
+        Direction8[] dirs = Direction8.values();
+        for (int i = 0; i < extraThings; i++) {
+            IslandTile plot = i % (dirs.length + 1) == 0 ? spawn : session.getMap().neighbor(spawn, dirs[i % (dirs.length + 1) - 1]);
+            if (plot == null) {
+                plot = spawn;
+            }
+            GameItemType type = GameItemType.values()[i % GameItemType.values().length];
+            session.getThingIndex().registerThing(new ItemThing("BENCH_ITEM_" + i, "bench item " + i, type, plot.getTileId()));
+        }
+        return session;
+    }
+}
@@ -0,0 +1,102 @@
+package com.demo.island.bench;
+
+import com.demo.island.core.GameSession;
+import com.demo.island.core.ItemInstance;
+import com.demo.island.core.ItemType;
+import com.demo.island.core.Player;
+import com.demo.island.core.TextFace;
+import com.demo.island.core.Tile;
+import com.demo.island.core.WorldState;
+import com.demo.island.dto.DmInputDto;
+import com.demo.island.dto.ScopedDmInputEncoder;
+import com.demo.island.engine.PlayerCommand;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing the DM input on a square grid of core tiles with one item per tile, as a full world
+ * dump and as a scoped payload. Each call changes one far-away item, which the scoped payload leaves out once it
+ * is beyond the radius.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DmPayloadBenchmark {
+
+    @Param({"3", "10", "30"})
+    public int side;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final PlayerCommand look = new PlayerCommand("p1", "LOOK AROUND");
+    private WorldState world;
+    private ScopedDmInputEncoder encoder;
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new WorldState(new GameSession("bench", Integer.MAX_VALUE));
+        world.getItemTypes().put("stone", new ItemType("stone", TextFace.empty("Stone"), List.of("resource"), List.of()));
+        for (int y = 0; y < side; y++) {
+            for (int x = 0; x < side; x++) {
+                String id = tileId(x, y);
+                Tile tile = new Tile(id, "BEACH", "COAST", new TextFace(id, "Sand and rocks.", "Wet sand.", ""));
+                if (x > 0) {
+                    tile.connect(Tile.Direction.W, tileId(x - 1, y));
+                }
+                if (x < side - 1) {
+                    tile.connect(Tile.Direction.E, tileId(x + 1, y));
+                }
+                if (y > 0) {
+                    tile.connect(Tile.Direction.N, tileId(x, y - 1));
+                }
+                if (y < side - 1) {
+                    tile.connect(Tile.Direction.S, tileId(x, y + 1));
+                }
+                world.getTiles().put(id, tile);
+                world.getItems().put("I_" + id,
+                        new ItemInstance("I_" + id, "stone", ItemInstance.OwnerKind.TILE, id, TextFace.empty("Stone")));
+            }
+        }
+        world.getPlayers().put("p1", new Player("p1", "Ada", "HUMAN", tileId(side / 2, side / 2), TextFace.empty("Ada")));
+        encoder = new ScopedDmInputEncoder(3, 32);
+    }
+
+    @Benchmark
+    public String fullPayload() throws JsonProcessingException {
+        touch();
+        return mapper.writeValueAsString(DmInputDto.from(world, look));
+    }
+
+    @Benchmark
+    public String scopedPayload() throws JsonProcessingException {
+        touch();
+        return mapper.writeValueAsString(encoder.encode(world, look));
+    }
+
+    private void touch() {
+        world.getSession().advanceTurn();
+        world.getItem("I_" + tileId(0, 0)).getStats().set("weight", tick++);
+    }
+
+    private static String tileId(int x, int y) {
+        return "T_" + x + "_" + y;
+    }
+}
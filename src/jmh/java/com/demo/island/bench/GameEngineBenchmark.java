@@ -0,0 +1,120 @@
+package com.demo.island.bench;
+
+import com.demo.island.game.GameAction;
+import com.demo.island.game.GameActionType;
+import com.demo.island.game.GameEngine;
+import com.demo.island.game.GameItemType;
+import com.demo.island.game.GameSession;
+import com.demo.island.game.GameStatus;
+import com.demo.island.world.Direction8;
+import com.demo.island.world.IslandTile;
+import com.demo.island.world.TileSafety;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GameEngine#perform} per action type. Moves step back and forth between the spawn and a passable
+ * neighbor; actions whose preconditions do not hold measure their rejection path.
+ * <p>
+ * One action takes microseconds, too little to time on its own around a per-invocation setup, so each
+ * invocation plays a batch of {@value #ACTIONS} actions on a fresh session and the score is per action. The
+ * batch is well short of the shortest game (jumping runs out the clock after about 225 actions), so every
+ * measured action runs while the game is in progress; building the session happens in setup, outside the
+ * timing, and a batch that ended the game fails the run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEngineBenchmark {
+
+    @Param({"10x9", "40x36", "160x144"})
+    public String worldSize;
+
+    @Param({"0", "200"})
+    public int extraThings;
+
+    @Param({"MOVE_WALK", "MOVE_RUN", "JUMP", "LOOK", "SEARCH", "PICK_UP", "DROP", "RAFT_WORK_SMALL",
+            "RAFT_WORK_MAJOR", "LAUNCH_RAFT"})
+    public GameActionType actionType;
+
+    static final int ACTIONS = 100;
+
+    private GameSession session;
+    private GameAction forward;
+    private GameAction back;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameSession session = BenchWorlds.session(worldSize, extraThings);
+        Direction8 out = passableDirection(session);
+        Direction8 in = opposite(out);
+        forward = action(out);
+        back = action(in);
+    }
+
+    @Setup(Level.Invocation)
+    public void freshSession() {
+        session = BenchWorlds.session(worldSize, extraThings);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ACTIONS)
+    public void perform(Blackhole blackhole) {
+        for (int i = 0; i < ACTIONS; i++) {
+            blackhole.consume(GameEngine.perform(session, (i & 1) == 0 ? forward : back));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void checkGameRan() {
+        if (session.getStatus() != GameStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Game ended inside a batch of " + ACTIONS + " " + actionType);
+        }
+    }
+
+    private GameAction action(Direction8 dir) {
+        return switch (actionType) {
+            case MOVE_WALK, MOVE_RUN, JUMP -> GameAction.move(actionType, dir);
+            case PICK_UP, DROP -> GameAction.withItem(actionType, GameItemType.WOOD_LOG);
+            default -> GameAction.simple(actionType);
+        };
+    }
+
+    private static Direction8 passableDirection(GameSession session) {
+        IslandTile spawn = session.getLocationTile();
+        for (Direction8 dir : Direction8.values()) {
+            IslandTile neighbor = session.getMap().neighbor(spawn, dir);
+            if (neighbor != null && neighbor.getSafety() == TileSafety.NORMAL && neighbor.isWalkable()) {
+                return dir;
+            }
+        }
+        return Direction8.N;
+    }
+
+    private static Direction8 opposite(Direction8 dir) {
+        for (Direction8 candidate : Direction8.values()) {
+            if (candidate.dx() == -dir.dx() && candidate.dy() == -dir.dy()) {
+                return candidate;
+            }
+        }
+        return dir;
+    }
+}
@@ -0,0 +1,108 @@
+package com.demo.island.bench;
+
+import com.demo.island.dto.PlotContext;
+import com.demo.island.game.ContextBuilder;
+import com.demo.island.game.GameAction;
+import com.demo.island.game.GameActionType;
+import com.demo.island.game.GameSession;
+import com.demo.island.game.GameStatus;
+import com.demo.island.game.PlayerToolEngine;
+import com.demo.island.game.PlayerToolRequest;
+import com.demo.island.game.PlayerToolResult;
+import com.demo.island.game.TurnContext;
+import com.demo.island.game.TurnContextBuilder;
+import com.demo.island.game.memory.MemorySummary;
+import com.demo.island.game.memory.MemorySummaryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-turn work around the engine: the player tool shim, plot and turn context assembly, and the memory
+ * summary fed into prompts. The tool benchmark uses LOOK so the player stays put and the clock is the only
+ * thing that advances; the session is replaced when time runs out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnPipelineBenchmark {
+
+    @Param({"10x9", "40x36", "160x144"})
+    public String worldSize;
+
+    @Param({"0", "200"})
+    public int extraThings;
+
+    private GameSession session;
+    private PlayerToolEngine toolEngine;
+    private final PlayerToolRequest look = PlayerToolRequest.look();
+    private final GameAction lookAction = GameAction.simple(GameActionType.LOOK);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        newSession();
+        // Populate player memory so the summary has entries to render
+        for (int i = 0; i < 5; i++) {
+            toolEngine.invoke(look);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void keepGameRunning() {
+        if (session.getStatus() != GameStatus.IN_PROGRESS) {
+            newSession();
+        }
+    }
+
+    private void newSession() {
+        session = BenchWorlds.session(worldSize, extraThings);
+        toolEngine = new PlayerToolEngine(session);
+    }
+
+    @Benchmark
+    public PlayerToolResult playerToolInvoke() {
+        return toolEngine.invoke(look);
+    }
+
+    @Benchmark
+    public PlotContext buildPlotContext() {
+        ContextBuilder.beginTurn(session);
+        return ContextBuilder.buildPlotContext(session);
+    }
+
+    @Benchmark
+    public PlotContext buildPlotContextMemoized() {
+        return ContextBuilder.buildPlotContext(session);
+    }
+
+    @Benchmark
+    public int buildPlotContextAndReadAll() {
+        ContextBuilder.beginTurn(session);
+        PlotContext ctx = ContextBuilder.buildPlotContext(session);
+        return ctx.getNeighborSummaries().size() + ctx.getVisibleThings().size() + ctx.getHiddenThings().size();
+    }
+
+    @Benchmark
+    public TurnContext buildTurnContext() {
+        return TurnContextBuilder.build(session, lookAction, "", true, null, null);
+    }
+
+    @Benchmark
+    public MemorySummary buildMemorySummary() {
+        return MemorySummaryBuilder.build(session);
+    }
+}
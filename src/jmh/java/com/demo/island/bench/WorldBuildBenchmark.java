@@ -0,0 +1,61 @@
+package com.demo.island.bench;
+
+import com.demo.island.world.GardenerWorldConfig;
+import com.demo.island.world.GardenerWorldPass;
+import com.demo.island.world.GardenerWorldReport;
+import com.demo.island.world.IslandGardener;
+import com.demo.island.world.IslandMap;
+import com.demo.island.world.WorldGeometryConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * World creation: gardening the island band and the gardener's sanity pass over a freshly gardened map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorldBuildBenchmark {
+
+    @Param({"10x9", "40x36", "160x144"})
+    public String worldSize;
+
+    private WorldGeometryConfig geometry;
+    private IslandMap gardened;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        geometry = BenchWorlds.geometry(worldSize);
+    }
+
+    @Setup(Level.Invocation)
+    public void freshMap() {
+        // The world pass rewrites tiles in place, so every invocation needs its own map
+        gardened = IslandGardener.garden(geometry);
+    }
+
+    @Benchmark
+    public IslandMap garden() {
+        return IslandGardener.garden(geometry);
+    }
+
+    @Benchmark
+    public GardenerWorldReport gardenerWorldPass() {
+        return GardenerWorldPass.run(gardened, GardenerWorldConfig.defaultConfig());
+    }
+}
@@ -0,0 +1,69 @@
+package com.demo.island.player;
+
+import com.demo.island.ai.StandInChatModel;
+import com.demo.island.game.AgentDecision;
+import com.demo.island.game.GameSession;
+import com.demo.island.game.PlayerToolEngine;
+import com.demo.island.game.PlayerToolRequest;
+import com.demo.island.game.PlayerToolResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.chat.client.ChatClient;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Player prompt construction. {@code userPromptWarm} rebuilds the GAME STATE message with unchanged inputs,
+ * {@code userPromptCold} renders every section from scratch, and {@code decideNext} runs a whole decision
+ * against the zero-latency {@link StandInChatModel}, which adds the ChatClient and gateway hop.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerPromptBenchmark {
+
+    private final PlayerAgentPromptConfig prompts = new PlayerAgentPromptConfig();
+    private GameSession session;
+    private PlayerToolResult lastResult;
+    private PlayerPromptBuilder builder;
+    private LlmExternalPlayerAgent agent;
+
+    @Setup
+    public void setUp() {
+        session = GameSession.newSession();
+        PlayerToolEngine toolEngine = new PlayerToolEngine(session);
+        for (int i = 0; i < 5; i++) {
+            lastResult = toolEngine.invoke(PlayerToolRequest.look());
+        }
+        builder = new PlayerPromptBuilder(prompts.playerAgentSystemPrompt(), prompts.playerToolPrompts());
+        agent = new LlmExternalPlayerAgent(ChatClient.builder(StandInChatModel.instant(1L)).build(),
+                prompts.playerAgentSystemPrompt(), prompts.playerToolPrompts());
+    }
+
+    @Benchmark
+    public String userPromptWarm() {
+        return builder.userPrompt(session, lastResult, 6, "LOOK", "", "None");
+    }
+
+    @Benchmark
+    public String userPromptCold() {
+        return new PlayerPromptBuilder("", Map.of()).userPrompt(session, lastResult, 6, "LOOK", "", "None");
+    }
+
+    @Benchmark
+    public AgentDecision decideNext() {
+        return agent.decideNext(session, lastResult);
+    }
+}
@@ -0,0 +1,208 @@
+package com.demo.island.ai;
+
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Ledger of LLM usage by agent type for one episode: calls, prompt characters, prompt and completion tokens as
+ * reported in the {@link ChatResponse} usage metadata, wall latency, and why agents fell back to their
+ * deterministic behaviour.
+ * <p>
+ * A ledger carries a {@link Budget}; once a limit is crossed {@link #isOverBudget()} stays true and runners
+ * swap the LLM agents for their heuristic counterparts. Agents not given a ledger record into
+ * {@link #global()}. Thread-safe.
+ */
+public final class AgentUsage {
+
+    private static final AgentUsage GLOBAL = new AgentUsage(Budget.UNLIMITED);
+
+    private final Budget budget;
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private final LongAdder totalTokens = new LongAdder();
+    private final LongAdder totalCalls = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private volatile boolean overBudget;
+
+    public AgentUsage() {
+        this(Budget.UNLIMITED);
+    }
+
+    public AgentUsage(Budget budget) {
+        this.budget = budget == null ? Budget.UNLIMITED : budget;
+    }
+
+    /**
+     * Process-wide ledger without a budget, used by agents that were not given one.
+     */
+    public static AgentUsage global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Runs a chat call through the gateway and records it. Timeouts and failures are recorded as fallbacks
+     * ({@code timeout}, {@code rejected}, {@code error}) and rethrown.
+     */
+    public ChatResponse call(LlmGateway gateway, String agent, Duration timeout, String system, String user,
+                             Supplier<ChatResponse> call) throws TimeoutException {
+        int promptChars = (system == null ? 0 : system.length()) + (user == null ? 0 : user.length());
+        long start = System.nanoTime();
+        try {
+            ChatResponse response = gateway.call(agent, timeout, call);
+            record(agent, promptChars, response, System.nanoTime() - start);
+            return response;
+        } catch (TimeoutException e) {
+            record(agent, promptChars, null, System.nanoTime() - start);
+            recordFallback(agent, "timeout");
+            throw e;
+        } catch (RejectedExecutionException e) {
+            record(agent, promptChars, null, System.nanoTime() - start);
+            recordFallback(agent, "rejected");
+            throw e;
+        } catch (RuntimeException e) {
+            record(agent, promptChars, null, System.nanoTime() - start);
+            recordFallback(agent, "error");
+            throw e;
+        }
+    }
+
+    /**
+     * Records one call; token counts are taken from the response's usage metadata when the provider sent it.
+     */
+    public void record(String agent, int promptChars, ChatResponse response, long latencyNanos) {
+        Counters c = counters(agent);
+        c.calls.increment();
+        c.promptChars.add(promptChars);
+        c.latencyNanos.add(latencyNanos);
+        c.maxLatencyNanos.accumulate(latencyNanos);
+        Usage usage = response == null || response.getMetadata() == null ? null : response.getMetadata().getUsage();
+        long promptTokens = usage == null || usage.getPromptTokens() == null ? 0 : usage.getPromptTokens();
+        long completionTokens = usage == null || usage.getCompletionTokens() == null ? 0 : usage.getCompletionTokens();
+        c.promptTokens.add(promptTokens);
+        c.completionTokens.add(completionTokens);
+        totalCalls.increment();
+        totalTokens.add(promptTokens + completionTokens);
+        totalLatencyNanos.add(latencyNanos);
+        if (!overBudget && budget.exceededBy(totalTokens.sum(), totalCalls.sum(), totalLatencyNanos.sum() / 1_000_000)) {
+            overBudget = true;
+        }
+    }
+
+    /**
+     * Records that an agent used its deterministic fallback instead of a model answer.
+     */
+    public void recordFallback(String agent, String cause) {
+        counters(agent).fallbacks.computeIfAbsent(cause, k -> new LongAdder()).increment();
+    }
+
+    public boolean isOverBudget() {
+        return overBudget;
+    }
+
+    public Budget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Snapshot per agent type, sorted by agent name.
+     */
+    public Map<String, Stats> getAgentStats() {
+        Map<String, Stats> out = new TreeMap<>();
+        counters.forEach((agent, c) -> out.put(agent, c.snapshot()));
+        return out;
+    }
+
+    /**
+     * All agents combined; the max latency is the largest single call.
+     */
+    public Stats getTotals() {
+        Stats total = Stats.EMPTY;
+        for (Stats stats : getAgentStats().values()) {
+            total = total.plus(stats);
+        }
+        return total;
+    }
+
+    private Counters counters(String agent) {
+        return counters.computeIfAbsent(agent, k -> new Counters());
+    }
+
+    /**
+     * Per-episode limits on total tokens, calls and summed call latency; zero means unlimited.
+     */
+    public record Budget(long maxTokens, long maxCalls, long maxLatencyMillis) {
+
+        public static final Budget UNLIMITED = new Budget(0, 0, 0);
+
+        /**
+         * Reads {@code llm.budget.maxTokens}, {@code llm.budget.maxCalls} and {@code llm.budget.maxLatencyMs}.
+         */
+        public static Budget fromSystemProperties() {
+            return new Budget(Long.getLong("llm.budget.maxTokens", 0),
+                    Long.getLong("llm.budget.maxCalls", 0),
+                    Long.getLong("llm.budget.maxLatencyMs", 0));
+        }
+
+        boolean exceededBy(long tokens, long calls, long latencyMillis) {
+            return (maxTokens > 0 && tokens > maxTokens)
+                    || (maxCalls > 0 && calls > maxCalls)
+                    || (maxLatencyMillis > 0 && latencyMillis > maxLatencyMillis);
+        }
+    }
+
+    /**
+     * Point-in-time usage of one agent type (or all of them). Latency is wall time from submission to
+     * completion, including time queued in the gateway.
+     */
+    public record Stats(long calls, long promptChars, long promptTokens, long completionTokens,
+                       double totalLatencyMillis, double maxLatencyMillis, Map<String, Long> fallbacks) {
+
+        static final Stats EMPTY = new Stats(0, 0, 0, 0, 0, 0, Map.of());
+
+        public long totalTokens() {
+            return promptTokens + completionTokens;
+        }
+
+        public long fallbackCount() {
+            return fallbacks.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        public double meanLatencyMillis() {
+            return calls == 0 ? 0.0 : totalLatencyMillis / calls;
+        }
+
+        Stats plus(Stats other) {
+            Map<String, Long> merged = new TreeMap<>(fallbacks);
+            other.fallbacks.forEach((cause, n) -> merged.merge(cause, n, Long::sum));
+            return new Stats(calls + other.calls, promptChars + other.promptChars, promptTokens + other.promptTokens,
+                    completionTokens + other.completionTokens, totalLatencyMillis + other.totalLatencyMillis,
+                    Math.max(maxLatencyMillis, other.maxLatencyMillis), merged);
+        }
+    }
+
+    private static final class Counters {
+        final LongAdder calls = new LongAdder();
+        final LongAdder promptChars = new LongAdder();
+        final LongAdder promptTokens = new LongAdder();
+        final LongAdder completionTokens = new LongAdder();
+        final LongAdder latencyNanos = new LongAdder();
+        final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+        final Map<String, LongAdder> fallbacks = new ConcurrentHashMap<>();
+
+        Stats snapshot() {
+            Map<String, Long> causes = new TreeMap<>();
+            fallbacks.forEach((cause, n) -> causes.put(cause, n.sum()));
+            return new Stats(calls.sum(), promptChars.sum(), promptTokens.sum(), completionTokens.sum(),
+                    latencyNanos.sum() / 1e6, maxLatencyNanos.get() / 1e6, causes);
+        }
+    }
+}
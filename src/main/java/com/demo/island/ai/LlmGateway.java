@@ -0,0 +1,237 @@
+package com.demo.island.ai;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single entry point for blocking LLM calls made by the agents.
+ * <p>
+ * Calls run on a dedicated pool capped at {@code maxInFlight} concurrent requests; further calls wait in a
+ * bounded queue and are rejected once it is full. Each call carries a timeout measured from submission, so
+ * time spent queued counts against it. A call that times out or is cancelled by its caller is interrupted if
+ * running and skipped if still queued, so abandoned requests do not keep occupying the pool.
+ * <p>
+ * {@link #shared()} is the process-wide instance used by every agent; it is sized from the system properties
+ * {@code llm.gateway.maxInFlight} (default 8) and {@code llm.gateway.queueCapacity} (default 256), and agents
+ * take their timeouts from {@link #timeoutFor}.
+ */
+public final class LlmGateway implements AutoCloseable {
+
+    private static final class SharedHolder {
+        static final LlmGateway INSTANCE = new LlmGateway(
+                Integer.getInteger("llm.gateway.maxInFlight", 8),
+                Integer.getInteger("llm.gateway.queueCapacity", 256));
+    }
+
+    private final int maxInFlight;
+    private final ThreadPoolExecutor workers;
+    private final ScheduledThreadPoolExecutor timer;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public LlmGateway(int maxInFlight, int queueCapacity) {
+        if (maxInFlight < 1 || queueCapacity < 0) {
+            throw new IllegalArgumentException("maxInFlight must be >= 1 and queueCapacity >= 0");
+        }
+        this.maxInFlight = maxInFlight;
+        this.workers = new ThreadPoolExecutor(maxInFlight, maxInFlight, 60, TimeUnit.SECONDS,
+                queueCapacity == 0 ? new SynchronousQueue<>() : new LinkedBlockingQueue<>(queueCapacity),
+                daemonThreads("llm-gateway-"));
+        this.workers.allowCoreThreadTimeOut(true);
+        this.timer = new ScheduledThreadPoolExecutor(1, daemonThreads("llm-gateway-timer-"));
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    public static LlmGateway shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Timeout for an agent's calls: system property {@code llm.gateway.<agent>.timeoutMs} when set, else the default.
+     */
+    public static Duration timeoutFor(String agent, Duration defaultTimeout) {
+        Long millis = Long.getLong("llm.gateway." + agent + ".timeoutMs");
+        return millis == null ? defaultTimeout : Duration.ofMillis(millis);
+    }
+
+    /**
+     * Runs the call and waits for it. Throws {@link TimeoutException} when the timeout elapses first (the call
+     * is then abandoned); failures of the call itself are rethrown, wrapped if checked.
+     */
+    public <T> T call(String agent, Duration timeout, Supplier<T> call) throws TimeoutException {
+        CompletableFuture<T> future = submit(agent, timeout, call);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for " + agent + " LLM call", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException timeoutException) {
+                throw timeoutException;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(agent + " LLM call failed", cause);
+        }
+    }
+
+    /**
+     * Queues the call. The future fails with {@link TimeoutException} once the timeout elapses and with
+     * {@link RejectedExecutionException} when the queue is full; cancelling it abandons the call.
+     */
+    public <T> CompletableFuture<T> submit(String agent, Duration timeout, Supplier<T> call) {
+        Counters stats = counters.computeIfAbsent(agent, key -> new Counters());
+        stats.calls.increment();
+        long submitted = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            long started = System.nanoTime();
+            stats.started.increment();
+            stats.queueWaitNanos.add(started - submitted);
+            inFlight.incrementAndGet();
+            try {
+                T value = call.get();
+                if (result.complete(value)) {
+                    stats.succeeded.increment();
+                    stats.recordLatency(System.nanoTime() - submitted);
+                }
+            } catch (Throwable t) {
+                if (result.completeExceptionally(t)) {
+                    stats.failed.increment();
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }, null);
+        try {
+            workers.execute(task);
+        } catch (RejectedExecutionException e) {
+            stats.rejected.increment();
+            result.completeExceptionally(e);
+            return result;
+        }
+        ScheduledFuture<?> deadline = timer.schedule(() -> {
+            if (result.completeExceptionally(new TimeoutException(agent + " LLM call exceeded " + timeout.toMillis() + " ms"))) {
+                stats.timedOut.increment();
+                abandon(task);
+            }
+        }, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        result.whenComplete((value, error) -> {
+            deadline.cancel(false);
+            if (error instanceof CancellationException) {
+                stats.cancelled.increment();
+                abandon(task);
+            }
+        });
+        return result;
+    }
+
+    private void abandon(FutureTask<Void> task) {
+        // Drop it from the queue if it has not started, otherwise interrupt the worker running it
+        if (!workers.remove(task)) {
+            task.cancel(true);
+        }
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Calls currently executing.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Calls waiting for a free slot.
+     */
+    public int getQueueDepth() {
+        return workers.getQueue().size();
+    }
+
+    /**
+     * Per-agent counters and latencies, keyed by agent name.
+     */
+    public Map<String, AgentStats> getAgentStats() {
+        Map<String, AgentStats> snapshot = new TreeMap<>();
+        counters.forEach((agent, c) -> snapshot.put(agent, c.snapshot()));
+        return snapshot;
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+        timer.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Point-in-time view of one agent's calls. Latencies run from submission to completion and only cover
+     * successful calls.
+     */
+    public record AgentStats(long calls, long succeeded, long failed, long timedOut, long rejected, long cancelled,
+                             double meanLatencyMillis, double maxLatencyMillis, double meanQueueWaitMillis) {
+    }
+
+    private static final class Counters {
+        final LongAdder calls = new LongAdder();
+        final LongAdder succeeded = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder timedOut = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder cancelled = new LongAdder();
+        final LongAdder started = new LongAdder();
+        final LongAdder latencyNanos = new LongAdder();
+        final LongAdder queueWaitNanos = new LongAdder();
+        final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+
+        void recordLatency(long nanos) {
+            latencyNanos.add(nanos);
+            maxLatencyNanos.accumulate(nanos);
+        }
+
+        AgentStats snapshot() {
+            long ok = succeeded.sum();
+            long begun = started.sum();
+            return new AgentStats(calls.sum(), ok, failed.sum(), timedOut.sum(), rejected.sum(), cancelled.sum(),
+                    ok == 0 ? 0.0 : latencyNanos.sum() / 1e6 / ok,
+                    maxLatencyNanos.get() / 1e6,
+                    begun == 0 ? 0.0 : queueWaitNanos.sum() / 1e6 / begun);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.demo.island.ai;
 
 import com.demo.island.dto.DmDecisionDto;
+import com.demo.island.dto.ScopedDmInputEncoder;
 import com.demo.island.engine.DmAgent;
 import com.demo.island.engine.DmDecision;
 import com.demo.island.engine.DmInput;
@@ -13,20 +14,45 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.ai.chat.client.ChatClient;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * DM agent backed by Spring AI ChatClient. Loads system/dm prompts from classpath and
- * exchanges JSON using the frozen DmInputDto/DmDecisionDto contract.
+ * exchanges JSON using the frozen DmInputDto/DmDecisionDto contract. With a {@link ScopedDmInputEncoder} set, the
+ * input is scoped to the player's surroundings instead of dumping the whole world.
  */
 public final class SpringAiDmAgent implements DmAgent {
 
+    /**
+     * Serialized DM inputs since the agent was created.
+     */
+    public record PayloadMetrics(long payloads, long chars, long serializeNanos) {
+
+        public double averageChars() {
+            return payloads == 0 ? 0.0 : (double) chars / payloads;
+        }
+
+        public double averageSerializeMicros() {
+            return payloads == 0 ? 0.0 : serializeNanos / (payloads * 1_000.0);
+        }
+    }
+
     private static final Logger LOG = LogManager.getLogger(SpringAiDmAgent.class);
 
+    private static final Duration CALL_TIMEOUT = LlmGateway.timeoutFor("dm", Duration.ofSeconds(30));
+
     private final ChatClient chatClient;
+    private final LlmGateway gateway = LlmGateway.shared();
     private final CheckService checkService;
     private final DmTools dmTools;
     private final String systemPrompt;
     private final String dmPrompt;
     private final ObjectMapper mapper;
+    private volatile ScopedDmInputEncoder payloadEncoder;
+    private final LongAdder payloads = new LongAdder();
+    private final LongAdder payloadChars = new LongAdder();
+    private final LongAdder serializeNanos = new LongAdder();
 
     public SpringAiDmAgent(ChatClient chatClient, CheckService checkService, DmTools dmTools) {
         this(chatClient, checkService, dmTools,
@@ -49,7 +75,14 @@ public final class SpringAiDmAgent implements DmAgent {
     public DmDecision decide(DmInput input) {
         String jsonInput;
         try {
-            jsonInput = mapper.writeValueAsString(input.toDto());
+            long start = System.nanoTime();
+            ScopedDmInputEncoder encoder = payloadEncoder;
+            jsonInput = mapper.writeValueAsString(encoder != null ? input.toDto(encoder) : input.toDto());
+            long nanos = System.nanoTime() - start;
+            payloads.increment();
+            payloadChars.add(jsonInput.length());
+            serializeNanos.add(nanos);
+            LOG.debug("DM input: {} chars in {} us", jsonInput.length(), nanos / 1_000);
         } catch (JsonProcessingException e) {
             LOG.warn("Failed to serialize DM input: {}", e.getMessage());
             DmDecision fallback = new DmDecision("The DM falters, unable to parse the world.", false);
@@ -59,11 +92,11 @@ public final class SpringAiDmAgent implements DmAgent {
 
         String response;
         try {
-            response = chatClient.prompt()
+            response = gateway.call("dm", CALL_TIMEOUT, () -> chatClient.prompt()
                     .system(systemPrompt + "\n\n" + dmPrompt)
                     .user(jsonInput)
                     .call()
-                    .content();
+                    .content());
         } catch (Exception e) {
             LOG.warn("DM agent call failed: {}", e.getMessage());
             DmDecision fallback = new DmDecision("The DM is silent for a moment.", false);
@@ -83,6 +116,20 @@ public final class SpringAiDmAgent implements DmAgent {
         }
     }
 
+    /**
+     * Switches to scoped inputs; null restores full world dumps.
+     */
+    public void setPayloadEncoder(ScopedDmInputEncoder payloadEncoder) {
+        this.payloadEncoder = payloadEncoder;
+    }
+
+    /**
+     * Payload counts, sizes and time spent building and serializing them.
+     */
+    public PayloadMetrics getPayloadMetrics() {
+        return new PayloadMetrics(payloads.sum(), payloadChars.sum(), serializeNanos.sum());
+    }
+
     /**
      * Safety guard: if the DM does not explicitly mark a non-meta command as non-consuming,
      * assume it burns a turn. This prevents the simulation from getting stuck on turn 0 when
@@ -15,6 +15,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.ai.chat.client.ChatClient;
 
+import java.time.Duration;
+
 /**
  * Ghost brain backed by Spring AI ChatClient. Uses ghost.prompt.md as system message and exchanges
  * JSON via GhostInputDto/GhostDecisionDto.
@@ -23,7 +25,10 @@ public final class SpringAiGhostAgent implements GhostAgent {
 
     private static final Logger LOG = LogManager.getLogger(SpringAiGhostAgent.class);
 
+    private static final Duration CALL_TIMEOUT = LlmGateway.timeoutFor("ghost", Duration.ofSeconds(15));
+
     private final ChatClient chatClient;
+    private final LlmGateway gateway = LlmGateway.shared();
     private final GhostTools ghostTools;
     private final String systemPrompt;
     private final ObjectMapper mapper;
@@ -54,11 +59,11 @@ public final class SpringAiGhostAgent implements GhostAgent {
 
         String response;
         try {
-            response = chatClient.prompt()
+            response = gateway.call("ghost", CALL_TIMEOUT, () -> chatClient.prompt()
                     .system(systemPrompt)
                     .user(jsonInput)
                     .call()
-                    .content();
+                    .content());
         } catch (Exception e) {
             LOG.warn("Ghost agent call failed: {}", e.getMessage());
             GhostDecision fallback = new GhostDecision("Ghost hesitates.", true);
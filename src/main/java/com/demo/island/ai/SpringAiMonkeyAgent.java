@@ -16,6 +16,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.ai.chat.client.ChatClient;
 
+import java.time.Duration;
+
 /**
  * Monkey brain backed by Spring AI ChatClient. Uses monkey.brain.prompt.md as system message and exchanges
  * JSON via MonkeyInputDto/MonkeyDecisionDto.
@@ -24,7 +26,10 @@ public final class SpringAiMonkeyAgent implements MonkeyAgent {
 
     private static final Logger LOG = LogManager.getLogger(SpringAiMonkeyAgent.class);
 
+    private static final Duration CALL_TIMEOUT = LlmGateway.timeoutFor("monkey", Duration.ofSeconds(15));
+
     private final ChatClient chatClient;
+    private final LlmGateway gateway = LlmGateway.shared();
     private final MonkeyTools monkeyTools;
     private final String systemPrompt;
     private final ObjectMapper mapper;
@@ -62,11 +67,11 @@ public final class SpringAiMonkeyAgent implements MonkeyAgent {
 
         String response;
         try {
-            response = chatClient.prompt()
+            response = gateway.call("monkey", CALL_TIMEOUT, () -> chatClient.prompt()
                     .system(systemPrompt)
                     .user(jsonInput)
                     .call()
-                    .content();
+                    .content());
         } catch (Exception e) {
             LOG.warn("Monkey agent call failed: {}", e.getMessage());
             MonkeyDecision fallback = new MonkeyDecision("Monkeys idle.", true);
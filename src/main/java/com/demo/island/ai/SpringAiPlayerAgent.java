@@ -8,6 +8,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.ai.chat.client.ChatClient;
 
+import java.time.Duration;
+
 /**
  * Player agent backed by Spring AI. Returns a single command string.
  */
@@ -15,7 +17,10 @@ public final class SpringAiPlayerAgent implements PlayerAgent {
 
     private static final Logger LOG = LogManager.getLogger(SpringAiPlayerAgent.class);
 
+    private static final Duration CALL_TIMEOUT = LlmGateway.timeoutFor("player", Duration.ofSeconds(30));
+
     private final ChatClient chatClient;
+    private final LlmGateway gateway = LlmGateway.shared();
     private final String systemPrompt;
     private final ObjectMapper mapper;
 
@@ -42,11 +47,11 @@ public final class SpringAiPlayerAgent implements PlayerAgent {
 
         String response;
         try {
-            response = chatClient.prompt()
+            response = gateway.call("player", CALL_TIMEOUT, () -> chatClient.prompt()
                     .system(systemPrompt)
                     .user(jsonInput)
                     .call()
-                    .content();
+                    .content());
         } catch (Exception e) {
             LOG.warn("Player agent call failed: {}", e.getMessage());
             return "LOOK";
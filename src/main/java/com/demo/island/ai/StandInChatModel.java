@@ -0,0 +1,257 @@
+package com.demo.island.ai;
+
+import com.demo.island.game.monkey.HeuristicMonkeyAgent;
+import com.demo.island.game.monkey.MonkeyDecision;
+import com.demo.island.game.monkey.MonkeyState;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
+import org.springframework.ai.tool.ToolCallback;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Offline {@link ChatModel} that answers every agent prompt with a plausible, deterministic reply so the agent
+ * pipeline can be load-tested without an API key.
+ * <p>
+ * Replies are chosen from the shape of the last user message: the player's GAME STATE gets a tool call (take a
+ * visible item, otherwise mostly walk a listed exit), MONKEY_STATE is answered by {@link HeuristicMonkeyAgent},
+ * DM_AGENT_CONTEXT echoes the core DM line, GHOST_STATE stays silent, and the JSON contracts of the
+ * {@code ai} agents get minimal valid decisions. Each call sleeps for {@code minLatencyMs} plus an exponential
+ * tail with mean {@code meanExtraLatencyMs} (capped at {@code maxLatencyMs}) and fails with probability
+ * {@code failureRate}. Responses carry usage metadata estimated at four characters per token.
+ */
+public final class StandInChatModel implements ChatModel {
+
+    private static final Set<String> DIRECTIONS = Set.of("N", "NE", "E", "SE", "S", "SW", "W", "NW");
+
+    private final Random random;
+    private final long minLatencyMs;
+    private final double meanExtraLatencyMs;
+    private final long maxLatencyMs;
+    private final double failureRate;
+    private final HeuristicMonkeyAgent monkey;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong nextToolCallId = new AtomicLong();
+
+    public StandInChatModel(long seed, long minLatencyMs, double meanExtraLatencyMs, long maxLatencyMs, double failureRate) {
+        if (minLatencyMs < 0 || meanExtraLatencyMs < 0 || maxLatencyMs < minLatencyMs || failureRate < 0 || failureRate > 1) {
+            throw new IllegalArgumentException("Invalid stand-in latency or failure settings");
+        }
+        this.random = new Random(seed);
+        this.minLatencyMs = minLatencyMs;
+        this.meanExtraLatencyMs = meanExtraLatencyMs;
+        this.maxLatencyMs = maxLatencyMs;
+        this.failureRate = failureRate;
+        this.monkey = new HeuristicMonkeyAgent(seed);
+    }
+
+    /**
+     * Zero-latency, never-failing model for tests.
+     */
+    public static StandInChatModel instant(long seed) {
+        return new StandInChatModel(seed, 0, 0, 0, 0);
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        calls.incrementAndGet();
+        simulateLatency();
+        if (failureRate > 0 && random.nextDouble() < failureRate) {
+            failures.incrementAndGet();
+            throw new IllegalStateException("Stand-in model: simulated provider failure");
+        }
+        String user = lastUserText(prompt);
+        List<String> tools = toolNames(prompt);
+        AssistantMessage reply;
+        if (user.startsWith("GAME STATE") && !tools.isEmpty()) {
+            reply = toolCall(playerDecision(user, tools));
+        } else if (user.startsWith("MONKEY_STATE")) {
+            reply = toolCall(monkeyDecision(user));
+        } else if (user.startsWith("DM_AGENT_CONTEXT")) {
+            reply = new AssistantMessage(field(user, "CoreDM:"));
+        } else if (user.startsWith("GHOST_STATE")) {
+            reply = new AssistantMessage("{\"mode\":\"SILENT\",\"text\":\"\"}");
+        } else if (user.startsWith("{") && user.contains("\"ghosts\"")) {
+            reply = new AssistantMessage("{\"narration\":\"A chill passes.\",\"turnConsumesTime\":false,\"actions\":[]}");
+        } else if (user.startsWith("{") && user.contains("\"monkey\"")) {
+            reply = new AssistantMessage("{\"narration\":\"The monkeys chatter.\",\"turnConsumesTime\":false,\"monkeyIntents\":[]}");
+        } else if (user.startsWith("{") && user.contains("\"command\"")) {
+            reply = new AssistantMessage("{\"narration\":\"Nothing much happens.\",\"turnConsumesTime\":true,\"actions\":[]}");
+        } else if (user.contains("MEMORY SUMMARY")) {
+            reply = new AssistantMessage(user.substring(user.indexOf("MEMORY SUMMARY")));
+        } else {
+            reply = new AssistantMessage("LOOK");
+        }
+        String replyText = reply.getText() == null ? "" : reply.getText();
+        for (AssistantMessage.ToolCall call : reply.getToolCalls()) {
+            replyText += call.name() + call.arguments();
+        }
+        ChatResponseMetadata metadata = ChatResponseMetadata.builder()
+                .model("stand-in")
+                .usage(new DefaultUsage(estimateTokens(promptChars(prompt)), estimateTokens(replyText.length())))
+                .build();
+        return new ChatResponse(List.of(new Generation(reply)), metadata);
+    }
+
+    private static int promptChars(Prompt prompt) {
+        int chars = 0;
+        for (Message message : prompt.getInstructions()) {
+            chars += message.getText() == null ? 0 : message.getText().length();
+        }
+        return chars;
+    }
+
+    private static int estimateTokens(int chars) {
+        return (chars + 3) / 4;
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    private void simulateLatency() {
+        long extra = meanExtraLatencyMs == 0 ? 0 : (long) (-Math.log(1.0 - random.nextDouble()) * meanExtraLatencyMs);
+        long millis = Math.min(maxLatencyMs, minLatencyMs + extra);
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Stand-in model call interrupted", e);
+        }
+    }
+
+    private String[] playerDecision(String user, List<String> tools) {
+        String items = section(user, "Visible items:");
+        if (tools.contains("TAKE") && !items.isBlank() && !"None".equals(items)) {
+            String first = items.split(",")[0].trim();
+            return new String[]{"TAKE", first, "Pick up what is here.", "CURIOUS"};
+        }
+        List<String> exits = new ArrayList<>();
+        for (String token : section(user, "Exits:").split(",")) {
+            String dir = token.trim().toUpperCase(Locale.ROOT);
+            if (DIRECTIONS.contains(dir)) {
+                exits.add(dir);
+            }
+        }
+        int roll = random.nextInt(10);
+        if (tools.contains("MOVE") && !exits.isEmpty() && roll < 7) {
+            return new String[]{"MOVE", exits.get(random.nextInt(exits.size())), "Explore onward.", "CURIOUS"};
+        }
+        if (tools.contains("SEARCH") && roll < 9) {
+            return new String[]{"SEARCH", "", "Look for useful things.", "CURIOUS"};
+        }
+        return new String[]{tools.contains("LOOK") ? "LOOK" : tools.get(0), "", "Get my bearings.", "CURIOUS"};
+    }
+
+    private String[] monkeyDecision(String user) {
+        Map<String, String> exits = new LinkedHashMap<>();
+        String listed = field(user, "Exits:").replace("[", "").replace("]", "");
+        for (String token : listed.split(",")) {
+            String dir = token.trim();
+            if (DIRECTIONS.contains(dir)) {
+                exits.put(dir, "");
+            }
+        }
+        int turn;
+        try {
+            turn = Integer.parseInt(field(user, "Turn:"));
+        } catch (NumberFormatException e) {
+            turn = 1;
+        }
+        MonkeyState state = new MonkeyState(turn, field(user, "Actor:"), field(user, "Location:"), field(user, "Location:"),
+                field(user, "Description:"), exits, Boolean.parseBoolean(field(user, "PlayerHere:")));
+        MonkeyDecision decision;
+        synchronized (monkey) {
+            decision = monkey.decide(state);
+        }
+        String target = decision.request().getDirection() == null ? "" : decision.request().getDirection().name();
+        return new String[]{decision.request().getTool().name(), target, decision.reason(), decision.mood().name()};
+    }
+
+    private AssistantMessage toolCall(String[] decision) {
+        String arguments = "{\"arg0\":\"" + escape(decision[1]) + "\",\"arg1\":\"" + escape(decision[2])
+                + "\",\"arg2\":\"" + escape(decision[3]) + "\",\"arg3\":\"\"}";
+        AssistantMessage.ToolCall call = new AssistantMessage.ToolCall(
+                "standin-" + nextToolCallId.incrementAndGet(), "function", decision[0], arguments);
+        return new AssistantMessage("", Map.of(), List.of(call));
+    }
+
+    private static String lastUserText(Prompt prompt) {
+        List<Message> messages = prompt.getInstructions();
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            Message message = messages.get(i);
+            if (message.getMessageType() == MessageType.USER) {
+                return message.getText() == null ? "" : message.getText().strip();
+            }
+        }
+        return "";
+    }
+
+    private static List<String> toolNames(Prompt prompt) {
+        if (!(prompt.getOptions() instanceof ToolCallingChatOptions options) || options.getToolCallbacks() == null) {
+            return List.of();
+        }
+        return options.getToolCallbacks().stream()
+                .map(ToolCallback::getToolDefinition)
+                .map(definition -> definition.name().toUpperCase(Locale.ROOT))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Rest of the first line starting with the label, trimmed.
+     */
+    private static String field(String text, String label) {
+        for (String line : text.split("\n")) {
+            String trimmed = line.strip();
+            if (trimmed.startsWith(label)) {
+                return trimmed.substring(label.length()).trim();
+            }
+        }
+        return "";
+    }
+
+    /**
+     * First non-blank line after a heading line.
+     */
+    private static String section(String text, String heading) {
+        String[] lines = text.split("\n");
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].strip().equals(heading)) {
+                for (int j = i + 1; j < lines.length; j++) {
+                    if (!lines[j].isBlank()) {
+                        return lines[j].trim();
+                    }
+                }
+            }
+        }
+        return "";
+    }
+
+    private static String escape(String value) {
+        return value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -1,9 +1,11 @@
 package com.demo.island.config;
 
+import com.demo.island.ai.LlmGateway;
 import com.demo.island.ai.SpringAiDmAgent;
 import com.demo.island.ai.SpringAiGhostAgent;
 import com.demo.island.ai.SpringAiMonkeyAgent;
 import com.demo.island.ai.SpringAiPlayerAgent;
+import com.demo.island.dto.ScopedDmInputEncoder;
 import com.demo.island.engine.DmAgent;
 import com.demo.island.engine.SimpleDmStubAgent;
 import com.demo.island.engine.check.CheckService;
@@ -14,6 +16,7 @@ import com.demo.island.tools.DmTools;
 import com.demo.island.tools.GhostTools;
 import com.demo.island.tools.MonkeyTools;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -22,6 +25,14 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class AiConfig {
 
+    /**
+     * The process-wide gateway every agent calls through; exposed for metrics. Outlives the context.
+     */
+    @Bean(destroyMethod = "")
+    public LlmGateway llmGateway() {
+        return LlmGateway.shared();
+    }
+
     @Bean
     public DmTools dmTools() {
         return new DmTools();
@@ -39,8 +50,15 @@ public class AiConfig {
 
     @Bean
     @ConditionalOnBean(ChatClient.class)
-    public SpringAiDmAgent dmAgent(ChatClient chatClient, CheckService checkService, DmTools dmTools) {
-        return new SpringAiDmAgent(chatClient, checkService, dmTools);
+    public SpringAiDmAgent dmAgent(ChatClient chatClient, CheckService checkService, DmTools dmTools,
+                                   @Value("${dm.payload.mode:full}") String payloadMode,
+                                   @Value("${dm.payload.radius:3}") int payloadRadius,
+                                   @Value("${dm.payload.max-far-entries:32}") int maxFarEntries) {
+        SpringAiDmAgent agent = new SpringAiDmAgent(chatClient, checkService, dmTools);
+        if ("scoped".equalsIgnoreCase(payloadMode)) {
+            agent.setPayloadEncoder(new ScopedDmInputEncoder(payloadRadius, maxFarEntries));
+        }
+        return agent;
     }
 
     @Bean
@@ -5,11 +5,17 @@ import com.demo.island.engine.check.CheckService;
 import com.demo.island.engine.dice.DiceService;
 import com.demo.island.ghost.GhostAgent;
 import com.demo.island.monkey.MonkeyAgent;
+import com.demo.island.store.DurableGameRepository;
 import com.demo.island.store.GameRepository;
 import com.demo.island.store.InMemoryGameRepository;
+import com.demo.island.store.TieredGameRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.file.Path;
+import java.time.Duration;
+
 @Configuration
 public class EngineConfig {
 
@@ -29,8 +35,27 @@ public class EngineConfig {
         return new TurnEngine(diceService, checkService, ghostAgent, monkeyAgent);
     }
 
+    /**
+     * In-memory by default; set {@code island.store.log-dir} to log every save durably to that directory, or
+     * {@code island.store.passivation-dir} to passivate idle sessions to it. The two do not combine, so setting
+     * both is a startup error.
+     */
     @Bean
-    public GameRepository gameRepository() {
-        return new InMemoryGameRepository();
+    public GameRepository gameRepository(
+            @Value("${island.store.log-dir:}") String logDir,
+            @Value("${island.store.snapshot-every:10000}") int snapshotEvery,
+            @Value("${island.store.passivation-dir:}") String passivationDir,
+            @Value("${island.store.max-hot-sessions:256}") int maxHotSessions,
+            @Value("${island.store.idle-timeout:PT10M}") Duration idleTimeout) {
+        if (!logDir.isBlank()) {
+            if (!passivationDir.isBlank()) {
+                throw new IllegalStateException("Set island.store.log-dir or island.store.passivation-dir, not both");
+            }
+            return new DurableGameRepository(Path.of(logDir), snapshotEvery);
+        }
+        if (passivationDir.isBlank()) {
+            return new InMemoryGameRepository();
+        }
+        return new TieredGameRepository(Path.of(passivationDir), maxHotSessions, idleTimeout);
     }
 }
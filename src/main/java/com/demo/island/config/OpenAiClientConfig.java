@@ -7,6 +7,7 @@ import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.util.LinkedMultiValueMap;
@@ -16,11 +17,13 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * Minimal OpenAI ChatClient wiring for the PlayerAgent when running in lab mode.
+ * Stands down when {@code llm.standin.enabled=true} selects {@link StandInChatModelConfig}.
  */
 @Configuration
 public class OpenAiClientConfig {
 
     @Bean
+    @ConditionalOnProperty(name = "llm.standin.enabled", havingValue = "false", matchIfMissing = true)
     public ChatClient chatClient(
             @Value("${spring.ai.openai.api-key:}") String apiKeyProp,
             @Value("${spring.ai.openai.chat.options.model:gpt-4o-mini}") String model) {
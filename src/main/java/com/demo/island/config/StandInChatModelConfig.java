@@ -0,0 +1,32 @@
+package com.demo.island.config;
+
+import com.demo.island.ai.StandInChatModel;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Offline ChatClient wiring: with {@code llm.standin.enabled=true} every agent talks to a local
+ * {@link StandInChatModel} instead of OpenAI, and no API key is needed.
+ */
+@Configuration
+@ConditionalOnProperty(name = "llm.standin.enabled", havingValue = "true")
+public class StandInChatModelConfig {
+
+    @Bean
+    public StandInChatModel standInChatModel(
+            @Value("${llm.standin.seed:42}") long seed,
+            @Value("${llm.standin.latency.minMs:150}") long minLatencyMs,
+            @Value("${llm.standin.latency.meanExtraMs:350}") double meanExtraLatencyMs,
+            @Value("${llm.standin.latency.maxMs:10000}") long maxLatencyMs,
+            @Value("${llm.standin.failureRate:0.0}") double failureRate) {
+        return new StandInChatModel(seed, minLatencyMs, meanExtraLatencyMs, maxLatencyMs, failureRate);
+    }
+
+    @Bean
+    public ChatClient chatClient(StandInChatModel standInChatModel) {
+        return ChatClient.builder(standInChatModel).build();
+    }
+}
@@ -30,6 +30,15 @@ public final class Creature {
         this.targetTileId = null;
     }
 
+    Creature copy() {
+        Creature copy = new Creature(creatureId, kind, currentTileId, textFace);
+        copy.stats.putAll(stats);
+        copy.carriedItemIds.addAll(carriedItemIds);
+        copy.targetTileId = targetTileId;
+        copy.recentEvents.addAll(recentEvents);
+        return copy;
+    }
+
     public String getCreatureId() {
         return creatureId;
     }
@@ -24,6 +24,15 @@ public final class GameSession {
         this.ghostAwakened = false;
     }
 
+    GameSession copy() {
+        GameSession copy = new GameSession(sessionId, maxTurns);
+        copy.turnNumber = turnNumber;
+        copy.timePhase = timePhase;
+        copy.midnightReached = midnightReached;
+        copy.ghostAwakened = ghostAwakened;
+        return copy;
+    }
+
     public String getSessionId() {
         return sessionId;
     }
@@ -27,6 +27,13 @@ public final class ItemInstance {
         this.textFace = Objects.requireNonNull(textFace);
     }
 
+    ItemInstance copy() {
+        ItemInstance copy = new ItemInstance(itemId, itemTypeId, ownerKind, ownerId, textFace);
+        copy.containedByItemId = containedByItemId;
+        copy.stats.putAll(stats);
+        return copy;
+    }
+
     public String getItemId() {
         return itemId;
     }
@@ -25,6 +25,14 @@ public final class Player {
         this.textFace = Objects.requireNonNull(textFace);
     }
 
+    Player copy() {
+        Player copy = new Player(playerId, name, avatarType, currentTileId, textFace);
+        copy.stats.putAll(stats);
+        copy.inventoryItemIds.addAll(inventoryItemIds);
+        copy.recentEvents.addAll(recentEvents);
+        return copy;
+    }
+
     public String getPlayerId() {
         return playerId;
     }
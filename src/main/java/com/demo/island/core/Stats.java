@@ -21,6 +21,10 @@ public final class Stats {
         return values.containsKey(name);
     }
 
+    void putAll(Stats other) {
+        values.putAll(other.values);
+    }
+
     public Map<String, Integer> asUnmodifiableMap() {
         return Collections.unmodifiableMap(values);
     }
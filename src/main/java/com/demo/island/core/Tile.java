@@ -29,6 +29,14 @@ public final class Tile {
         this.discovered = false;
     }
 
+    Tile copy() {
+        Tile copy = new Tile(tileId, biome, region, textFace);
+        copy.discovered = discovered;
+        copy.neighbors.putAll(neighbors);
+        copy.recentEvents.addAll(recentEvents);
+        return copy;
+    }
+
     public String getTileId() {
         return tileId;
     }
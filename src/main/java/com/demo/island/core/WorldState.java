@@ -1,20 +1,69 @@
 package com.demo.island.core;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
+/**
+ * Mutable world the engine advances, and the source of read-only {@link #snapshot() snapshots} for agents.
+ * <p>
+ * A snapshot shares this world's maps and entities, so taking one is O(1). Afterwards the live world copies a map
+ * before its first structural change and copies an entity the first time it is fetched, by id or while iterating
+ * its map, so the snapshot never sees later changes and can be read from any thread. Fetch entities from the
+ * world each time rather than holding them across a snapshot: an entity fetched before {@code snapshot()}
+ * belongs to the snapshot from then on.
+ */
 public final class WorldState {
 
     private final GameSession session;
-    private final Map<String, Tile> tiles = new HashMap<>();
-    private final Map<String, Player> players = new HashMap<>();
-    private final Map<String, Creature> creatures = new HashMap<>();
-    private final Map<String, ItemType> itemTypes = new HashMap<>();
-    private final Map<String, ItemInstance> items = new HashMap<>();
+    private final boolean frozen;
+    private final Table<Tile> tiles;
+    private final Table<Player> players;
+    private final Table<Creature> creatures;
+    private final Table<ItemType> itemTypes;
+    private final Table<ItemInstance> items;
 
     public WorldState(GameSession session) {
         this.session = Objects.requireNonNull(session);
+        this.frozen = false;
+        this.tiles = new Table<>(Tile::copy);
+        this.players = new Table<>(Player::copy);
+        this.creatures = new Table<>(Creature::copy);
+        this.itemTypes = new Table<>(UnaryOperator.identity());
+        this.items = new Table<>(ItemInstance::copy);
+    }
+
+    private WorldState(WorldState live) {
+        this.session = live.session.copy();
+        this.frozen = true;
+        this.tiles = live.tiles.share();
+        this.players = live.players.share();
+        this.creatures = live.creatures.share();
+        this.itemTypes = live.itemTypes.share();
+        this.items = live.items.share();
+    }
+
+    /**
+     * Read-only view of the world as it is now. Its maps are unmodifiable and its entities must not be mutated;
+     * a snapshot of a snapshot is the same snapshot.
+     * <p>
+     * Entities the live world handed out before this call now belong to the snapshot: changes made through
+     * such a stale reference are not seen by the live world and break the snapshot. Fetch them again, by id or
+     * from the maps, after taking a snapshot.
+     */
+    public WorldState snapshot() {
+        return frozen ? this : new WorldState(this);
+    }
+
+    public boolean isSnapshot() {
+        return frozen;
     }
 
     public GameSession getSession() {
@@ -22,23 +71,23 @@ public final class WorldState {
     }
 
     public Map<String, Tile> getTiles() {
-        return tiles;
+        return tiles.all();
     }
 
     public Map<String, Player> getPlayers() {
-        return players;
+        return players.all();
     }
 
     public Map<String, Creature> getCreatures() {
-        return creatures;
+        return creatures.all();
     }
 
     public Map<String, ItemType> getItemTypes() {
-        return itemTypes;
+        return itemTypes.all();
     }
 
     public Map<String, ItemInstance> getItems() {
-        return items;
+        return items.all();
     }
 
     public Tile getTile(String tileId) {
@@ -60,4 +109,168 @@ public final class WorldState {
     public ItemType getItemType(String itemTypeId) {
         return itemTypes.get(itemTypeId);
     }
+
+    /**
+     * One entity map with copy-on-write against snapshots. In a live world, {@code owned} holds the ids whose
+     * entity is this world's own copy; after {@link #share()} none are until fetched again. The live map view
+     * fetches through {@link #get}, so iterating copies only the entities it reaches, each at most once.
+     */
+    private static final class Table<E> {
+        private final UnaryOperator<E> copier;
+        private Map<String, E> map;
+        private final Map<String, E> view;
+        private boolean mapShared;
+        private boolean allOwned = true;
+        private final Set<String> owned;
+
+        Table(UnaryOperator<E> copier) {
+            this.copier = copier;
+            this.map = new HashMap<>();
+            this.view = new LiveView();
+            this.owned = new HashSet<>();
+        }
+
+        private Table(Map<String, E> shared) {
+            this.copier = null;
+            this.map = shared;
+            this.view = Collections.unmodifiableMap(shared);
+            this.owned = null;
+        }
+
+        Table<E> share() {
+            mapShared = true;
+            allOwned = false;
+            owned.clear();
+            return new Table<>(map);
+        }
+
+        E get(String id) {
+            E entity = map.get(id);
+            if (entity == null || owned == null || allOwned || owned.contains(id)) {
+                return entity;
+            }
+            ensureOwnMap();
+            E copy = copier.apply(entity);
+            map.put(id, copy);
+            owned.add(id);
+            return copy;
+        }
+
+        Map<String, E> all() {
+            return view;
+        }
+
+        private E put(String id, E entity) {
+            ensureOwnMap();
+            if (!allOwned) {
+                owned.add(id);
+            }
+            return map.put(id, entity);
+        }
+
+        private E remove(String id) {
+            if (!map.containsKey(id)) {
+                return null;
+            }
+            ensureOwnMap();
+            if (!allOwned) {
+                owned.remove(id);
+            }
+            return map.remove(id);
+        }
+
+        private void ensureOwnMap() {
+            if (mapShared) {
+                map = new HashMap<>(map);
+                mapShared = false;
+            }
+        }
+
+        /**
+         * Live world's view of the table; values are fetched through {@link #get} as they are reached.
+         */
+        private final class LiveView extends AbstractMap<String, E> {
+
+            @Override
+            public E get(Object key) {
+                return key instanceof String id ? Table.this.get(id) : null;
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return map.containsKey(key);
+            }
+
+            @Override
+            public E put(String key, E value) {
+                return Table.this.put(key, value);
+            }
+
+            @Override
+            public E remove(Object key) {
+                return key instanceof String id ? Table.this.remove(id) : null;
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+
+            @Override
+            public Set<Map.Entry<String, E>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public Iterator<Map.Entry<String, E>> iterator() {
+                        return new EntryIterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        return map.size();
+                    }
+                };
+            }
+        }
+
+        private final class EntryIterator implements Iterator<Map.Entry<String, E>> {
+            // Fetching may swap in this world's own copy of the map; the one being iterated is left as it was
+            private final Map<String, E> iterated = map;
+            private final Iterator<String> keys = iterated.keySet().iterator();
+            private String last;
+
+            @Override
+            public boolean hasNext() {
+                return keys.hasNext();
+            }
+
+            @Override
+            public Map.Entry<String, E> next() {
+                last = keys.next();
+                String id = last;
+                return new AbstractMap.SimpleEntry<>(id, Table.this.get(id)) {
+                    @Override
+                    public E setValue(E value) {
+                        super.setValue(value);
+                        return Table.this.put(id, value);
+                    }
+                };
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                if (iterated == map && !mapShared) {
+                    keys.remove();
+                    if (!allOwned) {
+                        owned.remove(last);
+                    }
+                } else {
+                    Table.this.remove(last);
+                }
+                last = null;
+            }
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.demo.island.dto;
 
+import com.demo.island.core.Creature;
 import com.demo.island.core.GameSession;
 import com.demo.island.core.ItemInstance;
 import com.demo.island.core.ItemType;
@@ -9,7 +10,7 @@ import com.demo.island.core.Tile;
 import com.demo.island.core.TileEvent;
 import com.demo.island.core.WorldState;
 import com.demo.island.engine.PlayerCommand;
-import com.demo.island.dto.ActorEventDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -19,6 +20,16 @@ import java.util.stream.Collectors;
 
 public final class DmInputDto {
 
+    /**
+     * Present when the payload was scoped by {@link ScopedDmInputEncoder}: tiles within one step of the acting
+     * player are complete, tiles up to {@code radius} steps away are listed nearest first, and nothing beyond
+     * the radius is sent.
+     *
+     * @param omitted entries within the radius left out to stay within the size budget
+     */
+    public record Scope(int radius, int omitted) {
+    }
+
     private final SessionSnapshot session;
     private final PlayerCommand command;
     private final List<PlayerSnapshot> players;
@@ -26,10 +37,17 @@ public final class DmInputDto {
     private final List<CreatureSnapshot> creatures;
     private final List<ItemSnapshot> items;
     private final List<CheckResultDto> checkResults;
+    private final Scope scope;
 
     public DmInputDto(SessionSnapshot session, PlayerCommand command, List<PlayerSnapshot> players,
                       List<TileSnapshot> tiles, List<CreatureSnapshot> creatures, List<ItemSnapshot> items,
                       List<CheckResultDto> checkResults) {
+        this(session, command, players, tiles, creatures, items, checkResults, null);
+    }
+
+    public DmInputDto(SessionSnapshot session, PlayerCommand command, List<PlayerSnapshot> players,
+                      List<TileSnapshot> tiles, List<CreatureSnapshot> creatures, List<ItemSnapshot> items,
+                      List<CheckResultDto> checkResults, Scope scope) {
         this.session = session;
         this.command = command;
         this.players = players;
@@ -37,6 +55,7 @@ public final class DmInputDto {
         this.creatures = creatures;
         this.items = items;
         this.checkResults = checkResults;
+        this.scope = scope;
     }
 
     public SessionSnapshot getSession() {
@@ -67,36 +86,15 @@ public final class DmInputDto {
         return checkResults;
     }
 
-    public static DmInputDto from(WorldState worldState, PlayerCommand command) {
-        GameSession session = worldState.getSession();
-        SessionSnapshot sessionSnapshot = new SessionSnapshot(
-                session.getSessionId(),
-                session.getTurnNumber(),
-                session.getMaxTurns(),
-                session.getTimePhase().name(),
-                session.isMidnightReached(),
-                session.isGhostAwakened(),
-                0
-        );
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Scope getScope() {
+        return scope;
+    }
 
+    public static DmInputDto from(WorldState worldState, PlayerCommand command) {
         Map<String, ItemSnapshot> itemSnapshots = new HashMap<>();
         for (ItemInstance instance : worldState.getItems().values()) {
-            ItemType type = worldState.getItemType(instance.getItemTypeId());
-            List<String> tags = type != null ? type.getTags() : List.of();
-            ItemSnapshot snapshot = new ItemSnapshot(
-                    instance.getItemId(),
-                    instance.getItemTypeId(),
-                    instance.getOwnerKind().name(),
-                    instance.getOwnerId(),
-                    instance.getContainedByItemId(),
-                    instance.getTextFace().getName(),
-                    instance.getTextFace().getShortDescription(),
-                    instance.getTextFace().getDetailDescription(),
-                    instance.getTextFace().getHistory(),
-                    tags,
-                    instance.getStats().asUnmodifiableMap()
-            );
-            itemSnapshots.put(instance.getItemId(), snapshot);
+            itemSnapshots.put(instance.getItemId(), mapItem(instance, worldState));
         }
 
         List<TileSnapshot> tileSnapshots = worldState.getTiles().values().stream()
@@ -104,37 +102,15 @@ public final class DmInputDto {
                 .collect(Collectors.toList());
 
         List<PlayerSnapshot> playerSnapshots = worldState.getPlayers().values().stream()
-                .map(player -> new PlayerSnapshot(
-                        player.getPlayerId(),
-                        player.getName(),
-                        player.getAvatarType(),
-                        player.getCurrentTileId(),
-                        player.getStats().asUnmodifiableMap(),
-                        List.copyOf(player.getInventoryItemIds()),
-                        player.getRecentEvents().stream()
-                                .limit(5)
-                                .map(DmInputDto::mapActorEvent)
-                                .collect(Collectors.toList())
-                ))
+                .map(DmInputDto::mapPlayer)
                 .collect(Collectors.toList());
 
         List<CreatureSnapshot> creatureSnapshots = worldState.getCreatures().values().stream()
-                .map(creature -> new CreatureSnapshot(
-                        creature.getCreatureId(),
-                        creature.getKind().name(),
-                        creature.getCurrentTileId(),
-                        creature.getStats().asUnmodifiableMap(),
-                        List.copyOf(creature.getCarriedItemIds()),
-                        creature.getTargetTileId(),
-                        creature.getRecentEvents().stream()
-                                .limit(5)
-                                .map(DmInputDto::mapActorEvent)
-                                .collect(Collectors.toList())
-                ))
+                .map(DmInputDto::mapCreature)
                 .collect(Collectors.toList());
 
-        return new DmInputDto(sessionSnapshot, command, playerSnapshots, tileSnapshots, creatureSnapshots,
-                new ArrayList<>(itemSnapshots.values()), List.of());
+        return new DmInputDto(mapSession(worldState.getSession()), command, playerSnapshots, tileSnapshots,
+                creatureSnapshots, new ArrayList<>(itemSnapshots.values()), List.of());
     }
 
     public static DmInputDto withChecks(DmInputDto base, List<CheckResultDto> checkResults) {
@@ -145,18 +121,83 @@ public final class DmInputDto {
                 base.tiles,
                 base.creatures,
                 base.items,
-                checkResults
+                checkResults,
+                base.scope
+        );
+    }
+
+    static SessionSnapshot mapSession(GameSession session) {
+        return new SessionSnapshot(
+                session.getSessionId(),
+                session.getTurnNumber(),
+                session.getMaxTurns(),
+                session.getTimePhase().name(),
+                session.isMidnightReached(),
+                session.isGhostAwakened(),
+                0
+        );
+    }
+
+    static ItemSnapshot mapItem(ItemInstance instance, WorldState worldState) {
+        ItemType type = worldState.getItemType(instance.getItemTypeId());
+        List<String> tags = type != null ? type.getTags() : List.of();
+        return new ItemSnapshot(
+                instance.getItemId(),
+                instance.getItemTypeId(),
+                instance.getOwnerKind().name(),
+                instance.getOwnerId(),
+                instance.getContainedByItemId(),
+                instance.getTextFace().getName(),
+                instance.getTextFace().getShortDescription(),
+                instance.getTextFace().getDetailDescription(),
+                instance.getTextFace().getHistory(),
+                tags,
+                Map.copyOf(instance.getStats().asUnmodifiableMap())
+        );
+    }
+
+    static PlayerSnapshot mapPlayer(Player player) {
+        return new PlayerSnapshot(
+                player.getPlayerId(),
+                player.getName(),
+                player.getAvatarType(),
+                player.getCurrentTileId(),
+                Map.copyOf(player.getStats().asUnmodifiableMap()),
+                List.copyOf(player.getInventoryItemIds()),
+                player.getRecentEvents().stream()
+                        .limit(5)
+                        .map(DmInputDto::mapActorEvent)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    static CreatureSnapshot mapCreature(Creature creature) {
+        return new CreatureSnapshot(
+                creature.getCreatureId(),
+                creature.getKind().name(),
+                creature.getCurrentTileId(),
+                Map.copyOf(creature.getStats().asUnmodifiableMap()),
+                List.copyOf(creature.getCarriedItemIds()),
+                creature.getTargetTileId(),
+                creature.getRecentEvents().stream()
+                        .limit(5)
+                        .map(DmInputDto::mapActorEvent)
+                        .collect(Collectors.toList())
         );
     }
 
     private static TileSnapshot mapTile(Tile tile, Map<String, ItemSnapshot> itemSnapshots, WorldState worldState) {
-        Map<String, String> neighbors = tile.getNeighbors().entrySet().stream()
-                .collect(Collectors.toMap(entry -> entry.getKey().name(), Map.Entry::getValue));
         List<ItemSnapshot> presentItems = worldState.getItems().values().stream()
                 .filter(item -> item.getOwnerKind() == ItemInstance.OwnerKind.TILE)
                 .filter(item -> tile.getTileId().equals(item.getOwnerId()))
                 .map(item -> itemSnapshots.get(item.getItemId()))
                 .collect(Collectors.toList());
+        return mapTile(tile, presentItems);
+    }
+
+    static TileSnapshot mapTile(Tile tile, List<ItemSnapshot> presentItems) {
+        Map<String, String> neighbors = tile.getNeighbors().entrySet().stream()
+                .collect(Collectors.toMap(entry -> entry.getKey().name(), Map.Entry::getValue));
         List<TileEventDto> recentEvents = tile.getRecentEvents().stream()
                 .limit(5)
                 .map(DmInputDto::mapEvent)
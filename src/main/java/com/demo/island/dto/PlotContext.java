@@ -5,11 +5,18 @@ import com.demo.island.world.PlantDensity;
 import com.demo.island.world.PlantFamily;
 import com.demo.island.world.TerrainDifficulty;
 import com.demo.island.world.TerrainFeature;
+import com.demo.island.world.TileExits;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
+/**
+ * What the engine knows about one plot. The tile's own attributes are plain fields and neighbor summaries
+ * come from the tile's cached {@link TileExits}; the Things present are computed on first read, so a context
+ * that is only used for its id or description never builds them. Not thread-safe.
+ */
 public final class PlotContext {
     public String plotId;
     public String biome;
@@ -20,7 +27,70 @@ public final class PlotContext {
     public PlantFamily floraPrimary;
     public PlantDensity floraDensity;
     public String currentDescription;
-    public Map<Direction8, String> neighborSummaries;
-    public List<ThingContext> visibleThings;
-    public List<ThingContext> hiddenThings;
+    private TileExits exits;
+    private Supplier<List<ThingContext>> visibleThingsSource;
+    private Supplier<List<ThingContext>> hiddenThingsSource;
+    private Map<Direction8, String> neighborSummaries;
+    private List<ThingContext> visibleThings;
+    private List<ThingContext> hiddenThings;
+
+    public Map<Direction8, String> getNeighborSummaries() {
+        if (neighborSummaries == null && exits != null) {
+            return exits.getSummaries();
+        }
+        return neighborSummaries;
+    }
+
+    public void setNeighborSummaries(Map<Direction8, String> neighborSummaries) {
+        this.neighborSummaries = neighborSummaries;
+        this.exits = null;
+    }
+
+    /**
+     * The plot's cached exits, or null when the summaries were set by hand.
+     */
+    public TileExits getExits() {
+        return exits;
+    }
+
+    public void setExits(TileExits exits) {
+        this.exits = exits;
+        this.neighborSummaries = null;
+    }
+
+    public List<ThingContext> getVisibleThings() {
+        if (visibleThings == null && visibleThingsSource != null) {
+            visibleThings = visibleThingsSource.get();
+            visibleThingsSource = null;
+        }
+        return visibleThings;
+    }
+
+    public void setVisibleThings(List<ThingContext> visibleThings) {
+        this.visibleThings = visibleThings;
+        this.visibleThingsSource = null;
+    }
+
+    public void setVisibleThingsSource(Supplier<List<ThingContext>> source) {
+        this.visibleThings = null;
+        this.visibleThingsSource = source;
+    }
+
+    public List<ThingContext> getHiddenThings() {
+        if (hiddenThings == null && hiddenThingsSource != null) {
+            hiddenThings = hiddenThingsSource.get();
+            hiddenThingsSource = null;
+        }
+        return hiddenThings;
+    }
+
+    public void setHiddenThings(List<ThingContext> hiddenThings) {
+        this.hiddenThings = hiddenThings;
+        this.hiddenThingsSource = null;
+    }
+
+    public void setHiddenThingsSource(Supplier<List<ThingContext>> source) {
+        this.hiddenThings = null;
+        this.hiddenThingsSource = source;
+    }
 }
@@ -0,0 +1,186 @@
+package com.demo.island.dto;
+
+import com.demo.island.core.Creature;
+import com.demo.island.core.ItemInstance;
+import com.demo.island.core.Player;
+import com.demo.island.core.Tile;
+import com.demo.island.core.WorldState;
+import com.demo.island.engine.PlayerCommand;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Builds relevance-scoped {@link DmInputDto}s. The acting player, their tile and its neighbors are always sent;
+ * tiles up to {@code radius} steps away, and the players, creatures and items on them, are sent nearest first
+ * until {@code maxFarEntries} of them are in the payload; anything further away is left out.
+ * <p>
+ * The limit counts entries, not bytes or tokens. Entries differ in size (a tile with a long history or many
+ * recent events weighs more than a bare item), so it only approximates a payload size budget.
+ * <p>
+ * Every payload stands on its own: DM calls are stateless, so nothing is left out on the grounds that an
+ * earlier payload already carried it, and the encoder keeps no per-session state. Thread-safe.
+ */
+public final class ScopedDmInputEncoder {
+
+    private static final int FULL_RADIUS = 1;
+    private static final int MAX_CONTAINER_DEPTH = 8;
+
+    /**
+     * Entries sent since the encoder was created.
+     *
+     * @param near    entries sent because they are next to the acting player
+     * @param far     entries sent from further out, within the radius
+     * @param omitted entries within the radius left out to stay within the budget
+     */
+    public record Metrics(long payloads, long near, long far, long omitted) {
+    }
+
+    private final int radius;
+    private final int maxFarEntries;
+    private final LongAdder payloads = new LongAdder();
+    private final LongAdder near = new LongAdder();
+    private final LongAdder far = new LongAdder();
+    private final LongAdder omitted = new LongAdder();
+
+    public ScopedDmInputEncoder(int radius, int maxFarEntries) {
+        this.radius = Math.max(FULL_RADIUS, radius);
+        this.maxFarEntries = Math.max(0, maxFarEntries);
+    }
+
+    public DmInputDto encode(WorldState worldState, PlayerCommand command) {
+        Player actor = command != null ? worldState.getPlayer(command.getPlayerId()) : null;
+        Map<String, Integer> distance = distances(worldState, actor != null ? actor.getCurrentTileId() : null);
+
+        Map<String, List<ItemInstance>> itemsByTile = new HashMap<>();
+        for (ItemInstance item : worldState.getItems().values()) {
+            String tileId = locate(worldState, item);
+            if (tileId != null && distance.containsKey(tileId)) {
+                itemsByTile.computeIfAbsent(tileId, id -> new ArrayList<>()).add(item);
+            }
+        }
+        Map<String, List<Player>> playersByTile = new HashMap<>();
+        for (Player player : worldState.getPlayers().values()) {
+            if (player != actor && distance.containsKey(player.getCurrentTileId())) {
+                playersByTile.computeIfAbsent(player.getCurrentTileId(), id -> new ArrayList<>()).add(player);
+            }
+        }
+        Map<String, List<Creature>> creaturesByTile = new HashMap<>();
+        for (Creature creature : worldState.getCreatures().values()) {
+            if (distance.containsKey(creature.getCurrentTileId())) {
+                creaturesByTile.computeIfAbsent(creature.getCurrentTileId(), id -> new ArrayList<>()).add(creature);
+            }
+        }
+
+        Payload payload = new Payload();
+        List<TileSnapshot> tiles = new ArrayList<>();
+        List<ItemSnapshot> items = new ArrayList<>();
+        List<PlayerSnapshot> players = new ArrayList<>();
+        List<CreatureSnapshot> creatures = new ArrayList<>();
+        if (actor != null) {
+            payload.offer(DmInputDto.mapPlayer(actor), true, players);
+        }
+        // Distances are in breadth-first order, so the budget goes to the nearest tiles first
+        for (Map.Entry<String, Integer> entry : distance.entrySet()) {
+            String tileId = entry.getKey();
+            boolean close = entry.getValue() <= FULL_RADIUS;
+            List<ItemSnapshot> present = new ArrayList<>();
+            for (ItemInstance item : itemsByTile.getOrDefault(tileId, List.of())) {
+                ItemSnapshot snapshot = DmInputDto.mapItem(item, worldState);
+                if (item.getOwnerKind() == ItemInstance.OwnerKind.TILE) {
+                    present.add(snapshot);
+                }
+                boolean carriedByActor = actor != null && item.getOwnerKind() == ItemInstance.OwnerKind.PLAYER
+                        && actor.getPlayerId().equals(item.getOwnerId());
+                payload.offer(snapshot, close || carriedByActor, items);
+            }
+            Tile tile = worldState.getTile(tileId);
+            payload.offer(DmInputDto.mapTile(tile, present), close, tiles);
+            for (Player player : playersByTile.getOrDefault(tileId, List.of())) {
+                payload.offer(DmInputDto.mapPlayer(player), close, players);
+            }
+            for (Creature creature : creaturesByTile.getOrDefault(tileId, List.of())) {
+                payload.offer(DmInputDto.mapCreature(creature), close, creatures);
+            }
+        }
+
+        payloads.increment();
+        return new DmInputDto(DmInputDto.mapSession(worldState.getSession()), command, players, tiles, creatures,
+                items, List.of(), new DmInputDto.Scope(radius, payload.omitted));
+    }
+
+    public Metrics getMetrics() {
+        return new Metrics(payloads.sum(), near.sum(), far.sum(), omitted.sum());
+    }
+
+    private Map<String, Integer> distances(WorldState worldState, String startTileId) {
+        Map<String, Integer> distance = new LinkedHashMap<>();
+        if (startTileId == null || worldState.getTile(startTileId) == null) {
+            return distance;
+        }
+        Deque<String> queue = new ArrayDeque<>();
+        distance.put(startTileId, 0);
+        queue.add(startTileId);
+        while (!queue.isEmpty()) {
+            String tileId = queue.poll();
+            int steps = distance.get(tileId);
+            if (steps == radius) {
+                continue;
+            }
+            for (String neighbor : worldState.getTile(tileId).getNeighbors().values()) {
+                if (!distance.containsKey(neighbor) && worldState.getTile(neighbor) != null) {
+                    distance.put(neighbor, steps + 1);
+                    queue.add(neighbor);
+                }
+            }
+        }
+        return distance;
+    }
+
+    private static String locate(WorldState worldState, ItemInstance item) {
+        for (int depth = 0; item != null && depth < MAX_CONTAINER_DEPTH; depth++) {
+            switch (item.getOwnerKind()) {
+                case TILE -> {
+                    return item.getOwnerId();
+                }
+                case PLAYER -> {
+                    Player player = worldState.getPlayer(item.getOwnerId());
+                    return player != null ? player.getCurrentTileId() : null;
+                }
+                case CREATURE -> {
+                    Creature creature = worldState.getCreature(item.getOwnerId());
+                    return creature != null ? creature.getCurrentTileId() : null;
+                }
+                case ITEM -> item = worldState.getItem(item.getOwnerId());
+            }
+        }
+        return null;
+    }
+
+    private final class Payload {
+        private int farEntries;
+        private int omitted;
+
+        <T> void offer(T snapshot, boolean always, List<T> out) {
+            if (always) {
+                out.add(snapshot);
+                near.increment();
+                return;
+            }
+            if (farEntries >= maxFarEntries) {
+                omitted++;
+                ScopedDmInputEncoder.this.omitted.increment();
+                return;
+            }
+            farEntries++;
+            out.add(snapshot);
+            far.increment();
+        }
+    }
+}
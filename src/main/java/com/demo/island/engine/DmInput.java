@@ -2,6 +2,7 @@ package com.demo.island.engine;
 
 import com.demo.island.core.WorldState;
 import com.demo.island.dto.DmInputDto;
+import com.demo.island.dto.ScopedDmInputEncoder;
 
 public final class DmInput {
 
@@ -28,7 +29,17 @@ public final class DmInput {
     }
 
     public DmInputDto toDto() {
-        DmInputDto base = DmInputDto.from(worldState, command);
+        return withChecks(DmInputDto.from(worldState, command));
+    }
+
+    /**
+     * Payload scoped to the acting player's surroundings; see {@link ScopedDmInputEncoder}.
+     */
+    public DmInputDto toDto(ScopedDmInputEncoder encoder) {
+        return withChecks(encoder.encode(worldState, command));
+    }
+
+    private DmInputDto withChecks(DmInputDto base) {
         java.util.List<com.demo.island.dto.CheckResultDto> dtos = recentCheckResults.stream()
                 .map(cr -> new com.demo.island.dto.CheckResultDto(
                         cr.getCheckId(),
@@ -0,0 +1,195 @@
+package com.demo.island.engine;
+
+import com.demo.island.core.ItemInstance;
+import com.demo.island.engine.check.CheckRequest;
+import com.demo.island.engine.check.CheckResult;
+import com.demo.island.engine.check.CheckSubjectKind;
+import com.demo.island.engine.check.CheckType;
+import com.demo.island.ghost.GhostDecision;
+import com.demo.island.ghost.GhostIntent;
+import com.demo.island.monkey.MonkeyDecision;
+import com.demo.island.monkey.MonkeyIntent;
+
+import java.util.List;
+
+/**
+ * JSON-friendly mirror of {@link EngineTurnJournal} entries. Decisions hold {@link StateChange} objects and
+ * intents without a JSON form, so each is mapped field by field to a record Jackson can write and read back.
+ * Only the built-in state changes can be written.
+ */
+final class EngineJournalCodec {
+
+    record Header(boolean ghostAgent, boolean monkeyAgent, boolean autoProcessCreatures) {
+    }
+
+    record EntryJson(String playerId, String rawText, DmJson dm, GhostJson ghost, MonkeyJson monkey,
+                     List<Integer> rolls, int turnNumber) {
+    }
+
+    record DmJson(String narration, boolean turnConsumesTime, List<ChangeJson> changes,
+                  List<CheckResultJson> checkResults, List<String> hints, List<String> errors) {
+    }
+
+    record ChangeJson(String kind, String playerId, String tileId, String itemId, ItemInstance.OwnerKind ownerKind,
+                      String ownerId, String containedByItemId, FlagTarget flagTarget, String flagTargetId,
+                      String flagName, boolean flagValue) {
+    }
+
+    record CheckJson(CheckType type, CheckSubjectKind subjectKind, String subjectId, int difficulty) {
+    }
+
+    record CheckResultJson(CheckJson request, boolean success, int roll, int modifier, int total, String checkId) {
+    }
+
+    record GhostJson(String narration, boolean turnConsumesTime, List<GhostIntentJson> actions,
+                     List<CheckJson> checkRequests, List<String> hints, List<String> errors) {
+    }
+
+    record GhostIntentJson(GhostIntent.Verb verb, String creatureId, String targetTileId, String flagTarget,
+                           String flagName, Boolean flagValue, String checkType, String checkSubjectKind,
+                           String checkSubjectId, Integer difficulty) {
+    }
+
+    record MonkeyJson(String narration, boolean turnConsumesTime, String dailyPhase, String targetTileId,
+                      List<MonkeyIntentJson> intents, List<CheckJson> checkRequests, List<String> hints,
+                      List<String> errors) {
+    }
+
+    record MonkeyIntentJson(MonkeyIntent.IntentKind intent, String playerId) {
+    }
+
+    private EngineJournalCodec() {
+    }
+
+    static EntryJson toJson(EngineTurnJournal.Entry entry) {
+        PlayerCommand command = entry.command();
+        return new EntryJson(command.getPlayerId(), command.getRawText(), toJson(entry.dmDecision()),
+                toJson(entry.ghostDecision()), toJson(entry.monkeyDecision()), entry.rolls(), entry.turnNumber());
+    }
+
+    static EngineTurnJournal.Entry fromJson(EntryJson json) {
+        return new EngineTurnJournal.Entry(new PlayerCommand(json.playerId(), json.rawText()), fromJson(json.dm()),
+                fromJson(json.ghost()), fromJson(json.monkey()), json.rolls() == null ? List.of() : json.rolls(),
+                json.turnNumber());
+    }
+
+    private static DmJson toJson(DmDecision decision) {
+        if (decision == null) {
+            return null;
+        }
+        return new DmJson(decision.getNarration(), decision.isTurnConsumesTime(),
+                decision.getStateChanges().stream().map(EngineJournalCodec::toJson).toList(),
+                decision.getCheckResults().stream().map(EngineJournalCodec::toJson).toList(),
+                decision.getHints(), decision.getErrors());
+    }
+
+    private static DmDecision fromJson(DmJson json) {
+        if (json == null) {
+            return null;
+        }
+        DmDecision decision = new DmDecision(json.narration(), json.turnConsumesTime());
+        json.changes().forEach(change -> decision.addStateChange(fromJson(change)));
+        json.checkResults().forEach(result -> decision.addCheckResult(fromJson(result)));
+        json.hints().forEach(decision::addHint);
+        json.errors().forEach(decision::addError);
+        return decision;
+    }
+
+    private static ChangeJson toJson(StateChange change) {
+        if (change instanceof MovePlayerChange move) {
+            return new ChangeJson("MOVE_PLAYER", move.getPlayerId(), move.getTargetTileId(), null, null, null, null,
+                    null, null, null, false);
+        }
+        if (change instanceof TransferItemChange transfer) {
+            return new ChangeJson("TRANSFER_ITEM", null, null, transfer.getItemId(), transfer.getNewOwnerKind(),
+                    transfer.getNewOwnerId(), transfer.getContainedByItemId(), null, null, null, false);
+        }
+        if (change instanceof SetFlagChange flag) {
+            return new ChangeJson("SET_FLAG", null, null, null, null, null, null, flag.getTarget(),
+                    flag.getTargetId(), flag.getFlagName(), flag.getValue());
+        }
+        throw new IllegalStateException("Cannot journal state change " + change.getClass().getName());
+    }
+
+    private static StateChange fromJson(ChangeJson json) {
+        return switch (json.kind()) {
+            case "MOVE_PLAYER" -> new MovePlayerChange(json.playerId(), json.tileId());
+            case "TRANSFER_ITEM" -> new TransferItemChange(json.itemId(), json.ownerKind(), json.ownerId(),
+                    json.containedByItemId());
+            case "SET_FLAG" -> new SetFlagChange(json.flagTarget(), json.flagTargetId(), json.flagName(),
+                    json.flagValue());
+            default -> throw new IllegalArgumentException("Unknown journaled state change " + json.kind());
+        };
+    }
+
+    private static CheckJson toJson(CheckRequest request) {
+        return new CheckJson(request.getType(), request.getSubjectKind(), request.getSubjectId(),
+                request.getDifficulty());
+    }
+
+    private static CheckRequest fromJson(CheckJson json) {
+        return new CheckRequest(json.type(), json.subjectKind(), json.subjectId(), json.difficulty());
+    }
+
+    private static CheckResultJson toJson(CheckResult result) {
+        return new CheckResultJson(toJson(result.getRequest()), result.isSuccess(), result.getRoll(),
+                result.getModifier(), result.getTotal(), result.getCheckId());
+    }
+
+    private static CheckResult fromJson(CheckResultJson json) {
+        return new CheckResult(fromJson(json.request()), json.success(), json.roll(), json.modifier(), json.total(),
+                json.checkId());
+    }
+
+    private static GhostJson toJson(GhostDecision decision) {
+        if (decision == null) {
+            return null;
+        }
+        return new GhostJson(decision.getNarration(), decision.isTurnConsumesTime(),
+                decision.getActions().stream().map(intent -> new GhostIntentJson(intent.getVerb(),
+                        intent.getCreatureId(), intent.getTargetTileId(), intent.getFlagTarget(), intent.getFlagName(),
+                        intent.getFlagValue(), intent.getCheckType(), intent.getCheckSubjectKind(),
+                        intent.getCheckSubjectId(), intent.getDifficulty())).toList(),
+                decision.getCheckRequests().stream().map(EngineJournalCodec::toJson).toList(),
+                decision.getHints(), decision.getErrors());
+    }
+
+    private static GhostDecision fromJson(GhostJson json) {
+        if (json == null) {
+            return null;
+        }
+        GhostDecision decision = new GhostDecision(json.narration(), json.turnConsumesTime());
+        json.actions().forEach(a -> decision.addAction(new GhostIntent(a.verb(), a.creatureId(), a.targetTileId(),
+                a.flagTarget(), a.flagName(), a.flagValue(), a.checkType(), a.checkSubjectKind(), a.checkSubjectId(),
+                a.difficulty())));
+        json.checkRequests().forEach(request -> decision.addCheckRequest(fromJson(request)));
+        json.hints().forEach(decision::addHint);
+        json.errors().forEach(decision::addError);
+        return decision;
+    }
+
+    private static MonkeyJson toJson(MonkeyDecision decision) {
+        if (decision == null) {
+            return null;
+        }
+        return new MonkeyJson(decision.getNarration(), decision.isTurnConsumesTime(), decision.getDailyPhase(),
+                decision.getTargetTileId(),
+                decision.getIntents().stream().map(i -> new MonkeyIntentJson(i.getIntent(), i.getPlayerId())).toList(),
+                decision.getCheckRequests().stream().map(EngineJournalCodec::toJson).toList(),
+                decision.getHints(), decision.getErrors());
+    }
+
+    private static MonkeyDecision fromJson(MonkeyJson json) {
+        if (json == null) {
+            return null;
+        }
+        MonkeyDecision decision = new MonkeyDecision(json.narration(), json.turnConsumesTime());
+        decision.setDailyPhase(json.dailyPhase());
+        decision.setTargetTileId(json.targetTileId());
+        json.intents().forEach(i -> decision.addIntent(new MonkeyIntent(i.intent(), i.playerId())));
+        json.checkRequests().forEach(request -> decision.addCheckRequest(fromJson(request)));
+        json.hints().forEach(decision::addHint);
+        json.errors().forEach(decision::addError);
+        return decision;
+    }
+}
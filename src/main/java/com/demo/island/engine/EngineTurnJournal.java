@@ -0,0 +1,206 @@
+package com.demo.island.engine;
+
+import com.demo.island.core.WorldState;
+import com.demo.island.engine.check.CheckConfig;
+import com.demo.island.engine.check.CheckService;
+import com.demo.island.engine.dice.DiceService;
+import com.demo.island.ghost.GhostDecision;
+import com.demo.island.monkey.MonkeyDecision;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Record of the inputs a {@link TurnEngine} consumed: each player command, the DM, ghost and monkey decisions
+ * it acted on, and the d20s its own checks rolled. {@link #replay} feeds them back into a fresh engine, so an
+ * episode can be re-executed, or fast-forwarded to a turn, without calling any agent.
+ * <p>
+ * Attach before the first turn; the engine's agent setup and check config are captured at that point. Journals
+ * are written as JSON lines, a header with the agent setup followed by one line per turn. Check rules are code,
+ * so a journal read back replays with the check config it is read with.
+ * <p>
+ * Named apart from the game layer's {@link com.demo.island.game.TurnJournal}, which records tool calls.
+ */
+public final class EngineTurnJournal {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    /**
+     * One {@link TurnEngine#runTurn} call.
+     *
+     * @param turnNumber session turn number after the call, checked on replay
+     */
+    public record Entry(PlayerCommand command,
+                        DmDecision dmDecision,
+                        GhostDecision ghostDecision,
+                        MonkeyDecision monkeyDecision,
+                        List<Integer> rolls,
+                        int turnNumber) {
+
+        public Entry {
+            rolls = List.copyOf(rolls);
+        }
+    }
+
+    private final boolean ghostAgent;
+    private final boolean monkeyAgent;
+    private final boolean autoProcessCreatures;
+    private final CheckConfig checkConfig;
+    private final List<Entry> entries = new ArrayList<>();
+    private PlayerCommand command;
+    private DmDecision dmDecision;
+    private GhostDecision ghostDecision;
+    private MonkeyDecision monkeyDecision;
+    private final List<Integer> rolls = new ArrayList<>();
+
+    private EngineTurnJournal(boolean ghostAgent, boolean monkeyAgent, boolean autoProcessCreatures, CheckConfig checkConfig) {
+        this.ghostAgent = ghostAgent;
+        this.monkeyAgent = monkeyAgent;
+        this.autoProcessCreatures = autoProcessCreatures;
+        this.checkConfig = checkConfig;
+    }
+
+    /**
+     * Starts journaling every turn the engine runs.
+     */
+    public static EngineTurnJournal attach(TurnEngine engine) {
+        EngineTurnJournal journal = new EngineTurnJournal(engine.hasGhostAgent(), engine.hasMonkeyAgent(),
+                engine.isAutoProcessCreatures(), engine.getCheckService().getCheckConfig());
+        engine.setJournal(journal);
+        return journal;
+    }
+
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Writes the agent setup, then one JSON object per entry, one per line.
+     *
+     * @throws IllegalStateException when a decision carries a state change other than the built-in ones
+     */
+    public void write(Writer out) throws IOException {
+        out.write(MAPPER.writeValueAsString(new EngineJournalCodec.Header(ghostAgent, monkeyAgent,
+                autoProcessCreatures)));
+        out.write('\n');
+        for (Entry entry : entries) {
+            out.write(MAPPER.writeValueAsString(EngineJournalCodec.toJson(entry)));
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a journal written by {@link #write}; replays use {@code checkConfig} for check modifiers.
+     */
+    public static EngineTurnJournal read(Reader in, CheckConfig checkConfig) throws IOException {
+        BufferedReader reader = in instanceof BufferedReader buffered ? buffered : new BufferedReader(in);
+        EngineTurnJournal journal = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (journal == null) {
+                EngineJournalCodec.Header header = MAPPER.readValue(line, EngineJournalCodec.Header.class);
+                journal = new EngineTurnJournal(header.ghostAgent(), header.monkeyAgent(),
+                        header.autoProcessCreatures(), checkConfig);
+            } else {
+                journal.entries.add(EngineJournalCodec.fromJson(MAPPER.readValue(line,
+                        EngineJournalCodec.EntryJson.class)));
+            }
+        }
+        if (journal == null) {
+            throw new IOException("Empty engine journal");
+        }
+        return journal;
+    }
+
+    void begin(PlayerCommand command) {
+        this.command = command;
+        dmDecision = null;
+        ghostDecision = null;
+        monkeyDecision = null;
+        rolls.clear();
+    }
+
+    void dm(DmDecision decision) {
+        dmDecision = decision;
+    }
+
+    void ghost(GhostDecision decision) {
+        ghostDecision = decision;
+    }
+
+    void monkey(MonkeyDecision decision) {
+        monkeyDecision = decision;
+    }
+
+    void roll(int roll) {
+        rolls.add(roll);
+    }
+
+    void end(WorldState worldState) {
+        entries.add(new Entry(command, dmDecision, ghostDecision, monkeyDecision, rolls,
+                worldState.getSession().getTurnNumber()));
+    }
+
+    /**
+     * Re-runs the first {@code turns} entries against {@code worldState}, which must be in the state the
+     * recorded one started from. Returns the number of turns replayed.
+     *
+     * @throws IllegalStateException when the engine asks for a roll the journal does not have, leaves recorded
+     *                               rolls unused, or ends a turn on a different turn number
+     */
+    public int replay(WorldState worldState, int turns) {
+        Entry[] current = new Entry[1];
+        int[] next = new int[1];
+        DiceService dice = new DiceService(sides -> {
+            List<Integer> recorded = current[0].rolls();
+            if (next[0] >= recorded.size()) {
+                throw new IllegalStateException("Replay needed more than " + recorded.size() + " rolls");
+            }
+            return recorded.get(next[0]++);
+        });
+        TurnEngine engine = new TurnEngine(dice, new CheckService(dice, checkConfig),
+                ghostAgent ? input -> current[0].ghostDecision() : null,
+                monkeyAgent ? input -> current[0].monkeyDecision() : null,
+                autoProcessCreatures);
+        DmAgent dm = input -> current[0].dmDecision();
+
+        int replayed = 0;
+        for (Entry entry : entries) {
+            if (replayed >= turns) {
+                break;
+            }
+            current[0] = entry;
+            next[0] = 0;
+            try {
+                engine.runTurn(worldState, entry.command(), dm);
+            } catch (IllegalStateException ex) {
+                throw diverged(replayed + 1, ex.getMessage());
+            }
+            if (next[0] != entry.rolls().size()) {
+                throw diverged(replayed + 1, "used " + next[0] + " of " + entry.rolls().size() + " recorded rolls");
+            }
+            if (worldState.getSession().getTurnNumber() != entry.turnNumber()) {
+                throw diverged(replayed + 1, "turn number " + worldState.getSession().getTurnNumber()
+                        + ", recorded " + entry.turnNumber());
+            }
+            replayed++;
+        }
+        return replayed;
+    }
+
+    private static IllegalStateException diverged(int entry, String detail) {
+        return new IllegalStateException("Replay diverged at journal entry " + entry + ": " + detail);
+    }
+}
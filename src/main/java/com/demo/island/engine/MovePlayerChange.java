@@ -14,6 +14,14 @@ public final class MovePlayerChange implements StateChange {
         this.targetTileId = targetTileId;
     }
 
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public String getTargetTileId() {
+        return targetTileId;
+    }
+
     @Override
     public void applyTo(WorldState worldState) {
         Player player = worldState.getPlayer(playerId);
@@ -17,6 +17,22 @@ public final class SetFlagChange implements StateChange {
         this.value = value;
     }
 
+    public FlagTarget getTarget() {
+        return target;
+    }
+
+    public String getTargetId() {
+        return targetId;
+    }
+
+    public String getFlagName() {
+        return flagName;
+    }
+
+    public boolean getValue() {
+        return value;
+    }
+
     @Override
     public void applyTo(WorldState worldState) {
         switch (target) {
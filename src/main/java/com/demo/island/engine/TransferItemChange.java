@@ -22,6 +22,22 @@ public final class TransferItemChange implements StateChange {
         this.containedByItemId = containedByItemId;
     }
 
+    public String getItemId() {
+        return itemId;
+    }
+
+    public ItemInstance.OwnerKind getNewOwnerKind() {
+        return newOwnerKind;
+    }
+
+    public String getNewOwnerId() {
+        return newOwnerId;
+    }
+
+    public String getContainedByItemId() {
+        return containedByItemId;
+    }
+
     @Override
     public void applyTo(WorldState worldState) {
         ItemInstance item = worldState.getItem(itemId);
@@ -18,10 +18,24 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public final class TurnEngine {
 
     private static final Logger LOG = LogManager.getLogger(TurnEngine.class);
+    // Agent calls mostly wait on I/O, but the pool stays bounded so a stuck agent cannot grow it without limit
+    private static final int CREATURE_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final ExecutorService CREATURE_AGENTS = creaturePool();
     private final DiceService diceService;
     private final CheckService checkService;
     private final java.util.List<com.demo.island.engine.check.CheckResult> recentCheckResults = new java.util.ArrayList<>();
@@ -29,6 +43,8 @@ public final class TurnEngine {
     private final com.demo.island.monkey.MonkeyAgent monkeyAgent;
     private boolean autoProcessCreatures = true;
     private final String monkeyHomeTileId = "T_VINES";
+    private EngineTurnJournal journal;
+    private Executor creatureExecutor = CREATURE_AGENTS;
 
     public TurnEngine() {
         this(new DiceService());
@@ -58,7 +74,13 @@ public final class TurnEngine {
     public DmDecision runTurn(WorldState worldState, PlayerCommand command, DmAgent dmAgent) {
         DmInput dmInput = new DmInput(worldState, command, List.copyOf(recentCheckResults));
         recentCheckResults.clear();
+        if (journal != null) {
+            journal.begin(command);
+        }
         DmDecision dmDecision = dmAgent.decide(dmInput);
+        if (journal != null) {
+            journal.dm(dmDecision);
+        }
 
         for (StateChange change : dmDecision.getStateChanges()) {
             change.applyTo(worldState);
@@ -71,8 +93,7 @@ public final class TurnEngine {
             LOG.debug("Turn advanced to {} phase={}", worldState.getSession().getTurnNumber(),
                     worldState.getSession().getTimePhase());
             if (autoProcessCreatures) {
-                runGhostTurn(worldState);
-                runMonkeyTurn(worldState);
+                runCreaturePhase(worldState);
             }
         }
 
@@ -81,6 +102,9 @@ public final class TurnEngine {
             recentCheckResults.addAll(dmDecision.getCheckResults());
         }
 
+        if (journal != null) {
+            journal.end(worldState);
+        }
         return dmDecision;
     }
 
@@ -97,22 +121,92 @@ public final class TurnEngine {
         session.setTimePhase(newPhase);
     }
 
-    // Placeholder: ghost behavior will be added later, this logs the hook point.
+    /**
+     * Creature phase of a turn. Every creature agent decides against the same post-DM world, the agents run
+     * concurrently (one on the calling thread, the rest on the creature executor), and their decisions are then
+     * applied one at a time in a fixed order: ghost, then monkeys. Agents read a {@link WorldState#snapshot()}
+     * taken before they start, so the world may change while they decide.
+     * <p>
+     * Conflicts are settled at apply time: each intent is checked against the world as it is by then (a banana
+     * already taken is not stolen again), and a creature's own decision is applied after anything another
+     * creature decided about it. Checks rolled in this phase reach the agents on the next turn.
+     */
+    public void runCreaturePhase(WorldState worldState) {
+        List<com.demo.island.engine.check.CheckResult> checks = List.copyOf(recentCheckResults);
+        WorldState view = worldState.snapshot();
+        List<CreatureTurn<?>> turns = new ArrayList<>(2);
+        if (ghostAgent != null) {
+            GhostInput input = new GhostInput(view, checks);
+            turns.add(new CreatureTurn<>(() -> ghostAgent.decide(input), d -> applyGhostDecision(worldState, d)));
+        } else {
+            turns.add(new CreatureTurn<GhostDecision>(null, d -> runGhostStub(worldState)));
+        }
+        // Look the monkey up in the snapshot so the live world copies only the monkey, not every creature it scans
+        com.demo.island.core.Creature monkeySeen = monkeyAgent != null ? findMonkey(view) : null;
+        com.demo.island.core.Creature monkey = monkeySeen != null ? worldState.getCreature(monkeySeen.getCreatureId()) : null;
+        if (monkey != null) {
+            com.demo.island.monkey.MonkeyInput input = new com.demo.island.monkey.MonkeyInput(view, checks);
+            turns.add(new CreatureTurn<>(() -> monkeyAgent.decide(input),
+                    d -> applyMonkeyDecision(worldState, monkey, d)));
+        }
+
+        try {
+            CreatureTurn<?> local = null;
+            for (CreatureTurn<?> turn : turns) {
+                if (turn.decide == null) {
+                    continue;
+                }
+                if (local != null) {
+                    local.start(creatureExecutor);
+                }
+                local = turn;
+            }
+            if (local != null) {
+                local.decideHere();
+            }
+            for (CreatureTurn<?> turn : turns) {
+                turn.apply();
+            }
+        } finally {
+            // A failed turn leaves no agent call queued behind it
+            for (CreatureTurn<?> turn : turns) {
+                turn.cancel();
+            }
+        }
+    }
+
     public void runGhostTurn(WorldState worldState) {
         if (ghostAgent == null) {
             runGhostStub(worldState);
             return;
         }
+        GhostInput input = new GhostInput(worldState.snapshot(), List.copyOf(recentCheckResults));
+        applyGhostDecision(worldState, ghostAgent.decide(input));
+    }
 
-        GhostInput input = new GhostInput(worldState, List.copyOf(recentCheckResults));
-        GhostDecision decision = ghostAgent.decide(input);
+    public void runMonkeyTurn(WorldState worldState) {
+        if (monkeyAgent == null) {
+            return;
+        }
+        com.demo.island.monkey.MonkeyInput input = new com.demo.island.monkey.MonkeyInput(worldState.snapshot(), List.copyOf(recentCheckResults));
+        com.demo.island.core.Creature monkey = findMonkey(worldState);
+        if (monkey == null) {
+            return;
+        }
+        applyMonkeyDecision(worldState, monkey, monkeyAgent.decide(input));
+    }
+
+    private void applyGhostDecision(WorldState worldState, GhostDecision decision) {
+        if (journal != null) {
+            journal.ghost(decision);
+        }
         if (decision == null) {
             return;
         }
 
         decision.getActions().forEach(intent -> applyGhostIntent(intent, worldState));
         decision.getCheckRequests().forEach(req -> {
-            com.demo.island.engine.check.CheckResult result = checkService.evaluate(worldState, req);
+            com.demo.island.engine.check.CheckResult result = evaluate(worldState, req);
             recentCheckResults.add(result);
         });
 
@@ -121,25 +215,23 @@ public final class TurnEngine {
         }
     }
 
-    public void runMonkeyTurn(WorldState worldState) {
-        if (monkeyAgent == null) {
-            return;
-        }
-        com.demo.island.core.Creature monkey = worldState.getCreatures().values().stream()
+    private com.demo.island.core.Creature findMonkey(WorldState worldState) {
+        return worldState.getCreatures().values().stream()
                 .filter(c -> c.getKind() == com.demo.island.core.Creature.CreatureKind.MONKEY_TROOP)
                 .findFirst()
                 .orElse(null);
-        if (monkey == null) {
-            return;
-        }
+    }
 
-        String homeTileId = worldState.getTiles().containsKey(monkeyHomeTileId) ? monkeyHomeTileId : monkey.getCurrentTileId();
-        com.demo.island.monkey.MonkeyInput input = new com.demo.island.monkey.MonkeyInput(worldState, List.copyOf(recentCheckResults));
-        com.demo.island.monkey.MonkeyDecision decision = monkeyAgent.decide(input);
+    private void applyMonkeyDecision(WorldState worldState, com.demo.island.core.Creature monkey,
+                                     com.demo.island.monkey.MonkeyDecision decision) {
+        if (journal != null) {
+            journal.monkey(decision);
+        }
         if (decision == null) {
             return;
         }
 
+        String homeTileId = worldState.getTile(monkeyHomeTileId) != null ? monkeyHomeTileId : monkey.getCurrentTileId();
         if (decision.getDailyPhase() != null) {
             // simple mode recording as flag if needed in future; currently just logged
             LOG.debug("Monkeys mode: {}", decision.getDailyPhase());
@@ -174,7 +266,7 @@ public final class TurnEngine {
         }
 
         decision.getCheckRequests().forEach(req -> {
-            com.demo.island.engine.check.CheckResult result = checkService.evaluate(worldState, req);
+            com.demo.island.engine.check.CheckResult result = evaluate(worldState, req);
             recentCheckResults.add(result);
         });
 
@@ -183,6 +275,15 @@ public final class TurnEngine {
         }
     }
 
+    private com.demo.island.engine.check.CheckResult evaluate(WorldState worldState,
+                                                             com.demo.island.engine.check.CheckRequest req) {
+        com.demo.island.engine.check.CheckResult result = checkService.evaluate(worldState, req);
+        if (journal != null) {
+            journal.roll(result.getRoll());
+        }
+        return result;
+    }
+
     private String firstPlayerTile(WorldState worldState) {
         return worldState.getPlayers().values().stream()
                 .findFirst()
@@ -207,7 +308,7 @@ public final class TurnEngine {
                             ghost.getCreatureId(),
                             10
                     );
-                    com.demo.island.engine.check.CheckResult result = checkService.evaluate(worldState, req);
+                    com.demo.island.engine.check.CheckResult result = evaluate(worldState, req);
                     recentCheckResults.add(result);
                     if (result.isSuccess()) {
                         String targetTile = firstPlayerTile(worldState);
@@ -249,7 +350,7 @@ public final class TurnEngine {
                 com.demo.island.engine.check.CheckRequest req = new com.demo.island.engine.check.CheckRequest(
                         type, subjectKind, subjectId, dc
                 );
-                com.demo.island.engine.check.CheckResult result = checkService.evaluate(worldState, req);
+                com.demo.island.engine.check.CheckResult result = evaluate(worldState, req);
                 recentCheckResults.add(result);
                 if (type == com.demo.island.engine.check.CheckType.HEARING && result.isSuccess()) {
                     String targetTile = firstPlayerTile(worldState);
@@ -395,7 +496,90 @@ public final class TurnEngine {
         return autoProcessCreatures;
     }
 
+    boolean hasGhostAgent() {
+        return ghostAgent != null;
+    }
+
+    boolean hasMonkeyAgent() {
+        return monkeyAgent != null;
+    }
+
+    /**
+     * Executor for creature agents that do not run on the turn's own thread; defaults to a shared daemon pool
+     * with one thread per core, at least two.
+     */
+    public void setCreatureExecutor(Executor creatureExecutor) {
+        this.creatureExecutor = creatureExecutor == null ? CREATURE_AGENTS : creatureExecutor;
+    }
+
+    /**
+     * Journal recording this engine's turns, or null; see {@link EngineTurnJournal#attach}.
+     */
+    public EngineTurnJournal getJournal() {
+        return journal;
+    }
+
+    void setJournal(EngineTurnJournal journal) {
+        this.journal = journal;
+    }
+
     public List<com.demo.island.engine.check.CheckResult> getRecentCheckResults() {
         return List.copyOf(recentCheckResults);
     }
+
+    private static ExecutorService creaturePool() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threads = runnable -> {
+            Thread thread = new Thread(runnable, "creature-agent-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(CREATURE_THREADS, CREATURE_THREADS, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threads);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * One creature's slot in the creature phase: an agent call (none for the built-in stubs) and how to apply
+     * what it decided.
+     */
+    private static final class CreatureTurn<D> {
+        private final Supplier<D> decide;
+        private final Consumer<D> apply;
+        private CompletableFuture<D> decision = CompletableFuture.completedFuture(null);
+
+        CreatureTurn(Supplier<D> decide, Consumer<D> apply) {
+            this.decide = decide;
+            this.apply = apply;
+        }
+
+        void start(Executor executor) {
+            decision = CompletableFuture.supplyAsync(decide, executor);
+        }
+
+        void decideHere() {
+            decision = CompletableFuture.completedFuture(decide.get());
+        }
+
+        void cancel() {
+            decision.cancel(false);
+        }
+
+        void apply() {
+            D decided;
+            try {
+                decided = decision.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (ex.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw ex;
+            }
+            apply.accept(decided);
+        }
+    }
 }
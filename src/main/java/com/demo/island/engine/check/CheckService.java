@@ -30,4 +30,8 @@ public final class CheckService {
     public DiceService getDiceService() {
         return diceService;
     }
+
+    public CheckConfig getCheckConfig() {
+        return checkConfig;
+    }
 }
@@ -1,10 +1,11 @@
 package com.demo.island.engine.dice;
 
 import java.util.Random;
+import java.util.function.IntUnaryOperator;
 
 public final class DiceService {
 
-    private final Random random;
+    private final IntUnaryOperator faces;
 
     public DiceService() {
         this(new Random());
@@ -15,14 +16,22 @@ public final class DiceService {
     }
 
     private DiceService(Random random) {
-        this.random = random;
+        this(sides -> random.nextInt(sides) + 1);
+    }
+
+    /**
+     * Dice whose rolls come from {@code faces}, which maps a side count to the face rolled; replays use it to
+     * return recorded rolls.
+     */
+    public DiceService(IntUnaryOperator faces) {
+        this.faces = faces;
     }
 
     public int roll(int sides) {
         if (sides <= 0) {
             throw new IllegalArgumentException("sides must be > 0");
         }
-        return random.nextInt(sides) + 1;
+        return faces.applyAsInt(sides);
     }
 
     public int d20() {
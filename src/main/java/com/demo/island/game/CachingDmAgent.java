@@ -0,0 +1,159 @@
+package com.demo.island.game;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * DM agent decorator that reuses recent rewrites for contexts that differ only cosmetically.
+ * <p>
+ * Contexts are keyed on plot id, tool, reason code, outcome type, core DM text and the ghost view (text fields
+ * whitespace-normalized); turn number, clock and inventory are ignored. Each entry asks the delegate
+ * {@code varietyBudget} times, keeping the distinct rewrites, then serves them in rotation until it expires; a
+ * deterministic delegate is therefore called once per budget and its one rewrite reused.
+ * Entries live for {@code ttl} and the least recently used ones are evicted beyond {@code maxEntries}.
+ * Declined rewrites (null/blank) are not cached. Safe to share across sessions.
+ */
+public final class CachingDmAgent implements DmAgent {
+
+    private record Key(String plotId, String tool, ReasonCode reasonCode, OutcomeType outcomeType,
+                       String coreText, String ghostMode, String ghostText, String ghostEvent) {
+    }
+
+    private static final class Entry {
+        final long createdNanos;
+        final List<String> variants = new ArrayList<>();
+        int attempts;
+        int next;
+
+        Entry(long createdNanos) {
+            this.createdNanos = createdNanos;
+        }
+    }
+
+    private final DmAgent delegate;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final int varietyBudget;
+    private final LongSupplier clock;
+    private final Map<Key, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachingDmAgent(DmAgent delegate, int maxEntries, Duration ttl, int varietyBudget) {
+        this(delegate, maxEntries, ttl, varietyBudget, System::nanoTime);
+    }
+
+    CachingDmAgent(DmAgent delegate, int maxEntries, Duration ttl, int varietyBudget, LongSupplier clock) {
+        if (maxEntries < 1 || varietyBudget < 1 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("maxEntries and varietyBudget must be >= 1 and ttl positive");
+        }
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.varietyBudget = varietyBudget;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > CachingDmAgent.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Wraps the delegate using {@code dm.agent.cache.maxEntries} (default 512), {@code dm.agent.cache.ttlSeconds}
+     * (default 600) and {@code dm.agent.cache.variety} (default 3); returns the delegate unwrapped when
+     * {@code dm.agent.cache.enabled=false}.
+     */
+    public static DmAgent fromSystemProperties(DmAgent delegate) {
+        if ("false".equalsIgnoreCase(System.getProperty("dm.agent.cache.enabled"))) {
+            return delegate;
+        }
+        return new CachingDmAgent(delegate,
+                Integer.getInteger("dm.agent.cache.maxEntries", 512),
+                Duration.ofSeconds(Long.getLong("dm.agent.cache.ttlSeconds", 600L)),
+                Integer.getInteger("dm.agent.cache.variety", 3));
+    }
+
+    @Override
+    public String rewrite(DmAgentContext context) {
+        Key key = keyOf(context);
+        if (key == null) {
+            return delegate.rewrite(context);
+        }
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && now - entry.createdNanos >= ttlNanos) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry != null && entry.attempts >= varietyBudget) {
+                hits.increment();
+                String text = entry.variants.get(entry.next);
+                entry.next = (entry.next + 1) % entry.variants.size();
+                return text;
+            }
+        }
+        misses.increment();
+        String text = delegate.rewrite(context);
+        if (text == null || text.isBlank()) {
+            return text;
+        }
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null || now - entry.createdNanos >= ttlNanos) {
+                entry = new Entry(now);
+                entries.put(key, entry);
+            }
+            if (entry.attempts < varietyBudget) {
+                entry.attempts++;
+                if (!entry.variants.contains(text)) {
+                    entry.variants.add(text);
+                }
+            }
+        }
+        return text;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static Key keyOf(DmAgentContext context) {
+        DmAgentActionOutcome outcome = context == null ? null : context.actionOutcome();
+        if (outcome == null) {
+            return null;
+        }
+        String plotId = context.plot() == null ? null : context.plot().plotId();
+        DmAgentGhostView ghost = context.ghost();
+        boolean ghostPresent = ghost != null && ghost.present();
+        return new Key(plotId,
+                outcome.toolName(),
+                outcome.reasonCode(),
+                outcome.outcomeType(),
+                normalize(outcome.coreDmText()),
+                ghostPresent ? normalize(ghost.mode()) : null,
+                ghostPresent ? normalize(ghost.text()) : null,
+                ghostPresent ? normalize(ghost.eventText()) : null);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.strip().replaceAll("\\s+", " ");
+    }
+}
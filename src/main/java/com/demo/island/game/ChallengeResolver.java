@@ -14,6 +14,10 @@ public final class ChallengeResolver {
         this.diceService = diceService;
     }
 
+    public DiceService getDiceService() {
+        return diceService;
+    }
+
     public ChallengeResult resolve(CharacterThing character, Challenge challenge) {
         int roll = diceService.rollD20();
         int abilityMod = character.getAbilityMods().getOrDefault(challenge.getAbility(), 0);
@@ -2,34 +2,69 @@ package com.demo.island.game;
 
 import com.demo.island.dto.PlotContext;
 import com.demo.island.dto.ThingContext;
-import com.demo.island.world.Direction8;
 import com.demo.island.world.GardenerWorldConfig;
 import com.demo.island.world.IslandMap;
 import com.demo.island.world.IslandTile;
 import com.demo.island.world.WorldThingIndex;
 import com.demo.island.world.Thing;
 import com.demo.island.world.ThingKind;
-import com.demo.island.world.TerrainFeature;
+import com.demo.island.world.WorldThingSeeder;
 
 import java.util.ArrayList;
-import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * Builds {@link PlotContext} views of the session's plots.
+ * <p>
+ * Contexts are memoized per session and plot until the world moves on: a Thing is registered, moved or
+ * changes carrier, a tile is replaced, or the clock advances. Within one turn the context built before the
+ * action, the one the engine builds for its {@link TurnContext}, and any fallback rebuild are then the same
+ * object. Thing lists are filled on first read.
+ */
 public final class ContextBuilder {
 
     private ContextBuilder() {
     }
 
     public static PlotContext buildPlotContext(GameSession session) {
-        return buildPlotContext(session, session.getLocation().getTileId());
+        IslandTile tile = session.getLocationTile();
+        if (tile == null) {
+            return buildPlotContext(session, session.getLocation().getTileId());
+        }
+        return buildPlotContext(session, tile);
     }
 
     public static PlotContext buildPlotContext(GameSession session, String plotId) {
+        return buildPlotContext(session, session.getMap().get(plotId).orElseThrow());
+    }
+
+    /**
+     * Drops the session's memoized contexts so the next build starts fresh; called at the start of a turn.
+     */
+    public static void beginTurn(GameSession session) {
+        session.getPlotContexts().clear();
+    }
+
+    private static PlotContext buildPlotContext(GameSession session, IslandTile tile) {
+        PlotContextMemo memo = session.getPlotContexts();
+        memo.sync(session);
+        PlotContext ctx = memo.contexts.get(tile.getTileId());
+        if (ctx != null) {
+            memo.hits++;
+            return ctx;
+        }
+        memo.misses++;
+        ctx = newPlotContext(session, tile);
+        memo.contexts.put(tile.getTileId(), ctx);
+        return ctx;
+    }
+
+    private static PlotContext newPlotContext(GameSession session, IslandTile tile) {
         PlotContext ctx = new PlotContext();
         IslandMap map = session.getMap();
-        IslandTile tile = map.get(plotId).orElseThrow();
 
         ctx.plotId = tile.getTileId();
         ctx.biome = tile.getBiome();
@@ -40,45 +75,63 @@ public final class ContextBuilder {
         ctx.floraPrimary = tile.getPrimaryPlantFamily();
         ctx.floraDensity = tile.getPlantDensity();
         ctx.currentDescription = tile.getContext().getCurrentDescription();
-        ctx.neighborSummaries = buildNeighborSummaries(map, tile);
+        ctx.setExits(map.exits(tile));
 
         WorldThingIndex index = session.getThingIndex();
-        List<ThingContext> visible = new ArrayList<>();
-        List<ThingContext> hidden = new ArrayList<>();
-        for (Thing t : index.getThingsInPlot(plotId)) {
-            boolean visibleToPlayer = isVisible(t);
-            ThingContext tc = buildThingContext(t, visibleToPlayer);
-            if (visibleToPlayer) {
-                visible.add(tc);
-            } else {
-                hidden.add(tc);
-            }
-        }
-        ctx.visibleThings = visible;
-        ctx.hiddenThings = hidden;
+        ctx.setVisibleThingsSource(() -> buildThingContexts(index, tile, true));
+        ctx.setHiddenThingsSource(() -> buildThingContexts(index, tile, false));
         return ctx;
     }
 
-    private static Map<Direction8, String> buildNeighborSummaries(IslandMap map, IslandTile tile) {
-        Map<Direction8, String> summaries = new EnumMap<>(Direction8.class);
-        for (Direction8 dir : Direction8.values()) {
-            map.get(tile.getPosition().step(dir)).ifPresent(neighbor -> {
-                summaries.put(dir, neighborSummary(neighbor, dir));
-            });
+    private static List<ThingContext> buildThingContexts(WorldThingIndex index, IslandTile tile, boolean visible) {
+        List<ThingContext> contexts = new ArrayList<>();
+        for (Thing t : index.getThingsInPlot(tile)) {
+            if (isVisible(t) == visible) {
+                contexts.add(buildThingContext(t, visible));
+            }
         }
-        return summaries;
+        return contexts;
     }
 
-    private static String neighborSummary(IslandTile neighbor, Direction8 dir) {
-        String biome = neighbor.getBiome().replace('_', ' ');
-        if (neighbor.getFeatures().contains(TerrainFeature.PATH)) {
-            return "Path " + dir.name() + " toward " + biome;
+    /**
+     * Per-session memo of built contexts, keyed by plot id and valid for one world version.
+     */
+    static final class PlotContextMemo {
+        private final Map<String, PlotContext> contexts = new HashMap<>();
+        private long thingVersion = -1;
+        private int tileVersion = -1;
+        private int pips = -1;
+        private int hits;
+        private int misses;
+
+        private void sync(GameSession session) {
+            long things = session.getThingIndex().getVersion();
+            int map = session.getMap().getVersion();
+            int now = session.getClock().getTotalPips();
+            if (things != thingVersion || map != tileVersion || now != pips) {
+                clear();
+                thingVersion = things;
+                tileVersion = map;
+                pips = now;
+            }
+        }
+
+        void clear() {
+            contexts.clear();
+            thingVersion = -1;
+        }
+
+        int getHits() {
+            return hits;
+        }
+
+        int getMisses() {
+            return misses;
         }
-        return biome + " lies " + dir.name();
     }
 
     private static boolean isVisible(Thing t) {
-        if (t.getId().equals("THING_PLAYER")) return true;
+        if (t.getId().equals(WorldThingSeeder.PLAYER_ID)) return true;
         if (t.getKind() == ThingKind.ITEM) return true;
         if (t.getTags().contains("INVISIBLE") || t.getTags().contains("HIDDEN")) {
             return false;
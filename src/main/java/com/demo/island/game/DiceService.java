@@ -1,20 +1,29 @@
 package com.demo.island.game;
 
 import java.util.Random;
+import java.util.function.IntUnaryOperator;
 
 /**
  * Simple dice roller utility.
  */
 public final class DiceService {
 
-    private final Random random;
+    private final IntUnaryOperator faces;
 
     public DiceService() {
         this(new Random());
     }
 
     public DiceService(Random random) {
-        this.random = random;
+        this(sides -> random.nextInt(sides) + 1);
+    }
+
+    /**
+     * Dice whose single rolls come from {@code faces}, which maps a die's side count to the face rolled;
+     * used to record rolls into a {@link TurnJournal} and to play them back.
+     */
+    public DiceService(IntUnaryOperator faces) {
+        this.faces = faces;
     }
 
     public int rollD20() {
@@ -24,7 +33,7 @@ public final class DiceService {
     public int roll(int count, int sides) {
         int total = 0;
         for (int i = 0; i < count; i++) {
-            total += random.nextInt(sides) + 1;
+            total += faces.applyAsInt(sides);
         }
         return total;
     }
@@ -5,7 +5,7 @@ package com.demo.island.game;
  */
 public final class DmAgentConfig {
 
-    private static Boolean enabledOverride;
+    private static volatile Boolean enabledOverride;
 
     private DmAgentConfig() {
     }
@@ -1,11 +1,11 @@
 package com.demo.island.game;
 
 /**
- * Holds the current DM Agent (if any). Defaults to a no-op.
+ * Holds the default DM Agent (if any) for sessions without their own. Defaults to a no-op.
  */
 final class DmAgentRegistry {
     private static final DmAgent NO_OP = context -> null;
-    private static DmAgent agent = NO_OP;
+    private static volatile DmAgent agent = NO_OP;
 
     private DmAgentRegistry() {
     }
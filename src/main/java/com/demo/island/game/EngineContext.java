@@ -0,0 +1,113 @@
+package com.demo.island.game;
+
+import com.demo.island.game.ghost.GhostAgent;
+
+import java.util.Random;
+
+/**
+ * Engine collaborators bound to one {@link GameSession}: dice, challenge resolver, DM adapter, and the DM and
+ * ghost agents. Immutable; {@code with*} methods return a modified copy.
+ * <p>
+ * Anything left unset falls back to the static defaults behind {@link GameEngine}, {@code DmAgentRegistry}
+ * and {@link com.demo.island.game.ghost.GhostAgentRegistry}, so the static API keeps working unchanged.
+ * Sessions with their own context share no mutable engine state and can run on different threads.
+ */
+public final class EngineContext {
+
+    private static final EngineContext DEFAULTS = new EngineContext(null, null, null, null, null, null);
+
+    private final ChallengeResolver challengeResolver;
+    private final DmAdapter dmAdapter;
+    private final DmAgent dmAgent;
+    private final Boolean dmAgentEnabled;
+    private final GhostAgent ghostAgent;
+    private final Boolean ghostEnabled;
+
+    private EngineContext(ChallengeResolver challengeResolver, DmAdapter dmAdapter, DmAgent dmAgent,
+                          Boolean dmAgentEnabled, GhostAgent ghostAgent, Boolean ghostEnabled) {
+        this.challengeResolver = challengeResolver;
+        this.dmAdapter = dmAdapter;
+        this.dmAgent = dmAgent;
+        this.dmAgentEnabled = dmAgentEnabled;
+        this.ghostAgent = ghostAgent;
+        this.ghostEnabled = ghostEnabled;
+    }
+
+    /**
+     * Context that defers everything to the static defaults.
+     */
+    public static EngineContext defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Own dice seeded for reproducible rolls and the default DM adapter; agents still follow the static defaults.
+     */
+    public static EngineContext seeded(long seed) {
+        return DEFAULTS.withDice(new DiceService(new Random(seed))).withDmAdapter(new DefaultDmAdapter());
+    }
+
+    public EngineContext withDice(DiceService dice) {
+        return withChallengeResolver(new ChallengeResolver(dice));
+    }
+
+    public EngineContext withChallengeResolver(ChallengeResolver resolver) {
+        return new EngineContext(resolver, dmAdapter, dmAgent, dmAgentEnabled, ghostAgent, ghostEnabled);
+    }
+
+    public EngineContext withDmAdapter(DmAdapter adapter) {
+        return new EngineContext(challengeResolver, adapter, dmAgent, dmAgentEnabled, ghostAgent, ghostEnabled);
+    }
+
+    /**
+     * Binds a DM agent and enables the DM rewrite seam for this session.
+     */
+    public EngineContext withDmAgent(DmAgent agent) {
+        return new EngineContext(challengeResolver, dmAdapter, agent, agent != null ? Boolean.TRUE : null, ghostAgent, ghostEnabled);
+    }
+
+    public EngineContext withDmAgentEnabled(Boolean enabled) {
+        return new EngineContext(challengeResolver, dmAdapter, dmAgent, enabled, ghostAgent, ghostEnabled);
+    }
+
+    /**
+     * Binds a ghost agent and enables ghost manifestations for this session.
+     */
+    public EngineContext withGhostAgent(GhostAgent agent) {
+        return new EngineContext(challengeResolver, dmAdapter, dmAgent, dmAgentEnabled, agent, agent != null ? Boolean.TRUE : null);
+    }
+
+    public EngineContext withGhostEnabled(Boolean enabled) {
+        return new EngineContext(challengeResolver, dmAdapter, dmAgent, dmAgentEnabled, ghostAgent, enabled);
+    }
+
+    /** Session resolver, or null to use the static default. */
+    public ChallengeResolver getChallengeResolver() {
+        return challengeResolver;
+    }
+
+    /** Session DM adapter, or null to use the static default. */
+    public DmAdapter getDmAdapter() {
+        return dmAdapter;
+    }
+
+    /** Session DM agent, or null to use the registry. */
+    public DmAgent getDmAgent() {
+        return dmAgent;
+    }
+
+    /** Session DM seam switch, or null to follow {@link DmAgentConfig}. */
+    public Boolean getDmAgentEnabled() {
+        return dmAgentEnabled;
+    }
+
+    /** Session ghost agent, or null to use the registry. */
+    public GhostAgent getGhostAgent() {
+        return ghostAgent;
+    }
+
+    /** Session ghost switch, or null to follow the registry's setting. */
+    public Boolean getGhostEnabled() {
+        return ghostEnabled;
+    }
+}
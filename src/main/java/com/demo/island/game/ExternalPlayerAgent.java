@@ -6,4 +6,27 @@ package com.demo.island.game;
 public interface ExternalPlayerAgent {
 
     AgentDecision decideNext(GameSession session, PlayerToolResult lastResult);
+
+    /**
+     * Decision for speculative use: the agent's own state only advances when the proposal is
+     * {@link Proposal#accept() accepted}, so a proposal that is dropped leaves the agent as it was.
+     * The default decides eagerly, which suits agents whose bookkeeping only records what the session shows.
+     */
+    default Proposal proposeNext(GameSession session, PlayerToolResult lastResult) {
+        return new Proposal(decideNext(session, lastResult), () -> { });
+    }
+
+    /**
+     * A decision not yet committed to the agent that made it.
+     */
+    record Proposal(AgentDecision decision, Runnable onAccept) {
+
+        /**
+         * Commits the agent's state to this decision and returns it.
+         */
+        public AgentDecision accept() {
+            onAccept.run();
+            return decision;
+        }
+    }
 }
@@ -2,12 +2,14 @@ package com.demo.island.game;
 
 import com.demo.island.world.Direction8;
 import com.demo.island.world.GameOverReason;
+import com.demo.island.world.IslandMap;
 import com.demo.island.world.IslandTile;
 import com.demo.island.world.Position;
 import com.demo.island.world.TerrainDifficulty;
 import com.demo.island.world.TileSafety;
 import com.demo.island.world.WorldGeometry;
 import com.demo.island.world.WorldThingIndex;
+import com.demo.island.world.WorldThingSeeder;
 import com.demo.island.world.ItemThing;
 import com.demo.island.world.CharacterThing;
 import com.demo.island.world.Thing;
@@ -25,8 +27,9 @@ import java.util.Optional;
 public final class GameEngine {
 
     private static final Logger LOG = LogManager.getLogger(GameEngine.class);
-    private static ChallengeResolver challengeResolver = new ChallengeResolver(new DiceService());
-    private static DmAdapter dmAdapter = new DefaultDmAdapter();
+    // Static defaults for sessions whose EngineContext leaves these unset
+    private static volatile ChallengeResolver challengeResolver = new ChallengeResolver(new DiceService());
+    private static volatile DmAdapter dmAdapter = new DefaultDmAdapter();
 
     private GameEngine() {
     }
@@ -39,6 +42,16 @@ public final class GameEngine {
         dmAdapter = adapter;
     }
 
+    static ChallengeResolver challengeResolver(GameSession session) {
+        ChallengeResolver bound = session.getEngineContext().getChallengeResolver();
+        return bound != null ? bound : challengeResolver;
+    }
+
+    private static DmAdapter dmAdapter(GameSession session) {
+        DmAdapter bound = session.getEngineContext().getDmAdapter();
+        return bound != null ? bound : dmAdapter;
+    }
+
     public static String buildIntroMessage(CosmosClock clock) {
         return clock.formatRemainingBracketed() + " You are standing in the dark just before dawn. You have no idea how you got here.";
     }
@@ -46,7 +59,7 @@ public final class GameEngine {
     public static GameActionResult perform(GameSession session, GameAction action) {
         if (session.getStatus() != GameStatus.IN_PROGRESS) {
             TurnContext ctx = TurnContextBuilder.build(session, action, "Game is over.", false, null, null, null);
-            String body = dmAdapter.narrate(ctx);
+            String body = dmAdapter(session).narrate(ctx);
             return new GameActionResult(false, prefix(session) + " " + body, ctx);
         }
 
@@ -88,9 +101,13 @@ public final class GameEngine {
             String text = manifest != null ? manifest.text() : "";
             ghostEvent = new GhostPresenceEvent(ghostEvent.plotId(), ghostEvent.eventText(), ghostEvent.reason(), mode, text);
             session.recordGhostManifest(ghostEvent.plotId(), mode.name(), text);
+            TurnJournal journal = session.getJournal();
+            if (journal != null) {
+                journal.ghost(mode, text);
+            }
         }
         TurnContext ctx = TurnContextBuilder.build(session, action, outcome.resultSummary, outcome.success, outcome.challenge, outcome.challengeResult, ghostEvent);
-        String body = dmAdapter.narrate(ctx);
+        String body = dmAdapter(session).narrate(ctx);
         String message = prefix(session) + " " + body;
         return new GameActionResult(outcome.success, message, ctx);
     }
@@ -100,16 +117,17 @@ public final class GameEngine {
         if (dir == null) {
             return new ActionOutcome(false, "No direction provided.", null, null);
         }
-        IslandTile current = session.getMap().get(session.getLocation().getTileId()).orElse(null);
+        IslandMap map = session.getMap();
+        IslandTile current = session.getLocationTile();
         if (current == null) {
             return new ActionOutcome(false, "You seem to be nowhere.", null, null);
         }
-        Position targetPos = current.getPosition().step(dir);
-        IslandTile target = session.getMap().get(targetPos).orElse(null);
+        IslandTile target = map.neighbor(current, dir);
         if (target == null) {
             return new ActionOutcome(false, "No path that way.", null, null);
         }
-        WorldGeometry.Classification cls = WorldGeometry.classify(targetPos);
+        Position targetPos = target.getPosition();
+        WorldGeometry.Classification cls = map.getGeometry().classify(targetPos.x(), targetPos.y());
         if (cls == WorldGeometry.Classification.OFF_WORLD || cls == WorldGeometry.Classification.BOUNDARY) {
             return new ActionOutcome(false, "The island ends that way.", null, null);
         }
@@ -135,7 +153,7 @@ public final class GameEngine {
         if (item == null) {
             return new ActionOutcome(false, "Pick up what?", null, null);
         }
-        String playerId = "THING_PLAYER";
+        String playerId = WorldThingSeeder.PLAYER_ID;
         WorldThingIndex index = session.getThingIndex();
         if (isItemCarriedByPlayer(index, item, playerId) || session.getInventory().getOrDefault(item, 0) > 0) {
             return new ActionOutcome(false, "You are already carrying that.", null, null);
@@ -172,7 +190,7 @@ public final class GameEngine {
         if (item == null) {
             return new ActionOutcome(false, "Drop what?", null, null);
         }
-        String playerId = "THING_PLAYER";
+        String playerId = WorldThingSeeder.PLAYER_ID;
         int invCount = session.getInventory().getOrDefault(item, 0);
         ItemThing carried = findCarriedItem(session.getThingIndex(), item, playerId);
         if (invCount <= 0 && carried == null) {
@@ -201,16 +219,17 @@ public final class GameEngine {
         if (dir == null) {
             return new ActionOutcome(false, "You need to say which way to jump.", null, null);
         }
-        IslandTile current = session.getMap().get(session.getLocation().getTileId()).orElse(null);
+        IslandMap map = session.getMap();
+        IslandTile current = session.getLocationTile();
         if (current == null) {
             return new ActionOutcome(false, "You seem to be nowhere.", null, null);
         }
-        Position targetPos = current.getPosition().step(dir);
-        IslandTile target = session.getMap().get(targetPos).orElse(null);
+        IslandTile target = map.neighbor(current, dir);
         if (target == null) {
             return new ActionOutcome(false, "There's nowhere to land that way.", null, null);
         }
-        WorldGeometry.Classification cls = WorldGeometry.classify(targetPos);
+        Position targetPos = target.getPosition();
+        WorldGeometry.Classification cls = map.getGeometry().classify(targetPos.x(), targetPos.y());
         if (cls == WorldGeometry.Classification.OFF_WORLD || cls == WorldGeometry.Classification.BOUNDARY) {
             return new ActionOutcome(false, "That's beyond the island's edge.", null, null);
         }
@@ -218,7 +237,7 @@ public final class GameEngine {
             return new ActionOutcome(false, "That way looks unsafe to jump.", null, null);
         }
 
-        Thing playerThing = session.getThingIndex().getThing("THING_PLAYER");
+        Thing playerThing = session.getThingIndex().getThing(WorldThingSeeder.PLAYER_ID);
         boolean prof = false;
         if (playerThing instanceof CharacterThing ct) {
             prof = ct.getSkillProficiencies().contains(Skill.ACROBATICS);
@@ -232,7 +251,7 @@ public final class GameEngine {
                 prof,
                 "Jumping across a gap or obstacle."
         );
-        ChallengeResult result = challengeResolver.resolve((CharacterThing) playerThing, challenge);
+        ChallengeResult result = challengeResolver(session).resolve((CharacterThing) playerThing, challenge);
 
         int walkCost = GameActionCost.timeCost(GameActionType.MOVE_WALK, target.getDifficulty());
         int timeCost;
@@ -257,7 +276,7 @@ public final class GameEngine {
     }
 
     private static ActionOutcome handleRaftWork(GameSession session) {
-        IslandTile current = session.getMap().get(session.getLocation().getTileId()).orElse(null);
+        IslandTile current = session.getLocationTile();
         if (current == null) {
             return new ActionOutcome(false, "Unknown location.", null, null);
         }
@@ -281,7 +300,7 @@ public final class GameEngine {
     }
 
     private static ActionOutcome handleLaunch(GameSession session) {
-        IslandTile current = session.getMap().get(session.getLocation().getTileId()).orElse(null);
+        IslandTile current = session.getLocationTile();
         if (current == null) {
             return new ActionOutcome(false, "Unknown location.", null, null);
         }
@@ -301,25 +320,16 @@ public final class GameEngine {
     }
 
     private static ItemThing findItemInPlot(WorldThingIndex index, String plotId, GameItemType type) {
-        if (plotId == null || type == null) return null;
-        return index.getThingsInPlot(plotId).stream()
-                .filter(ItemThing.class::isInstance)
-                .map(ItemThing.class::cast)
-                .filter(it -> it.getItemType() == type)
-                .filter(it -> it.getCarriedByCharacterId() == null)
-                .findFirst()
-                .orElse(null);
+        for (ItemThing it : index.getItemsInPlot(plotId, type)) {
+            if (it.getCarriedByCharacterId() == null) {
+                return it;
+            }
+        }
+        return null;
     }
 
     private static ItemThing findCarriedItem(WorldThingIndex index, GameItemType type, String playerId) {
-        if (type == null) return null;
-        return index.getAll().values().stream()
-                .filter(ItemThing.class::isInstance)
-                .map(ItemThing.class::cast)
-                .filter(it -> it.getItemType() == type)
-                .filter(it -> playerId.equals(it.getCarriedByCharacterId()))
-                .findFirst()
-                .orElse(null);
+        return index.findCarried(playerId, type);
     }
 
     private static boolean isItemCarriedByPlayer(WorldThingIndex index, GameItemType type, String playerId) {
@@ -330,7 +340,7 @@ public final class GameEngine {
         if (!isInMonkeyTerritory(session)) {
             return MonkeyPooOutcome.notTriggered();
         }
-        Thing playerThing = session.getThingIndex().getThing("THING_PLAYER");
+        Thing playerThing = session.getThingIndex().getThing(WorldThingSeeder.PLAYER_ID);
         if (!(playerThing instanceof CharacterThing ct)) {
             return MonkeyPooOutcome.notTriggered();
         }
@@ -344,7 +354,7 @@ public final class GameEngine {
                 prof,
                 "Dodging a volley of monkey-thrown poo."
         );
-        ChallengeResult result = challengeResolver.resolve(ct, challenge);
+        ChallengeResult result = challengeResolver(session).resolve(ct, challenge);
 
         if (result.isSuccess()) {
             return new MonkeyPooOutcome(true, challenge, result);
@@ -359,25 +369,12 @@ public final class GameEngine {
     }
 
     private static boolean isInMonkeyTerritory(GameSession session) {
-        WorldThingIndex index = session.getThingIndex();
-        String tileId = session.getLocation().getTileId();
-        IslandTile tile = session.getMap().get(tileId).orElse(null);
+        IslandTile tile = session.getLocationTile();
         if (tile == null) {
             return false;
         }
-        for (String tid : tile.getThingsPresent()) {
-            Thing t = index.getThing(tid);
-            if (t != null && t.getTags().contains("MONKEY_TROOP")) {
-                return true;
-            }
-        }
-        for (String tid : tile.getThingsAnchoredHere()) {
-            Thing t = index.getThing(tid);
-            if (t != null && t.getTags().contains("MONKEY_TROOP")) {
-                return true;
-            }
-        }
-        return "T_VINE_FOREST".equals(tileId);
+        String tileId = tile.getTileId();
+        return session.getThingIndex().isTaggedThingAt(tileId, "MONKEY_TROOP") || "T_VINE_FOREST".equals(tileId);
     }
 
     private static Map<GameItemType, Integer> requirementsFor(int progress) {
@@ -419,7 +416,8 @@ public final class GameEngine {
     }
 
     private static TerrainDifficulty currentDiff(GameSession session) {
-        return session.getMap().get(session.getLocation().getTileId()).map(IslandTile::getDifficulty).orElse(TerrainDifficulty.NORMAL);
+        IslandTile current = session.getLocationTile();
+        return current == null ? TerrainDifficulty.NORMAL : current.getDifficulty();
     }
 
     private static void applyTime(GameSession session, int pips) {
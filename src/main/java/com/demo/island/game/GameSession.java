@@ -1,10 +1,13 @@
 package com.demo.island.game;
 
+import com.demo.island.world.GardenerWorldConfig;
 import com.demo.island.world.IslandCreationResult;
 import com.demo.island.world.IslandMap;
-import com.demo.island.world.IslandWorldBuilder;
+import com.demo.island.world.IslandTile;
 import com.demo.island.world.PlayerLocation;
 import com.demo.island.world.WorldThingIndex;
+import com.demo.island.world.WorldGeometryConfig;
+import com.demo.island.world.WorldTemplateCache;
 import com.demo.island.world.WorldThingSeeder;
 import com.demo.island.game.memory.PlayerMemory;
 
@@ -20,8 +23,11 @@ import java.util.Set;
 public final class GameSession {
 
     private final IslandMap map;
+    private final GardenerWorldConfig gardener;
     private final CosmosClock clock;
     private PlayerLocation location;
+    // Grid index of the location tile, resolved once per move so hot paths skip the string lookup
+    private int locationIndex;
     private final Map<GameItemType, Integer> inventory = new EnumMap<>(GameItemType.class);
     private final Map<String, PlotResources> plotResources = new java.util.HashMap<>();
     private final WorldThingIndex thingIndex;
@@ -30,14 +36,28 @@ public final class GameSession {
     private String lastGhostMode = "";
     private String lastGhostText = "";
     private final PlayerMemory playerMemory = new PlayerMemory();
+    private final ContextBuilder.PlotContextMemo plotContexts = new ContextBuilder.PlotContextMemo();
+    private volatile EngineContext engineContext = EngineContext.defaults();
+    private TurnJournal journal;
     private int raftProgress;
     private GameStatus status;
     private GameEndReason gameEndReason;
 
+    /**
+     * Session over a world gardened with {@link GardenerWorldConfig#defaultConfig()}.
+     */
     public GameSession(IslandCreationResult creation) {
+        this(creation, GardenerWorldConfig.defaultConfig());
+    }
+
+    /**
+     * Session over a world built with {@code gardener}; the config is kept so journals can rebuild the world.
+     */
+    public GameSession(IslandCreationResult creation, GardenerWorldConfig gardener) {
         this.map = creation.getMap();
+        this.gardener = gardener;
         this.clock = new CosmosClock(CosmosClock.DEFAULT_MAX_PIPS);
-        this.location = PlayerLocation.spawn();
+        setLocation(PlayerLocation.spawn());
         this.thingIndex = WorldThingSeeder.seed(this.map);
         this.raftProgress = 0;
         this.status = GameStatus.IN_PROGRESS;
@@ -66,6 +86,10 @@ public final class GameSession {
         return map;
     }
 
+    public GardenerWorldConfig getGardenerConfig() {
+        return gardener;
+    }
+
     public CosmosClock getClock() {
         return clock;
     }
@@ -76,6 +100,17 @@ public final class GameSession {
 
     public void setLocation(PlayerLocation location) {
         this.location = location;
+        this.locationIndex = location == null ? -1 : map.indexOf(location.getTileId());
+    }
+
+    /**
+     * Tile the player stands on, or null when the location is not on the map.
+     */
+    public IslandTile getLocationTile() {
+        if (locationIndex >= 0) {
+            return map.byIndex(locationIndex);
+        }
+        return location == null ? null : map.tile(location.getTileId());
     }
 
     public Map<GameItemType, Integer> getInventory() {
@@ -156,8 +191,50 @@ public final class GameSession {
         return playerMemory;
     }
 
+    /**
+     * Journal recording this session's turns, or null; see {@link TurnJournal#attach}.
+     */
+    public TurnJournal getJournal() {
+        return journal;
+    }
+
+    void setJournal(TurnJournal journal) {
+        this.journal = journal;
+    }
+
+    ContextBuilder.PlotContextMemo getPlotContexts() {
+        return plotContexts;
+    }
+
+    public EngineContext getEngineContext() {
+        return engineContext;
+    }
+
+    public void setEngineContext(EngineContext engineContext) {
+        this.engineContext = engineContext == null ? EngineContext.defaults() : engineContext;
+    }
+
+    /**
+     * New session over a copy-on-write overlay of the cached default world; the world is built once per JVM.
+     */
     public static GameSession newSession() {
-        IslandCreationResult creation = IslandWorldBuilder.buildWorldWithLogging();
+        IslandCreationResult creation = WorldTemplateCache.instantiate();
         return new GameSession(creation);
     }
+
+    /**
+     * New session over a copy-on-write overlay of the cached world for {@code geometry} and {@code gardener}.
+     */
+    public static GameSession newSession(WorldGeometryConfig geometry, GardenerWorldConfig gardener) {
+        return new GameSession(WorldTemplateCache.instantiate(geometry, gardener), gardener);
+    }
+
+    /**
+     * New session bound to its own engine context, independent of the static engine defaults.
+     */
+    public static GameSession newSession(EngineContext engineContext) {
+        GameSession session = newSession();
+        session.setEngineContext(engineContext);
+        return session;
+    }
 }
@@ -4,6 +4,7 @@ import com.demo.island.dto.PlotContext;
 import com.demo.island.dto.ThingContext;
 import com.demo.island.game.memory.PlayerMemoryRecorder;
 import com.demo.island.world.IslandTile;
+import com.demo.island.world.WorldThingSeeder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -11,6 +12,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -29,7 +32,31 @@ public final class PlayerToolEngine {
     }
 
     public PlayerToolResult invoke(PlayerToolRequest request) {
+        Staged staged = stage(request);
+        String chosenBody = staged.dmAgent == null ? staged.coreBody : rewrite(staged.dmAgent, staged.dmAgentContext, staged.coreBody);
+        return staged.result(chosenBody);
+    }
+
+    /**
+     * Two-phase variant of {@link #invoke} for pipelined runners. The tool is applied and the engine-side result
+     * (state plus core DM text) is available at once; the DM rewrite, if enabled, runs on the given executor and
+     * completes {@link StagedToolResult#getNarrated()}. The rewrite only sees a snapshot taken here, so the
+     * session may be used again while it runs.
+     */
+    public StagedToolResult invokeStaged(PlayerToolRequest request, Executor narrationExecutor) {
+        Staged staged = stage(request);
+        PlayerToolResult provisional = staged.result(staged.coreBody);
+        if (staged.dmAgent == null) {
+            return new StagedToolResult(provisional, CompletableFuture.completedFuture(provisional));
+        }
+        CompletableFuture<PlayerToolResult> narrated = CompletableFuture.supplyAsync(
+                () -> staged.result(rewrite(staged.dmAgent, staged.dmAgentContext, staged.coreBody)), narrationExecutor);
+        return new StagedToolResult(provisional, narrated);
+    }
+
+    private Staged stage(PlayerToolRequest request) {
         turnCounter += 1;
+        ContextBuilder.beginTurn(session);
         PlotContext plotContext = ContextBuilder.buildPlotContext(session);
         String targetRaw = rawTarget(request);
         ToolContext ctx = ToolActionExecutor.buildContext(session, plotContext, request, targetRaw, "", "", "");
@@ -47,10 +74,24 @@ public final class PlayerToolEngine {
 
         TurnContext dmContext = lastTurn != null ? lastTurn : TurnContextBuilder.build(session, GameAction.simple(GameActionType.LOOK), "", true, null, null);
         String coreBody = DmMessageMapper.bodyFor(outcome);
-        String chosenBody = maybeRewriteDm(dmContext, outcome, request, targetRaw, coreBody);
-        String text = DmMessageMapper.messageForBody(chosenBody, session.getClock().formatRemainingBracketed());
+        DmAgent dmAgent = activeDmAgent();
+        DmAgentContext dmAgentContext = null;
+        if (dmAgent != null) {
+            try {
+                dmAgentContext = buildDmAgentContext(dmContext, outcome, request, targetRaw, coreBody);
+            } catch (Exception ex) {
+                dmAgent = null;
+            }
+        }
         TurnContext resultTurn = lastTurn != null ? lastTurn : dmContext;
-        return new PlayerToolResult(text, state, resultTurn);
+        return new Staged(state, resultTurn, coreBody, dmAgent, dmAgentContext, session.getClock().formatRemainingBracketed());
+    }
+
+    private record Staged(PlayerToolState state, TurnContext turn, String coreBody, DmAgent dmAgent,
+                          DmAgentContext dmAgentContext, String remaining) {
+        PlayerToolResult result(String body) {
+            return new PlayerToolResult(DmMessageMapper.messageForBody(body, remaining), state, turn);
+        }
     }
 
     private String rawTarget(PlayerToolRequest req) {
@@ -92,9 +133,9 @@ public final class PlayerToolEngine {
     }
 
     private List<String> visibleItems(PlotContext plotContext) {
-        if (plotContext == null || plotContext.visibleThings == null) return List.of();
+        if (plotContext == null || plotContext.getVisibleThings() == null) return List.of();
         List<String> items = new ArrayList<>();
-        for (ThingContext t : plotContext.visibleThings) {
+        for (ThingContext t : plotContext.getVisibleThings()) {
             if (t.getKind() == com.demo.island.world.ThingKind.ITEM) {
                 items.add(t.getName());
             }
@@ -103,21 +144,19 @@ public final class PlayerToolEngine {
     }
 
     private Map<String, String> exits(PlotContext plotContext) {
-        if (plotContext == null || plotContext.neighborSummaries == null) return Map.of();
-        return plotContext.neighborSummaries.entrySet().stream()
+        if (plotContext == null) return Map.of();
+        if (plotContext.getExits() != null) return plotContext.getExits().getSummariesByName();
+        if (plotContext.getNeighborSummaries() == null) return Map.of();
+        return plotContext.getNeighborSummaries().entrySet().stream()
                 .collect(Collectors.toMap(e -> e.getKey().name(), Map.Entry::getValue));
     }
 
     private List<String> inventoryList() {
         java.util.Set<String> names = new java.util.LinkedHashSet<>();
         java.util.Set<GameItemType> itemTypesPresent = new java.util.HashSet<>();
-        session.getThingIndex().getAll().values().forEach(t -> {
-            if (t instanceof com.demo.island.world.ItemThing it) {
-                if ("THING_PLAYER".equals(it.getCarriedByCharacterId())) {
-                    names.add(it.getName() == null ? it.getItemType().name() : it.getName());
-                    itemTypesPresent.add(it.getItemType());
-                }
-            }
+        session.getThingIndex().getCarriedBy(WorldThingSeeder.PLAYER_ID).forEach(it -> {
+            names.add(it.getName() == null ? it.getItemType().name() : it.getName());
+            itemTypesPresent.add(it.getItemType());
         });
         if (!names.isEmpty()) {
             return new java.util.ArrayList<>(names);
@@ -136,20 +175,17 @@ public final class PlayerToolEngine {
         return names.isEmpty() ? List.of() : new java.util.ArrayList<>(names);
     }
 
-    private String maybeRewriteDm(TurnContext ctx,
-                                  ToolOutcome outcome,
-                                  PlayerToolRequest request,
-                                  String targetRaw,
-                                  String coreBody) {
-        if (!DmAgentConfig.isEnabled()) {
-            return coreBody;
-        }
-        DmAgent agent = DmAgentRegistry.getAgent();
-        if (agent == null) {
-            return coreBody;
+    private DmAgent activeDmAgent() {
+        EngineContext engine = session.getEngineContext();
+        boolean enabled = engine.getDmAgentEnabled() != null ? engine.getDmAgentEnabled() : DmAgentConfig.isEnabled();
+        if (!enabled) {
+            return null;
         }
+        return engine.getDmAgent() != null ? engine.getDmAgent() : DmAgentRegistry.getAgent();
+    }
+
+    private static String rewrite(DmAgent agent, DmAgentContext context, String coreBody) {
         try {
-            DmAgentContext context = buildDmAgentContext(ctx, outcome, request, targetRaw, coreBody);
             String override = agent.rewrite(context);
             if (override != null && !override.isBlank()) {
                 LOG.info("DmAgent: override used (tool={}, reasonCode={}).",
@@ -169,12 +205,9 @@ public final class PlayerToolEngine {
                                                String coreBody) {
         DmAgentPlayerView playerView = new DmAgentPlayerView("Player 1", inventoryList(), null, null, List.of());
         PlotContext plotContext = ctx.plotContext;
-        Map<String, String> exits = plotContext != null && plotContext.neighborSummaries != null
-                ? plotContext.neighborSummaries.entrySet().stream()
-                .collect(Collectors.toMap(e -> e.getKey().name(), Map.Entry::getValue))
-                : Map.of();
-        List<String> visibleItems = plotContext != null && plotContext.visibleThings != null
-                ? plotContext.visibleThings.stream()
+        Map<String, String> exits = exits(plotContext);
+        List<String> visibleItems = plotContext != null && plotContext.getVisibleThings() != null
+                ? plotContext.getVisibleThings().stream()
                 .filter(t -> t.getKind() == com.demo.island.world.ThingKind.ITEM)
                 .map(ThingContext::getName)
                 .toList()
@@ -1,38 +1,61 @@
 package com.demo.island.game;
 
+import com.demo.island.ai.AgentUsage;
+import com.demo.island.ai.LlmGateway;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.model.ChatResponse;
 
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
 /**
  * DM Agent backed by Spring AI ChatClient using the dm1.md prompt.
  */
 public final class SpringAiDmAgent implements DmAgent {
 
+    private static final Duration CALL_TIMEOUT = LlmGateway.timeoutFor("dm", Duration.ofSeconds(30));
+
     private final ChatClient chatClient;
+    private final LlmGateway gateway = LlmGateway.shared();
     private final String systemPrompt;
+    private volatile AgentUsage usage = AgentUsage.global();
 
     public SpringAiDmAgent(ChatClient chatClient, String systemPrompt) {
         this.chatClient = chatClient;
         this.systemPrompt = systemPrompt;
     }
 
+    /**
+     * Ledger this agent's calls are recorded in; defaults to {@link AgentUsage#global()}.
+     */
+    public void setUsage(AgentUsage usage) {
+        this.usage = usage == null ? AgentUsage.global() : usage;
+    }
+
     @Override
     public String rewrite(DmAgentContext context) {
         if (systemPrompt == null || systemPrompt.isBlank()) {
             return null;
         }
         String user = DmAgentContextFormatter.format(context);
-        ChatResponse response = chatClient.prompt()
-                .system(systemPrompt)
-                .user(user)
-                .call()
-                .chatResponse();
+        ChatResponse response;
+        try {
+            response = usage.call(gateway, "dm", CALL_TIMEOUT, systemPrompt, user, () -> chatClient.prompt()
+                    .system(systemPrompt)
+                    .user(user)
+                    .call()
+                    .chatResponse());
+        } catch (TimeoutException e) {
+            return null;
+        }
         if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            usage.recordFallback("dm", "empty_reply");
             return null;
         }
         var output = response.getResult().getOutput();
         String text = output.getText();
         if (text == null) {
+            usage.recordFallback("dm", "empty_reply");
             return null;
         }
         String firstLine = text.strip();
@@ -0,0 +1,29 @@
+package com.demo.island.game;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Result of {@link PlayerToolEngine#invokeStaged}: the engine-side result carrying the core DM text, available
+ * immediately, and the narrated result that completes once the DM rewrite (if any) has run.
+ */
+public final class StagedToolResult {
+
+    private final PlayerToolResult provisional;
+    private final CompletableFuture<PlayerToolResult> narrated;
+
+    public StagedToolResult(PlayerToolResult provisional, CompletableFuture<PlayerToolResult> narrated) {
+        this.provisional = provisional;
+        this.narrated = narrated;
+    }
+
+    /**
+     * Same state and turn context as the narrated result, with the core DM text.
+     */
+    public PlayerToolResult getProvisional() {
+        return provisional;
+    }
+
+    public CompletableFuture<PlayerToolResult> getNarrated() {
+        return narrated;
+    }
+}
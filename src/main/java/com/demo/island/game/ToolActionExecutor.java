@@ -6,6 +6,7 @@ import com.demo.island.world.CharacterThing;
 import com.demo.island.world.Direction8;
 import com.demo.island.world.ItemThing;
 import com.demo.island.world.WorldThingIndex;
+import com.demo.island.world.WorldThingSeeder;
 import com.demo.island.game.ghost.GhostMode;
 import com.demo.island.game.GhostPresenceEvent;
 import com.demo.island.game.GhostPresenceTracker;
@@ -29,6 +30,17 @@ public final class ToolActionExecutor {
     );
 
     public ToolOutcome execute(ToolContext ctx) {
+        TurnJournal journal = ctx.session.getJournal();
+        if (journal == null) {
+            return dispatch(ctx);
+        }
+        journal.begin(ctx);
+        ToolOutcome outcome = dispatch(ctx);
+        journal.end(ctx, outcome);
+        return outcome;
+    }
+
+    private ToolOutcome dispatch(ToolContext ctx) {
         ToolHandler handler = handlers.get(ctx.tool);
         if (handler == null) {
             return blocked("Unsupported tool.", ReasonCode.UNKNOWN, ctx, ctx.action);
@@ -110,7 +122,7 @@ public final class ToolActionExecutor {
             return blocked("Pick up what?", ReasonCode.NEEDS_ITEM, ctx, ctx.action);
         }
         boolean alreadyCarrying = ctx.session.getInventory().getOrDefault(ctx.action.getItemType(), 0) > 0
-                || ctx.visibleItems.stream().anyMatch(it -> "THING_PLAYER".equals(it.getCarriedByCharacterId())
+                || ctx.visibleItems.stream().anyMatch(it -> WorldThingSeeder.PLAYER_ID.equals(it.getCarriedByCharacterId())
                 && it.getItemType() == ctx.action.getItemType());
         if (alreadyCarrying) {
             return blocked("You are already carrying that.", ReasonCode.ALREADY_CARRYING_ITEM, ctx, ctx.action);
@@ -130,7 +142,7 @@ public final class ToolActionExecutor {
             return blocked("Drop what?", ReasonCode.NEEDS_ITEM, ctx, ctx.action);
         }
         boolean hasItem = ctx.session.getInventory().getOrDefault(ctx.action.getItemType(), 0) > 0
-                || ctx.visibleItems.stream().anyMatch(it -> "THING_PLAYER".equals(it.getCarriedByCharacterId())
+                || ctx.visibleItems.stream().anyMatch(it -> WorldThingSeeder.PLAYER_ID.equals(it.getCarriedByCharacterId())
                 && it.getItemType() == ctx.action.getItemType());
         if (!hasItem) {
             return blocked("You don't have that.", ReasonCode.NOT_CARRYING_ITEM, ctx, ctx.action);
@@ -202,12 +214,12 @@ public final class ToolActionExecutor {
     }
 
     private boolean hasExit(PlotContext plotContext, Direction8 dir) {
-        if (plotContext == null || plotContext.neighborSummaries == null) return false;
-        return plotContext.neighborSummaries.containsKey(dir);
+        if (plotContext == null || plotContext.getNeighborSummaries() == null) return false;
+        return plotContext.getNeighborSummaries().containsKey(dir);
     }
 
     private boolean isPlayer(ToolContext ctx) {
-        return ctx.actorId == null || "THING_PLAYER".equals(ctx.actorId);
+        return ctx.actorId == null || WorldThingSeeder.PLAYER_ID.equals(ctx.actorId);
     }
 
     private String nextPlotId(ToolContext ctx, Direction8 dir) {
@@ -225,7 +237,7 @@ public final class ToolActionExecutor {
                                            String reason,
                                            String mood,
                                            String note) {
-        return buildContext(session, plotContext, request, targetRaw, reason, mood, note, "THING_PLAYER");
+        return buildContext(session, plotContext, request, targetRaw, reason, mood, note, WorldThingSeeder.PLAYER_ID);
     }
 
     public static ToolContext buildContext(GameSession session,
@@ -239,15 +251,15 @@ public final class ToolActionExecutor {
         WorldThingIndex index = session.getThingIndex();
         CharacterThing actor = (CharacterThing) index.getThing(actorId);
         if (actor == null) {
-            actor = (CharacterThing) index.getThing("THING_PLAYER");
+            actor = (CharacterThing) index.getThing(WorldThingSeeder.PLAYER_ID);
         }
         String plotId = plotContext != null ? plotContext.plotId : actor != null ? actor.getCurrentPlotId() : session.getLocation().getTileId();
         if (plotContext == null && plotId != null) {
             plotContext = ContextBuilder.buildPlotContext(session, plotId);
         }
         List<ItemThing> visibleItems = new ArrayList<>();
-        if (plotContext != null && plotContext.visibleThings != null) {
-            for (ThingContext tc : plotContext.visibleThings) {
+        if (plotContext != null && plotContext.getVisibleThings() != null) {
+            for (ThingContext tc : plotContext.getVisibleThings()) {
                 if (tc.getKind() == com.demo.island.world.ThingKind.ITEM) {
                     ItemThing it = (ItemThing) index.getThing(tc.getId());
                     if (it != null) {
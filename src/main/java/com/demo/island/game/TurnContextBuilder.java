@@ -4,6 +4,7 @@ import com.demo.island.dto.PlotContext;
 import com.demo.island.world.CharacterThing;
 import com.demo.island.world.Thing;
 import com.demo.island.world.WorldThingIndex;
+import com.demo.island.world.WorldThingSeeder;
 
 import java.util.StringJoiner;
 
@@ -50,8 +51,8 @@ public final class TurnContextBuilder {
         ctx.gameEndReason = session.getGameEndReason();
 
         WorldThingIndex index = session.getThingIndex();
-        Thing player = index.getThing("THING_PLAYER");
-        ctx.playerThingId = player != null ? player.getId() : "THING_PLAYER";
+        Thing player = index.getThing(WorldThingSeeder.PLAYER_ID);
+        ctx.playerThingId = player != null ? player.getId() : WorldThingSeeder.PLAYER_ID;
         ctx.playerStatsSummary = playerStatsSummary(player);
         ctx.playerInventorySummary = inventorySummary(session);
 
@@ -0,0 +1,220 @@
+package com.demo.island.game;
+
+import com.demo.island.game.ghost.GhostMode;
+import com.demo.island.world.Direction8;
+import com.demo.island.world.GardenerWorldConfig;
+import com.demo.island.world.Thing;
+import com.demo.island.world.WorldGeometryConfig;
+import com.demo.island.world.WorldThingSeeder;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Append-only record of a session's turns: every tool executed (player and monkey), the dice rolled while it
+ * ran, and what the ghost agent manifested. Together with the starting world these are all the inputs the
+ * engine consumes, so {@link TurnReplayer} can re-execute an episode without any agent or LLM.
+ * <p>
+ * Each entry also keeps a small fingerprint of the state after the turn (outcome, actor plot, clock) that
+ * replays compare against to detect divergence after engine changes. The journal also records the world the
+ * session started on, island size and gardener config, so a replay rebuilds that world rather than the default.
+ * Journals are written as JSON lines, the world first. Not thread-safe; one journal per session.
+ */
+public final class TurnJournal {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * One executed tool and everything it consumed.
+     */
+    public record Entry(int turn,
+                        String actorId,
+                        PlayerTool tool,
+                        Direction8 direction,
+                        GameItemType itemType,
+                        String targetRaw,
+                        String reason,
+                        String mood,
+                        List<Integer> rolls,
+                        GhostMode ghostMode,
+                        String ghostText,
+                        OutcomeType outcome,
+                        String actorPlotId,
+                        int totalPips) {
+
+        public Entry {
+            rolls = rolls == null ? List.of() : List.copyOf(rolls);
+        }
+
+        @JsonIgnore
+        public boolean isPlayerTurn() {
+            return WorldThingSeeder.PLAYER_ID.equals(actorId);
+        }
+
+        PlayerToolRequest request() {
+            return new PlayerToolRequest(tool, direction, itemType);
+        }
+    }
+
+    /**
+     * World the session started on; {@link #newSession()} builds it again.
+     */
+    public record World(int islandWidth, int islandHeight, int gardenerMaxSteps, long gardenerSeed) {
+
+        static World of(GameSession session) {
+            WorldGeometryConfig geometry = session.getMap().getGeometry();
+            GardenerWorldConfig gardener = session.getGardenerConfig();
+            return new World(geometry.getIslandWidth(), geometry.getIslandHeight(), gardener.getMaxSteps(),
+                    gardener.getRandomSeed());
+        }
+    }
+
+    private record Header(World world) {
+    }
+
+    private final World world;
+    private final List<Entry> entries = new ArrayList<>();
+    private ToolContext pending;
+    private final List<Integer> pendingRolls = new ArrayList<>();
+    private GhostMode pendingGhostMode;
+    private String pendingGhostText;
+
+    /**
+     * Starts journaling the session: its dice are wrapped so every roll is recorded, and the executor
+     * records each tool from now on. Attach after the session's engine context is set.
+     */
+    public static TurnJournal attach(GameSession session) {
+        TurnJournal journal = new TurnJournal(World.of(session));
+        DiceService dice = GameEngine.challengeResolver(session).getDiceService();
+        session.setEngineContext(session.getEngineContext().withDice(new DiceService(sides -> {
+            int face = dice.roll(1, sides);
+            journal.roll(face);
+            return face;
+        })));
+        session.setJournal(journal);
+        return journal;
+    }
+
+    private TurnJournal(World world) {
+        this.world = world;
+    }
+
+    /**
+     * World the session started on, or null for a journal written without one.
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Fresh session on the world the journal started from; the default world when none was recorded.
+     */
+    public GameSession newSession() {
+        if (world == null) {
+            return GameSession.newSession();
+        }
+        return GameSession.newSession(WorldGeometryConfig.island(world.islandWidth(), world.islandHeight()),
+                new GardenerWorldConfig(world.gardenerMaxSteps(), world.gardenerSeed()));
+    }
+
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    void begin(ToolContext ctx) {
+        pending = ctx;
+        pendingRolls.clear();
+        pendingGhostMode = null;
+        pendingGhostText = null;
+    }
+
+    void roll(int face) {
+        if (pending != null) {
+            pendingRolls.add(face);
+        }
+    }
+
+    void ghost(GhostMode mode, String text) {
+        pendingGhostMode = mode;
+        pendingGhostText = text;
+    }
+
+    void end(ToolContext ctx, ToolOutcome outcome) {
+        GameAction action = ctx.action;
+        entries.add(new Entry(entries.size() + 1,
+                ctx.actorId,
+                ctx.tool,
+                action != null ? action.getDirection() : null,
+                action != null ? action.getItemType() : null,
+                ctx.targetRaw,
+                ctx.reason,
+                ctx.mood,
+                pendingRolls,
+                pendingGhostMode,
+                pendingGhostText,
+                outcome.getOutcomeType(),
+                actorPlotId(ctx.session, ctx.actorId),
+                ctx.session.getClock().getTotalPips()));
+        pending = null;
+    }
+
+    static String actorPlotId(GameSession session, String actorId) {
+        if (WorldThingSeeder.PLAYER_ID.equals(actorId)) {
+            return session.getLocation().getTileId();
+        }
+        Thing actor = session.getThingIndex().getThing(actorId);
+        return actor != null ? actor.getCurrentPlotId() : null;
+    }
+
+    /**
+     * Writes the world, then one JSON object per entry, one per line.
+     */
+    public void write(Writer out) throws IOException {
+        if (world != null) {
+            out.write(MAPPER.writeValueAsString(new Header(world)));
+            out.write('\n');
+        }
+        for (Entry entry : entries) {
+            out.write(MAPPER.writeValueAsString(entry));
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a journal written by {@link #write}; blank lines are skipped. Journals without a world line replay
+     * on the default world.
+     */
+    public static TurnJournal read(Reader in) throws IOException {
+        BufferedReader reader = in instanceof BufferedReader buffered ? buffered : new BufferedReader(in);
+        List<Entry> entries = new ArrayList<>();
+        World world = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node = MAPPER.readTree(line);
+            if (entries.isEmpty() && world == null && node.has("world")) {
+                world = MAPPER.treeToValue(node, Header.class).world();
+            } else {
+                entries.add(MAPPER.treeToValue(node, Entry.class));
+            }
+        }
+        TurnJournal journal = new TurnJournal(world);
+        journal.entries.addAll(entries);
+        return journal;
+    }
+}
@@ -0,0 +1,133 @@
+package com.demo.island.game;
+
+import com.demo.island.game.ghost.GhostManifestation;
+
+import java.util.Objects;
+
+/**
+ * Re-executes a {@link TurnJournal} against a fresh session with no agents: player and monkey tools come from
+ * the journal, dice return the recorded rolls, the ghost manifests what it manifested, and the DM rewrite is
+ * off. Replays run at engine speed and can stop after any turn.
+ * <p>
+ * After each entry the replay checks the entry's fingerprint. A replay that needs a roll the journal does not
+ * have, leaves rolls unused, or ends a turn in a different state stops there and reports the divergence.
+ */
+public final class TurnReplayer {
+
+    /**
+     * Replayed session and where, if anywhere, it stopped matching the journal.
+     *
+     * @param divergedAtTurn journal turn that did not match, or 0 when every replayed turn matched
+     */
+    public record Result(GameSession session, int turnsReplayed, int divergedAtTurn, String divergence) {
+        public boolean matched() {
+            return divergedAtTurn == 0;
+        }
+    }
+
+    private TurnReplayer() {
+    }
+
+    /**
+     * Replays the whole journal on a new session over the world it recorded.
+     */
+    public static Result replay(TurnJournal journal) {
+        return replay(journal, journal.newSession(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Replays the first {@code turns} entries on {@code session}, which must start from the same world as the
+     * recorded one.
+     */
+    public static Result replay(TurnJournal journal, GameSession session, int turns) {
+        Playback playback = new Playback();
+        session.setEngineContext(session.getEngineContext()
+                .withDice(new DiceService(sides -> playback.roll()))
+                .withDmAgentEnabled(false)
+                .withGhostAgent(state -> playback.entry.ghostMode() == null
+                        ? null
+                        : new GhostManifestation(playback.entry.ghostMode(), playback.entry.ghostText())));
+        PlayerToolEngine toolEngine = new PlayerToolEngine(session);
+        ToolActionExecutor executor = new ToolActionExecutor();
+
+        int replayed = 0;
+        for (TurnJournal.Entry entry : journal.getEntries()) {
+            if (replayed >= turns) {
+                break;
+            }
+            playback.start(entry);
+            OutcomeType outcome;
+            try {
+                if (entry.isPlayerTurn()) {
+                    PlayerToolResult result = toolEngine.invoke(entry.request());
+                    outcome = outcomeOf(result);
+                } else {
+                    ToolContext ctx = ToolActionExecutor.buildContext(session, null, entry.request(),
+                            entry.targetRaw(), entry.reason(), entry.mood(), "", entry.actorId());
+                    outcome = executor.execute(ctx).getOutcomeType();
+                }
+            } catch (DivergenceException ex) {
+                return new Result(session, replayed, entry.turn(), ex.getMessage());
+            }
+            String divergence = compare(entry, session, outcome, playback);
+            if (divergence != null) {
+                return new Result(session, replayed, entry.turn(), divergence);
+            }
+            replayed++;
+        }
+        return new Result(session, replayed, 0, null);
+    }
+
+    private static OutcomeType outcomeOf(PlayerToolResult result) {
+        String status = result.getState() != null ? result.getState().lastToolResult : null;
+        if ("fail".equals(status)) {
+            return OutcomeType.FAIL;
+        }
+        if ("blocked".equals(status)) {
+            return OutcomeType.BLOCKED;
+        }
+        return OutcomeType.SUCCESS;
+    }
+
+    private static String compare(TurnJournal.Entry entry, GameSession session, OutcomeType outcome, Playback playback) {
+        if (playback.next < entry.rolls().size()) {
+            return "used " + playback.next + " of " + entry.rolls().size() + " recorded rolls";
+        }
+        if (outcome != entry.outcome()) {
+            return "outcome " + outcome + ", recorded " + entry.outcome();
+        }
+        String plotId = TurnJournal.actorPlotId(session, entry.actorId());
+        if (!Objects.equals(plotId, entry.actorPlotId())) {
+            return entry.actorId() + " at " + plotId + ", recorded " + entry.actorPlotId();
+        }
+        int pips = session.getClock().getTotalPips();
+        if (pips != entry.totalPips()) {
+            return "clock at " + pips + " pips, recorded " + entry.totalPips();
+        }
+        return null;
+    }
+
+    private static final class Playback {
+        private TurnJournal.Entry entry;
+        private int next;
+
+        void start(TurnJournal.Entry entry) {
+            this.entry = entry;
+            this.next = 0;
+        }
+
+        int roll() {
+            if (next >= entry.rolls().size()) {
+                throw new DivergenceException("needed roll " + (next + 1) + " but only "
+                        + entry.rolls().size() + " were recorded");
+            }
+            return entry.rolls().get(next++);
+        }
+    }
+
+    private static final class DivergenceException extends RuntimeException {
+        DivergenceException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
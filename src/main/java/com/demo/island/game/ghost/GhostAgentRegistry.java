@@ -1,9 +1,11 @@
 package com.demo.island.game.ghost;
 
+import com.demo.island.game.EngineContext;
 import com.demo.island.game.GameSession;
 import com.demo.island.game.GhostPresenceEvent;
 import com.demo.island.game.GhostPresenceTracker;
 import com.demo.island.world.IslandTile;
+import com.demo.island.world.WorldThingSeeder;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,13 +13,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * Holds the current GhostAgent and invokes it when enabled.
+ * Holds the default GhostAgent and invokes the session's agent (or the default) when enabled.
  */
 public final class GhostAgentRegistry {
 
     private static final Logger LOG = LogManager.getLogger(GhostAgentRegistry.class);
-    private static GhostAgent agent;
-    private static Boolean enabledOverride;
+    private static volatile GhostAgent agent;
+    private static volatile Boolean enabledOverride;
 
     private GhostAgentRegistry() {
     }
@@ -26,12 +28,15 @@ public final class GhostAgentRegistry {
         if (session == null || event == null) {
             return GhostManifestation.silent();
         }
-        if (!isEnabled() || agent == null) {
+        EngineContext engine = session.getEngineContext();
+        boolean enabled = engine.getGhostEnabled() != null ? engine.getGhostEnabled() : isEnabled();
+        GhostAgent active = engine.getGhostAgent() != null ? engine.getGhostAgent() : agent;
+        if (!enabled || active == null) {
             return GhostManifestation.silent();
         }
         GhostState state = buildState(session, event);
         try {
-            GhostManifestation result = agent.manifest(state);
+            GhostManifestation result = active.manifest(state);
             if (result == null) {
                 return GhostManifestation.silent();
             }
@@ -72,23 +77,17 @@ public final class GhostAgentRegistry {
         String time = session.getClock().formatRemainingBracketed();
         String phase = session.getClock().getPhase().name();
 
-        IslandTile tile = session.getMap().get(session.getLocation().getTileId()).orElse(null);
+        IslandTile tile = session.getLocationTile();
         String coords = tile != null ? "(" + tile.getPosition().x() + ", " + tile.getPosition().y() + ")" : "(?, ?)";
         String plotName = tile != null ? tile.getTileId() : event.plotId();
-        List<String> exits = new ArrayList<>();
-        if (tile != null) {
-            for (com.demo.island.world.Direction8 dir : com.demo.island.world.Direction8.values()) {
-                session.getMap().get(tile.getPosition().step(dir)).ifPresent(t -> exits.add(dir.name()));
-            }
-        }
+        List<String> exits = tile != null ? session.getMap().exits(tile).getDirectionNames() : List.of();
 
         List<String> visibleItems = session.getThingIndex().getThingsInPlot(session.getLocation().getTileId()).stream()
                 .filter(t -> t.getKind() == com.demo.island.world.ThingKind.ITEM)
                 .map(com.demo.island.world.Thing::getName)
                 .toList();
 
-        List<String> inventory = session.getThingIndex().getAll().values().stream()
-                .filter(t -> t instanceof com.demo.island.world.ItemThing it && "THING_PLAYER".equals(it.getCarriedByCharacterId()))
+        List<String> inventory = session.getThingIndex().getCarriedBy(WorldThingSeeder.PLAYER_ID).stream()
                 .map(com.demo.island.world.Thing::getName)
                 .toList();
 
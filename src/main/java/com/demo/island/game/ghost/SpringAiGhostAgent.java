@@ -1,5 +1,7 @@
 package com.demo.island.game.ghost;
 
+import com.demo.island.ai.AgentUsage;
+import com.demo.island.ai.LlmGateway;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.ai.chat.client.ChatClient;
@@ -9,20 +11,33 @@ import org.springframework.ai.openai.OpenAiChatOptions;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.time.Duration;
+
 /**
  * GhostAgent backed by Spring AI that returns a manifestation mode/text based on Ghost1 prompt.
  */
 public final class SpringAiGhostAgent implements GhostAgent {
     private static final Logger LOG = LogManager.getLogger(SpringAiGhostAgent.class);
+    private static final Duration CALL_TIMEOUT = LlmGateway.timeoutFor("ghost", Duration.ofSeconds(15));
+
     private final ChatClient chatClient;
+    private final LlmGateway gateway = LlmGateway.shared();
     private final String systemPrompt;
     private final ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private volatile AgentUsage usage = AgentUsage.global();
 
     public SpringAiGhostAgent(ChatClient chatClient, String systemPrompt) {
         this.chatClient = chatClient;
         this.systemPrompt = systemPrompt;
     }
 
+    /**
+     * Ledger this agent's calls are recorded in; defaults to {@link AgentUsage#global()}.
+     */
+    public void setUsage(AgentUsage usage) {
+        this.usage = usage == null ? AgentUsage.global() : usage;
+    }
+
     @Override
     public GhostManifestation manifest(GhostState state) {
         if (systemPrompt == null || systemPrompt.isBlank() || state == null) {
@@ -31,12 +46,12 @@ public final class SpringAiGhostAgent implements GhostAgent {
         String user = state.format();
         String content = "";
         try {
-            ChatResponse response = chatClient.prompt()
+            ChatResponse response = usage.call(gateway, "ghost", CALL_TIMEOUT, systemPrompt, user, () -> chatClient.prompt()
                     .system(systemPrompt)
                     .user(user)
                     .options(OpenAiChatOptions.builder().internalToolExecutionEnabled(false).build())
                     .call()
-                    .chatResponse();
+                    .chatResponse());
             if (response != null && response.getResult() != null) {
                 var output = response.getResult().getOutput();
                 if (output instanceof org.springframework.ai.chat.messages.AssistantMessage) {
@@ -51,6 +66,7 @@ public final class SpringAiGhostAgent implements GhostAgent {
             return GhostManifestation.silent();
         }
         if (content == null || content.isBlank()) {
+            usage.recordFallback("ghost", "empty_reply");
             return GhostManifestation.silent();
         }
         try {
@@ -63,6 +79,7 @@ public final class SpringAiGhostAgent implements GhostAgent {
             return new GhostManifestation(mode, text);
         } catch (Exception ex) {
             LOG.info("GhostAgent: parse failed; silent. err={}", ex.getMessage());
+            usage.recordFallback("ghost", "unparseable_reply");
             return GhostManifestation.silent();
         }
     }
@@ -0,0 +1,205 @@
+package com.demo.island.game.host;
+
+import com.demo.island.game.EngineContext;
+import com.demo.island.game.GameSession;
+import com.demo.island.game.PlayerToolEngine;
+import com.demo.island.game.PlayerToolRequest;
+import com.demo.island.game.PlayerToolResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many game sessions in one process and runs their turns on a shared worker pool.
+ * <p>
+ * Each session has a mailbox of pending {@link PlayerToolRequest}s. A session is scheduled onto the pool only
+ * while its mailbox is non-empty, and at most one worker drains it at a time, so turns for a session run
+ * strictly in submission order while idle sessions hold no thread at all. Size the pool for the expected
+ * number of turns blocked on agent calls at once, not for the number of sessions.
+ */
+public final class SessionHost implements AutoCloseable {
+
+    private static final Logger LOG = LogManager.getLogger(SessionHost.class);
+
+    private final ExecutorService workers;
+    private final boolean ownsWorkers;
+    private final Map<String, HostedSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicLong completedTurns = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Host with its own daemon worker pool of the given size.
+     */
+    public SessionHost(int workerThreads) {
+        this(Executors.newFixedThreadPool(workerThreads, workerThreadFactory()), true);
+    }
+
+    /**
+     * Host running turns on a caller-managed executor; {@link #close()} leaves it running.
+     */
+    public SessionHost(ExecutorService workers) {
+        this(workers, false);
+    }
+
+    private SessionHost(ExecutorService workers, boolean ownsWorkers) {
+        this.workers = workers;
+        this.ownsWorkers = ownsWorkers;
+    }
+
+    public String openSession() {
+        return openSession(EngineContext.defaults());
+    }
+
+    /**
+     * Creates a session bound to the given engine context and returns its id.
+     */
+    public String openSession(EngineContext engineContext) {
+        if (closed) {
+            throw new IllegalStateException("Session host is closed");
+        }
+        String sessionId = "S" + nextId.incrementAndGet();
+        sessions.put(sessionId, new HostedSession(GameSession.newSession(engineContext)));
+        return sessionId;
+    }
+
+    /**
+     * Queues a turn for the session. The future completes with the tool result once every earlier
+     * request for the same session has run, or exceptionally if the session is unknown or the turn fails.
+     */
+    public CompletableFuture<PlayerToolResult> submit(String sessionId, PlayerToolRequest request) {
+        HostedSession hosted = sessions.get(sessionId);
+        if (hosted == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown session: " + sessionId));
+        }
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Session host is closed"));
+        }
+        PendingTurn turn = new PendingTurn(request);
+        hosted.mailbox.add(turn);
+        hosted.schedule();
+        return turn.result;
+    }
+
+    /**
+     * The hosted session, for read-only inspection between turns; null when unknown.
+     */
+    public GameSession getSession(String sessionId) {
+        HostedSession hosted = sessions.get(sessionId);
+        return hosted == null ? null : hosted.session;
+    }
+
+    /**
+     * Removes the session; turns already queued for it still run.
+     */
+    public boolean closeSession(String sessionId) {
+        return sessions.remove(sessionId) != null;
+    }
+
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Turns run by this host across all sessions.
+     */
+    public long completedTurns() {
+        return completedTurns.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (ownsWorkers) {
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                workers.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        sessions.clear();
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "session-host-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class PendingTurn {
+        final PlayerToolRequest request;
+        final CompletableFuture<PlayerToolResult> result = new CompletableFuture<>();
+
+        PendingTurn(PlayerToolRequest request) {
+            this.request = request;
+        }
+    }
+
+    private final class HostedSession implements Runnable {
+        final GameSession session;
+        final PlayerToolEngine engine;
+        final Queue<PendingTurn> mailbox = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        HostedSession(GameSession session) {
+            this.session = session;
+            this.engine = new PlayerToolEngine(session);
+        }
+
+        void schedule() {
+            if (!mailbox.isEmpty() && scheduled.compareAndSet(false, true)) {
+                try {
+                    workers.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    PendingTurn turn;
+                    while ((turn = mailbox.poll()) != null) {
+                        turn.result.completeExceptionally(e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            // One turn per scheduling so a busy session cannot starve the others on the pool
+            PendingTurn turn = mailbox.poll();
+            try {
+                if (turn != null) {
+                    turn.result.complete(engine.invoke(turn.request));
+                    completedTurns.incrementAndGet();
+                }
+            } catch (RuntimeException e) {
+                LOG.warn("Turn failed for request {}", turn.request.getTool(), e);
+                turn.result.completeExceptionally(e);
+            } catch (Error e) {
+                turn.result.completeExceptionally(e);
+                throw e;
+            } finally {
+                // Always release the session, even if an Error escapes, so its mailbox keeps draining
+                scheduled.set(false);
+                schedule();
+            }
+        }
+    }
+}
@@ -15,7 +15,22 @@ import java.util.Random;
  */
 public final class HeuristicMonkeyAgent implements MonkeyAgent {
 
-    private final Random random = new Random();
+    private final Random random;
+
+    public HeuristicMonkeyAgent() {
+        this(new Random());
+    }
+
+    /**
+     * Seeded for reproducible wandering.
+     */
+    public HeuristicMonkeyAgent(long seed) {
+        this(new Random(seed));
+    }
+
+    private HeuristicMonkeyAgent(Random random) {
+        this.random = random;
+    }
 
     @Override
     public MonkeyDecision decide(MonkeyState state) {
@@ -1,5 +1,7 @@
 package com.demo.island.game.monkey;
 
+import com.demo.island.ai.AgentUsage;
+import com.demo.island.ai.LlmGateway;
 import com.demo.island.game.AgentMood;
 import com.demo.island.game.PlayerTool;
 import com.demo.island.game.PlayerToolRequest;
@@ -12,21 +14,35 @@ import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.openai.OpenAiChatOptions;
 
+import java.time.Duration;
+
 /**
  * MonkeyAgent backed by Spring AI tool-calling (LOOK, MOVE, SEARCH).
  */
 public final class SpringAiMonkeyAgent implements MonkeyAgent {
     private static final Logger LOG = LogManager.getLogger(SpringAiMonkeyAgent.class);
+    private static final MonkeyToolsDescriptor TOOLS = new MonkeyToolsDescriptor();
+
+    private static final Duration CALL_TIMEOUT = LlmGateway.timeoutFor("monkey", Duration.ofSeconds(15));
 
     private final ChatClient chatClient;
+    private final LlmGateway gateway = LlmGateway.shared();
     private final String systemPrompt;
     private final ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private volatile AgentUsage usage = AgentUsage.global();
 
     public SpringAiMonkeyAgent(ChatClient chatClient, String systemPrompt) {
         this.chatClient = chatClient;
         this.systemPrompt = systemPrompt;
     }
 
+    /**
+     * Ledger this agent's calls are recorded in; defaults to {@link AgentUsage#global()}.
+     */
+    public void setUsage(AgentUsage usage) {
+        this.usage = usage == null ? AgentUsage.global() : usage;
+    }
+
     @Override
     public MonkeyDecision decide(MonkeyState state) {
         if (systemPrompt == null || systemPrompt.isBlank()) {
@@ -34,21 +50,23 @@ public final class SpringAiMonkeyAgent implements MonkeyAgent {
         }
         try {
             String user = formatState(state);
-            ChatResponse response = chatClient.prompt()
+            ChatResponse response = usage.call(gateway, "monkey", CALL_TIMEOUT, systemPrompt, user, () -> chatClient.prompt()
                     .system(systemPrompt)
-                    .tools(MonkeyToolsDescriptor.class)
+                    .tools(TOOLS)
                     .options(OpenAiChatOptions.builder()
                             .toolChoice("required")
                             .internalToolExecutionEnabled(false)
                             .build())
                     .user(user)
                     .call()
-                    .chatResponse();
+                    .chatResponse());
             if (response == null || response.getResult() == null) {
+                usage.recordFallback("monkey", "empty_reply");
                 return null;
             }
             AssistantMessage.ToolCall call = response.getResult().getOutput().getToolCalls().stream().findFirst().orElse(null);
             if (call == null) {
+                usage.recordFallback("monkey", "no_tool_call");
                 return null;
             }
             MonkeyToolPayload payload = new MonkeyToolPayload();
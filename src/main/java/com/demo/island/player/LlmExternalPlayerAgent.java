@@ -1,5 +1,7 @@
 package com.demo.island.player;
 
+import com.demo.island.ai.AgentUsage;
+import com.demo.island.ai.LlmGateway;
 import com.demo.island.game.AgentDecision;
 import com.demo.island.game.AgentMood;
 import com.demo.island.game.ExternalPlayerAgent;
@@ -18,12 +20,11 @@ import org.springframework.ai.openai.OpenAiChatOptions;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.time.Duration;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -35,40 +36,62 @@ import org.apache.logging.log4j.Logger;
 public class LlmExternalPlayerAgent implements ExternalPlayerAgent {
 
     private static final Logger LOG = LogManager.getLogger(LlmExternalPlayerAgent.class);
+    private static final Duration CALL_TIMEOUT = LlmGateway.timeoutFor("player", Duration.ofSeconds(30));
 
     private final ChatClient chatClient;
-    private final String systemPrompt;
-    private final Map<PlayerTool, ToolPrompt> toolPrompts;
+    private final LlmGateway gateway = LlmGateway.shared();
+    private final PlayerPromptBuilder promptBuilder;
     private final DecisionTools decisionTools = new DecisionTools();
     private final ObjectMapper mapper = new ObjectMapper()
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-    private AgentDecision lastDecisionForPrompt;
-    private String lastDecisionToolRaw = "";
-    private String lastDecisionTargetRaw = "";
-    private int turnCounter = 1;
-    private String lastFailureLocationId = "";
-    private String lastFailureTool = "";
-    private String lastFailureTarget = "";
-    private String lastFailureText = "";
-    private int lastFailureCount = 0;
+    private State state = new State();
+    private volatile AgentUsage usage = AgentUsage.global();
 
     public LlmExternalPlayerAgent(ChatClient chatClient,
                                   String playerAgentSystemPrompt,
                                   Map<PlayerTool, ToolPrompt> playerToolPrompts) {
         this.chatClient = Objects.requireNonNull(chatClient);
-        this.systemPrompt = Objects.requireNonNull(playerAgentSystemPrompt);
-        this.toolPrompts = Objects.requireNonNull(playerToolPrompts);
+        this.promptBuilder = new PlayerPromptBuilder(Objects.requireNonNull(playerAgentSystemPrompt),
+                Objects.requireNonNull(playerToolPrompts));
+    }
+
+    /**
+     * Ledger this agent's calls and fallbacks are recorded in; defaults to {@link AgentUsage#global()}.
+     */
+    public void setUsage(AgentUsage usage) {
+        this.usage = usage == null ? AgentUsage.global() : usage;
     }
 
     @Override
     public AgentDecision decideNext(GameSession session, PlayerToolResult lastResult) {
-        updateRecentFeedback(lastResult);
-        String userPrompt = buildUserPrompt(session, lastResult);
+        return proposeNext(session, lastResult).accept();
+    }
+
+    /**
+     * Decides on a copy of the agent's prompt and loop-guard state; the agent moves on to that state only when
+     * the proposal is accepted, and accepting fails if another decision was accepted since it was proposed.
+     */
+    @Override
+    public Proposal proposeNext(GameSession session, PlayerToolResult lastResult) {
+        State base = state;
+        State s = base.copy();
+        AgentDecision decision = decide(s, session, lastResult);
+        return new Proposal(decision, () -> {
+            if (state != base) {
+                throw new IllegalStateException("Proposal is stale; another decision was accepted since");
+            }
+            state = s;
+        });
+    }
+
+    private AgentDecision decide(State s, GameSession session, PlayerToolResult lastResult) {
+        updateRecentFeedback(s, lastResult);
+        String userPrompt = buildUserPrompt(s, session, lastResult);
         LOG.debug("LLM PlayerAgent prompt:\n{}", userPrompt);
         org.springframework.ai.chat.model.ChatResponse resp = executePrompt(userPrompt);
         AgentDecision decision;
         if (resp == null) {
-            decision = fallback("Fallback: LLM call failed or timed out.");
+            decision = fallback(s, "Fallback: LLM call failed or timed out.");
         } else {
             var generation = resp.getResult();
             AssistantMessage output = generation == null ? null : (AssistantMessage) generation.getOutput();
@@ -78,31 +101,34 @@ public class LlmExternalPlayerAgent implements ExternalPlayerAgent {
                 logToolCall(call);
                 ToolMappingResult parsed = toDecisionWithError(call);
                 if (parsed.decision() != null) {
-                    lastDecisionToolRaw = parsed.decision().tool();
-                    lastDecisionTargetRaw = parsed.decision().args();
+                    s.lastDecisionToolRaw = parsed.decision().tool();
+                    s.lastDecisionTargetRaw = parsed.decision().args();
                     MappingOutcome mapped = mapDecision(parsed.decision());
                     if (mapped.decision() != null) {
                         decision = mapped.decision();
                     } else {
                         logMappingFailure(call, firstNonBlank(mapped.error(), "unknown mapping error"));
-                        decision = fallback("Fallback: tool payload could not be mapped.");
+                        usage.recordFallback("player", "unmappable_tool_call");
+                        decision = fallback(s, "Fallback: tool payload could not be mapped.");
                     }
                 } else {
                     logMappingFailure(call, firstNonBlank(parsed.error(), "tool payload could not be mapped"));
-                    decision = fallback("Fallback: tool payload could not be mapped.");
+                    usage.recordFallback("player", "unmappable_tool_call");
+                    decision = fallback(s, "Fallback: tool payload could not be mapped.");
                 }
             } else {
                 logNoToolCall(snippetFromResponse(resp));
-                decision = fallback("Fallback: no tool call returned.");
+                usage.recordFallback("player", "no_tool_call");
+                decision = fallback(s, "Fallback: no tool call returned.");
             }
         }
-        decision = applyLoopGuard(decision, lastResult, session, lastDecisionTargetRaw);
-        lastDecisionForPrompt = decision;
+        decision = applyLoopGuard(s, decision, lastResult, session, s.lastDecisionTargetRaw);
+        s.lastDecisionForPrompt = decision;
         if (decision == null) {
-            lastDecisionToolRaw = "";
-            lastDecisionTargetRaw = "";
+            s.lastDecisionToolRaw = "";
+            s.lastDecisionTargetRaw = "";
         }
-        turnCounter++;
+        s.turnCounter++;
         return decision;
     }
 
@@ -120,77 +146,10 @@ public class LlmExternalPlayerAgent implements ExternalPlayerAgent {
         }
     }
 
-    private String buildFullSystemPrompt() {
-        StringBuilder sb = new StringBuilder();
-        sb.append(systemPrompt.trim()).append("\n\nTools:\n");
-        for (var entry : toolPrompts.entrySet()) {
-            PlayerTool tool = entry.getKey();
-            ToolPrompt tp = entry.getValue();
-            sb.append("- ").append(tool.name()).append(": ")
-                    .append(tp.intent()).append(" ")
-                    .append(tp.args()).append(" ")
-                    .append(tp.costHint()).append("\n");
-        }
-        sb.append("\nInvoke exactly one of the tools below.\n");
-        return sb.toString();
-    }
-
-    private String buildUserPrompt(GameSession session, PlayerToolResult lastResult) {
-        String time = lastResult != null && lastResult.getState() != null && lastResult.getState().time != null
-                ? lastResult.getState().time
-                : session.getClock().formatRemainingBracketed();
-        String phase = lastResult != null && lastResult.getState() != null && lastResult.getState().phase != null
-                ? lastResult.getState().phase
-                : session.getClock().getPhase().name();
-
-        String locationId = lastResult != null && lastResult.getState() != null ? lastResult.getState().locationId : "Unknown";
-        String locationSummary = lastResult != null && lastResult.getState() != null ? lastResult.getState().locationSummary : "Unknown location.";
-
-        String exits = "None";
-        if (lastResult != null && lastResult.getState() != null && lastResult.getState().visibleExits != null && !lastResult.getState().visibleExits.isEmpty()) {
-            exits = String.join(", ", lastResult.getState().visibleExits.keySet());
-        }
-
-        String visibleItems = "None";
-        if (lastResult != null && lastResult.getState() != null && lastResult.getState().visibleItems != null && !lastResult.getState().visibleItems.isEmpty()) {
-            visibleItems = String.join(", ", lastResult.getState().visibleItems);
-        }
-
-        String inventory = "None";
-        if (lastResult != null && lastResult.getState() != null && lastResult.getState().inventory != null && !lastResult.getState().inventory.isEmpty()) {
-            inventory = String.join("; ", lastResult.getState().inventory);
-        }
-
-        String lastToolName = lastDecisionForPrompt != null ? lastDecisionForPrompt.getRequest().getTool().name() : "None";
-        String lastToolTarget = lastDecisionForPrompt != null ? targetFor(lastDecisionForPrompt) : "";
-        String lastResultText = lastResult != null && lastResult.getText() != null ? lastResult.getText() : "";
-        String feedback = recentFeedbackSummary();
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("GAME STATE\n\n");
-        sb.append("Turn: ").append(turnCounter).append("\n");
-        sb.append("Time: ").append(time).append(" (Phase: ").append(phase).append(")\n\n");
-        sb.append("Location:\n");
-        sb.append("  Name: ").append(locationId).append("\n");
-        sb.append("  Description: ").append(locationSummary).append("\n\n");
-        sb.append("Exits:\n");
-        sb.append("  ").append(exits).append("\n\n");
-        sb.append("Visible items:\n");
-        sb.append("  ").append(visibleItems).append("\n\n");
-        sb.append("Inventory:\n");
-        sb.append("  ").append(inventory).append("\n\n");
-        sb.append("Last action:\n");
-        sb.append("  Tool: ").append(lastToolName).append("\n");
-        sb.append("  Target: ").append(lastToolTarget).append("\n");
-        sb.append("  Result: ").append(lastResultText).append("\n\n");
-        sb.append("Recent feedback at this location:\n");
-        sb.append("  ").append(feedback).append("\n\n");
-        sb.append("Notes:\n");
-        sb.append("  - Visible items list above is complete. If it says \"None\", there are no items here.\n");
-        sb.append("  - Inventory list above is complete. Only listed items are currently carried.\n");
-        sb.append("\nMemory:\n");
-        sb.append(formatMemorySection(session));
-        return sb.toString();
+    private String buildUserPrompt(State s, GameSession session, PlayerToolResult lastResult) {
+        String lastToolName = s.lastDecisionForPrompt != null ? s.lastDecisionForPrompt.getRequest().getTool().name() : "None";
+        String lastToolTarget = s.lastDecisionForPrompt != null ? targetFor(s, s.lastDecisionForPrompt) : "";
+        return promptBuilder.userPrompt(session, lastResult, s.turnCounter, lastToolName, lastToolTarget, recentFeedbackSummary(s));
     }
 
     private MappingOutcome mapDecision(ToolDecision td) {
@@ -284,28 +243,27 @@ public class LlmExternalPlayerAgent implements ExternalPlayerAgent {
         }
     }
 
-    private AgentDecision fallback(String reason) {
+    private AgentDecision fallback(State s, String reason) {
         AgentDecision decision = new AgentDecision(PlayerToolRequest.look(), reason, AgentMood.CURIOUS, "");
-        lastDecisionForPrompt = decision;
-        lastDecisionToolRaw = PlayerTool.LOOK.name();
-        lastDecisionTargetRaw = "";
+        s.lastDecisionForPrompt = decision;
+        s.lastDecisionToolRaw = PlayerTool.LOOK.name();
+        s.lastDecisionTargetRaw = "";
         return decision;
     }
 
     private org.springframework.ai.chat.model.ChatResponse executePrompt(String userPrompt) {
-        String system = buildFullSystemPrompt();
+        String system = promptBuilder.systemPrompt();
         try {
-            return CompletableFuture.supplyAsync(() -> chatClient.prompt()
-                            .system(system)
-                            .tools(decisionTools)
-                            .options(OpenAiChatOptions.builder()
-                                    .toolChoice("required") // force the model to pick a tool
-                                    .internalToolExecutionEnabled(false) // let the agent consume tool calls manually
-                                    .build())
-                            .user(userPrompt)
-                            .call()
-                            .chatResponse())
-                    .get(30, TimeUnit.SECONDS);
+            return usage.call(gateway, "player", CALL_TIMEOUT, system, userPrompt, () -> chatClient.prompt()
+                    .system(system)
+                    .tools(decisionTools)
+                    .options(OpenAiChatOptions.builder()
+                            .toolChoice("required") // force the model to pick a tool
+                            .internalToolExecutionEnabled(false) // let the agent consume tool calls manually
+                            .build())
+                    .user(userPrompt)
+                    .call()
+                    .chatResponse());
         } catch (TimeoutException te) {
             LOG.warn("LLM PlayerAgent: chat call timed out; using fallback.");
         } catch (Exception ex) {
@@ -354,13 +312,13 @@ public class LlmExternalPlayerAgent implements ExternalPlayerAgent {
                 (error == null || error.isBlank() ? "" : " error=" + error));
     }
 
-    private void updateRecentFeedback(PlayerToolResult lastResult) {
+    private void updateRecentFeedback(State s, PlayerToolResult lastResult) {
         if (lastResult == null || lastResult.getState() == null) {
-            resetFailure();
+            s.resetFailure();
             return;
         }
-        if (lastDecisionForPrompt == null || lastDecisionForPrompt.getRequest() == null) {
-            resetFailure();
+        if (s.lastDecisionForPrompt == null || s.lastDecisionForPrompt.getRequest() == null) {
+            s.resetFailure();
             return;
         }
         String lastToolResult = lastResult.getState().lastToolResult == null ? "" : lastResult.getState().lastToolResult;
@@ -369,55 +327,47 @@ public class LlmExternalPlayerAgent implements ExternalPlayerAgent {
                 || lastText.toLowerCase(Locale.ROOT).contains("haven't found any items here");
         if (!isFailure) {
             String loc = lastResult.getState().locationId == null ? "" : lastResult.getState().locationId;
-            if (!loc.equals(lastFailureLocationId)) {
-                resetFailure();
+            if (!loc.equals(s.lastFailureLocationId)) {
+                s.resetFailure();
             }
             return; // keep any prior loop info until a new failure or reset condition.
         }
         String loc = lastResult.getState().locationId == null ? "" : lastResult.getState().locationId;
-        String tool = lastDecisionToolRaw == null || lastDecisionToolRaw.isBlank()
-                ? lastDecisionForPrompt.getRequest().getTool().name()
-                : lastDecisionToolRaw;
-        String target = targetFor(lastDecisionForPrompt);
+        String tool = s.lastDecisionToolRaw == null || s.lastDecisionToolRaw.isBlank()
+                ? s.lastDecisionForPrompt.getRequest().getTool().name()
+                : s.lastDecisionToolRaw;
+        String target = targetFor(s, s.lastDecisionForPrompt);
         String text = normalizeFeedbackText(lastResult.getText());
-        if (loc.equals(lastFailureLocationId) && tool.equals(lastFailureTool)
-                && target.equals(lastFailureTarget) && text.equals(lastFailureText)) {
-            lastFailureCount += 1;
+        if (loc.equals(s.lastFailureLocationId) && tool.equals(s.lastFailureTool)
+                && target.equals(s.lastFailureTarget) && text.equals(s.lastFailureText)) {
+            s.lastFailureCount += 1;
         } else {
-            lastFailureLocationId = loc;
-            lastFailureTool = tool;
-            lastFailureTarget = target;
-            lastFailureText = text;
-            lastFailureCount = 1;
+            s.lastFailureLocationId = loc;
+            s.lastFailureTool = tool;
+            s.lastFailureTarget = target;
+            s.lastFailureText = text;
+            s.lastFailureCount = 1;
         }
     }
 
-    private void resetFailure() {
-        lastFailureLocationId = "";
-        lastFailureTool = "";
-        lastFailureTarget = "";
-        lastFailureText = "";
-        lastFailureCount = 0;
-    }
-
-    private String recentFeedbackSummary() {
-        if (lastFailureCount >= 2 && !lastFailureText.isBlank() && !lastFailureLocationId.isBlank()
-                && !lastFailureTool.isBlank()) {
-            String target = lastFailureTarget == null ? "" : lastFailureTarget;
+    private String recentFeedbackSummary(State s) {
+        if (s.lastFailureCount >= 2 && !s.lastFailureText.isBlank() && !s.lastFailureLocationId.isBlank()
+                && !s.lastFailureTool.isBlank()) {
+            String target = s.lastFailureTarget == null ? "" : s.lastFailureTarget;
             String targetPhrase = target.isBlank() ? "" : " \"" + target + "\"";
-            return "You have attempted " + lastFailureTool + targetPhrase + " at this location "
-                    + lastFailureCount + " times. Each attempt returned: \"" + lastFailureText + "\".";
+            return "You have attempted " + s.lastFailureTool + targetPhrase + " at this location "
+                    + s.lastFailureCount + " times. Each attempt returned: \"" + s.lastFailureText + "\".";
         }
         return "None";
     }
 
-    private String targetFor(AgentDecision decision) {
+    private String targetFor(State s, AgentDecision decision) {
         if (decision == null || decision.getRequest() == null) return "";
         PlayerToolRequest req = decision.getRequest();
-        if (lastDecisionToolRaw != null && !lastDecisionToolRaw.isBlank()
-                && lastDecisionTargetRaw != null) {
+        if (s.lastDecisionToolRaw != null && !s.lastDecisionToolRaw.isBlank()
+                && s.lastDecisionTargetRaw != null) {
             // Use raw target when available to preserve original item/direction strings.
-            return lastDecisionTargetRaw;
+            return s.lastDecisionTargetRaw;
         }
         return switch (req.getTool()) {
             case MOVE -> req.getDirection() != null ? req.getDirection().name() : "";
@@ -439,7 +389,8 @@ public class LlmExternalPlayerAgent implements ExternalPlayerAgent {
         return normalized;
     }
 
-    private AgentDecision applyLoopGuard(AgentDecision decision,
+    private AgentDecision applyLoopGuard(State s,
+                                         AgentDecision decision,
                                          PlayerToolResult lastResult,
                                          GameSession session,
                                          String currentRawTarget) {
@@ -457,22 +408,22 @@ public class LlmExternalPlayerAgent implements ExternalPlayerAgent {
         }
         if (loc.isBlank()) return decision;
 
-        boolean sameLocation = loc.equals(lastFailureLocationId);
+        boolean sameLocation = loc.equals(s.lastFailureLocationId);
         boolean sameTarget = currentRawTarget != null && !currentRawTarget.isBlank()
-                && currentRawTarget.equalsIgnoreCase(lastFailureTarget);
-        boolean lastWasTake = "TAKE".equalsIgnoreCase(lastFailureTool);
-        boolean failureKnown = lastFailureCount >= 1
-                && lastFailureText != null && !lastFailureText.isBlank()
-                && (lastFailureText.toLowerCase(Locale.ROOT).contains("haven't found any items here")
+                && currentRawTarget.equalsIgnoreCase(s.lastFailureTarget);
+        boolean lastWasTake = "TAKE".equalsIgnoreCase(s.lastFailureTool);
+        boolean failureKnown = s.lastFailureCount >= 1
+                && s.lastFailureText != null && !s.lastFailureText.isBlank()
+                && (s.lastFailureText.toLowerCase(Locale.ROOT).contains("haven't found any items here")
                 || "blocked".equalsIgnoreCase(lastResult.getState().lastToolResult));
 
         if (sameLocation && sameTarget && lastWasTake && failureKnown) {
             String guardMsg = "LoopGuard: suppressed TAKE \"" + currentRawTarget + "\" at location="
-                    + loc + " (visibleItems=None, lastResult=\"" + lastFailureText + "\"); auto-switching to LOOK.";
+                    + loc + " (visibleItems=None, lastResult=\"" + s.lastFailureText + "\"); auto-switching to LOOK.";
             LOG.info(guardMsg);
             // Ensure last-action reporting reflects the executed tool.
-            lastDecisionToolRaw = PlayerTool.LOOK.name();
-            lastDecisionTargetRaw = "";
+            s.lastDecisionToolRaw = PlayerTool.LOOK.name();
+            s.lastDecisionTargetRaw = "";
             AgentMood mood = AgentMood.CONFUSED;
             String reason = "LoopGuard: TAKE blocked here; looking around instead.";
             return new AgentDecision(PlayerToolRequest.look(), reason, mood, "");
@@ -504,12 +455,12 @@ public class LlmExternalPlayerAgent implements ExternalPlayerAgent {
         String system = "You are the player describing how your own memory works. "
                 + "Answer in plain language using the memory summary provided. Do not call tools.";
         try {
-            org.springframework.ai.chat.model.ChatResponse response = chatClient.prompt()
+            org.springframework.ai.chat.model.ChatResponse response = usage.call(gateway, "player", CALL_TIMEOUT, system, userPrompt, () -> chatClient.prompt()
                     .system(system)
                     .user(userPrompt)
                     .options(OpenAiChatOptions.builder().toolChoice("none").build())
                     .call()
-                    .chatResponse();
+                    .chatResponse());
             return extractText(response, summary.render());
         } catch (Exception ex) {
             LOG.warn("LLM PlayerAgent: memory explanation fallback used. err={}", ex.getMessage());
@@ -533,11 +484,42 @@ public class LlmExternalPlayerAgent implements ExternalPlayerAgent {
         return fallback;
     }
 
-    private String formatMemorySection(GameSession session) {
-        MemorySummary summary = MemorySummaryBuilder.build(session);
-        String rendered = summary.render();
-        String indented = "  " + rendered.replace("\n", "\n  ");
-        return indented + "\n";
+    /**
+     * What the agent carries from one decision to the next: the turn count, the last decision for the prompt,
+     * and the repeated-failure tally behind the loop guard.
+     */
+    private static final class State {
+        private AgentDecision lastDecisionForPrompt;
+        private String lastDecisionToolRaw = "";
+        private String lastDecisionTargetRaw = "";
+        private int turnCounter = 1;
+        private String lastFailureLocationId = "";
+        private String lastFailureTool = "";
+        private String lastFailureTarget = "";
+        private String lastFailureText = "";
+        private int lastFailureCount = 0;
+
+        State copy() {
+            State copy = new State();
+            copy.lastDecisionForPrompt = lastDecisionForPrompt;
+            copy.lastDecisionToolRaw = lastDecisionToolRaw;
+            copy.lastDecisionTargetRaw = lastDecisionTargetRaw;
+            copy.turnCounter = turnCounter;
+            copy.lastFailureLocationId = lastFailureLocationId;
+            copy.lastFailureTool = lastFailureTool;
+            copy.lastFailureTarget = lastFailureTarget;
+            copy.lastFailureText = lastFailureText;
+            copy.lastFailureCount = lastFailureCount;
+            return copy;
+        }
+
+        void resetFailure() {
+            lastFailureLocationId = "";
+            lastFailureTool = "";
+            lastFailureTarget = "";
+            lastFailureText = "";
+            lastFailureCount = 0;
+        }
     }
 
     private record ToolMappingResult(ToolDecision decision, String error) { }
@@ -0,0 +1,201 @@
+package com.demo.island.player;
+
+import com.demo.island.game.GameSession;
+import com.demo.island.game.PlayerTool;
+import com.demo.island.game.PlayerToolResult;
+import com.demo.island.game.PlayerToolState;
+import com.demo.island.game.memory.MemorySummary;
+import com.demo.island.game.memory.MemorySummaryBuilder;
+import com.demo.island.game.memory.PlayerMemory;
+import com.demo.island.world.IslandMap;
+import com.demo.island.world.IslandTile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Assembles the player agent's prompts from cached sections.
+ * <p>
+ * The system prompt with its tool list is rendered once per agent. The GAME STATE message is split into
+ * sections ordered from most to least stable (static notes, location, inventory, memory, last action and
+ * feedback, then turn and time) so consecutive prompts share the longest possible prefix for provider-side
+ * prompt caching. Each section keeps its last rendering and is only re-rendered when its inputs change; the
+ * memory summary itself is only rebuilt when a visit is recorded, the player moves, or a remembered plot's
+ * description changes.
+ * Not thread-safe; one builder per agent.
+ */
+final class PlayerPromptBuilder {
+
+    private static final String HEADER = "GAME STATE\n\n";
+    private static final String NOTES = "Notes:\n"
+            + "  - Visible items list below is complete. If it says \"None\", there are no items here.\n"
+            + "  - Inventory list below is complete. Only listed items are currently carried.\n\n";
+
+    private final String systemPrompt;
+    private final Section<LocationKey> location = new Section<>(PlayerPromptBuilder::renderLocation);
+    private final Section<List<String>> inventory = new Section<>(PlayerPromptBuilder::renderInventory);
+    private final Section<MemoryKey> memory = new Section<>(PlayerPromptBuilder::renderMemory);
+    private int sectionHits;
+    private int sectionMisses;
+
+    PlayerPromptBuilder(String systemPrompt, Map<PlayerTool, ToolPrompt> toolPrompts) {
+        this.systemPrompt = renderSystem(systemPrompt, toolPrompts);
+    }
+
+    String systemPrompt() {
+        return systemPrompt;
+    }
+
+    String userPrompt(GameSession session, PlayerToolResult lastResult, int turn,
+                      String lastToolName, String lastToolTarget, String feedback) {
+        PlayerToolState state = lastResult != null ? lastResult.getState() : null;
+        String time = state != null && state.time != null ? state.time : session.getClock().formatRemainingBracketed();
+        String phase = state != null && state.phase != null ? state.phase : session.getClock().getPhase().name();
+        String lastResultText = lastResult != null && lastResult.getText() != null ? lastResult.getText() : "";
+
+        LocationKey locationKey = state == null
+                ? new LocationKey("Unknown", "Unknown location.", List.of(), List.of())
+                : new LocationKey(state.locationId, state.locationSummary,
+                state.visibleExits == null ? List.of() : List.copyOf(state.visibleExits.keySet()),
+                state.visibleItems == null ? List.of() : List.copyOf(state.visibleItems));
+        List<String> carried = state == null || state.inventory == null ? List.of() : List.copyOf(state.inventory);
+        MemoryKey memoryKey = memoryKey(session);
+
+        StringBuilder sb = new StringBuilder(4096);
+        sb.append(HEADER).append(NOTES);
+        sb.append(location.render(locationKey));
+        sb.append(inventory.render(carried));
+        sb.append(memory.render(memoryKey));
+        sb.append("Last action:\n");
+        sb.append("  Tool: ").append(lastToolName).append("\n");
+        sb.append("  Target: ").append(lastToolTarget).append("\n");
+        sb.append("  Result: ").append(lastResultText).append("\n\n");
+        sb.append("Recent feedback at this location:\n");
+        sb.append("  ").append(feedback).append("\n\n");
+        sb.append("Turn: ").append(turn).append("\n");
+        sb.append("Time: ").append(time).append(" (Phase: ").append(phase).append(")\n");
+        return sb.toString();
+    }
+
+    int getSectionHits() {
+        return sectionHits;
+    }
+
+    int getSectionMisses() {
+        return sectionMisses;
+    }
+
+    private static String renderSystem(String systemPrompt, Map<PlayerTool, ToolPrompt> toolPrompts) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(systemPrompt.trim()).append("\n\nTools:\n");
+        for (var entry : toolPrompts.entrySet()) {
+            PlayerTool tool = entry.getKey();
+            ToolPrompt tp = entry.getValue();
+            sb.append("- ").append(tool.name()).append(": ")
+                    .append(tp.intent()).append(" ")
+                    .append(tp.args()).append(" ")
+                    .append(tp.costHint()).append("\n");
+        }
+        sb.append("\nInvoke exactly one of the tools below.\n");
+        return sb.toString();
+    }
+
+    private static String renderLocation(LocationKey key) {
+        String exits = key.exits().isEmpty() ? "None" : String.join(", ", key.exits());
+        String visibleItems = key.items().isEmpty() ? "None" : String.join(", ", key.items());
+        return "Location:\n"
+                + "  Name: " + key.id() + "\n"
+                + "  Description: " + key.summary() + "\n\n"
+                + "Exits:\n"
+                + "  " + exits + "\n\n"
+                + "Visible items:\n"
+                + "  " + visibleItems + "\n\n";
+    }
+
+    private static String renderInventory(List<String> carried) {
+        return "Inventory:\n  " + (carried.isEmpty() ? "None" : String.join("; ", carried)) + "\n\n";
+    }
+
+    private static String renderMemory(MemoryKey key) {
+        MemorySummary summary = MemorySummaryBuilder.build(key.session());
+        return "Memory:\n  " + summary.render().replace("\n", "\n  ") + "\n\n";
+    }
+
+    /**
+     * Everything {@link MemorySummaryBuilder#build(GameSession)} reads: the recorded visits, the current
+     * description of each remembered plot, and where the player stands.
+     */
+    private static MemoryKey memoryKey(GameSession session) {
+        PlayerMemory playerMemory = session == null ? null : session.getPlayerMemory();
+        if (playerMemory == null) {
+            return new MemoryKey(null, List.of(), List.of(), "", session);
+        }
+        List<PlayerMemory.VisitRecord> visits = playerMemory.getRecentVisits();
+        List<String> descriptions = new ArrayList<>(visits.size());
+        IslandMap map = session.getMap();
+        for (PlayerMemory.VisitRecord visit : visits) {
+            IslandTile tile = map == null ? null : map.tile(visit.getPlotId());
+            descriptions.add(tile == null || tile.getContext() == null ? null : tile.getContext().getCurrentDescription());
+        }
+        String plotId = session.getLocation() != null ? session.getLocation().getTileId() : "";
+        return new MemoryKey(playerMemory, visits, descriptions, plotId, session);
+    }
+
+    private record LocationKey(String id, String summary, List<String> exits, List<String> items) {
+    }
+
+    /**
+     * Equality covers the summary's inputs only; the session rides along for rendering. Visit records are
+     * immutable and replaced on every visit, so they compare by identity.
+     */
+    private record MemoryKey(PlayerMemory playerMemory, List<PlayerMemory.VisitRecord> visits,
+                             List<String> descriptions, String plotId, GameSession session) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof MemoryKey other && playerMemory == other.playerMemory
+                    && sameVisits(visits, other.visits) && descriptions.equals(other.descriptions)
+                    && Objects.equals(plotId, other.plotId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(playerMemory), descriptions, plotId);
+        }
+
+        private static boolean sameVisits(List<PlayerMemory.VisitRecord> a, List<PlayerMemory.VisitRecord> b) {
+            if (a.size() != b.size()) {
+                return false;
+            }
+            for (int i = 0; i < a.size(); i++) {
+                if (a.get(i) != b.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final class Section<K> {
+        private final Function<K, String> renderer;
+        private K key;
+        private String rendered;
+
+        Section(Function<K, String> renderer) {
+            this.renderer = renderer;
+        }
+
+        String render(K next) {
+            if (rendered != null && key.equals(next)) {
+                sectionHits++;
+                return rendered;
+            }
+            sectionMisses++;
+            key = next;
+            rendered = renderer.apply(next);
+            return rendered;
+        }
+    }
+}
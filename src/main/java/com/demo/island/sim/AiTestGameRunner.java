@@ -1,5 +1,6 @@
 package com.demo.island.sim;
 
+import com.demo.island.ai.AgentUsage;
 import com.demo.island.game.AgentDecision;
 import com.demo.island.game.ExternalPlayerAgent;
 import com.demo.island.game.GameEndReason;
@@ -9,8 +10,10 @@ import com.demo.island.game.GameStatus;
 import com.demo.island.game.PlayerToolEngine;
 import com.demo.island.game.PlayerToolRequest;
 import com.demo.island.game.PlayerToolResult;
+import com.demo.island.game.StagedToolResult;
 import com.demo.island.config.AiConfig;
 import com.demo.island.config.OpenAiClientConfig;
+import com.demo.island.config.StandInChatModelConfig;
 import com.demo.island.config.DmAgentPromptConfig;
 import com.demo.island.config.GhostAgentPromptConfig;
 import com.demo.island.config.MonkeyAgentPromptConfig;
@@ -18,6 +21,7 @@ import com.demo.island.game.PlayerTool;
 import com.demo.island.player.PlayerAgentPromptConfig;
 import com.demo.island.player.PlayerAgentSpringConfig;
 import com.demo.island.player.LlmExternalPlayerAgent;
+import com.demo.island.game.CachingDmAgent;
 import com.demo.island.game.SpringAiDmAgent;
 import com.demo.island.game.DmAgentConfig;
 import com.demo.island.game.monkey.MonkeyAgent;
@@ -33,6 +37,7 @@ import com.demo.island.game.ToolActionExecutor;
 import com.demo.island.game.ToolOutcome;
 import com.demo.island.game.OutcomeType;
 import com.demo.island.game.TurnContext;
+import com.demo.island.game.TurnJournal;
 import com.demo.island.game.TurnLogFormatter;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -44,9 +49,15 @@ import com.demo.island.world.IslandMap;
 import com.demo.island.world.IslandTile;
 import com.demo.island.world.TileKind;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -54,6 +65,11 @@ import org.apache.logging.log4j.Logger;
  * External AI harness that plays the game and prints a test report.
  * Run via:
  * mvn -q exec:java -Dexec.mainClass=com.demo.island.sim.AiTestGameRunner
+ * Add -Dllm.standin.enabled=true to drive the LLM paths with the offline {@code StandInChatModel}, and
+ * -Drunner.pipelined=true to overlap each DM narration with the next player decision.
+ * LLM usage is reported per agent; -Dllm.budget.maxTokens, -Dllm.budget.maxCalls and -Dllm.budget.maxLatencyMs
+ * cap the episode, after which the player, monkey, DM and ghost fall back to their heuristic behaviour.
+ * -Drunner.journal=path writes the episode's {@link TurnJournal} there; replay it with {@link JournalReplayRunner}.
  */
 public final class AiTestGameRunner {
 
@@ -67,10 +83,11 @@ public final class AiTestGameRunner {
         LOG.info("AiTestGameRunner: starting (Java {})", System.getProperty("java.version"));
         LOG.info("AiTestGameRunner: active profiles: default");
         GhostAgentRegistry.reset();
-        AgentSelection selection = resolveAgent(args);
+        AgentUsage usage = new AgentUsage(AgentUsage.Budget.fromSystemProperties());
+        AgentSelection selection = resolveAgent(args, usage);
         ExternalPlayerAgent agent = selection.agent();
         boolean monkeyLlmEnabled = isFlagEnabled("monkey.agent.llm.enabled", args);
-        MonkeyAgent monkeyAgent = monkeyLlmEnabled ? buildLlmMonkeyAgent() : null;
+        MonkeyAgent monkeyAgent = monkeyLlmEnabled ? buildLlmMonkeyAgent(usage) : null;
         if (monkeyAgent == null) {
             monkeyAgent = new HeuristicMonkeyAgent();
             LOG.info("Monkey Agent: heuristic (LLM disabled or prompt missing).");
@@ -79,7 +96,7 @@ public final class AiTestGameRunner {
         }
         boolean ghostLlmEnabled = isFlagEnabled("ghost.agent.llm.enabled", args);
         if (ghostLlmEnabled) {
-            var ghostAgent = buildLlmGhostAgent();
+            var ghostAgent = buildLlmGhostAgent(usage);
             if (ghostAgent != null) {
                 GhostAgentRegistry.setAgent(ghostAgent);
                 GhostAgentRegistry.setEnabledOverride(true);
@@ -92,19 +109,59 @@ public final class AiTestGameRunner {
             GhostAgentRegistry.setEnabledOverride(false);
         }
         CharacterThing monkey = findMonkey(session);
+        String journalPath = resolveSetting("runner.journal", args);
+        TurnJournal journal = journalPath != null ? TurnJournal.attach(session) : null;
 
         LOG.info(selection.logLine());
 
         LOG.info(GameEngine.buildIntroMessage(session.getClock()));
 
+        boolean pipelined = isFlagEnabled("runner.pipelined", args);
+        ExecutorService narrationExecutor = null;
+        if (pipelined) {
+            narrationExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "dm-narration");
+                thread.setDaemon(true);
+                return thread;
+            });
+            LOG.info("Runner: pipelined (next player decision overlaps DM narration).");
+        }
+
         PlayerToolResult lastResult = null;
         int actions = 0;
         int actionCap = 2000;
+        int speculationsDiscarded = 0;
+        int degradedAtAction = 0;
+        AgentDecision decision = null;
 
         while (session.getStatus() == GameStatus.IN_PROGRESS && actions < actionCap) {
-            AgentDecision decision = agent.decideNext(session, lastResult);
+            if (degradedAtAction == 0 && usage.isOverBudget()) {
+                degradedAtAction = actions + 1;
+                agent = new SmartAiTestAgent();
+                monkeyAgent = new HeuristicMonkeyAgent();
+                PlayerToolEngine.resetDmAgentForTests();
+                GhostAgentRegistry.setEnabledOverride(false);
+                decision = null;
+                LOG.info("Runner: LLM budget {} exceeded; heuristic agents from action {}.", usage.getBudget(), degradedAtAction);
+            }
+            if (decision == null) {
+                decision = agent.decideNext(session, lastResult);
+            }
             PlayerToolRequest request = decision.getRequest();
-            lastResult = new PlayerToolEngine(session).invoke(request);
+            PlayerToolEngine toolEngine = new PlayerToolEngine(session);
+            ExternalPlayerAgent.Proposal speculative = null;
+            String speculatedOn = null;
+            if (pipelined) {
+                StagedToolResult staged = toolEngine.invokeStaged(request, narrationExecutor);
+                if (session.getStatus() == GameStatus.IN_PROGRESS && actions + 1 < actionCap) {
+                    // Decide the next turn from the engine-side result while the DM narration is still running
+                    speculatedOn = playerFingerprint(session);
+                    speculative = agent.proposeNext(session, staged.getProvisional());
+                }
+                lastResult = staged.getNarrated().join();
+            } else {
+                lastResult = toolEngine.invoke(request);
+            }
             actions++;
 
             logToolExecution(session, decision);
@@ -120,15 +177,34 @@ public final class AiTestGameRunner {
             if (monkey != null) {
                 runMonkeyTurn(session, monkeyAgent, monkey, actions);
             }
+
+            decision = null;
+            if (speculative != null) {
+                if (speculatedOn.equals(playerFingerprint(session))) {
+                    decision = speculative.accept();
+                } else {
+                    // The monkey turn changed what the player can see; drop the proposal and decide again from the
+                    // narrated result
+                    speculationsDiscarded++;
+                }
+            }
+        }
+        if (narrationExecutor != null) {
+            narrationExecutor.shutdown();
+            LOG.info("Runner: speculative decisions discarded={}", speculationsDiscarded);
         }
 
         printReport(session, agent, actions, actionCap, lastResult);
+        printUsage(usage, degradedAtAction);
+        if (journal != null) {
+            writeJournal(journal, Path.of(journalPath));
+        }
         if (selection.context() != null) {
             selection.context().close();
         }
     }
 
-    private static AgentSelection resolveAgent(String[] args) {
+    private static AgentSelection resolveAgent(String[] args, AgentUsage usage) {
         boolean llmEnabled = isFlagEnabled("unna.player.llm.enabled", args)
                 || isFlagEnabled("player.ai", args); // convenience alias for enabling AI runs
         boolean dmAgentEnabled = isFlagEnabled("dm.agent.enabled", args);
@@ -145,7 +221,7 @@ public final class AiTestGameRunner {
                 || hasText(System.getenv("SPRING_AI_OPENAI_API_KEY"))
                 || hasText(System.getenv("OPENAI_API_KEY"))
                 || hasText(System.getProperty("spring.ai.openai.api-key"));
-        if (!apiKeyPresent) {
+        if (!apiKeyPresent && !isFlagEnabled("llm.standin.enabled", args)) {
             throw new IllegalStateException("LLM enabled but no OpenAI API key configured. Provide spring.ai.openai.api-key or SPRING_AI_OPENAI_API_KEY.");
         }
 
@@ -155,7 +231,7 @@ public final class AiTestGameRunner {
             System.setProperty("SPRING_AI_OPENAI_ENABLED", "true");
 
             ConfigurableApplicationContext ctx = new SpringApplicationBuilder()
-                    .sources(PlayerAgentPromptConfig.class, PlayerAgentSpringConfig.class, AiConfig.class, OpenAiClientConfig.class, DmAgentPromptConfig.class)
+                    .sources(PlayerAgentPromptConfig.class, PlayerAgentSpringConfig.class, AiConfig.class, OpenAiClientConfig.class, StandInChatModelConfig.class, DmAgentPromptConfig.class)
                     .bannerMode(Banner.Mode.OFF)
                     .web(WebApplicationType.NONE)
                     .properties("spring.ai.openai.enabled=true", "SPRING_AI_OPENAI_ENABLED=true")
@@ -180,7 +256,9 @@ public final class AiTestGameRunner {
                         PlayerToolEngine.resetDmAgentForTests();
                         DmAgentConfig.setEnabledOverride(false);
                     } else {
-                        PlayerToolEngine.setDmAgentForTests(new SpringAiDmAgent(chatClient, dmPrompt));
+                        SpringAiDmAgent dmAgent = new SpringAiDmAgent(chatClient, dmPrompt);
+                        dmAgent.setUsage(usage);
+                        PlayerToolEngine.setDmAgentForTests(CachingDmAgent.fromSystemProperties(dmAgent));
                         LOG.info("DM Agent: DM1 enabled via Spring AI.");
                     }
                 } catch (Exception ex) {
@@ -196,6 +274,7 @@ public final class AiTestGameRunner {
             if (llmAgent == null) {
                 llmAgent = new LlmExternalPlayerAgent(chatClient, systemPrompt, toolPrompts);
             }
+            llmAgent.setUsage(usage);
 
             return new AgentSelection(llmAgent,
                     "ExternalPlayerAgent: LLM (Spring AI tool-calling active)",
@@ -217,8 +296,7 @@ public final class AiTestGameRunner {
                 plotId,
                 plotCtx.plotId,
                 plotCtx.currentDescription,
-                plotCtx.neighborSummaries == null ? Map.of() : plotCtx.neighborSummaries.entrySet().stream()
-                        .collect(java.util.stream.Collectors.toMap(e -> e.getKey().name(), Map.Entry::getValue)),
+                plotCtx.getExits().getSummariesByName(),
                 session.getLocation().getTileId().equals(plotId)
         );
         MonkeyDecision decision = monkeyAgent.decide(state);
@@ -248,6 +326,20 @@ public final class AiTestGameRunner {
                         + " reasonCode=" + outcome.getReasonCode()));
     }
 
+    /**
+     * Player-visible world state a speculative decision depends on: status, location, carried items, raft
+     * progress and the things sharing the player's plot.
+     */
+    static String playerFingerprint(GameSession session) {
+        String plotId = session.getLocation().getTileId();
+        StringBuilder sb = new StringBuilder();
+        sb.append(session.getStatus()).append('|').append(plotId)
+                .append('|').append(session.getInventory())
+                .append('|').append(session.getRaftProgress()).append('|');
+        session.getThingIndex().getThingsInPlot(plotId).forEach(thing -> sb.append(thing.getId()).append(','));
+        return sb.toString();
+    }
+
     private static CharacterThing findMonkey(GameSession session) {
         return session.getThingIndex().getAll().values().stream()
                 .filter(t -> t instanceof CharacterThing ct && ct.getTags().contains("MONKEY_TROOP"))
@@ -256,10 +348,10 @@ public final class AiTestGameRunner {
                 .orElse(null);
     }
 
-    private static MonkeyAgent buildLlmMonkeyAgent() {
+    private static MonkeyAgent buildLlmMonkeyAgent(AgentUsage usage) {
         try {
             ConfigurableApplicationContext ctx = new SpringApplicationBuilder()
-                    .sources(MonkeyAgentPromptConfig.class, OpenAiClientConfig.class)
+                    .sources(MonkeyAgentPromptConfig.class, OpenAiClientConfig.class, StandInChatModelConfig.class)
                     .bannerMode(Banner.Mode.OFF)
                     .web(WebApplicationType.NONE)
                     .properties("spring.ai.openai.enabled=true", "SPRING_AI_OPENAI_ENABLED=true")
@@ -270,16 +362,18 @@ public final class AiTestGameRunner {
                 return null;
             }
             org.springframework.ai.chat.client.ChatClient chatClient = ctx.getBean(org.springframework.ai.chat.client.ChatClient.class);
-            return new SpringAiMonkeyAgent(chatClient, prompt);
+            SpringAiMonkeyAgent monkeyAgent = new SpringAiMonkeyAgent(chatClient, prompt);
+            monkeyAgent.setUsage(usage);
+            return monkeyAgent;
         } catch (Exception ex) {
             return null;
         }
     }
 
-    private static SpringAiGhostAgent buildLlmGhostAgent() {
+    private static SpringAiGhostAgent buildLlmGhostAgent(AgentUsage usage) {
         try {
             ConfigurableApplicationContext ctx = new SpringApplicationBuilder()
-                    .sources(GhostAgentPromptConfig.class, OpenAiClientConfig.class)
+                    .sources(GhostAgentPromptConfig.class, OpenAiClientConfig.class, StandInChatModelConfig.class)
                     .bannerMode(Banner.Mode.OFF)
                     .web(WebApplicationType.NONE)
                     .properties("spring.ai.openai.enabled=true", "SPRING_AI_OPENAI_ENABLED=true")
@@ -290,7 +384,9 @@ public final class AiTestGameRunner {
                 return null;
             }
             org.springframework.ai.chat.client.ChatClient chatClient = ctx.getBean(org.springframework.ai.chat.client.ChatClient.class);
-            return new SpringAiGhostAgent(chatClient, prompt);
+            SpringAiGhostAgent ghostAgent = new SpringAiGhostAgent(chatClient, prompt);
+            ghostAgent.setUsage(usage);
+            return ghostAgent;
         } catch (Exception ex) {
             return null;
         }
@@ -346,6 +442,28 @@ public final class AiTestGameRunner {
         }
     }
 
+    private static void printUsage(AgentUsage usage, int degradedAtAction) {
+        Map<String, AgentUsage.Stats> byAgent = usage.getAgentStats();
+        if (byAgent.isEmpty()) {
+            return;
+        }
+        LOG.info("LLM usage:");
+        for (Entry<String, AgentUsage.Stats> entry : byAgent.entrySet()) {
+            LOG.info("- {}: {}", entry.getKey(), formatUsage(entry.getValue()));
+        }
+        LOG.info("- total: {}", formatUsage(usage.getTotals()));
+        if (degradedAtAction > 0) {
+            LOG.info("- budget {} exceeded; heuristic agents from action {}", usage.getBudget(), degradedAtAction);
+        }
+    }
+
+    private static String formatUsage(AgentUsage.Stats stats) {
+        return String.format(Locale.ROOT,
+                "calls=%d promptChars=%d tokens=%d (prompt=%d completion=%d) latencyMs mean=%.1f max=%.1f fallbacks=%s",
+                stats.calls(), stats.promptChars(), stats.totalTokens(), stats.promptTokens(), stats.completionTokens(),
+                stats.meanLatencyMillis(), stats.maxLatencyMillis(), stats.fallbacks());
+    }
+
     private static void logToolExecution(GameSession session, AgentDecision decision) {
         PlayerToolRequest req = decision.getRequest();
         StringBuilder sb = new StringBuilder();
@@ -414,6 +532,24 @@ public final class AiTestGameRunner {
         return reason.toString();
     }
 
+    private static void writeJournal(TurnJournal journal, Path path) {
+        try (Writer out = Files.newBufferedWriter(path)) {
+            journal.write(out);
+            LOG.info("Runner: journal of {} turns written to {}", journal.size(), path);
+        } catch (IOException ex) {
+            LOG.warn("Runner: could not write journal to {}: {}", path, ex.getMessage());
+        }
+    }
+
+    private static String resolveSetting(String key, String[] args) {
+        String sysProp = System.getProperty(key);
+        if (hasText(sysProp)) {
+            return sysProp;
+        }
+        String argVal = resolveArgValue(args, key);
+        return hasText(argVal) ? argVal : null;
+    }
+
     private static boolean isFlagEnabled(String key, String[] args) {
         String sysProp = System.getProperty(key);
         if (sysProp != null && !sysProp.isBlank()) {
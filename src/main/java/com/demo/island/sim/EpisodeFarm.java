@@ -0,0 +1,86 @@
+package com.demo.island.sim;
+
+import com.demo.island.game.EngineContext;
+import com.demo.island.game.ExternalPlayerAgent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+
+/**
+ * Runs batches of tool episodes in parallel and folds their summaries into {@link EpisodeFarmStats}.
+ * <p>
+ * Episode {@code i} of a batch gets seed {@code baseSeed + i}: its session is bound to
+ * {@link EngineContext#seeded(long)} and its agent comes fresh from the factory, so a batch is reproducible
+ * regardless of parallelism. Summaries are aggregated as they complete and are not retained.
+ * <p>
+ * Args: {@code [episodes] [maxTurns] [parallelism] [baseSeed]}.
+ */
+public final class EpisodeFarm {
+
+    private static final Logger LOG = LogManager.getLogger(EpisodeFarm.class);
+
+    private final int parallelism;
+
+    public EpisodeFarm() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public EpisodeFarm(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be >= 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    public static void main(String[] args) {
+        int episodes = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int maxTurns = args.length > 1 ? Integer.parseInt(args[1]) : 300;
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long baseSeed = args.length > 3 ? Long.parseLong(args[3]) : 1L;
+
+        long start = System.nanoTime();
+        EpisodeFarmStats stats = new EpisodeFarm(parallelism)
+                .run(episodes, baseSeed, seed -> new SmartAiTestAgent(), new ToolEpisodeConfig(maxTurns));
+        long millis = (System.nanoTime() - start) / 1_000_000L;
+
+        LOG.info("=== Episode Farm: {} episodes, maxTurns={}, parallelism={}, {} ms ===", episodes, maxTurns, parallelism, millis);
+        LOG.info("winRate={} avgTurns={}", String.format(Locale.ROOT, "%.3f", stats.getWinRate()),
+                String.format(Locale.ROOT, "%.1f", stats.getAverageTurns()));
+        LOG.info("endReasons={}", stats.getEndReasonCounts());
+        LOG.info("turnsToWin={}", stats.getTurnsToWinHistogram());
+        stats.getAnchorVisitCounts().forEach((anchor, count) -> LOG.info("anchor {} visited in {} episodes ({})",
+                anchor, count, String.format(Locale.ROOT, "%.3f", stats.getAnchorVisitFrequency(anchor))));
+    }
+
+    /**
+     * Runs {@code episodes} episodes and returns the aggregate. The agent factory receives each episode's seed
+     * and must return a new agent per call.
+     */
+    public EpisodeFarmStats run(int episodes, long baseSeed, LongFunction<? extends ExternalPlayerAgent> agentFactory,
+                                ToolEpisodeConfig config) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> LongStream.range(0, episodes)
+                    .parallel()
+                    .mapToObj(i -> runOne(baseSeed + i, agentFactory, config))
+                    .collect(EpisodeFarmStats::new, EpisodeFarmStats::add, EpisodeFarmStats::merge)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Episode farm interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Episode farm failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static EpisodeSummary runOne(long seed, LongFunction<? extends ExternalPlayerAgent> agentFactory,
+                                         ToolEpisodeConfig config) {
+        return new ToolEpisodeRunner().runEpisode(agentFactory.apply(seed), config, EngineContext.seeded(seed));
+    }
+}
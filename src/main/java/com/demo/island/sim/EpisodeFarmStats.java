@@ -0,0 +1,88 @@
+package com.demo.island.sim;
+
+import com.demo.island.game.GameEndReason;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregated outcome of many tool episodes: win rate, turns-to-win histogram, end reasons and anchor visits.
+ * Not thread-safe; each worker fills its own instance and instances are combined with {@link #merge}.
+ */
+public final class EpisodeFarmStats {
+
+    private long episodes;
+    private long wins;
+    private long totalTurns;
+    private final Map<GameEndReason, Long> endReasons = new EnumMap<>(GameEndReason.class);
+    private final Map<Integer, Long> turnsToWin = new TreeMap<>();
+    private final Map<String, Long> anchorVisits = new TreeMap<>();
+
+    public void add(EpisodeSummary summary) {
+        episodes++;
+        totalTurns += summary.turnsUsed;
+        GameEndReason reason = summary.gameEndReason == null ? GameEndReason.NONE : summary.gameEndReason;
+        endReasons.merge(reason, 1L, Long::sum);
+        if (reason == GameEndReason.RAFT_LAUNCHED) {
+            wins++;
+            turnsToWin.merge(summary.turnsUsed, 1L, Long::sum);
+        }
+        if (summary.anchorsVisited != null) {
+            for (String anchorId : summary.anchorsVisited) {
+                anchorVisits.merge(anchorId, 1L, Long::sum);
+            }
+        }
+    }
+
+    public void merge(EpisodeFarmStats other) {
+        episodes += other.episodes;
+        wins += other.wins;
+        totalTurns += other.totalTurns;
+        other.endReasons.forEach((k, v) -> endReasons.merge(k, v, Long::sum));
+        other.turnsToWin.forEach((k, v) -> turnsToWin.merge(k, v, Long::sum));
+        other.anchorVisits.forEach((k, v) -> anchorVisits.merge(k, v, Long::sum));
+    }
+
+    public long getEpisodes() {
+        return episodes;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public double getWinRate() {
+        return episodes == 0 ? 0.0 : (double) wins / episodes;
+    }
+
+    public double getAverageTurns() {
+        return episodes == 0 ? 0.0 : (double) totalTurns / episodes;
+    }
+
+    public Map<GameEndReason, Long> getEndReasonCounts() {
+        return Collections.unmodifiableMap(endReasons);
+    }
+
+    /**
+     * Winning episodes keyed by the number of turns they took, ascending.
+     */
+    public Map<Integer, Long> getTurnsToWinHistogram() {
+        return Collections.unmodifiableMap(turnsToWin);
+    }
+
+    /**
+     * Episodes that visited each anchor at least once, keyed by anchor id.
+     */
+    public Map<String, Long> getAnchorVisitCounts() {
+        return Collections.unmodifiableMap(anchorVisits);
+    }
+
+    /**
+     * Share of episodes that visited the anchor at least once.
+     */
+    public double getAnchorVisitFrequency(String anchorId) {
+        return episodes == 0 ? 0.0 : (double) anchorVisits.getOrDefault(anchorId, 0L) / episodes;
+    }
+}
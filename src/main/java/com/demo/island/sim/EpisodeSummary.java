@@ -1,5 +1,6 @@
 package com.demo.island.sim;
 
+import com.demo.island.ai.AgentUsage;
 import com.demo.island.game.GameEndReason;
 import com.demo.island.game.GameStatus;
 import com.demo.island.game.PlayerTool;
@@ -19,4 +20,8 @@ public final class EpisodeSummary {
     public Map<String, Integer> maxResourcesSeen;
     public List<PlayerTool> toolHistory;
     public List<AgentDecisionLog> decisionLog;
+    /** LLM usage by agent type; empty when the episode ran without a usage ledger. */
+    public Map<String, AgentUsage.Stats> agentUsage = Map.of();
+    /** Turn at which the usage budget ran out and the player was switched to the heuristic agent, or 0. */
+    public int budgetDegradedAtTurn;
 }
@@ -0,0 +1,70 @@
+package com.demo.island.sim;
+
+import com.demo.island.game.TurnJournal;
+import com.demo.island.game.TurnReplayer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Replays recorded journals (see {@code -Drunner.journal} on {@link AiTestGameRunner}) without agents and reports,
+ * per journal, how far the current engine gets before it stops matching the recording.
+ * <p>
+ * Args: {@code <journal file or directory of *.jsonl files> [turns]}; {@code turns} fast-forwards to that turn
+ * and stops. Exits with status 1 when any journal diverged.
+ */
+public final class JournalReplayRunner {
+
+    private static final Logger LOG = LogManager.getLogger(JournalReplayRunner.class);
+
+    private JournalReplayRunner() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            LOG.info("Usage: JournalReplayRunner <journal file or directory> [turns]");
+            return;
+        }
+        int turns = args.length > 1 ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+        int diverged = 0;
+        long totalTurns = 0;
+        long start = System.nanoTime();
+        for (Path path : journals(Path.of(args[0]))) {
+            TurnJournal journal;
+            try (Reader in = Files.newBufferedReader(path)) {
+                journal = TurnJournal.read(in);
+            }
+            TurnReplayer.Result result = TurnReplayer.replay(journal, journal.newSession(), turns);
+            totalTurns += result.turnsReplayed();
+            if (result.matched()) {
+                LOG.info("{}: {} turns replayed, status={}", path.getFileName(), result.turnsReplayed(),
+                        result.session().getStatus());
+            } else {
+                diverged++;
+                LOG.info("{}: diverged at turn {} after {} matching turns: {}", path.getFileName(),
+                        result.divergedAtTurn(), result.turnsReplayed(), result.divergence());
+            }
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000L;
+        LOG.info("=== Replayed {} turns in {} ms; {} journal(s) diverged ===", totalTurns, millis, diverged);
+        if (diverged > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static List<Path> journals(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            return new ArrayList<>(files.filter(p -> p.getFileName().toString().endsWith(".jsonl")).sorted().toList());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.demo.island.sim;
+
+import com.demo.island.game.GameItemType;
+import com.demo.island.game.PlayerToolRequest;
+import com.demo.island.game.PlayerToolResult;
+import com.demo.island.game.host.SessionHost;
+import com.demo.island.world.Direction8;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Load generator: drives N simulated players against a {@link SessionHost}, each submitting its next turn
+ * as soon as the previous one completes, and reports throughput and turn latency.
+ * <p>
+ * Args: {@code [players] [turnsPerPlayer] [workerThreads]}.
+ */
+public final class SessionHostLoadRunner {
+
+    private static final Logger LOG = LogManager.getLogger(SessionHostLoadRunner.class);
+
+    private static final GameItemType[] TAKEABLE = {GameItemType.WOOD_LOG, GameItemType.VINE_ROPE, GameItemType.HATCHET};
+
+    private SessionHostLoadRunner() {
+    }
+
+    public static void main(String[] args) {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int turns = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        try (SessionHost host = new SessionHost(threads)) {
+            LoadReport report = run(host, players, turns, 42L);
+            LOG.info("players={} turnsPerPlayer={} threads={} turns={} failures={} elapsedMs={} turnsPerSec={} p50Ms={} p99Ms={}",
+                    players, turns, threads, report.turns, report.failures, report.elapsedMillis,
+                    String.format(Locale.ROOT, "%.1f", report.turnsPerSecond()),
+                    String.format(Locale.ROOT, "%.3f", report.percentileMillis(50)),
+                    String.format(Locale.ROOT, "%.3f", report.percentileMillis(99)));
+        }
+    }
+
+    /**
+     * Opens {@code players} sessions on the host and plays {@code turnsPerPlayer} random tool requests in each.
+     * Blocks until every simulated player has finished.
+     */
+    public static LoadReport run(SessionHost host, int players, int turnsPerPlayer, long seed) {
+        long start = System.nanoTime();
+        List<CompletableFuture<long[]>> running = new ArrayList<>(players);
+        for (int p = 0; p < players; p++) {
+            String sessionId = host.openSession();
+            SimulatedPlayer player = new SimulatedPlayer(host, sessionId, turnsPerPlayer, new Random(seed + p));
+            running.add(player.play());
+        }
+        LoadReport report = new LoadReport();
+        List<long[]> latencies = new ArrayList<>(players);
+        for (CompletableFuture<long[]> future : running) {
+            long[] playerLatencies = future.join();
+            latencies.add(playerLatencies);
+            for (long nanos : playerLatencies) {
+                if (nanos < 0) {
+                    report.failures++;
+                } else {
+                    report.turns++;
+                }
+            }
+        }
+        report.elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        report.latencyNanos = latencies.stream().flatMapToLong(Arrays::stream).filter(n -> n >= 0).sorted().toArray();
+        return report;
+    }
+
+    private static PlayerToolRequest randomRequest(Random random) {
+        int roll = random.nextInt(10);
+        if (roll < 6) {
+            return PlayerToolRequest.move(Direction8.values()[random.nextInt(Direction8.values().length)]);
+        }
+        return switch (roll) {
+            case 6 -> PlayerToolRequest.look();
+            case 7 -> PlayerToolRequest.search();
+            case 8 -> PlayerToolRequest.take(TAKEABLE[random.nextInt(TAKEABLE.length)]);
+            default -> PlayerToolRequest.status();
+        };
+    }
+
+    /**
+     * Closed-loop player: the next request goes out when the previous result arrives, without holding a thread.
+     */
+    private static final class SimulatedPlayer {
+        private final SessionHost host;
+        private final String sessionId;
+        private final Random random;
+        // Turn latency in nanos, or -1 for a failed turn
+        private final long[] latencies;
+        private final CompletableFuture<long[]> done = new CompletableFuture<>();
+
+        SimulatedPlayer(SessionHost host, String sessionId, int turns, Random random) {
+            this.host = host;
+            this.sessionId = sessionId;
+            this.random = random;
+            this.latencies = new long[turns];
+        }
+
+        CompletableFuture<long[]> play() {
+            next(0);
+            return done;
+        }
+
+        private void next(int turn) {
+            if (turn >= latencies.length) {
+                host.closeSession(sessionId);
+                done.complete(latencies);
+                return;
+            }
+            long sent = System.nanoTime();
+            CompletableFuture<PlayerToolResult> result = host.submit(sessionId, randomRequest(random));
+            result.whenComplete((ok, error) -> {
+                latencies[turn] = error == null ? System.nanoTime() - sent : -1L;
+                next(turn + 1);
+            });
+        }
+    }
+
+    public static final class LoadReport {
+        public long turns;
+        public long failures;
+        public long elapsedMillis;
+        public long[] latencyNanos = new long[0];
+
+        public double turnsPerSecond() {
+            return elapsedMillis == 0 ? turns : turns * 1000.0 / elapsedMillis;
+        }
+
+        public double percentileMillis(int percentile) {
+            if (latencyNanos.length == 0) {
+                return 0.0;
+            }
+            int index = Math.min(latencyNanos.length - 1, (int) Math.ceil(percentile / 100.0 * latencyNanos.length) - 1);
+            return latencyNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
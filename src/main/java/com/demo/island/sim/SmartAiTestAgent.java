@@ -140,6 +140,10 @@ public final class SmartAiTestAgent implements ExternalPlayerAgent {
         if (target == null) {
             return moveAnySafe(map, current).orElse(PlayerToolRequest.look());
         }
+        Direction8 routed = map.getNavigation().nextStep(current, targetId);
+        if (routed != null) {
+            return PlayerToolRequest.move(routed);
+        }
         Position cur = current.getPosition();
         Position tgt = target.getPosition();
         Direction8 desired = chooseStep(cur, tgt);
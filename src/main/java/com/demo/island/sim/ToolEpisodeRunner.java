@@ -1,8 +1,9 @@
 package com.demo.island.sim;
 
+import com.demo.island.ai.AgentUsage;
 import com.demo.island.game.AgentDecision;
+import com.demo.island.game.EngineContext;
 import com.demo.island.game.ExternalPlayerAgent;
-import com.demo.island.game.GameActionResult;
 import com.demo.island.game.GameEndReason;
 import com.demo.island.game.GameSession;
 import com.demo.island.game.GameStatus;
@@ -10,7 +11,6 @@ import com.demo.island.game.PlayerTool;
 import com.demo.island.game.PlayerToolEngine;
 import com.demo.island.game.PlayerToolRequest;
 import com.demo.island.game.PlayerToolResult;
-import com.demo.island.world.IslandMap;
 import com.demo.island.world.IslandTile;
 import com.demo.island.world.TileKind;
 
@@ -27,7 +27,26 @@ import java.util.Set;
 public final class ToolEpisodeRunner {
 
     public EpisodeSummary runEpisode(ExternalPlayerAgent agent, ToolEpisodeConfig config) {
-        GameSession session = GameSession.newSession();
+        return runEpisode(agent, config, EngineContext.defaults());
+    }
+
+    /**
+     * Runs an episode in a session bound to the given engine context, e.g. {@link EngineContext#seeded(long)}
+     * for reproducible dice.
+     */
+    public EpisodeSummary runEpisode(ExternalPlayerAgent agent, ToolEpisodeConfig config, EngineContext engineContext) {
+        return runEpisode(agent, config, engineContext, null);
+    }
+
+    /**
+     * Runs an episode whose LLM agents record into {@code usage}. Once the ledger's budget is exceeded the
+     * remaining turns are played by a {@link SmartAiTestAgent}, and the session's DM and ghost agents are
+     * switched off so no further model calls are made; the summary carries the usage and the turn the switch
+     * happened.
+     */
+    public EpisodeSummary runEpisode(ExternalPlayerAgent agent, ToolEpisodeConfig config, EngineContext engineContext,
+                                     AgentUsage usage) {
+        GameSession session = GameSession.newSession(engineContext);
         PlayerToolEngine toolEngine = new PlayerToolEngine(session);
 
         PlayerToolResult lastResult = new PlayerToolResult(session.getClock().formatRemainingBracketed()
@@ -42,8 +61,14 @@ public final class ToolEpisodeRunner {
         List<AgentDecisionLog> decisionLogs = new ArrayList<>();
         Map<String, Integer> maxResources = new HashMap<>();
         int maxRaftProgress = 0;
+        int degradedAtTurn = 0;
 
         while (session.getStatus() == GameStatus.IN_PROGRESS && turnsUsed < maxTurns) {
+            if (degradedAtTurn == 0 && usage != null && usage.isOverBudget()) {
+                agent = new SmartAiTestAgent();
+                session.setEngineContext(session.getEngineContext().withDmAgentEnabled(false).withGhostEnabled(false));
+                degradedAtTurn = turnsUsed + 1;
+            }
             AgentDecision decision = agent.decideNext(session, lastResult);
             PlayerToolRequest request = decision.getRequest();
             PlayerToolResult result = toolEngine.invoke(request);
@@ -54,7 +79,7 @@ public final class ToolEpisodeRunner {
             decisionLogs.add(AgentDecisionLog.from(turnsUsed, session.getClock().formatRemainingBracketed(), decision));
 
             // track anchors
-            IslandTile current = session.getMap().get(session.getLocation().getTileId()).orElseThrow();
+            IslandTile current = session.getLocationTile();
             if (current.getKind() == TileKind.ANCHOR) {
                 anchorsVisited.add(current.getTileId());
             }
@@ -74,6 +99,8 @@ public final class ToolEpisodeRunner {
         summary.maxResourcesSeen = maxResources;
         summary.toolHistory = toolHistory;
         summary.decisionLog = decisionLogs;
+        summary.agentUsage = usage == null ? Map.of() : usage.getAgentStats();
+        summary.budgetDegradedAtTurn = degradedAtTurn;
         if (summary.gameEndReason == null) {
             summary.gameEndReason = GameEndReason.NONE;
         }
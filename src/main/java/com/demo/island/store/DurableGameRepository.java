@@ -0,0 +1,451 @@
+package com.demo.island.store;
+
+import com.demo.island.core.WorldState;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Repository that keeps every session on the heap and makes each {@link #save} durable before it returns.
+ * <p>
+ * A save takes a {@link WorldState#snapshot() snapshot} of the world and compares it with the one taken at the
+ * session's previous save. Copy-on-write makes that cheap: only entities the live world has fetched since then
+ * are different objects, and only those, the session record and removals go into an append-only write-ahead
+ * log. The previous snapshot is all that is kept per session, and it shares every untouched entity with the live
+ * world. One writer thread drains the saves queued meanwhile and forces them to disk together (group commit), so
+ * concurrent saves share one fsync.
+ * <p>
+ * Every {@code snapshotEveryRecords} records the writer starts a new log segment and a background thread writes
+ * every session's last saved snapshot to a snapshot file, then deletes the segments and snapshots it replaces.
+ * Saves are not held up meanwhile: a save that lands after the new segment started may be in both the snapshot
+ * and the segment, which is harmless because records carry whole entities and replaying one again changes
+ * nothing. On startup the latest snapshot is loaded and the segments after it are replayed; a record torn by a
+ * crash at the end of the log is dropped, which is safe because its save never returned.
+ * <p>
+ * Thread-safe. Sessions are found and listed from memory; {@link #close} stops the writer after it has flushed
+ * every queued save. If the log cannot be written, every pending and later save fails.
+ */
+public final class DurableGameRepository implements GameRepository, AutoCloseable {
+
+    private static final Logger LOG = LogManager.getLogger(DurableGameRepository.class);
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int MAX_BATCH = 1024;
+
+    /**
+     * Counters since the repository was opened.
+     *
+     * @param saves   calls to {@link #save}, including those with nothing to log
+     * @param records log records written
+     * @param commits forced batches; {@code records / commits} is the average group size
+     */
+    public record Metrics(long saves, long records, long commits, long logBytes, long snapshots, int sessions) {
+
+        public double averageBatch() {
+            return commits == 0 ? 0.0 : (double) records / commits;
+        }
+    }
+
+    private final Path directory;
+    private final int snapshotEveryRecords;
+    private final ConcurrentNavigableMap<String, WorldState> sessions = new ConcurrentSkipListMap<>();
+    private final Map<String, Saved> saved = new ConcurrentHashMap<>();
+    // Saves hold the read lock from checking the state to queueing; closing and failing take the write lock
+    private final ReadWriteLock state = new ReentrantReadWriteLock();
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final WriteAheadLog log;
+    private final Thread writer;
+    private final ExecutorService snapshotter;
+    private final AtomicBoolean snapshotting = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile Throwable failure;
+    private int recordsSinceSnapshot;
+    private final LongAdder saves = new LongAdder();
+    private final LongAdder records = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder logBytes = new LongAdder();
+    private final LongAdder snapshots = new LongAdder();
+
+    public DurableGameRepository(Path directory, int snapshotEveryRecords) {
+        if (snapshotEveryRecords < 1) {
+            throw new IllegalArgumentException("snapshotEveryRecords must be at least 1");
+        }
+        this.directory = directory;
+        this.snapshotEveryRecords = snapshotEveryRecords;
+        try {
+            Files.createDirectories(directory);
+            long next = recover() + 1;
+            this.log = new WriteAheadLog(directory, next);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot open session log in " + directory, e);
+        }
+        this.writer = new Thread(this::writeLoop, "island-session-log");
+        this.writer.setDaemon(true);
+        this.snapshotter = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "island-session-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writer.start();
+    }
+
+    @Override
+    public WorldState createNewSession(WorldState initialWorldState) {
+        save(initialWorldState);
+        return initialWorldState;
+    }
+
+    @Override
+    public Optional<WorldState> findBySessionId(String sessionId) {
+        return Optional.ofNullable(sessions.get(sessionId));
+    }
+
+    @Override
+    public List<WorldState> findAllSessions() {
+        return new ArrayList<>(sessions.values());
+    }
+
+    @Override
+    public List<WorldState> findSessions(String afterSessionId, int limit) {
+        Map<String, WorldState> tail = afterSessionId == null ? sessions : sessions.tailMap(afterSessionId, false);
+        List<WorldState> page = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        for (WorldState worldState : tail.values()) {
+            if (page.size() >= limit) {
+                break;
+            }
+            page.add(worldState);
+        }
+        return page;
+    }
+
+    /**
+     * Logs what changed since the session was last saved and returns once it is on disk. Takes a snapshot of
+     * {@code worldState}, so entities fetched from it before the call must be fetched again before changing them.
+     *
+     * @throws IllegalStateException when the repository is closed or the log can no longer be written
+     */
+    @Override
+    public void save(WorldState worldState) {
+        String sessionId = worldState.getSession().getSessionId();
+        saves.increment();
+        Pending pending = null;
+        state.readLock().lock();
+        try {
+            checkOpen();
+            Saved session = saved.computeIfAbsent(sessionId, id -> new Saved());
+            // Diff and queue under the session's lock so its records reach the log in the order they were made
+            synchronized (session) {
+                WorldState snapshot = worldState.snapshot();
+                byte[] body = SessionImage.record(session.last, snapshot);
+                session.last = snapshot;
+                if (body != null) {
+                    pending = new Pending(body);
+                    queue.add(pending);
+                }
+            }
+            sessions.put(sessionId, worldState);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode session " + sessionId, e);
+        } finally {
+            state.readLock().unlock();
+        }
+        if (pending != null) {
+            try {
+                pending.done.join();
+            } catch (CompletionException e) {
+                throw new IllegalStateException("Failed to log session " + sessionId, e.getCause());
+            }
+        }
+    }
+
+    public Metrics getMetrics() {
+        return new Metrics(saves.sum(), records.sum(), commits.sum(), logBytes.sum(), snapshots.sum(),
+                sessions.size());
+    }
+
+    /**
+     * Waits for queued saves to reach the log and for a running snapshot to finish, then closes the log. Later
+     * saves throw.
+     */
+    @Override
+    public void close() {
+        state.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.add(Pending.CLOSE);
+        } finally {
+            state.writeLock().unlock();
+        }
+        try {
+            writer.join();
+            snapshotter.shutdown();
+            snapshotter.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Repository is closed");
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Session log failed", failure);
+        }
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH - 1);
+                boolean closing = commit(batch);
+                batch.clear();
+                if (closing) {
+                    return;
+                }
+                if (recordsSinceSnapshot >= snapshotEveryRecords && snapshotting.compareAndSet(false, true)) {
+                    long segment = log.roll();
+                    recordsSinceSnapshot = 0;
+                    snapshotter.execute(() -> snapshot(segment));
+                }
+            }
+        } catch (Exception e) {
+            fail(e, batch);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        } catch (Error e) {
+            fail(e, batch);
+            throw e;
+        } finally {
+            try {
+                log.close();
+            } catch (IOException e) {
+                LOG.warn("Could not close session log in {}", directory, e);
+            }
+        }
+    }
+
+    /**
+     * Refuses further saves and fails the batch in hand and every save still queued.
+     */
+    private void fail(Throwable cause, List<Pending> batch) {
+        LOG.error("Session log in {} failed; saves will be refused", directory, cause);
+        List<Pending> stranded = new ArrayList<>(batch);
+        state.writeLock().lock();
+        try {
+            failure = cause;
+            queue.drainTo(stranded);
+        } finally {
+            state.writeLock().unlock();
+        }
+        for (Pending pending : stranded) {
+            pending.done.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * Writes and forces the batch, then releases its savers. Returns true when the batch ended with close.
+     */
+    private boolean commit(List<Pending> batch) throws IOException {
+        List<byte[]> bodies = new ArrayList<>(batch.size());
+        boolean closing = false;
+        for (Pending pending : batch) {
+            if (pending == Pending.CLOSE) {
+                closing = true;
+            } else {
+                bodies.add(pending.body);
+            }
+        }
+        if (!bodies.isEmpty()) {
+            logBytes.add(log.append(bodies));
+            records.add(bodies.size());
+            commits.increment();
+            recordsSinceSnapshot += bodies.size();
+        }
+        for (Pending pending : batch) {
+            pending.done.complete(null);
+        }
+        return closing;
+    }
+
+    /**
+     * Writes every session as last saved to the snapshot for {@code segment}, then drops the segments before it
+     * and older snapshots. Every record in those segments was made before the writer rolled to {@code segment},
+     * so the snapshot covers it. A failed snapshot leaves the log as it was.
+     */
+    private void snapshot(long segment) {
+        try {
+            Map<String, WorldState> cut = new HashMap<>();
+            saved.forEach((id, session) -> {
+                WorldState last = session.last;
+                if (last != null) {
+                    cut.put(id, last);
+                }
+            });
+            writeSnapshot(segment, cut);
+            snapshots.increment();
+            for (long old : WriteAheadLog.segments(directory)) {
+                if (old < segment) {
+                    Files.deleteIfExists(WriteAheadLog.file(directory, old));
+                }
+            }
+            for (long old : snapshotNumbers()) {
+                if (old < segment) {
+                    Files.deleteIfExists(snapshotFile(old));
+                }
+            }
+            LOG.debug("Snapshot of {} sessions before segment {}", cut.size(), segment);
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Snapshot before segment {} in {} failed; the log is kept", segment, directory, e);
+        } finally {
+            snapshotting.set(false);
+        }
+    }
+
+    /**
+     * Writes the snapshot under a temporary name and renames it into place. The directory is forced after the
+     * rename so the snapshot is durable before anything it replaces is deleted.
+     */
+    private void writeSnapshot(long segment, Map<String, WorldState> sessions) throws IOException {
+        Path file = snapshotFile(segment);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(sessions.size());
+            for (Map.Entry<String, WorldState> entry : sessions.entrySet()) {
+                WorldStateCodec.writeString(out, entry.getKey());
+                SessionImage.write(out, entry.getValue());
+            }
+        }
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        WriteAheadLog.syncDirectory(directory);
+    }
+
+    /**
+     * Loads the latest snapshot and replays the log after it; returns the highest segment number seen.
+     */
+    private long recover() throws IOException {
+        try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, "*.tmp")) {
+            for (Path file : stale) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Map<String, SessionImage> recovered = new HashMap<>();
+        List<Long> snapshotNumbers = snapshotNumbers();
+        long base = snapshotNumbers.isEmpty() ? 0 : snapshotNumbers.get(snapshotNumbers.size() - 1);
+        if (base > 0) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    Files.newInputStream(snapshotFile(base))))) {
+                int version = in.readInt();
+                if (version != SNAPSHOT_VERSION) {
+                    throw new IOException("Unsupported snapshot version " + version);
+                }
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    recovered.put(WorldStateCodec.readString(in), SessionImage.read(in));
+                }
+            }
+        }
+        List<Long> segments = new ArrayList<>(WriteAheadLog.segments(directory));
+        segments.removeIf(number -> number < base);
+        long highest = base;
+        for (int i = 0; i < segments.size(); i++) {
+            long number = segments.get(i);
+            WriteAheadLog.read(directory, number, i == segments.size() - 1, body -> {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+                String sessionId = WorldStateCodec.readString(in);
+                recovered.computeIfAbsent(sessionId, id -> new SessionImage()).apply(in);
+            });
+            highest = Math.max(highest, number);
+        }
+        for (Map.Entry<String, SessionImage> entry : recovered.entrySet()) {
+            WorldState worldState = entry.getValue().toWorldState();
+            Saved session = new Saved();
+            session.last = worldState.snapshot();
+            saved.put(entry.getKey(), session);
+            sessions.put(entry.getKey(), worldState);
+        }
+        if (!recovered.isEmpty()) {
+            LOG.info("Recovered {} sessions from {} (snapshot {}, {} log segments)", recovered.size(), directory,
+                    base, segments.size());
+        }
+        return highest;
+    }
+
+    private List<Long> snapshotNumbers() throws IOException {
+        List<Long> numbers = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                SNAPSHOT_PREFIX + "*" + SNAPSHOT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                numbers.add(Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(),
+                        name.length() - SNAPSHOT_SUFFIX.length())));
+            }
+        }
+        numbers.sort(null);
+        return numbers;
+    }
+
+    private Path snapshotFile(long segment) {
+        return directory.resolve(String.format("%s%012d%s", SNAPSHOT_PREFIX, segment, SNAPSHOT_SUFFIX));
+    }
+
+    /**
+     * A session's state as of its last save; its monitor orders the session's saves.
+     */
+    private static final class Saved {
+        volatile WorldState last;
+    }
+
+    private static final class Pending {
+        static final Pending CLOSE = new Pending(null);
+
+        final byte[] body;
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Pending(byte[] body) {
+            this.body = body;
+        }
+    }
+}
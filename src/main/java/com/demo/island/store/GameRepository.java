@@ -11,7 +11,16 @@ public interface GameRepository {
 
     Optional<WorldState> findBySessionId(String sessionId);
 
+    /**
+     * Copies every session into one list; prefer {@link #findSessions} when there may be many.
+     */
     List<WorldState> findAllSessions();
 
+    /**
+     * One page of sessions ordered by session id, starting after {@code afterSessionId} (null for the first page).
+     * Pass the last id of a page to get the next one; sessions created meanwhile appear in id order.
+     */
+    List<WorldState> findSessions(String afterSessionId, int limit);
+
     void save(WorldState worldState);
 }
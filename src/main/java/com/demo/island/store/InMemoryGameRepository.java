@@ -5,12 +5,12 @@ import com.demo.island.core.WorldState;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 public final class InMemoryGameRepository implements GameRepository {
 
-    private final ConcurrentMap<String, WorldState> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<String, WorldState> sessions = new ConcurrentSkipListMap<>();
 
     @Override
     public WorldState createNewSession(WorldState initialWorldState) {
@@ -29,6 +29,21 @@ public final class InMemoryGameRepository implements GameRepository {
         return new ArrayList<>(sessions.values());
     }
 
+    @Override
+    public List<WorldState> findSessions(String afterSessionId, int limit) {
+        ConcurrentNavigableMap<String, WorldState> tail = afterSessionId == null
+                ? sessions
+                : sessions.tailMap(afterSessionId, false);
+        List<WorldState> page = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        for (WorldState worldState : tail.values()) {
+            if (page.size() >= limit) {
+                break;
+            }
+            page.add(worldState);
+        }
+        return page;
+    }
+
     @Override
     public void save(WorldState worldState) {
         String sessionId = worldState.getSession().getSessionId();
@@ -0,0 +1,221 @@
+package com.demo.island.store;
+
+import com.demo.island.core.Creature;
+import com.demo.island.core.ItemInstance;
+import com.demo.island.core.ItemType;
+import com.demo.island.core.Player;
+import com.demo.island.core.Tile;
+import com.demo.island.core.WorldState;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Log and snapshot encoding of one session. {@link #record} turns two {@link WorldState#snapshot() snapshots}
+ * of a session into a log record, and {@link #write} writes one whole; an instance is the encoded session that
+ * recovery rebuilds from a snapshot and the records after it. Not thread-safe.
+ */
+final class SessionImage {
+
+    private static final int TABLES = 5;
+    private static final int TILES = 0;
+    private static final int PLAYERS = 1;
+    private static final int CREATURES = 2;
+    private static final int ITEM_TYPES = 3;
+    private static final int ITEMS = 4;
+
+    private interface EntityWriter<E> {
+        void write(DataOutputStream out, E entity) throws IOException;
+    }
+
+    private byte[] session;
+    private final List<Map<String, byte[]>> tables = new ArrayList<>(TABLES);
+
+    SessionImage() {
+        for (int t = 0; t < TABLES; t++) {
+            tables.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Log record body for what changed from {@code previous} to {@code current}, or null when nothing did. Both
+     * are snapshots of one session; {@code previous} is null for its first record.
+     * <p>
+     * An entity counts as changed when the two snapshots hold different objects for it. The live world copies an
+     * entity the first time it is fetched after a snapshot, so only entities fetched since the previous save are
+     * encoded; the rest are the same object in both and are skipped without being read.
+     */
+    static byte[] record(WorldState previous, WorldState current) throws IOException {
+        byte[] header = encode(WorldStateCodec::writeSession, current.getSession());
+        boolean headerChanged = previous == null
+                || !Arrays.equals(header, encode(WorldStateCodec::writeSession, previous.getSession()));
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream(512);
+        DataOutputStream out = new DataOutputStream(record);
+        WorldStateCodec.writeString(out, current.getSession().getSessionId());
+        out.writeBoolean(headerChanged);
+        if (headerChanged) {
+            writeBytes(out, header);
+        }
+        boolean changed = headerChanged;
+        changed |= diff(out, table(previous, TILES), current.getTiles(), WorldStateCodec::writeTile);
+        changed |= diff(out, table(previous, PLAYERS), current.getPlayers(), WorldStateCodec::writePlayer);
+        changed |= diff(out, table(previous, CREATURES), current.getCreatures(), WorldStateCodec::writeCreature);
+        changed |= diff(out, table(previous, ITEM_TYPES), current.getItemTypes(), WorldStateCodec::writeItemType);
+        changed |= diff(out, table(previous, ITEMS), current.getItems(), WorldStateCodec::writeItem);
+        return changed ? record.toByteArray() : null;
+    }
+
+    private static Map<String, ?> table(WorldState worldState, int table) {
+        if (worldState == null) {
+            return Map.of();
+        }
+        return switch (table) {
+            case TILES -> worldState.getTiles();
+            case PLAYERS -> worldState.getPlayers();
+            case CREATURES -> worldState.getCreatures();
+            case ITEM_TYPES -> worldState.getItemTypes();
+            default -> worldState.getItems();
+        };
+    }
+
+    private static <E> boolean diff(DataOutputStream out, Map<String, ?> saved, Map<String, E> current,
+                                    EntityWriter<E> writer) throws IOException {
+        List<Map.Entry<String, E>> changed = new ArrayList<>();
+        int known = 0;
+        for (Map.Entry<String, E> entry : current.entrySet()) {
+            Object previous = saved.get(entry.getKey());
+            if (previous != null) {
+                known++;
+            }
+            if (previous != entry.getValue()) {
+                changed.add(entry);
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        if (known < saved.size()) {
+            for (String id : saved.keySet()) {
+                if (!current.containsKey(id)) {
+                    removed.add(id);
+                }
+            }
+        }
+        out.writeInt(changed.size());
+        for (Map.Entry<String, E> upsert : changed) {
+            WorldStateCodec.writeString(out, upsert.getKey());
+            writeBytes(out, encode(writer, upsert.getValue()));
+        }
+        out.writeInt(removed.size());
+        for (String id : removed) {
+            WorldStateCodec.writeString(out, id);
+        }
+        return !changed.isEmpty() || !removed.isEmpty();
+    }
+
+    /**
+     * Applies a body written by {@link #record}; {@code in} is positioned after the session id.
+     */
+    void apply(DataInputStream in) throws IOException {
+        if (in.readBoolean()) {
+            session = readBytes(in);
+        }
+        for (int t = 0; t < TABLES; t++) {
+            Map<String, byte[]> table = tables.get(t);
+            int upserts = in.readInt();
+            for (int i = 0; i < upserts; i++) {
+                table.put(WorldStateCodec.readString(in), readBytes(in));
+            }
+            int removals = in.readInt();
+            for (int i = 0; i < removals; i++) {
+                table.remove(WorldStateCodec.readString(in));
+            }
+        }
+    }
+
+    /**
+     * Writes the whole of {@code worldState} in the form {@link #read} reads back.
+     */
+    static void write(DataOutputStream out, WorldState worldState) throws IOException {
+        writeBytes(out, encode(WorldStateCodec::writeSession, worldState.getSession()));
+        writeTable(out, worldState.getTiles(), WorldStateCodec::writeTile);
+        writeTable(out, worldState.getPlayers(), WorldStateCodec::writePlayer);
+        writeTable(out, worldState.getCreatures(), WorldStateCodec::writeCreature);
+        writeTable(out, worldState.getItemTypes(), WorldStateCodec::writeItemType);
+        writeTable(out, worldState.getItems(), WorldStateCodec::writeItem);
+    }
+
+    private static <E> void writeTable(DataOutputStream out, Map<String, E> table, EntityWriter<E> writer)
+            throws IOException {
+        out.writeInt(table.size());
+        for (Map.Entry<String, E> entity : table.entrySet()) {
+            WorldStateCodec.writeString(out, entity.getKey());
+            writeBytes(out, encode(writer, entity.getValue()));
+        }
+    }
+
+    static SessionImage read(DataInputStream in) throws IOException {
+        SessionImage image = new SessionImage();
+        image.session = readBytes(in);
+        for (Map<String, byte[]> table : image.tables) {
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                table.put(WorldStateCodec.readString(in), readBytes(in));
+            }
+        }
+        return image;
+    }
+
+    WorldState toWorldState() throws IOException {
+        WorldState worldState = new WorldState(WorldStateCodec.readSession(input(session)));
+        for (byte[] bytes : tables.get(TILES).values()) {
+            Tile tile = WorldStateCodec.readTile(input(bytes));
+            worldState.getTiles().put(tile.getTileId(), tile);
+        }
+        for (byte[] bytes : tables.get(PLAYERS).values()) {
+            Player player = WorldStateCodec.readPlayer(input(bytes));
+            worldState.getPlayers().put(player.getPlayerId(), player);
+        }
+        for (byte[] bytes : tables.get(CREATURES).values()) {
+            Creature creature = WorldStateCodec.readCreature(input(bytes));
+            worldState.getCreatures().put(creature.getCreatureId(), creature);
+        }
+        for (byte[] bytes : tables.get(ITEM_TYPES).values()) {
+            ItemType type = WorldStateCodec.readItemType(input(bytes));
+            worldState.getItemTypes().put(type.getItemTypeId(), type);
+        }
+        for (byte[] bytes : tables.get(ITEMS).values()) {
+            ItemInstance item = WorldStateCodec.readItem(input(bytes));
+            worldState.getItems().put(item.getItemId(), item);
+        }
+        return worldState;
+    }
+
+    private static <E> byte[] encode(EntityWriter<E> writer, E entity) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        writer.write(new DataOutputStream(bytes), entity);
+        return bytes.toByteArray();
+    }
+
+    private static DataInputStream input(byte[] bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
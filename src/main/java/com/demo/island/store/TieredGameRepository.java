@@ -0,0 +1,341 @@
+package com.demo.island.store;
+
+import com.demo.island.core.WorldState;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Repository that keeps recently used sessions on the heap and passivates the rest to local disk.
+ * <p>
+ * At most {@code maxHotSessions} sessions stay in memory; the least recently used one is written out when the
+ * limit is exceeded, and any session untouched for {@code idleTimeout} is written out on the next access.
+ * {@link #findBySessionId} rehydrates a passivated session and makes it hot again. Sessions are passivated as
+ * last saved, so callers {@link #save} after each turn as they do with {@link InMemoryGameRepository}. Session
+ * files already in the directory are picked up as passivated sessions when the repository is created.
+ * <p>
+ * Thread-safe. The repository lock only guards the hot set; disk I/O for a session happens under that session's
+ * own lock, so a slow read or write holds up only callers of the same session.
+ */
+public final class TieredGameRepository implements GameRepository {
+
+    private static final Logger LOG = LogManager.getLogger(TieredGameRepository.class);
+    private static final String SUFFIX = ".session";
+    private static final String TMP_SUFFIX = SUFFIX + ".tmp";
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * Counters since the repository was created.
+     *
+     * @param hits           lookups served from memory
+     * @param misses         lookups that rehydrated a passivated session
+     * @param rehydrateNanos total time spent rehydrating
+     */
+    public record Metrics(long hits, long misses, long passivations, long rehydrateNanos, int hotSessions,
+                          int coldSessions) {
+
+        public double averageRehydrateMillis() {
+            return misses == 0 ? 0.0 : rehydrateNanos / (misses * 1_000_000.0);
+        }
+    }
+
+    private final Path directory;
+    private final int maxHotSessions;
+    private final long idleMillis;
+    private final LongSupplier clockMillis;
+    // Insertion order is recency order: touching a session re-inserts it at the tail. Guarded by this.
+    private final LinkedHashMap<String, Hot> hot = new LinkedHashMap<>();
+    // Evicted from the hot set but not yet on disk; lookups take them back from here.
+    private final Map<String, WorldState> passivating = new ConcurrentHashMap<>();
+    private final Set<String> cold = ConcurrentHashMap.newKeySet();
+    // Every known session id, kept sorted for paging
+    private final NavigableSet<String> ids = new ConcurrentSkipListSet<>();
+    // Per-session locks, striped so the table stays fixed however many sessions come and go; sessions that share
+    // a stripe only serialize with each other, and no code path holds two at once
+    private final Object[] sessionLocks = new Object[LOCK_STRIPES];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder passivations = new LongAdder();
+    private final LongAdder rehydrateNanos = new LongAdder();
+
+    public TieredGameRepository(Path directory, int maxHotSessions, Duration idleTimeout) {
+        this(directory, maxHotSessions, idleTimeout, System::currentTimeMillis);
+    }
+
+    TieredGameRepository(Path directory, int maxHotSessions, Duration idleTimeout, LongSupplier clockMillis) {
+        if (maxHotSessions < 1) {
+            throw new IllegalArgumentException("maxHotSessions must be at least 1");
+        }
+        this.directory = directory;
+        this.maxHotSessions = maxHotSessions;
+        this.idleMillis = idleTimeout == null ? Long.MAX_VALUE : idleTimeout.toMillis();
+        this.clockMillis = clockMillis;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            sessionLocks[i] = new Object();
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create session directory " + directory, e);
+        }
+        loadExisting();
+    }
+
+    @Override
+    public WorldState createNewSession(WorldState initialWorldState) {
+        save(initialWorldState);
+        return initialWorldState;
+    }
+
+    @Override
+    public Optional<WorldState> findBySessionId(String sessionId) {
+        WorldState worldState;
+        List<Map.Entry<String, WorldState>> evicted;
+        synchronized (lockFor(sessionId)) {
+            long now = clockMillis.getAsLong();
+            synchronized (this) {
+                Hot entry = hot.remove(sessionId);
+                worldState = entry != null ? entry.worldState : passivating.remove(sessionId);
+            }
+            if (worldState != null) {
+                hits.increment();
+            } else if (cold.contains(sessionId)) {
+                long start = System.nanoTime();
+                worldState = readCold(sessionId);
+                deleteCold(sessionId);
+                rehydrateNanos.add(System.nanoTime() - start);
+                misses.increment();
+            } else {
+                return Optional.empty();
+            }
+            evicted = touch(sessionId, worldState, now);
+        }
+        passivate(evicted);
+        return Optional.of(worldState);
+    }
+
+    @Override
+    public List<WorldState> findAllSessions() {
+        List<WorldState> all = new ArrayList<>();
+        String after = null;
+        List<WorldState> page;
+        while (!(page = findSessions(after, 256)).isEmpty()) {
+            all.addAll(page);
+            after = page.get(page.size() - 1).getSession().getSessionId();
+        }
+        return all;
+    }
+
+    /**
+     * Passivated sessions in the page are read from disk but stay cold, so listing does not disturb the hot set.
+     */
+    @Override
+    public List<WorldState> findSessions(String afterSessionId, int limit) {
+        NavigableSet<String> tail = afterSessionId == null ? ids : ids.tailSet(afterSessionId, false);
+        List<WorldState> page = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        for (String sessionId : tail) {
+            if (page.size() >= limit) {
+                break;
+            }
+            WorldState worldState = peek(sessionId);
+            if (worldState != null) {
+                page.add(worldState);
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public void save(WorldState worldState) {
+        String sessionId = worldState.getSession().getSessionId();
+        List<Map.Entry<String, WorldState>> evicted;
+        synchronized (lockFor(sessionId)) {
+            long now = clockMillis.getAsLong();
+            synchronized (this) {
+                hot.remove(sessionId);
+                passivating.remove(sessionId);
+            }
+            if (cold.contains(sessionId)) {
+                deleteCold(sessionId);
+            }
+            ids.add(sessionId);
+            evicted = touch(sessionId, worldState, now);
+        }
+        passivate(evicted);
+    }
+
+    /**
+     * Passivates sessions idle longer than the timeout without waiting for the next access.
+     */
+    public void evictIdle() {
+        List<Map.Entry<String, WorldState>> evicted;
+        synchronized (this) {
+            evicted = evict(clockMillis.getAsLong());
+        }
+        passivate(evicted);
+    }
+
+    public Metrics getMetrics() {
+        int hotSessions;
+        synchronized (this) {
+            hotSessions = hot.size();
+        }
+        return new Metrics(hits.sum(), misses.sum(), passivations.sum(), rehydrateNanos.sum(),
+                hotSessions + passivating.size(), cold.size());
+    }
+
+    private void loadExisting() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TMP_SUFFIX)) {
+                    // Left behind by a passivation that did not finish; the session it held was still in memory
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(SUFFIX)) {
+                    String sessionId = URLDecoder.decode(name.substring(0, name.length() - SUFFIX.length()),
+                            StandardCharsets.UTF_8);
+                    cold.add(sessionId);
+                    ids.add(sessionId);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read session directory " + directory, e);
+        }
+        if (!cold.isEmpty()) {
+            LOG.info("Found {} passivated sessions in {}", cold.size(), directory);
+        }
+    }
+
+    private WorldState peek(String sessionId) {
+        synchronized (this) {
+            Hot entry = hot.get(sessionId);
+            if (entry != null) {
+                return entry.worldState;
+            }
+        }
+        WorldState pending = passivating.get(sessionId);
+        if (pending != null) {
+            return pending;
+        }
+        synchronized (lockFor(sessionId)) {
+            // Rechecked under the session lock: a lookup may have rehydrated it, and taken it off disk, meanwhile
+            if (cold.contains(sessionId)) {
+                return readCold(sessionId);
+            }
+        }
+        synchronized (this) {
+            Hot entry = hot.get(sessionId);
+            return entry != null ? entry.worldState : passivating.get(sessionId);
+        }
+    }
+
+    private synchronized List<Map.Entry<String, WorldState>> touch(String sessionId, WorldState worldState,
+                                                                    long now) {
+        hot.put(sessionId, new Hot(worldState, now));
+        return evict(now);
+    }
+
+    /**
+     * Takes sessions out of the hot set; the caller writes them out with {@link #passivate} once it holds no locks.
+     */
+    private List<Map.Entry<String, WorldState>> evict(long now) {
+        List<Map.Entry<String, WorldState>> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Hot>> it = hot.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Hot> eldest = it.next();
+            boolean overLimit = hot.size() > maxHotSessions;
+            boolean idle = now - eldest.getValue().lastAccessMillis > idleMillis;
+            if (!overLimit && !idle) {
+                break;
+            }
+            passivating.put(eldest.getKey(), eldest.getValue().worldState);
+            evicted.add(Map.entry(eldest.getKey(), eldest.getValue().worldState));
+            it.remove();
+        }
+        return evicted;
+    }
+
+    private void passivate(List<Map.Entry<String, WorldState>> evicted) {
+        for (Map.Entry<String, WorldState> entry : evicted) {
+            String sessionId = entry.getKey();
+            synchronized (lockFor(sessionId)) {
+                // Skipped if a lookup or save took the session back before it reached disk
+                if (passivating.get(sessionId) == entry.getValue()) {
+                    writeCold(sessionId, entry.getValue());
+                    passivating.remove(sessionId, entry.getValue());
+                }
+            }
+        }
+    }
+
+    private Object lockFor(String sessionId) {
+        return sessionLocks[Math.floorMod(sessionId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private void writeCold(String sessionId, WorldState worldState) {
+        Path file = file(sessionId);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            WorldStateCodec.write(worldState, out);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to passivate session " + sessionId, e);
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to passivate session " + sessionId, e);
+        }
+        cold.add(sessionId);
+        passivations.increment();
+        LOG.debug("Passivated session {} to {}", sessionId, file);
+    }
+
+    private WorldState readCold(String sessionId) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file(sessionId))))) {
+            return WorldStateCodec.read(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to rehydrate session " + sessionId, e);
+        }
+    }
+
+    private void deleteCold(String sessionId) {
+        try {
+            Files.deleteIfExists(file(sessionId));
+        } catch (IOException e) {
+            LOG.warn("Could not delete passivated session file for {}", sessionId, e);
+        }
+        cold.remove(sessionId);
+    }
+
+    private Path file(String sessionId) {
+        return directory.resolve(URLEncoder.encode(sessionId, StandardCharsets.UTF_8) + SUFFIX);
+    }
+
+    private record Hot(WorldState worldState, long lastAccessMillis) {
+    }
+}
@@ -0,0 +1,320 @@
+package com.demo.island.store;
+
+import com.demo.island.core.ActorEvent;
+import com.demo.island.core.Creature;
+import com.demo.island.core.GameSession;
+import com.demo.island.core.ItemInstance;
+import com.demo.island.core.ItemType;
+import com.demo.island.core.Player;
+import com.demo.island.core.Stats;
+import com.demo.island.core.TextFace;
+import com.demo.island.core.Tile;
+import com.demo.island.core.TileEvent;
+import com.demo.island.core.WorldState;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary form of a {@link WorldState} used to passivate idle sessions. Everything the engine reads is
+ * written, including the bounded event histories; the format is private to one build and carries a version
+ * so stale files are rejected rather than misread. The per-entity writers and readers are also used on their
+ * own by {@link DurableGameRepository}, which logs only the entities a save changed.
+ */
+final class WorldStateCodec {
+
+    private static final int VERSION = 1;
+
+    private WorldStateCodec() {
+    }
+
+    static void write(WorldState worldState, DataOutputStream out) throws IOException {
+        out.writeInt(VERSION);
+        writeSession(out, worldState.getSession());
+        out.writeInt(worldState.getTiles().size());
+        for (Tile tile : worldState.getTiles().values()) {
+            writeTile(out, tile);
+        }
+        out.writeInt(worldState.getPlayers().size());
+        for (Player player : worldState.getPlayers().values()) {
+            writePlayer(out, player);
+        }
+        out.writeInt(worldState.getCreatures().size());
+        for (Creature creature : worldState.getCreatures().values()) {
+            writeCreature(out, creature);
+        }
+        out.writeInt(worldState.getItemTypes().size());
+        for (ItemType type : worldState.getItemTypes().values()) {
+            writeItemType(out, type);
+        }
+        out.writeInt(worldState.getItems().size());
+        for (ItemInstance item : worldState.getItems().values()) {
+            writeItem(out, item);
+        }
+    }
+
+    static WorldState read(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported passivated session version " + version);
+        }
+        WorldState worldState = new WorldState(readSession(in));
+        int tiles = in.readInt();
+        for (int i = 0; i < tiles; i++) {
+            Tile tile = readTile(in);
+            worldState.getTiles().put(tile.getTileId(), tile);
+        }
+        int players = in.readInt();
+        for (int i = 0; i < players; i++) {
+            Player player = readPlayer(in);
+            worldState.getPlayers().put(player.getPlayerId(), player);
+        }
+        int creatures = in.readInt();
+        for (int i = 0; i < creatures; i++) {
+            Creature creature = readCreature(in);
+            worldState.getCreatures().put(creature.getCreatureId(), creature);
+        }
+        int itemTypes = in.readInt();
+        for (int i = 0; i < itemTypes; i++) {
+            ItemType type = readItemType(in);
+            worldState.getItemTypes().put(type.getItemTypeId(), type);
+        }
+        int items = in.readInt();
+        for (int i = 0; i < items; i++) {
+            ItemInstance item = readItem(in);
+            worldState.getItems().put(item.getItemId(), item);
+        }
+        return worldState;
+    }
+
+    static void writeSession(DataOutputStream out, GameSession session) throws IOException {
+        writeString(out, session.getSessionId());
+        out.writeInt(session.getTurnNumber());
+        out.writeInt(session.getMaxTurns());
+        out.writeByte(session.getTimePhase().ordinal());
+        out.writeBoolean(session.isMidnightReached());
+        out.writeBoolean(session.isGhostAwakened());
+    }
+
+    static GameSession readSession(DataInputStream in) throws IOException {
+        String sessionId = readString(in);
+        int turnNumber = in.readInt();
+        GameSession session = new GameSession(sessionId, in.readInt());
+        for (int i = 0; i < turnNumber; i++) {
+            session.advanceTurn();
+        }
+        session.setTimePhase(GameSession.TimePhase.values()[in.readByte()]);
+        session.setMidnightReached(in.readBoolean());
+        session.setGhostAwakened(in.readBoolean());
+        return session;
+    }
+
+    static void writeTile(DataOutputStream out, Tile tile) throws IOException {
+        writeString(out, tile.getTileId());
+        writeString(out, tile.getBiome());
+        writeString(out, tile.getRegion());
+        writeTextFace(out, tile.getTextFace());
+        out.writeBoolean(tile.isDiscovered());
+        out.writeByte(tile.getNeighbors().size());
+        for (Map.Entry<Tile.Direction, String> neighbor : tile.getNeighbors().entrySet()) {
+            out.writeByte(neighbor.getKey().ordinal());
+            writeString(out, neighbor.getValue());
+        }
+        List<TileEvent> events = tile.getRecentEvents();
+        out.writeInt(events.size());
+        for (TileEvent event : events) {
+            writeString(out, event.getTileId());
+            out.writeInt(event.getTurnNumber());
+            writeString(out, event.getActorId());
+            writeString(out, event.getEventType());
+            writeString(out, event.getSummary());
+        }
+    }
+
+    static Tile readTile(DataInputStream in) throws IOException {
+        Tile tile = new Tile(readString(in), readString(in), readString(in), readTextFace(in));
+        tile.setDiscovered(in.readBoolean());
+        int neighbors = in.readByte();
+        for (int n = 0; n < neighbors; n++) {
+            tile.connect(Tile.Direction.values()[in.readByte()], readString(in));
+        }
+        List<TileEvent> events = new ArrayList<>();
+        int eventCount = in.readInt();
+        for (int e = 0; e < eventCount; e++) {
+            events.add(new TileEvent(readString(in), in.readInt(), readString(in), readString(in), readString(in)));
+        }
+        for (int e = events.size() - 1; e >= 0; e--) {
+            tile.recordEvent(events.get(e));
+        }
+        return tile;
+    }
+
+    static void writePlayer(DataOutputStream out, Player player) throws IOException {
+        writeString(out, player.getPlayerId());
+        writeString(out, player.getName());
+        writeString(out, player.getAvatarType());
+        writeString(out, player.getCurrentTileId());
+        writeTextFace(out, player.getTextFace());
+        writeStats(out, player.getStats());
+        writeStrings(out, player.getInventoryItemIds());
+        writeActorEvents(out, player.getRecentEvents());
+    }
+
+    static Player readPlayer(DataInputStream in) throws IOException {
+        Player player = new Player(readString(in), readString(in), readString(in), readString(in), readTextFace(in));
+        readStats(in, player.getStats());
+        player.getInventoryItemIds().addAll(readStrings(in));
+        for (ActorEvent event : readActorEventsOldestFirst(in)) {
+            player.recordEvent(event);
+        }
+        return player;
+    }
+
+    static void writeCreature(DataOutputStream out, Creature creature) throws IOException {
+        writeString(out, creature.getCreatureId());
+        out.writeByte(creature.getKind().ordinal());
+        writeString(out, creature.getCurrentTileId());
+        writeTextFace(out, creature.getTextFace());
+        writeString(out, creature.getTargetTileId());
+        writeStats(out, creature.getStats());
+        writeStrings(out, creature.getCarriedItemIds());
+        writeActorEvents(out, creature.getRecentEvents());
+    }
+
+    static Creature readCreature(DataInputStream in) throws IOException {
+        String creatureId = readString(in);
+        Creature.CreatureKind kind = Creature.CreatureKind.values()[in.readByte()];
+        Creature creature = new Creature(creatureId, kind, readString(in), readTextFace(in));
+        creature.setTargetTileId(readString(in));
+        readStats(in, creature.getStats());
+        creature.getCarriedItemIds().addAll(readStrings(in));
+        for (ActorEvent event : readActorEventsOldestFirst(in)) {
+            creature.recordEvent(event);
+        }
+        return creature;
+    }
+
+    static void writeItemType(DataOutputStream out, ItemType type) throws IOException {
+        writeString(out, type.getItemTypeId());
+        writeTextFace(out, type.getBaseText());
+        writeStrings(out, type.getTags());
+        writeStrings(out, type.getActionHooks());
+    }
+
+    static ItemType readItemType(DataInputStream in) throws IOException {
+        return new ItemType(readString(in), readTextFace(in), readStrings(in), readStrings(in));
+    }
+
+    static void writeItem(DataOutputStream out, ItemInstance item) throws IOException {
+        writeString(out, item.getItemId());
+        writeString(out, item.getItemTypeId());
+        out.writeByte(item.getOwnerKind().ordinal());
+        writeString(out, item.getOwnerId());
+        writeString(out, item.getContainedByItemId());
+        writeTextFace(out, item.getTextFace());
+        writeStats(out, item.getStats());
+    }
+
+    static ItemInstance readItem(DataInputStream in) throws IOException {
+        String itemId = readString(in);
+        String itemTypeId = readString(in);
+        ItemInstance.OwnerKind ownerKind = ItemInstance.OwnerKind.values()[in.readByte()];
+        String ownerId = readString(in);
+        String containedBy = readString(in);
+        ItemInstance item = new ItemInstance(itemId, itemTypeId, ownerKind, ownerId, readTextFace(in));
+        item.setContainedByItemId(containedBy);
+        readStats(in, item.getStats());
+        return item;
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeTextFace(DataOutputStream out, TextFace face) throws IOException {
+        writeString(out, face.getName());
+        writeString(out, face.getShortDescription());
+        writeString(out, face.getDetailDescription());
+        writeString(out, face.getHistory());
+    }
+
+    private static TextFace readTextFace(DataInputStream in) throws IOException {
+        return new TextFace(readString(in), readString(in), readString(in), readString(in));
+    }
+
+    private static void writeStats(DataOutputStream out, Stats stats) throws IOException {
+        Map<String, Integer> values = stats.asUnmodifiableMap();
+        out.writeInt(values.size());
+        for (Map.Entry<String, Integer> entry : values.entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    private static void readStats(DataInputStream in, Stats stats) throws IOException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            stats.set(readString(in), in.readInt());
+        }
+    }
+
+    /**
+     * Histories are read newest first, as the actors return them.
+     */
+    private static void writeActorEvents(DataOutputStream out, List<ActorEvent> events) throws IOException {
+        out.writeInt(events.size());
+        for (ActorEvent event : events) {
+            out.writeInt(event.getTurnNumber());
+            writeString(out, event.getLocationTileId());
+            writeString(out, event.getEventType());
+            writeString(out, event.getOtherActorId());
+            writeString(out, event.getSummary());
+        }
+    }
+
+    private static List<ActorEvent> readActorEventsOldestFirst(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<ActorEvent> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(0, new ActorEvent(in.readInt(), readString(in), readString(in), readString(in), readString(in)));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,180 @@
+package com.demo.island.store;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Segmented append-only log of {@link SessionImage#record session records}. Each record is framed as length, CRC-32 and body;
+ * {@link #append} writes a whole batch and forces it to disk once, which is the group commit. Segments are
+ * numbered files; a new segment is started on every {@link #roll} and on every open, so a torn tail left by a
+ * crash is never appended to. Not thread-safe; one writer thread owns the log.
+ */
+final class WriteAheadLog implements AutoCloseable {
+
+    private static final Logger LOG = LogManager.getLogger(WriteAheadLog.class);
+    private static final String PREFIX = "wal-";
+    private static final String SUFFIX = ".log";
+    private static final int FRAME = Integer.BYTES * 2;
+    private static final int MAX_RECORD = 64 << 20;
+
+    /**
+     * Receives each intact record body in log order.
+     */
+    interface RecordHandler {
+        void accept(byte[] body) throws IOException;
+    }
+
+    private final Path directory;
+    private long segment;
+    private FileChannel channel;
+
+    WriteAheadLog(Path directory, long segment) throws IOException {
+        this.directory = directory;
+        open(segment);
+    }
+
+    long segment() {
+        return segment;
+    }
+
+    /**
+     * Appends the batch and forces it to disk; returns the bytes written.
+     */
+    long append(List<byte[]> bodies) throws IOException {
+        int size = 0;
+        for (byte[] body : bodies) {
+            size += FRAME + body.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        CRC32 crc = new CRC32();
+        for (byte[] body : bodies) {
+            crc.reset();
+            crc.update(body);
+            buffer.putInt(body.length).putInt((int) crc.getValue()).put(body);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        return size;
+    }
+
+    /**
+     * Closes the current segment and starts the next; returns the new segment number.
+     */
+    long roll() throws IOException {
+        channel.close();
+        open(segment + 1);
+        return segment;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void open(long number) throws IOException {
+        segment = number;
+        channel = FileChannel.open(file(directory, number), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        syncDirectory(directory);
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, so files created, renamed or deleted in it survive a crash.
+     */
+    static void syncDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    static Path file(Path directory, long number) {
+        return directory.resolve(String.format("%s%012d%s", PREFIX, number, SUFFIX));
+    }
+
+    /**
+     * Segment numbers present in {@code directory}, oldest first.
+     */
+    static List<Long> segments(Path directory) throws IOException {
+        List<Long> numbers = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                numbers.add(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())));
+            }
+        }
+        numbers.sort(null);
+        return numbers;
+    }
+
+    /**
+     * Feeds every intact record of segment {@code number} to {@code handler}. A short or corrupt record ends the
+     * segment; that is only expected at the tail of the last segment, which is then cut back to its last intact
+     * record. Anywhere else it is an error.
+     */
+    static void read(Path directory, long number, boolean last, RecordHandler handler) throws IOException {
+        Path file = file(directory, number);
+        int records = 0;
+        long intact = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException end) {
+                    return;
+                }
+                byte[] body;
+                int checksum;
+                try {
+                    checksum = in.readInt();
+                    if (length < 0 || length > MAX_RECORD) {
+                        throw new IOException("bad record length " + length);
+                    }
+                    body = new byte[length];
+                    in.readFully(body);
+                } catch (IOException torn) {
+                    tornTail(file, records, intact, last, torn.getMessage());
+                    return;
+                }
+                crc.reset();
+                crc.update(body);
+                if ((int) crc.getValue() != checksum) {
+                    tornTail(file, records, intact, last, "checksum mismatch");
+                    return;
+                }
+                handler.accept(body);
+                records++;
+                intact += FRAME + length;
+            }
+        }
+    }
+
+    private static void tornTail(Path file, int records, long intact, boolean last, String detail)
+            throws IOException {
+        if (!last) {
+            throw new IOException("Corrupt record " + (records + 1) + " in " + file + ": " + detail);
+        }
+        LOG.warn("Dropping torn tail of {} after {} records: {}", file, records, detail);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(intact);
+            channel.force(false);
+        }
+    }
+}
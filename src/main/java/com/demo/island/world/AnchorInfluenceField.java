@@ -0,0 +1,238 @@
+package com.demo.island.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Precomputed anchor influence over an island band, built once per garden run.
+ * <p>
+ * Anchors stamp their Chebyshev-2 neighborhood into a per-plot code (two bits of distance per anchor),
+ * so near plots resolve without scanning or sorting anchors. Far plots (no anchor within two steps)
+ * weigh every anchor equally, so only their nearest anchors matter and are found with one linear scan.
+ * Each distinct influence resolves once into a shared {@link Influence}; lookups are thread-safe and
+ * the result for a plot never depends on which thread asks first.
+ * <p>
+ * Ties are broken explicitly: among equally weighted values the one held by the nearest anchor wins, and
+ * anchors at the same distance are ordered by tile id.
+ */
+final class AnchorInfluenceField {
+
+    /** Two bits per anchor in a long. */
+    static final int MAX_ANCHORS = 32;
+
+    private static final int NEAR_RADIUS = 2;
+    private static final long ABSENT = 0b11L;
+    private static final long NO_NEAR_ANCHORS = -1L;
+
+    /**
+     * Resolved biome/region/elevation plus base description for one influence pattern.
+     */
+    record Influence(String biome, String region, String elevation, String description) {
+    }
+
+    private final List<AnchorTile> anchors;
+    private final int minX;
+    private final int minY;
+    private final int width;
+    private final int height;
+    private final long[] nearCodes;
+    // Anchor indexes sorted by tile id, and each anchor's position in that order
+    private final int[] byId;
+    private final int[] idRank;
+    private final boolean[] biomeTied;
+    private final boolean[] regionTied;
+    private final boolean[] elevationTied;
+    private final Map<Long, Influence> nearCache = new ConcurrentHashMap<>();
+    private final Map<Long, Influence> farCache = new ConcurrentHashMap<>();
+
+    AnchorInfluenceField(List<AnchorTile> anchors, WorldGeometryConfig geometry) {
+        if (anchors.isEmpty() || anchors.size() > MAX_ANCHORS) {
+            throw new IllegalArgumentException("Influence field supports 1.." + MAX_ANCHORS + " anchors; got " + anchors.size());
+        }
+        this.anchors = List.copyOf(anchors);
+        this.minX = geometry.getIslandMinX();
+        this.minY = geometry.getIslandMinY();
+        this.width = geometry.getIslandWidth();
+        this.height = geometry.getIslandHeight();
+        this.nearCodes = new long[width * height];
+        Arrays.fill(nearCodes, NO_NEAR_ANCHORS);
+        stampNearNeighborhoods();
+        this.byId = new int[this.anchors.size()];
+        this.idRank = new int[this.anchors.size()];
+        Integer[] order = new Integer[this.anchors.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> this.anchors.get(i).getTileId()));
+        for (int rank = 0; rank < order.length; rank++) {
+            byId[rank] = order[rank];
+            idRank[order[rank]] = rank;
+        }
+        // Far plots weigh every anchor 1, so the winning values are the most frequent ones overall
+        this.biomeTied = mostFrequent(AnchorTile::getBiome);
+        this.regionTied = mostFrequent(AnchorTile::getRegion);
+        this.elevationTied = mostFrequent(AnchorTile::getElevation);
+    }
+
+    private void stampNearNeighborhoods() {
+        for (int i = 0; i < anchors.size(); i++) {
+            Position p = anchors.get(i).getPosition();
+            for (int y = p.y() - NEAR_RADIUS; y <= p.y() + NEAR_RADIUS; y++) {
+                for (int x = p.x() - NEAR_RADIUS; x <= p.x() + NEAR_RADIUS; x++) {
+                    int cell = cell(x, y);
+                    if (cell < 0) continue;
+                    long dist = Math.max(Math.abs(x - p.x()), Math.abs(y - p.y()));
+                    nearCodes[cell] = (nearCodes[cell] & ~(ABSENT << (2 * i))) | (dist << (2 * i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Per anchor, whether its value ties for most frequent among all anchors.
+     */
+    private boolean[] mostFrequent(Function<AnchorTile, String> attribute) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (AnchorTile anchor : anchors) {
+            counts.merge(attribute.apply(anchor), 1, Integer::sum);
+        }
+        int max = counts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        boolean[] tied = new boolean[anchors.size()];
+        for (int i = 0; i < anchors.size(); i++) {
+            tied[i] = counts.get(attribute.apply(anchors.get(i))) == max;
+        }
+        return tied;
+    }
+
+    private int cell(int x, int y) {
+        int dx = x - minX;
+        int dy = y - minY;
+        if (dx < 0 || dx >= width || dy < 0 || dy >= height) {
+            return -1;
+        }
+        return dx + width * dy;
+    }
+
+    /**
+     * Influence at a plot inside the island band.
+     */
+    Influence at(int x, int y) {
+        int cell = cell(x, y);
+        long code = cell < 0 ? NO_NEAR_ANCHORS : nearCodes[cell];
+        if (code != NO_NEAR_ANCHORS) {
+            return nearCache.computeIfAbsent(code, this::resolveNear);
+        }
+        return farCache.computeIfAbsent(farKey(x, y), this::resolveFar);
+    }
+
+    private Influence resolveNear(long code) {
+        // Anchors within two steps, nearest first, then by tile id
+        List<AnchorTile> weighted = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (int dist = 0; dist <= NEAR_RADIUS; dist++) {
+            for (int i : byId) {
+                if (((code >>> (2 * i)) & ABSENT) == dist) {
+                    weighted.add(anchors.get(i));
+                    weights.add(dist <= 1 ? 3 : 2);
+                }
+            }
+        }
+        String biome = chooseWeighted(weighted, weights, AnchorTile::getBiome);
+        String region = chooseWeighted(weighted, weights, AnchorTile::getRegion);
+        String elevation = chooseWeighted(weighted, weights, AnchorTile::getElevation);
+        String near = weighted.size() == 1
+                ? weighted.get(0).getName()
+                : weighted.get(0).getName() + " and " + weighted.get(1).getName();
+        return new Influence(biome, region, elevation, IslandGardener.baseDescription(biome, region, elevation, near));
+    }
+
+    /**
+     * Far key packs the nearest and second-nearest anchors plus, per attribute, the nearest anchor holding one
+     * of the most frequent values (six bits each).
+     */
+    private long farKey(int x, int y) {
+        int first = -1;
+        int second = -1;
+        long firstOrder = Long.MAX_VALUE;
+        long secondOrder = Long.MAX_VALUE;
+        int biome = -1;
+        int region = -1;
+        int elevation = -1;
+        long biomeOrder = Long.MAX_VALUE;
+        long regionOrder = Long.MAX_VALUE;
+        long elevationOrder = Long.MAX_VALUE;
+        for (int i = 0; i < anchors.size(); i++) {
+            Position p = anchors.get(i).getPosition();
+            int dist = Math.max(Math.abs(x - p.x()), Math.abs(y - p.y()));
+            long order = tieOrder(idRank[i], dist);
+            if (order < firstOrder) {
+                second = first;
+                secondOrder = firstOrder;
+                first = i;
+                firstOrder = order;
+            } else if (order < secondOrder) {
+                second = i;
+                secondOrder = order;
+            }
+            if (biomeTied[i] && order < biomeOrder) {
+                biome = i;
+                biomeOrder = order;
+            }
+            if (regionTied[i] && order < regionOrder) {
+                region = i;
+                regionOrder = order;
+            }
+            if (elevationTied[i] && order < elevationOrder) {
+                elevation = i;
+                elevationOrder = order;
+            }
+        }
+        return (first & 0x3FL)
+                | ((second & 0x3FL) << 6)
+                | ((long) biome << 12)
+                | ((long) region << 18)
+                | ((long) elevation << 24);
+    }
+
+    private static long tieOrder(int idRank, int dist) {
+        return ((long) dist << 32) | idRank;
+    }
+
+    private Influence resolveFar(long key) {
+        AnchorTile first = anchors.get((int) (key & 0x3F));
+        int secondIndex = (int) ((key >>> 6) & 0x3F);
+        String biome = anchors.get((int) ((key >>> 12) & 0x3F)).getBiome();
+        String region = anchors.get((int) ((key >>> 18) & 0x3F)).getRegion();
+        String elevation = anchors.get((int) ((key >>> 24) & 0x3F)).getElevation();
+        String near = anchors.size() == 1
+                ? first.getName()
+                : first.getName() + " and " + anchors.get(secondIndex).getName();
+        return new Influence(biome, region, elevation, IslandGardener.baseDescription(biome, region, elevation, near));
+    }
+
+    /**
+     * Highest summed weight wins; ties go to the value of the earliest candidate (nearest, then by tile id).
+     */
+    private static String chooseWeighted(List<AnchorTile> candidates, List<Integer> weights, Function<AnchorTile, String> fn) {
+        Map<String, Integer> totals = new LinkedHashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            totals.merge(fn.apply(candidates.get(i)), weights.get(i), Integer::sum);
+        }
+        String best = fn.apply(candidates.get(0));
+        int bestWeight = Integer.MIN_VALUE;
+        for (Map.Entry<String, Integer> entry : totals.entrySet()) {
+            if (entry.getValue() > bestWeight) {
+                best = entry.getKey();
+                bestWeight = entry.getValue();
+            }
+        }
+        return best;
+    }
+}
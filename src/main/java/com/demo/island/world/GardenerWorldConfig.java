@@ -21,6 +21,18 @@ public final class GardenerWorldConfig {
         return randomSeed;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GardenerWorldConfig other)) return false;
+        return maxSteps == other.maxSteps && randomSeed == other.randomSeed;
+    }
+
+    @Override
+    public int hashCode() {
+        return java.util.Objects.hash(maxSteps, randomSeed);
+    }
+
     public static GardenerWorldConfig defaultConfig() {
         return new GardenerWorldConfig(500, 42L);
     }
@@ -10,28 +10,28 @@ import java.util.Set;
  */
 public final class GardenerWorldPass {
 
+    private static final Set<TerrainFeature> ABRUPT = EnumSet.of(TerrainFeature.CLIFF_FACE, TerrainFeature.WATERFALL_DROP, TerrainFeature.ROCK_WALL);
+
     private GardenerWorldPass() {
     }
 
     public static GardenerWorldReport run(IslandMap map, GardenerWorldConfig config) {
         GardenerWorldReport report = new GardenerWorldReport();
-        // Full coverage deterministic traversal over walkable plots
-        Set<String> visited = new HashSet<>();
-        Set<String> visitedAnchors = new HashSet<>();
+        // Full coverage deterministic traversal over walkable plots; visited is keyed by dense grid index
+        boolean[] visited = new boolean[map.getWidth() * map.getHeight()];
         java.util.List<GardenerVisit> path = new java.util.ArrayList<>();
-        exploreFromSpawn(map, visited, visitedAnchors, report, path);
+        int visitedCount = exploreFromSpawn(map, visited, report, path);
         // Optionally attempt a secondary relaxation pass if unreachable walkables remain
-        if (visited.size() < countWalkable(map)) {
+        if (visitedCount < countWalkable(map)) {
             relaxBlockingImpossibles(map, visited, report);
-            visited.clear();
-            visitedAnchors.clear();
+            java.util.Arrays.fill(visited, false);
             path.clear();
-            exploreFromSpawn(map, visited, visitedAnchors, report, path);
+            visitedCount = exploreFromSpawn(map, visited, report, path);
         }
 
         report.setCoveragePath(java.util.List.copyOf(path));
         report.setWalkablePlotCount(countWalkable(map));
-        report.setWalkablePlotsVisited(visited.size());
+        report.setWalkablePlotsVisited(visitedCount);
         report.setUnvisitedWalkablePlots(unvisitedWalkable(map, visited));
         report.setHasFullCoverage(report.getWalkablePlotsVisited() == report.getWalkablePlotCount()
                 && report.getUnvisitedWalkablePlots().isEmpty());
@@ -39,60 +39,80 @@ public final class GardenerWorldPass {
         return report;
     }
 
-    private static void exploreFromSpawn(IslandMap map, Set<String> visited, Set<String> visitedAnchors,
-                                         GardenerWorldReport report, java.util.List<GardenerVisit> path) {
-        java.util.ArrayDeque<String> queue = new java.util.ArrayDeque<>();
-        queue.add(AnchorTiles.startTile().getTileId());
+    private static int exploreFromSpawn(IslandMap map, boolean[] visited,
+                                        GardenerWorldReport report, java.util.List<GardenerVisit> path) {
+        // Marking on enqueue keeps the same first-visit order as marking on dequeue, with a bounded queue
+        int[] queue = new int[visited.length];
+        int head = 0;
+        int tail = 0;
+        int start = map.indexOf(AnchorTiles.startTile().getTileId());
+        if (start < 0) {
+            return 0;
+        }
+        visited[start] = true;
+        queue[tail++] = start;
         int index = 0;
-        while (!queue.isEmpty()) {
-            String id = queue.removeFirst();
-            if (!visited.add(id)) continue;
-            IslandTile tile = map.get(id).orElse(null);
+        while (head < tail) {
+            IslandTile tile = map.byIndex(queue[head++]);
             if (tile == null || tile.getSafety() != TileSafety.NORMAL || !tile.isWalkable()) continue;
+            String id = tile.getTileId();
             report.incrementPlotsVisited();
             path.add(new GardenerVisit(index++, id, tile.getPosition()));
-            if (tile.getKind() == TileKind.ANCHOR && visitedAnchors.add(id)) {
+            if (tile.getKind() == TileKind.ANCHOR) {
                 report.incrementAnchorPlotsVisited();
             }
             adjustPathDifficultyIfNeeded(map, tile, report);
             adjustDifficultyOutlierIfNeeded(map, tile, report);
             for (Direction8 dir : Direction8.values()) {
-                IslandTile n = map.get(tile.getPosition().step(dir)).orElse(null);
+                IslandTile n = map.neighbor(tile, dir);
                 if (n == null) continue;
                 if (n.getSafety() != TileSafety.NORMAL || !n.isWalkable()) {
                     relaxSafetyIfNeeded(map, n, report);
                     continue;
                 }
-                if (!visited.contains(n.getTileId())) {
-                    queue.add(n.getTileId());
+                int ni = indexOf(map, n);
+                if (ni >= 0 && !visited[ni]) {
+                    visited[ni] = true;
+                    queue[tail++] = ni;
                 }
             }
         }
+        return tail;
+    }
+
+    private static int indexOf(IslandMap map, IslandTile tile) {
+        return map.indexOf(tile.getPosition().x(), tile.getPosition().y());
     }
 
     private static int countWalkable(IslandMap map) {
-        return (int) map.allTiles().stream()
-                .filter(t -> t.getSafety() == TileSafety.NORMAL && t.isWalkable())
-                .count();
+        int count = 0;
+        for (IslandTile t : map.allTiles()) {
+            if (t.getSafety() == TileSafety.NORMAL && t.isWalkable()) count++;
+        }
+        return count;
     }
 
-    private static java.util.List<String> unvisitedWalkable(IslandMap map, Set<String> visited) {
-        return map.allTiles().stream()
-                .filter(t -> t.getSafety() == TileSafety.NORMAL && t.isWalkable())
-                .filter(t -> !visited.contains(t.getTileId()))
-                .map(IslandTile::getTileId)
-                .toList();
+    private static java.util.List<String> unvisitedWalkable(IslandMap map, boolean[] visited) {
+        java.util.List<String> unvisited = new java.util.ArrayList<>();
+        for (IslandTile t : map.allTiles()) {
+            if (t.getSafety() != TileSafety.NORMAL || !t.isWalkable()) continue;
+            int i = indexOf(map, t);
+            if (i < 0 || !visited[i]) {
+                unvisited.add(t.getTileId());
+            }
+        }
+        return java.util.List.copyOf(unvisited);
     }
 
-    private static void relaxBlockingImpossibles(IslandMap map, Set<String> visited, GardenerWorldReport report) {
+    private static void relaxBlockingImpossibles(IslandMap map, boolean[] visited, GardenerWorldReport report) {
         // Relax a limited number of IMPOSSIBLE tiles adjacent to visited walkable tiles
         int relaxed = 0;
         for (IslandTile tile : map.allTiles()) {
             if (tile.getSafety() != TileSafety.IMPOSSIBLE || tile.getKind() != TileKind.GARDENED) continue;
             boolean touchesVisited = false;
             for (Direction8 dir : Direction8.values()) {
-                IslandTile neighbor = map.get(tile.getPosition().step(dir)).orElse(null);
-                if (neighbor != null && neighbor.getSafety() == TileSafety.NORMAL && visited.contains(neighbor.getTileId())) {
+                IslandTile neighbor = map.neighbor(tile, dir);
+                if (neighbor != null && neighbor.getSafety() == TileSafety.NORMAL && isVisited(map, visited, neighbor)) {
                     touchesVisited = true;
                     break;
                 }
@@ -107,11 +127,16 @@ public final class GardenerWorldPass {
         }
     }
 
+    private static boolean isVisited(IslandMap map, boolean[] visited, IslandTile tile) {
+        int i = indexOf(map, tile);
+        return i >= 0 && visited[i];
+    }
+
     private static MoveOutcome evaluateMove(IslandMap map, Position targetPos, IslandTile targetTile) {
         if (targetTile == null) {
             return MoveOutcome.MOVE_BLOCKED_NO_TILE;
         }
-        WorldGeometry.Classification cls = WorldGeometry.classify(targetPos);
+        WorldGeometry.Classification cls = map.getGeometry().classify(targetPos);
         if (cls == WorldGeometry.Classification.OFF_WORLD || cls == WorldGeometry.Classification.BOUNDARY) {
             return MoveOutcome.MOVE_BLOCKED_OFF_WORLD_OR_BOUNDARY;
         }
@@ -158,7 +183,7 @@ public final class GardenerWorldPass {
     private static void adjustDifficultyOutlierIfNeeded(IslandMap map, IslandTile tile, GardenerWorldReport report) {
         if (tile.getKind() != TileKind.GARDENED) return;
         if (tile.getSafety() != TileSafety.NORMAL) return;
-        if (tile.getFeatures().stream().anyMatch(f -> EnumSet.of(TerrainFeature.CLIFF_FACE, TerrainFeature.WATERFALL_DROP, TerrainFeature.ROCK_WALL).contains(f))) {
+        if (tile.getFeatures().stream().anyMatch(ABRUPT::contains)) {
             return;
         }
         int currentIdx = idx(tile.getDifficulty());
@@ -166,10 +191,10 @@ public final class GardenerWorldPass {
         int maxAllowed = currentIdx;
         boolean hasNeighbor = false;
         for (Direction8 dir : Direction8.values()) {
-            IslandTile neighbor = map.get(tile.getPosition().step(dir)).orElse(null);
+            IslandTile neighbor = map.neighbor(tile, dir);
             if (neighbor == null) continue;
             if (neighbor.getSafety() != TileSafety.NORMAL) continue;
-            if (neighbor.getFeatures().stream().anyMatch(f -> EnumSet.of(TerrainFeature.CLIFF_FACE, TerrainFeature.WATERFALL_DROP, TerrainFeature.ROCK_WALL).contains(f))) {
+            if (neighbor.getFeatures().stream().anyMatch(ABRUPT::contains)) {
                 continue;
             }
             hasNeighbor = true;
@@ -0,0 +1,90 @@
+package com.demo.island.world;
+
+import java.util.Arrays;
+
+/**
+ * Small insertion-ordered set of int handles backed by a plain array.
+ * Sized for per-plot occupancy, where a handful of entries makes a linear scan cheaper than hashing.
+ */
+public final class IntIdSet {
+
+    private int[] ids;
+    private int size;
+
+    public IntIdSet() {
+        this.ids = new int[4];
+    }
+
+    private IntIdSet(int[] ids, int size) {
+        this.ids = ids;
+        this.size = size;
+    }
+
+    public boolean add(int id) {
+        if (contains(id)) {
+            return false;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+        return true;
+    }
+
+    public boolean remove(int id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean contains(int id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Id at a position in insertion order.
+     */
+    public int get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of " + size);
+        }
+        return ids[position];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void addAll(IntIdSet other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.ids[i]);
+        }
+    }
+
+    public IntIdSet copy() {
+        return new IntIdSet(Arrays.copyOf(ids, Math.max(size, 1)), size);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -94,6 +94,15 @@ public final class IslandCreationReport {
         public List<String> warnings;
     }
 
+    public static final class BuildSummary {
+        public int plotCount;
+        public long gardenMillis;
+        public long totalMillis;
+        public long heapUsedBytesBefore;
+        public long heapUsedBytesAfter;
+        public long estimatedBytesPerPlot;
+    }
+
     public static final class Verdict {
         public boolean readyForCosmos;
         public List<String> blockingIssues;
@@ -113,6 +122,7 @@ public final class IslandCreationReport {
     public FeatureSummary features;
     public FloraSummary flora;
     public GardenerSummary gardener;
+    public BuildSummary build;
     public Verdict verdict;
 
     public static IslandCreationReport empty() {
@@ -125,6 +135,7 @@ public final class IslandCreationReport {
         r.features = new FeatureSummary();
         r.flora = new FloraSummary();
         r.gardener = new GardenerSummary();
+        r.build = new BuildSummary();
         r.verdict = new Verdict();
         r.anchors = List.of();
         r.exitCandidatePlotIds = List.of();
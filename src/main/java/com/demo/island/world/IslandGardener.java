@@ -1,22 +1,40 @@
 package com.demo.island.world;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
 import java.util.Locale;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Fills the island band with tiles, reusing anchors and generating gardened tiles.
  */
 public final class IslandGardener {
 
+    private static final java.util.Set<TerrainFeature> ABRUPT = java.util.EnumSet.of(
+            TerrainFeature.CLIFF_FACE, TerrainFeature.WATERFALL_DROP, TerrainFeature.ROCK_WALL);
+    /** Below this many band plots, forking costs more than it saves. */
+    private static final int PARALLEL_THRESHOLD_PLOTS = 4096;
+    /** Target plots per leaf task when splitting rows. */
+    private static final int ROWS_PER_TASK_PLOTS = 16_384;
+    /** Shoreline columns at the band's right edge that are DEAD; mirrored about x = 0 on the left. */
+    private static final int SHORE_CORNER_DEPTH = 3;
+
     private IslandGardener() {
     }
 
     public static IslandMap garden() {
-        IslandMap map = new IslandMap();
+        return garden(WorldGeometryConfig.defaultConfig());
+    }
+
+    public static IslandMap garden(WorldGeometryConfig geometry) {
+        return garden(geometry, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Gardens the island band, splitting rows across the given pool on large islands.
+     * Gardening has no random input, so the map is identical whatever the pool's parallelism.
+     */
+    public static IslandMap garden(WorldGeometryConfig geometry, ForkJoinPool pool) {
+        IslandMap map = new IslandMap(geometry);
 
         // Place anchors
         for (AnchorTile anchor : AnchorTiles.all()) {
@@ -40,14 +58,18 @@ public final class IslandGardener {
             map.put(tile);
         }
 
-        // Fill the island band
-        for (int x = WorldGeometry.ISLAND_MIN_X; x <= WorldGeometry.ISLAND_MAX_X; x++) {
-            for (int y = WorldGeometry.ISLAND_MIN_Y; y <= WorldGeometry.ISLAND_MAX_Y; y++) {
-                Position pos = new Position(x, y);
-                if (map.get(pos).isPresent()) {
-                    continue; // anchor already placed
-                }
-                map.put(gardenTile(pos));
+        // Fill the island band: rows garden independently into a band-sized array, then land in the map in order
+        AnchorInfluenceField field = new AnchorInfluenceField(AnchorTiles.all(), geometry);
+        IslandTile[] band = new IslandTile[geometry.getIslandWidth() * geometry.getIslandHeight()];
+        RowTask task = new RowTask(map, field, band, geometry.getIslandMinY(), geometry.getIslandMaxY() + 1);
+        if (band.length < PARALLEL_THRESHOLD_PLOTS || pool.getParallelism() < 2) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+        for (IslandTile tile : band) {
+            if (tile != null) {
+                map.put(tile);
             }
         }
 
@@ -58,23 +80,51 @@ public final class IslandGardener {
         return map;
     }
 
-    private static IslandTile gardenTile(Position pos) {
-        List<AnchorTile> influences = AnchorTiles.all().stream()
-                .sorted(Comparator.comparingInt(t -> chebyshev(pos, t.getPosition())))
-                .collect(Collectors.toList());
+    /**
+     * Gardens rows [fromY, toY) of the band, reading only anchors already in the map.
+     */
+    private static final class RowTask extends RecursiveAction {
+        private final IslandMap map;
+        private final AnchorInfluenceField field;
+        private final IslandTile[] band;
+        private final int fromY;
+        private final int toY;
 
-        List<AnchorTile> withinTwo = influences.stream()
-                .filter(t -> chebyshev(pos, t.getPosition()) <= 2)
-                .toList();
-
-        List<AnchorTile> weighted = withinTwo.isEmpty() ? influences : withinTwo;
+        RowTask(IslandMap map, AnchorInfluenceField field, IslandTile[] band, int fromY, int toY) {
+            this.map = map;
+            this.field = field;
+            this.band = band;
+            this.fromY = fromY;
+            this.toY = toY;
+        }
 
-        String biome = chooseWeighted(weighted, AnchorTile::getBiome, pos);
-        String region = chooseWeighted(weighted, AnchorTile::getRegion, pos);
-        String elevation = chooseWeighted(weighted, AnchorTile::getElevation, pos);
+        @Override
+        protected void compute() {
+            WorldGeometryConfig geometry = map.getGeometry();
+            int width = geometry.getIslandWidth();
+            if ((long) (toY - fromY) * width > ROWS_PER_TASK_PLOTS && toY - fromY > 1) {
+                int mid = (fromY + toY) >>> 1;
+                invokeAll(new RowTask(map, field, band, fromY, mid), new RowTask(map, field, band, mid, toY));
+                return;
+            }
+            for (int y = fromY; y < toY; y++) {
+                int rowStart = (y - geometry.getIslandMinY()) * width;
+                for (int x = geometry.getIslandMinX(); x <= geometry.getIslandMaxX(); x++) {
+                    if (map.tileAt(x, y) != null) {
+                        continue; // anchor already placed
+                    }
+                    band[rowStart + x - geometry.getIslandMinX()] = gardenTile(new Position(x, y), geometry, field.at(x, y));
+                }
+            }
+        }
+    }
 
-        String desc = baseDescription(pos, biome, region, elevation, weighted);
-        TileContext ctx = new TileContext(desc);
+    private static IslandTile gardenTile(Position pos, WorldGeometryConfig geometry, AnchorInfluenceField.Influence influence) {
+        String biome = influence.biome();
+        String region = influence.region();
+        String elevation = influence.elevation();
+        TileContext ctx = new TileContext(influence.description());
+        TileSafety safety = safetyFor(pos, geometry);
 
         return new IslandTile(
                 gardenId(pos),
@@ -84,8 +134,8 @@ public final class IslandGardener {
                 region,
                 elevation,
                 defaultDifficulty(biome),
-                safetyFor(pos),
-                safetyFor(pos) != TileSafety.IMPOSSIBLE,
+                safety,
+                safety != TileSafety.IMPOSSIBLE,
                 java.util.Set.of(),
                 floraPrimary(biome, region, elevation, pos),
                 floraSecondary(biome, region, elevation, pos),
@@ -98,37 +148,10 @@ public final class IslandGardener {
         return "G_" + pos.x() + "_" + pos.y();
     }
 
-    private static int chebyshev(Position a, Position b) {
-        return Math.max(Math.abs(a.x() - b.x()), Math.abs(a.y() - b.y()));
-    }
-
-    private static String chooseWeighted(List<AnchorTile> candidates, java.util.function.Function<AnchorTile, String> fn, Position targetPos) {
-        Map<String, Integer> counts = candidates.stream().collect(Collectors.toMap(
-                fn,
-                t -> weightForDistance(t.getPosition(), targetPos),
-                Integer::sum
-        ));
-        return counts.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(fn.apply(candidates.get(0)));
-    }
-
-    private static int weightForDistance(Position source, Position target) {
-        int dist = chebyshev(source, target);
-        if (dist <= 1) return 3;
-        if (dist == 2) return 2;
-        return 1;
-    }
-
-    private static String baseDescription(Position pos, String biome, String region, String elevation, List<AnchorTile> neighbors) {
-        String near = neighbors.stream()
-                .limit(2)
-                .map(AnchorTile::getName)
-                .collect(Collectors.joining(" and "));
-        return String.format(Locale.ROOT,
-                "A %s patch in the %s (%s elevation), roughly between %s.",
-                biome.replace('_', ' '), region.replace('_', ' '), elevation, near.isEmpty() ? "other landmarks" : near);
+    static String baseDescription(String biome, String region, String elevation, String near) {
+        // Plain concatenation: Formatter parsing dominated gardening time on large worlds
+        return "A " + biome.replace('_', ' ') + " patch in the " + region.replace('_', ' ')
+                + " (" + elevation + " elevation), roughly between " + (near.isEmpty() ? "other landmarks" : near) + ".";
     }
 
     private static TerrainDifficulty defaultDifficulty(String biome) {
@@ -148,12 +171,12 @@ public final class IslandGardener {
         return TerrainDifficulty.NORMAL;
     }
 
-    private static TileSafety safetyFor(Position pos) {
+    private static TileSafety safetyFor(Position pos, WorldGeometryConfig geometry) {
         // Mark outermost corners of the shoreline as DEAD; top rim edges as IMPOSSIBLE.
-        if (pos.y() == WorldGeometry.ISLAND_MIN_Y && Math.abs(pos.x()) >= 3) {
+        if (pos.y() == geometry.getIslandMinY() && Math.abs(pos.x()) > geometry.getIslandMaxX() - SHORE_CORNER_DEPTH) {
             return TileSafety.DEAD;
         }
-        if (pos.y() > 4) {
+        if (pos.y() >= geometry.getRimStartY()) {
             return TileSafety.IMPOSSIBLE;
         }
         return TileSafety.NORMAL;
@@ -212,49 +235,52 @@ public final class IslandGardener {
                 density,
                 tile.getContext()
         );
-        copy.getThingsPresent().addAll(tile.getThingsPresent());
-        copy.getThingsAnchoredHere().addAll(tile.getThingsAnchoredHere());
+        copy.copyOccupancyFrom(tile);
         return copy;
     }
 
     private static void smoothDifficulty(IslandMap map) {
-        java.util.Map<Position, IslandTile> updated = new java.util.HashMap<>();
-        java.util.Set<TerrainFeature> abrupt = java.util.EnumSet.of(TerrainFeature.CLIFF_FACE, TerrainFeature.WATERFALL_DROP, TerrainFeature.ROCK_WALL);
+        // Decide every clamp against the pre-smoothing map, then apply only the plots that changed
+        java.util.List<IslandTile> updated = new java.util.ArrayList<>();
         for (IslandTile tile : map.allTiles()) {
-            if (tile.getSafety() != TileSafety.NORMAL) {
-                updated.put(tile.getPosition(), tile);
+            if (tile.getSafety() != TileSafety.NORMAL || hasAbruptFeature(tile)) {
                 continue;
             }
-            if (tile.getFeatures().stream().anyMatch(abrupt::contains)) {
-                updated.put(tile.getPosition(), tile);
-                continue;
-            }
-            java.util.List<IslandTile> neighbors = new java.util.ArrayList<>();
+            int current = idx(tile.getDifficulty());
+            int minAllowed = Integer.MIN_VALUE;
+            int maxAllowed = Integer.MAX_VALUE;
+            boolean hasNeighbor = false;
             for (Direction8 dir : Direction8.values()) {
-                map.get(tile.getPosition().step(dir)).ifPresent(neighbor -> {
-                    if (neighbor.getSafety() == TileSafety.NORMAL
-                            && neighbor.getFeatures().stream().noneMatch(abrupt::contains)) {
-                        neighbors.add(neighbor);
-                    }
-                });
+                IslandTile neighbor = map.neighbor(tile, dir);
+                if (neighbor == null || neighbor.getSafety() != TileSafety.NORMAL || hasAbruptFeature(neighbor)) {
+                    continue;
+                }
+                hasNeighbor = true;
+                int n = idx(neighbor.getDifficulty());
+                minAllowed = Math.max(minAllowed, n - 1);
+                maxAllowed = Math.min(maxAllowed, n + 1);
             }
-            if (neighbors.isEmpty()) {
-                updated.put(tile.getPosition(), tile);
+            if (!hasNeighbor || minAllowed > maxAllowed) {
                 continue;
             }
-            int current = idx(tile.getDifficulty());
-            int minAllowed = neighbors.stream().mapToInt(n -> idx(n.getDifficulty()) - 1).max().orElse(current);
-            int maxAllowed = neighbors.stream().mapToInt(n -> idx(n.getDifficulty()) + 1).min().orElse(current);
-            if (minAllowed > maxAllowed) {
-                updated.put(tile.getPosition(), tile);
+            int clamped = Math.max(minAllowed, Math.min(maxAllowed, current));
+            if (clamped == current) {
                 continue;
             }
-            int clamped = Math.max(minAllowed, Math.min(maxAllowed, current));
             TerrainDifficulty newDiff = TerrainDifficulty.values()[clamped];
-            updated.put(tile.getPosition(), copyWith(tile, newDiff, tile.getFeatures(), tile.getSafety(), tile.isWalkable(),
+            updated.add(copyWith(tile, newDiff, tile.getFeatures(), tile.getSafety(), tile.isWalkable(),
                     tile.getPrimaryPlantFamily(), tile.getSecondaryPlantFamilies(), tile.getPlantDensity()));
         }
-        updated.values().forEach(map::put);
+        updated.forEach(map::put);
+    }
+
+    private static boolean hasAbruptFeature(IslandTile tile) {
+        for (TerrainFeature feature : tile.getFeatures()) {
+            if (ABRUPT.contains(feature)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private static int idx(TerrainDifficulty d) {
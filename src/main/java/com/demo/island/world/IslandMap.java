@@ -1,36 +1,405 @@
 package com.demo.island.world;
 
+import java.util.AbstractCollection;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 /**
- * Holds island tiles keyed by position and id.
+ * Holds island tiles keyed by position and id, together with the geometry they were gardened for.
+ * <p>
+ * Tiles inside the world envelope live in a flat row-major array indexed by
+ * {@code (x - minX) + width * (y - minY)}; that cell index doubles as the tile's int id.
+ * Positions outside the envelope fall back to a sparse map.
+ * <p>
+ * A map may be backed by a {@link TileSource} that supplies tiles on first lookup: {@link #overlay()} shares
+ * a template's tiles that way and copies each one into the overlay, so per-session state (occupancy, memory
+ * notes, context history) never leaks between maps; {@link WorldFile} decodes tiles from a mapped file.
+ * <p>
+ * {@link #getNavigation()} routes over the grid; overlays inherit the template's navigation fields.
  */
 public final class IslandMap {
 
-    private final Map<Position, IslandTile> byPosition = new HashMap<>();
-    private final Map<String, IslandTile> byId = new HashMap<>();
+    /**
+     * Lazily supplies grid tiles; every {@link #load} returns a tile the map may own and mutate.
+     * Implementations must be safe for concurrent reads.
+     */
+    interface TileSource {
+        int tileCount();
+
+        boolean has(int index);
+
+        IslandTile load(int index);
+
+        /** Tile at a grid index for reading only; may be shared with other maps and is not cached. */
+        IslandTile peek(int index);
+
+        /** Grid index for an id as the source knows it, or -1. */
+        int indexOf(String tileId);
+    }
+
+    private final WorldGeometryConfig geometry;
+    private final int minX;
+    private final int minY;
+    private final int width;
+    private final int height;
+    private final IslandTile[] grid;
+    // Supplies grid cells not yet materialized; null for maps that own all their tiles
+    private final TileSource source;
+    private final boolean overlay;
+    private final Map<String, Integer> indexById = new HashMap<>();
+    private final Map<Position, IslandTile> outside = new HashMap<>();
+    private final Map<String, IslandTile> outsideById = new HashMap<>();
+    private int gridCount;
+    private int version;
+    private volatile NavigationIndex navigation;
+
+    public IslandMap() {
+        this(WorldGeometryConfig.defaultConfig());
+    }
+
+    public IslandMap(WorldGeometryConfig geometry) {
+        this(geometry, null, false);
+    }
+
+    IslandMap(WorldGeometryConfig geometry, TileSource source) {
+        this(geometry, source, false);
+    }
+
+    private IslandMap(WorldGeometryConfig geometry, TileSource source, boolean overlay) {
+        this.geometry = geometry;
+        this.minX = geometry.getWorldMinX();
+        this.minY = geometry.getWorldMinY();
+        this.width = geometry.getWorldMaxX() - minX + 1;
+        this.height = geometry.getWorldMaxY() - minY + 1;
+        this.grid = new IslandTile[Math.multiplyExact(width, height)];
+        this.source = source;
+        this.overlay = overlay;
+        this.gridCount = source == null ? 0 : source.tileCount();
+    }
+
+    /**
+     * Copy-on-write view of this map: tiles are shared until first looked up, then copied into the view.
+     * The source must not change afterwards, so only overlay maps that are no longer handed out (templates).
+     */
+    public IslandMap overlay() {
+        if (overlay) {
+            throw new IllegalStateException("Cannot overlay an overlay; overlay the template instead");
+        }
+        IslandMap view = new IslandMap(geometry, new TemplateSource(this), true);
+        NavigationIndex templateNavigation = navigation;
+        if (templateNavigation != null) {
+            view.navigation = templateNavigation.forkFor(view);
+        }
+        for (IslandTile tile : outside.values()) {
+            view.put(tile.freshCopy());
+        }
+        return view;
+    }
 
     public void put(IslandTile tile) {
-        IslandTile previous = byPosition.put(tile.getPosition(), tile);
-        if (previous != null && !previous.getTileId().equals(tile.getTileId())) {
-            byId.remove(previous.getTileId());
+        version++;
+        tile.setExits(null);
+        Position pos = tile.getPosition();
+        int index = indexOf(pos.x(), pos.y());
+        if (index < 0) {
+            IslandTile previous = outside.put(pos, tile);
+            if (previous != null && !previous.getTileId().equals(tile.getTileId())) {
+                outsideById.remove(previous.getTileId());
+            }
+            outsideById.put(tile.getTileId(), tile);
+            dropNeighborExits(previous, tile);
+            return;
+        }
+        IslandTile previous = resolve(index);
+        if (previous == null) {
+            gridCount++;
+        } else if (!previous.getTileId().equals(tile.getTileId())) {
+            indexById.remove(previous.getTileId());
+        }
+        grid[index] = tile;
+        NavigationIndex nav = navigation;
+        if (nav != null) {
+            nav.onTileReplaced(index, previous, tile);
+        }
+        if (source == null || source.indexOf(tile.getTileId()) != index) {
+            indexById.put(tile.getTileId(), index);
+        }
+        dropNeighborExits(previous, tile);
+    }
+
+    /**
+     * Exits of the plot, built on first use and kept on the tile until a neighbor is replaced with
+     * different biome, features or safety.
+     */
+    public TileExits exits(IslandTile tile) {
+        TileExits exits = tile.getExits();
+        if (exits == null) {
+            exits = TileExits.of(this, tile);
+            tile.setExits(exits);
+        }
+        return exits;
+    }
+
+    private void dropNeighborExits(IslandTile previous, IslandTile tile) {
+        if (!TileExits.affectsNeighbors(previous, tile)) {
+            return;
+        }
+        for (Direction8 dir : Direction8.values()) {
+            IslandTile neighbor = neighbor(tile, dir);
+            if (neighbor != null) {
+                neighbor.setExits(null);
+            }
         }
-        byId.put(tile.getTileId(), tile);
     }
 
     public Optional<IslandTile> get(Position position) {
-        return Optional.ofNullable(byPosition.get(position));
+        return Optional.ofNullable(tileAt(position.x(), position.y()));
     }
 
     public Optional<IslandTile> get(String tileId) {
-        return Optional.ofNullable(byId.get(tileId));
+        return Optional.ofNullable(tile(tileId));
+    }
+
+    /**
+     * Null-returning id lookup for hot paths that should not allocate an Optional.
+     */
+    public IslandTile tile(String tileId) {
+        int index = indexOf(tileId);
+        if (index >= 0) {
+            return resolve(index);
+        }
+        return outside.isEmpty() ? null : outsideById.get(tileId);
+    }
+
+    /**
+     * Tile at the given coordinate, or null. Does not allocate for coordinates inside the envelope.
+     */
+    public IslandTile tileAt(int x, int y) {
+        int index = indexOf(x, y);
+        if (index >= 0) {
+            return resolve(index);
+        }
+        return outside.isEmpty() ? null : outside.get(new Position(x, y));
+    }
+
+    /**
+     * Neighbor of the tile one step in the given direction, or null.
+     */
+    public IslandTile neighbor(IslandTile tile, Direction8 direction) {
+        Position pos = tile.getPosition();
+        return tileAt(pos.x() + direction.dx(), pos.y() + direction.dy());
+    }
+
+    /**
+     * Dense int id (grid cell index) for the tile, or -1 when the id is unknown or outside the envelope.
+     */
+    public int indexOf(String tileId) {
+        Integer index = indexById.get(tileId);
+        if (index != null) {
+            return index;
+        }
+        if (source == null) {
+            return -1;
+        }
+        // The source's tile may have been replaced in this map since
+        int fromSource = source.indexOf(tileId);
+        if (fromSource < 0) {
+            return -1;
+        }
+        IslandTile current = peekByIndex(fromSource);
+        return current != null && current.getTileId().equals(tileId) ? fromSource : -1;
+    }
+
+    /**
+     * Dense int id (grid cell index) for a coordinate, or -1 when outside the envelope.
+     */
+    public int indexOf(int x, int y) {
+        int dx = x - minX;
+        int dy = y - minY;
+        if (dx < 0 || dx >= width || dy < 0 || dy >= height) {
+            return -1;
+        }
+        return dx + width * dy;
+    }
+
+    /**
+     * Tile stored at a dense int id, or null.
+     */
+    public IslandTile byIndex(int index) {
+        return index >= 0 && index < grid.length ? resolve(index) : null;
     }
 
+    /**
+     * Tile at a dense int id for reading only, or null. Unlike {@link #byIndex}, an overlay answers cells it has
+     * not materialized from its template's tile instead of copying it in.
+     */
+    IslandTile peekByIndex(int index) {
+        if (index < 0 || index >= grid.length) {
+            return null;
+        }
+        if (overlay && grid[index] == null) {
+            return source.has(index) ? source.peek(index) : null;
+        }
+        return resolve(index);
+    }
+
+    private IslandTile resolve(int index) {
+        IslandTile tile = grid[index];
+        if (tile == null && source != null && source.has(index)) {
+            tile = source.load(index);
+            grid[index] = tile;
+        }
+        return tile;
+    }
+
+    private boolean occupied(int index) {
+        return grid[index] != null || (source != null && source.has(index));
+    }
+
+    /**
+     * Bumped by every {@link #put}; equal versions mean no tile has been replaced in between.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    public WorldGeometryConfig getGeometry() {
+        return geometry;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Shortest-path index over this map's grid, created on first use.
+     */
+    public NavigationIndex getNavigation() {
+        NavigationIndex nav = navigation;
+        if (nav == null) {
+            synchronized (this) {
+                nav = navigation;
+                if (nav == null) {
+                    nav = new NavigationIndex(this);
+                    navigation = nav;
+                }
+            }
+        }
+        return nav;
+    }
+
+    /**
+     * Live view of every tile. On an overlay, tiles not yet looked up are served straight from the template
+     * without copying; they are shared and must only be read, so look a tile up by id or position before
+     * mutating it.
+     */
     public Collection<IslandTile> allTiles() {
-        return Collections.unmodifiableCollection(byPosition.values());
+        return new TileView();
+    }
+
+    /**
+     * Serves a template's tiles to its overlays as fresh copies; the template is only read.
+     */
+    private static final class TemplateSource implements TileSource {
+        private final IslandTile[] grid;
+        private final TileSource source;
+        private final Map<String, Integer> indexById;
+        private final int tileCount;
+
+        TemplateSource(IslandMap template) {
+            this.grid = template.grid;
+            this.source = template.source;
+            this.indexById = template.indexById;
+            this.tileCount = template.gridCount;
+        }
+
+        @Override
+        public int tileCount() {
+            return tileCount;
+        }
+
+        @Override
+        public boolean has(int index) {
+            return grid[index] != null || (source != null && source.has(index));
+        }
+
+        @Override
+        public IslandTile load(int index) {
+            IslandTile tile = grid[index];
+            return tile != null ? tile.freshCopy() : source.load(index);
+        }
+
+        @Override
+        public IslandTile peek(int index) {
+            IslandTile tile = grid[index];
+            return tile != null ? tile : source.peek(index);
+        }
+
+        @Override
+        public int indexOf(String tileId) {
+            Integer index = indexById.get(tileId);
+            if (index != null) {
+                return index;
+            }
+            return source == null ? -1 : source.indexOf(tileId);
+        }
+    }
+
+    private final class TileView extends AbstractCollection<IslandTile> {
+
+        @Override
+        public Iterator<IslandTile> iterator() {
+            Iterator<IslandTile> rest = outside.values().iterator();
+            return new Iterator<>() {
+                private int next = advance(0);
+
+                private int advance(int from) {
+                    int i = from;
+                    while (i < grid.length && !occupied(i)) {
+                        i++;
+                    }
+                    return i;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next < grid.length || rest.hasNext();
+                }
+
+                @Override
+                public IslandTile next() {
+                    if (next < grid.length) {
+                        IslandTile tile = peekByIndex(next);
+                        next = advance(next + 1);
+                        return tile;
+                    }
+                    if (!rest.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return rest.next();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return gridCount + outside.size();
+        }
     }
 }
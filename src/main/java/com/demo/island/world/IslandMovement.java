@@ -14,7 +14,7 @@ public final class IslandMovement {
             return new MoveResult(MoveOutcome.MOVE_BLOCKED_NO_TILE, current, 0, false, GameOverReason.NONE);
         }
 
-        WorldGeometry.Classification cls = WorldGeometry.classify(targetPos);
+        WorldGeometry.Classification cls = map.getGeometry().classify(targetPos);
         if (cls == WorldGeometry.Classification.OFF_WORLD || cls == WorldGeometry.Classification.BOUNDARY) {
             return new MoveResult(MoveOutcome.MOVE_BLOCKED_OFF_WORLD_OR_BOUNDARY, current, 0, false, GameOverReason.NONE);
         }
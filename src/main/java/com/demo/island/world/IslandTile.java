@@ -19,9 +19,12 @@ public final class IslandTile {
     private final java.util.List<PlantFamily> secondaryPlantFamilies;
     private final PlantDensity plantDensity;
     private final TileContext context;
-    private final java.util.Set<String> thingsPresent;
-    private final java.util.Set<String> thingsAnchoredHere;
+    // Occupancy sets are created on first use; most plots never hold a Thing
+    private IntIdSet thingsPresent;
+    private IntIdSet thingsAnchoredHere;
     private String playerMemoryNote = "";
+    // Exits depend on the neighbors; IslandMap drops them when a neighbor's terrain changes
+    private TileExits exits;
 
     public IslandTile(String tileId, TileKind kind, Position position, String biome, String region, String elevation,
                       TerrainDifficulty difficulty, TileSafety safety, boolean walkable,
@@ -44,8 +47,6 @@ public final class IslandTile {
         this.secondaryPlantFamilies = secondaryPlantFamilies == null ? java.util.List.of() : java.util.List.copyOf(secondaryPlantFamilies);
         this.plantDensity = plantDensity;
         this.context = context;
-        this.thingsPresent = new java.util.HashSet<>();
-        this.thingsAnchoredHere = new java.util.HashSet<>();
     }
 
     public String getTileId() {
@@ -104,14 +105,58 @@ public final class IslandTile {
         return context;
     }
 
-    public java.util.Set<String> getThingsPresent() {
+    /**
+     * Handles (see {@link Thing#getHandle()}) of the Things currently on this plot.
+     */
+    public IntIdSet getThingHandlesPresent() {
+        if (thingsPresent == null) {
+            thingsPresent = new IntIdSet();
+        }
         return thingsPresent;
     }
 
-    public java.util.Set<String> getThingsAnchoredHere() {
+    /**
+     * Handles of the Things that call this plot home.
+     */
+    public IntIdSet getThingHandlesAnchoredHere() {
+        if (thingsAnchoredHere == null) {
+            thingsAnchoredHere = new IntIdSet();
+        }
         return thingsAnchoredHere;
     }
 
+    /**
+     * Copies occupancy from the tile this one replaces, without allocating sets for empty plots.
+     */
+    void copyOccupancyFrom(IslandTile source) {
+        if (source.thingsPresent != null && !source.thingsPresent.isEmpty()) {
+            getThingHandlesPresent().addAll(source.thingsPresent);
+        }
+        if (source.thingsAnchoredHere != null && !source.thingsAnchoredHere.isEmpty()) {
+            getThingHandlesAnchoredHere().addAll(source.thingsAnchoredHere);
+        }
+    }
+
+    /**
+     * Independent copy for another map: immutable terrain is shared, mutable state is copied.
+     */
+    IslandTile freshCopy() {
+        IslandTile copy = new IslandTile(tileId, kind, position, biome, region, elevation, difficulty, safety, walkable,
+                features, primaryPlantFamily, secondaryPlantFamilies, plantDensity, context.copy());
+        copy.copyOccupancyFrom(this);
+        copy.playerMemoryNote = playerMemoryNote;
+        copy.exits = exits;
+        return copy;
+    }
+
+    TileExits getExits() {
+        return exits;
+    }
+
+    void setExits(TileExits exits) {
+        this.exits = exits;
+    }
+
     public String getPlayerMemoryNote() {
         return playerMemoryNote == null ? "" : playerMemoryNote;
     }
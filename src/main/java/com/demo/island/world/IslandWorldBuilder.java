@@ -22,8 +22,19 @@ public final class IslandWorldBuilder {
     }
 
     public static IslandCreationResult buildWorldWithLogging() {
+        return buildWorldWithLogging(WorldGeometryConfig.defaultConfig());
+    }
+
+    public static IslandCreationResult buildWorldWithLogging(WorldGeometryConfig geometry) {
+        return buildWorldWithLogging(geometry, GardenerWorldConfig.defaultConfig());
+    }
+
+    public static IslandCreationResult buildWorldWithLogging(WorldGeometryConfig geometry, GardenerWorldConfig gardenerConfig) {
+        long startNanos = System.nanoTime();
+        long heapBefore = usedHeapBytes();
+
         logStepHeader(1, "Define world geometry and bounds");
-        logGeometry();
+        logGeometry(geometry);
 
         logStepHeader(2, "Define prime (anchor) plots with IDs, coordinates, and roles");
         logAnchors();
@@ -32,7 +43,9 @@ public final class IslandWorldBuilder {
         logAnchorTopology();
 
         logStepHeader(4, "Garden the full island band into plots using neighbor influence");
-        IslandMap map = IslandGardener.garden();
+        long gardenStart = System.nanoTime();
+        IslandMap map = IslandGardener.garden(geometry);
+        long gardenMillis = (System.nanoTime() - gardenStart) / 1_000_000L;
         logGardenedMap(map);
 
         logStepHeader(5, "Attach plot context (base/current description + history) to each plot");
@@ -48,10 +61,11 @@ public final class IslandWorldBuilder {
         logFlora(map);
 
         logStepHeader(9, "Run deterministic Seed Golem world-sanity pass (walk, check, smooth)");
-        GardenerWorldReport gardenerReport = GardenerWorldPass.run(map, GardenerWorldConfig.defaultConfig());
+        GardenerWorldReport gardenerReport = GardenerWorldPass.run(map, gardenerConfig);
         logSanityReport(gardenerReport);
 
-        IslandCreationReport creationReport = buildReport(map, gardenerReport);
+        IslandCreationReport creationReport = buildReport(map, gardenerConfig, gardenerReport);
+        creationReport.build = buildSummary(map, gardenMillis, startNanos, heapBefore);
         logReportSummary(creationReport);
 
         return new IslandCreationResult(map, creationReport);
@@ -61,13 +75,8 @@ public final class IslandWorldBuilder {
         LOG.info("WORLD BUILD STEP {}: {}", number, name);
     }
 
-    private static void logGeometry() {
-        String envelope = "envelope x=[" + WorldGeometry.WORLD_MIN_X + "," + WorldGeometry.WORLD_MAX_X + "] "
-                + "y=[" + WorldGeometry.WORLD_MIN_Y + "," + WorldGeometry.WORLD_MAX_Y + "]";
-        String band = "islandBand x=[" + WorldGeometry.ISLAND_MIN_X + "," + WorldGeometry.ISLAND_MAX_X + "] "
-                + "y=[" + WorldGeometry.ISLAND_MIN_Y + "," + WorldGeometry.ISLAND_MAX_Y + "]";
-        String spawn = "spawn=" + WorldGeometry.SPAWN;
-        LOG.debug("{}; {}; {}", envelope, band, spawn);
+    private static void logGeometry(WorldGeometryConfig geometry) {
+        LOG.debug("{}; eligiblePlots={}", geometry, geometry.getIslandEligiblePlotCount());
     }
 
     private static void logAnchors() {
@@ -110,8 +119,7 @@ public final class IslandWorldBuilder {
     }
 
     private static void logGardenedMap(IslandMap map) {
-        final int eligible = (WorldGeometry.ISLAND_MAX_X - WorldGeometry.ISLAND_MIN_X + 1)
-                * (WorldGeometry.ISLAND_MAX_Y - WorldGeometry.ISLAND_MIN_Y + 1);
+        final int eligible = map.getGeometry().getIslandEligiblePlotCount();
         int anchors = 0;
         int gardened = 0;
         int boundary = 0;
@@ -133,28 +141,51 @@ public final class IslandWorldBuilder {
     }
 
     private static boolean isFullyConnected(IslandMap map) {
-        Set<Position> visited = new HashSet<>();
-        Deque<Position> queue = new ArrayDeque<>();
-        Position start = AnchorTiles.startTile().getPosition();
-        queue.add(start);
-        while (!queue.isEmpty()) {
-            Position pos = queue.removeFirst();
-            if (!visited.add(pos)) continue;
-            IslandTile tile = map.get(pos).orElse(null);
-            if (tile == null || !tile.isWalkable()) {
-                continue;
+        boolean[] reached = reachableFromSpawn(map, IslandTile::isWalkable);
+        for (IslandTile tile : map.allTiles()) {
+            if (tile.isWalkable() && !isReached(map, reached, tile)) {
+                return false;
             }
+        }
+        return true;
+    }
+
+    /**
+     * BFS from spawn over the dense grid; the spawn is always reached, other plots when {@code passable} accepts them.
+     */
+    private static boolean[] reachableFromSpawn(IslandMap map, java.util.function.Predicate<IslandTile> passable) {
+        boolean[] reached = new boolean[map.getWidth() * map.getHeight()];
+        int[] queue = new int[reached.length];
+        int head = 0;
+        int tail = 0;
+        int start = map.indexOf(AnchorTiles.startTile().getTileId());
+        if (start < 0) {
+            return reached;
+        }
+        reached[start] = true;
+        queue[tail++] = start;
+        while (head < tail) {
+            IslandTile tile = map.byIndex(queue[head++]);
             for (Direction8 dir : Direction8.values()) {
-                Position next = pos.step(dir);
-                IslandTile maybe = map.get(next).orElse(null);
-                if (maybe != null && maybe.isWalkable() && !visited.contains(next)) {
-                    queue.add(next);
+                IslandTile n = map.neighbor(tile, dir);
+                if (n == null || !passable.test(n)) continue;
+                int ni = indexOf(map, n);
+                if (ni >= 0 && !reached[ni]) {
+                    reached[ni] = true;
+                    queue[tail++] = ni;
                 }
             }
         }
-        // only consider walkable tiles
-        long walkableCount = map.allTiles().stream().filter(IslandTile::isWalkable).count();
-        return visited.stream().filter(p -> map.get(p).map(IslandTile::isWalkable).orElse(false)).count() == walkableCount;
+        return reached;
+    }
+
+    private static int indexOf(IslandMap map, IslandTile tile) {
+        return map.indexOf(tile.getPosition().x(), tile.getPosition().y());
+    }
+
+    private static boolean isReached(IslandMap map, boolean[] reached, IslandTile tile) {
+        int i = indexOf(map, tile);
+        return i >= 0 && reached[i];
     }
 
     private static void logContext(IslandMap map) {
@@ -241,23 +272,23 @@ public final class IslandWorldBuilder {
                 report.getWarnings());
     }
 
-    private static IslandCreationReport buildReport(IslandMap map, GardenerWorldReport gardenerReport) {
+    private static IslandCreationReport buildReport(IslandMap map, GardenerWorldConfig gardenerConfig, GardenerWorldReport gardenerReport) {
         IslandCreationReport r = IslandCreationReport.empty();
 
         r.meta.worldId = "demo-island";
         r.meta.buildVersion = "v1-static";
-        r.meta.gardenerSeed = GardenerWorldConfig.defaultConfig().getRandomSeed();
-
-        r.geometry.worldMinX = WorldGeometry.WORLD_MIN_X;
-        r.geometry.worldMaxX = WorldGeometry.WORLD_MAX_X;
-        r.geometry.worldMinY = WorldGeometry.WORLD_MIN_Y;
-        r.geometry.worldMaxY = WorldGeometry.WORLD_MAX_Y;
-        r.geometry.islandMinX = WorldGeometry.ISLAND_MIN_X;
-        r.geometry.islandMaxX = WorldGeometry.ISLAND_MAX_X;
-        r.geometry.islandMinY = WorldGeometry.ISLAND_MIN_Y;
-        r.geometry.islandMaxY = WorldGeometry.ISLAND_MAX_Y;
-        r.geometry.islandEligiblePlotCount = (WorldGeometry.ISLAND_MAX_X - WorldGeometry.ISLAND_MIN_X + 1)
-                * (WorldGeometry.ISLAND_MAX_Y - WorldGeometry.ISLAND_MIN_Y + 1);
+        r.meta.gardenerSeed = gardenerConfig.getRandomSeed();
+
+        WorldGeometryConfig geometry = map.getGeometry();
+        r.geometry.worldMinX = geometry.getWorldMinX();
+        r.geometry.worldMaxX = geometry.getWorldMaxX();
+        r.geometry.worldMinY = geometry.getWorldMinY();
+        r.geometry.worldMaxY = geometry.getWorldMaxY();
+        r.geometry.islandMinX = geometry.getIslandMinX();
+        r.geometry.islandMaxX = geometry.getIslandMaxX();
+        r.geometry.islandMinY = geometry.getIslandMinY();
+        r.geometry.islandMaxY = geometry.getIslandMaxY();
+        r.geometry.islandEligiblePlotCount = geometry.getIslandEligiblePlotCount();
 
         r.anchorPlotCount = AnchorTiles.all().size();
         r.spawnPlotId = AnchorTiles.startTile().getTileId();
@@ -295,20 +326,28 @@ public final class IslandWorldBuilder {
         IslandCreationReport.ConnectivitySummary c = new IslandCreationReport.ConnectivitySummary();
 
         // reachable primes
-        java.util.Set<String> reachableAnchors = reachableAnchors(map);
-        c.allPrimePlotsReachableFromSpawn = reachableAnchors.containsAll(AnchorTiles.ids());
-        c.unreachablePrimePlots = AnchorTiles.ids().stream().filter(id -> !reachableAnchors.contains(id)).toList();
+        boolean[] reachable = reachableFromSpawn(map, IslandTile::isWalkable);
+        java.util.List<String> unreachablePrimes = AnchorTiles.ids().stream()
+                .filter(id -> map.tile(id) == null || !isReached(map, reachable, map.tile(id)))
+                .toList();
+        c.allPrimePlotsReachableFromSpawn = unreachablePrimes.isEmpty();
+        c.unreachablePrimePlots = unreachablePrimes;
 
         // reachable walkable
-        java.util.Set<Position> reachableWalkable = reachableWalkable(map);
-        c.walkablePlotsReachableFromSpawn = reachableWalkable.size();
-        int totalWalkable = (int) map.allTiles().stream().filter(IslandTile::isWalkable).count();
+        int reachableWalkable = 0;
+        int totalWalkable = 0;
+        for (IslandTile tile : map.allTiles()) {
+            if (!tile.isWalkable()) continue;
+            totalWalkable++;
+            if (isReached(map, reachable, tile)) reachableWalkable++;
+        }
+        c.walkablePlotsReachableFromSpawn = reachableWalkable;
         c.totalWalkablePlots = totalWalkable;
-        c.unreachableWalkablePlots = totalWalkable - reachableWalkable.size();
+        c.unreachableWalkablePlots = totalWalkable - reachableWalkable;
 
         // distances and effort
-        java.util.Map<String, Integer> steps = shortestSteps(map);
-        java.util.Map<String, Integer> effort = easiestEffort(map);
+        int[] steps = shortestSteps(map);
+        int[] effort = easiestEffort(map);
         java.util.List<IslandCreationReport.AnchorSummary> enriched = new java.util.ArrayList<>();
         for (IslandCreationReport.AnchorSummary a : anchors) {
             IslandCreationReport.AnchorSummary copy = new IslandCreationReport.AnchorSummary();
@@ -322,90 +361,62 @@ public final class IslandWorldBuilder {
             copy.isHazard = a.isHazard;
             copy.isSecret = a.isSecret;
             copy.isHub = a.isHub;
-            copy.shortestStepsFromSpawn = steps.getOrDefault(a.anchorId, Integer.MAX_VALUE);
-            copy.minDifficultyScoreFromSpawn = effort.getOrDefault(a.anchorId, Integer.MAX_VALUE);
+            int anchorIndex = map.indexOf(a.anchorId);
+            copy.shortestStepsFromSpawn = anchorIndex < 0 ? Integer.MAX_VALUE : steps[anchorIndex];
+            copy.minDifficultyScoreFromSpawn = anchorIndex < 0 ? Integer.MAX_VALUE : effort[anchorIndex];
             enriched.add(copy);
         }
         c.anchorPaths = enriched;
         return c;
     }
 
-    private static java.util.Set<String> reachableAnchors(IslandMap map) {
-        java.util.Set<String> visitedIds = new java.util.HashSet<>();
-        java.util.ArrayDeque<String> queue = new java.util.ArrayDeque<>();
-        queue.add(AnchorTiles.startTile().getTileId());
-        while (!queue.isEmpty()) {
-            String id = queue.removeFirst();
-            if (!visitedIds.add(id)) continue;
-            IslandTile tile = map.get(id).orElse(null);
-            if (tile == null) continue;
-            for (Direction8 dir : Direction8.values()) {
-                IslandTile n = map.get(tile.getPosition().step(dir)).orElse(null);
-                if (n != null && n.isWalkable()) {
-                    queue.add(n.getTileId());
-                }
-            }
-        }
-        return visitedIds;
-    }
-
-    private static java.util.Set<Position> reachableWalkable(IslandMap map) {
-        java.util.Set<Position> visited = new java.util.HashSet<>();
-        java.util.ArrayDeque<Position> queue = new java.util.ArrayDeque<>();
-        queue.add(AnchorTiles.startTile().getPosition());
-        while (!queue.isEmpty()) {
-            Position pos = queue.removeFirst();
-            if (!visited.add(pos)) continue;
-            IslandTile tile = map.get(pos).orElse(null);
-            if (tile == null || !tile.isWalkable()) continue;
-            for (Direction8 dir : Direction8.values()) {
-                Position next = pos.step(dir);
-                IslandTile maybe = map.get(next).orElse(null);
-                if (maybe != null && maybe.isWalkable() && !visited.contains(next)) {
-                    queue.add(next);
-                }
-            }
-        }
-        return visited;
-    }
-
-    private static java.util.Map<String, Integer> shortestSteps(IslandMap map) {
-        java.util.Map<String, Integer> dist = new java.util.HashMap<>();
-        java.util.ArrayDeque<IslandTile> queue = new java.util.ArrayDeque<>();
-        IslandTile start = map.get(AnchorTiles.startTile().getTileId()).orElseThrow();
-        queue.add(start);
-        dist.put(start.getTileId(), 0);
-        while (!queue.isEmpty()) {
-            IslandTile tile = queue.removeFirst();
-            int d = dist.get(tile.getTileId());
+    private static int[] shortestSteps(IslandMap map) {
+        int[] dist = new int[map.getWidth() * map.getHeight()];
+        java.util.Arrays.fill(dist, Integer.MAX_VALUE);
+        int[] queue = new int[dist.length];
+        int head = 0;
+        int tail = 0;
+        int start = map.indexOf(AnchorTiles.startTile().getTileId());
+        dist[start] = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int current = queue[head++];
+            IslandTile tile = map.byIndex(current);
             for (Direction8 dir : Direction8.values()) {
-                IslandTile n = map.get(tile.getPosition().step(dir)).orElse(null);
+                IslandTile n = map.neighbor(tile, dir);
                 if (n == null || !n.isWalkable()) continue;
-                if (!dist.containsKey(n.getTileId())) {
-                    dist.put(n.getTileId(), d + 1);
-                    queue.add(n);
+                int ni = indexOf(map, n);
+                if (ni >= 0 && dist[ni] == Integer.MAX_VALUE) {
+                    dist[ni] = dist[current] + 1;
+                    queue[tail++] = ni;
                 }
             }
         }
         return dist;
     }
 
-    private static java.util.Map<String, Integer> easiestEffort(IslandMap map) {
-        java.util.Map<String, Integer> cost = new java.util.HashMap<>();
-        java.util.PriorityQueue<IslandTile> pq = new java.util.PriorityQueue<>(java.util.Comparator.comparingInt(t -> cost.getOrDefault(t.getTileId(), Integer.MAX_VALUE)));
-        IslandTile start = map.get(AnchorTiles.startTile().getTileId()).orElseThrow();
-        cost.put(start.getTileId(), 0);
-        pq.add(start);
+    private static int[] easiestEffort(IslandMap map) {
+        int[] cost = new int[map.getWidth() * map.getHeight()];
+        java.util.Arrays.fill(cost, Integer.MAX_VALUE);
+        // Entries pack (cost, index) into one long so the heap orders by cost without a comparator over mutable state
+        java.util.PriorityQueue<Long> pq = new java.util.PriorityQueue<>();
+        int start = map.indexOf(AnchorTiles.startTile().getTileId());
+        cost[start] = 0;
+        pq.add((long) start);
         while (!pq.isEmpty()) {
-            IslandTile tile = pq.poll();
-            int current = cost.get(tile.getTileId());
+            long entry = pq.poll();
+            int current = (int) entry;
+            if ((int) (entry >>> 32) != cost[current]) continue; // stale entry
+            IslandTile tile = map.byIndex(current);
             for (Direction8 dir : Direction8.values()) {
-                IslandTile n = map.get(tile.getPosition().step(dir)).orElse(null);
+                IslandTile n = map.neighbor(tile, dir);
                 if (n == null || !n.isWalkable()) continue;
-                int nextCost = current + n.getDifficulty().getTimeCost();
-                if (nextCost < cost.getOrDefault(n.getTileId(), Integer.MAX_VALUE)) {
-                    cost.put(n.getTileId(), nextCost);
-                    pq.add(n);
+                int ni = indexOf(map, n);
+                if (ni < 0) continue;
+                int nextCost = cost[current] + n.getDifficulty().getTimeCost();
+                if (nextCost < cost[ni]) {
+                    cost[ni] = nextCost;
+                    pq.add(((long) nextCost << 32) | ni);
                 }
             }
         }
@@ -428,8 +439,11 @@ public final class IslandWorldBuilder {
         java.util.Map<String, Boolean> safePath = new java.util.HashMap<>();
         java.util.Map<String, Boolean> requiresHazard = new java.util.HashMap<>();
         java.util.Set<String> anchorIds = anchors.stream().map(a -> a.anchorId).collect(java.util.stream.Collectors.toSet());
+        // One BFS over NORMAL plots answers the safe-path question for every anchor
+        boolean[] safe = reachableFromSpawn(map, t -> t.getSafety() == TileSafety.NORMAL);
         for (String id : anchorIds) {
-            boolean hasSafe = hasSafePath(map, id);
+            IslandTile anchor = map.tile(id);
+            boolean hasSafe = anchor != null && isReached(map, safe, anchor);
             safePath.put(id, hasSafe);
             requiresHazard.put(id, !hasSafe);
         }
@@ -438,25 +452,6 @@ public final class IslandWorldBuilder {
         return h;
     }
 
-    private static boolean hasSafePath(IslandMap map, String targetId) {
-        java.util.Set<String> visited = new java.util.HashSet<>();
-        java.util.ArrayDeque<String> queue = new java.util.ArrayDeque<>();
-        queue.add(AnchorTiles.startTile().getTileId());
-        while (!queue.isEmpty()) {
-            String id = queue.removeFirst();
-            if (!visited.add(id)) continue;
-            if (id.equals(targetId)) return true;
-            IslandTile tile = map.get(id).orElse(null);
-            if (tile == null) continue;
-            for (Direction8 dir : Direction8.values()) {
-                IslandTile n = map.get(tile.getPosition().step(dir)).orElse(null);
-                if (n == null || n.getSafety() != TileSafety.NORMAL) continue;
-                queue.add(n.getTileId());
-            }
-        }
-        return false;
-    }
-
     private static IslandCreationReport.DifficultySummary buildDifficulty(IslandMap map) {
         IslandCreationReport.DifficultySummary d = new IslandCreationReport.DifficultySummary();
         java.util.Map<TerrainDifficulty, Integer> counts = new java.util.EnumMap<>(TerrainDifficulty.class);
@@ -549,6 +544,23 @@ public final class IslandWorldBuilder {
         return g;
     }
 
+    private static IslandCreationReport.BuildSummary buildSummary(IslandMap map, long gardenMillis, long startNanos, long heapBefore) {
+        IslandCreationReport.BuildSummary b = new IslandCreationReport.BuildSummary();
+        b.plotCount = map.allTiles().size();
+        b.gardenMillis = gardenMillis;
+        b.totalMillis = (System.nanoTime() - startNanos) / 1_000_000L;
+        b.heapUsedBytesBefore = heapBefore;
+        b.heapUsedBytesAfter = usedHeapBytes();
+        // Approximate: concurrent GC can make the delta negative on small worlds
+        b.estimatedBytesPerPlot = b.plotCount == 0 ? 0 : Math.max(0, b.heapUsedBytesAfter - heapBefore) / b.plotCount;
+        return b;
+    }
+
+    private static long usedHeapBytes() {
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
     private static IslandCreationReport.Verdict buildVerdict(IslandCreationReport r) {
         IslandCreationReport.Verdict v = new IslandCreationReport.Verdict();
         java.util.List<String> blocking = new java.util.ArrayList<>();
@@ -587,6 +599,13 @@ public final class IslandWorldBuilder {
         // Detailed report at DEBUG/ FINE
         LOG.debug("[REPORT] meta id={} build={} seed={}", r.meta.worldId, r.meta.buildVersion, r.meta.gardenerSeed);
         LOG.debug("[REPORT] geometry islandEligible={} anchors={}", r.geometry.islandEligiblePlotCount, r.anchorPlotCount);
+        LOG.debug("[REPORT] build plots={} gardenMs={} totalMs={} heapUsedMb={} (before {}) ~bytesPerPlot={}",
+                r.build.plotCount,
+                r.build.gardenMillis,
+                r.build.totalMillis,
+                r.build.heapUsedBytesAfter / (1024 * 1024),
+                r.build.heapUsedBytesBefore / (1024 * 1024),
+                r.build.estimatedBytesPerPlot);
         LOG.debug("[REPORT] connectivity primesReachable={} unreachablePrimes={} reachableWalkable={}/{}",
                 r.connectivity.allPrimePlotsReachableFromSpawn,
                 r.connectivity.unreachablePrimePlots,
@@ -7,6 +7,8 @@ public final class ItemThing extends Thing {
     private final GameItemType itemType;
     private int stackSize;
     private String carriedByCharacterId;
+    // Index to notify when the carrier changes; set on registration
+    private WorldThingIndex index;
 
     public ItemThing(String id, String name, GameItemType itemType, String currentPlotId) {
         super(id, name, ThingKind.ITEM, currentPlotId);
@@ -31,6 +33,14 @@ public final class ItemThing extends Thing {
     }
 
     public void setCarriedByCharacterId(String carriedByCharacterId) {
+        String previous = this.carriedByCharacterId;
         this.carriedByCharacterId = carriedByCharacterId;
+        if (index != null && !java.util.Objects.equals(previous, carriedByCharacterId)) {
+            index.carrierChanged(this, previous, carriedByCharacterId);
+        }
+    }
+
+    void attachIndex(WorldThingIndex index) {
+        this.index = index;
     }
 }
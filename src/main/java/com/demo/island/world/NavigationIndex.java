@@ -0,0 +1,202 @@
+package com.demo.island.world;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shortest-path distance fields over a map's grid, one per navigation target, for O(1)-per-step routing.
+ * <p>
+ * A plot is passable when it is walkable with {@link TileSafety#NORMAL}; entering it costs its
+ * {@link TerrainDifficulty} time cost. A target's field holds, for every grid cell, the cheapest cost of
+ * reaching the target from there, so {@link #nextStep} only compares the eight neighbors. Fields are built on
+ * first use (or up front with {@link #precompute}) and never mutated afterwards, which lets an overlay map
+ * start from its template's fields. Tiles are only peeked, so building a field on an overlay does not copy the
+ * template tiles it reads. When a tile's passability or cost changes only the fields the change can
+ * affect are dropped; they are rebuilt on their next use.
+ * <p>
+ * Grid cells only: plots outside the map envelope are not routed.
+ */
+public final class NavigationIndex {
+
+    /** Distance of cells that cannot reach the target. */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final Direction8[] DIRECTIONS = Direction8.values();
+
+    private final IslandMap map;
+    private final Map<Integer, int[]> fields;
+
+    NavigationIndex(IslandMap map) {
+        this(map, new ConcurrentHashMap<>());
+    }
+
+    private NavigationIndex(IslandMap map, Map<Integer, int[]> fields) {
+        this.map = map;
+        this.fields = fields;
+    }
+
+    /**
+     * Index for an overlay of this index's map, starting from the fields computed so far.
+     */
+    NavigationIndex forkFor(IslandMap view) {
+        return new NavigationIndex(view, new ConcurrentHashMap<>(fields));
+    }
+
+    /**
+     * Builds the fields for the given target ids now, e.g. every anchor at world creation.
+     */
+    public void precompute(Collection<String> targetIds) {
+        for (String targetId : targetIds) {
+            int target = map.indexOf(targetId);
+            if (target >= 0) {
+                field(target);
+            }
+        }
+    }
+
+    /**
+     * Direction of the first step on a cheapest path from {@code from} to the target, or null when already
+     * there, the target is unknown, or it cannot be reached.
+     */
+    public Direction8 nextStep(IslandTile from, String targetId) {
+        int start = map.indexOf(from.getTileId());
+        int target = map.indexOf(targetId);
+        if (start < 0 || target < 0 || start == target) {
+            return null;
+        }
+        int[] dist = field(target);
+        if (dist[start] == UNREACHABLE) {
+            return null;
+        }
+        Direction8 best = null;
+        long bestCost = Long.MAX_VALUE;
+        Position pos = from.getPosition();
+        for (Direction8 dir : DIRECTIONS) {
+            int next = map.indexOf(pos.x() + dir.dx(), pos.y() + dir.dy());
+            if (next < 0 || dist[next] == UNREACHABLE) {
+                continue;
+            }
+            int cost = enterCost(map.peekByIndex(next));
+            if (cost < 0) {
+                continue;
+            }
+            long total = (long) cost + dist[next];
+            if (total < bestCost) {
+                bestCost = total;
+                best = dir;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Cheapest time cost from a plot to the target, or {@link #UNREACHABLE}.
+     */
+    public int distance(String fromId, String targetId) {
+        int start = map.indexOf(fromId);
+        int target = map.indexOf(targetId);
+        if (start < 0 || target < 0) {
+            return UNREACHABLE;
+        }
+        return field(target)[start];
+    }
+
+    /**
+     * Number of target fields currently held.
+     */
+    public int fieldCount() {
+        return fields.size();
+    }
+
+    /**
+     * Called by the map when a grid tile is replaced. Drops the fields whose distances may change: a cell
+     * that got cheaper or passable matters when it touches the reachable area, one that got dearer or
+     * blocked when it was itself reachable.
+     */
+    void onTileReplaced(int index, IslandTile previous, IslandTile tile) {
+        int before = enterCost(previous);
+        int after = enterCost(tile);
+        if (before == after || fields.isEmpty()) {
+            return;
+        }
+        boolean improved = before < 0 || (after >= 0 && after < before);
+        fields.entrySet().removeIf(entry -> improved
+                ? touchesReachable(entry.getValue(), index)
+                : entry.getValue()[index] != UNREACHABLE);
+    }
+
+    private boolean touchesReachable(int[] dist, int index) {
+        if (dist[index] != UNREACHABLE) {
+            return true;
+        }
+        IslandTile tile = map.peekByIndex(index);
+        if (tile == null) {
+            return false;
+        }
+        Position pos = tile.getPosition();
+        for (Direction8 dir : DIRECTIONS) {
+            int next = map.indexOf(pos.x() + dir.dx(), pos.y() + dir.dy());
+            if (next >= 0 && dist[next] != UNREACHABLE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int[] field(int target) {
+        int[] dist = fields.get(target);
+        if (dist == null) {
+            dist = build(target);
+            fields.put(target, dist);
+        }
+        return dist;
+    }
+
+    /**
+     * Dijkstra outward from the target: a cell's distance is the cost of entering a neighbor plus that
+     * neighbor's distance, so the search only expands through passable plots.
+     */
+    private int[] build(int target) {
+        int cells = map.getWidth() * map.getHeight();
+        int[] dist = new int[cells];
+        Arrays.fill(dist, UNREACHABLE);
+        dist[target] = 0;
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        queue.add(new long[]{0, target});
+        while (!queue.isEmpty()) {
+            long[] head = queue.poll();
+            int cell = (int) head[1];
+            if (head[0] > dist[cell]) {
+                continue;
+            }
+            IslandTile tile = map.peekByIndex(cell);
+            int cost = enterCost(tile);
+            if (cost < 0) {
+                continue;
+            }
+            int through = dist[cell] + cost;
+            Position pos = tile.getPosition();
+            for (Direction8 dir : DIRECTIONS) {
+                int next = map.indexOf(pos.x() + dir.dx(), pos.y() + dir.dy());
+                if (next >= 0 && through < dist[next] && map.peekByIndex(next) != null) {
+                    dist[next] = through;
+                    queue.add(new long[]{through, next});
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Time cost of entering a plot, or -1 when it cannot be entered.
+     */
+    private static int enterCost(IslandTile tile) {
+        if (tile == null || !tile.isWalkable() || tile.getSafety() != TileSafety.NORMAL) {
+            return -1;
+        }
+        return tile.getDifficulty().getTimeCost();
+    }
+}
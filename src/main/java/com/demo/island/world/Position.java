@@ -1,7 +1,5 @@
 package com.demo.island.world;
 
-import java.util.Objects;
-
 /**
  * Immutable integer coordinate on the island grid.
  */
@@ -37,7 +35,8 @@ public final class Position {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        // Prime wider than any supported grid side keeps lattice points collision-free
+        return 92821 * x + y;
     }
 
     @Override
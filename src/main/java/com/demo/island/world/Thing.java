@@ -10,6 +10,7 @@ public class Thing {
     private String currentPlotId;
     private final Set<String> homePlotIds = new HashSet<>();
     private final Set<String> tags = new HashSet<>();
+    private int handle = -1;
 
     public Thing(String id, String name, ThingKind kind, String currentPlotId) {
         this.id = id;
@@ -22,6 +23,17 @@ public class Thing {
         return id;
     }
 
+    /**
+     * Dense int handle assigned by the {@link WorldThingIndex} this Thing is registered with, or -1.
+     */
+    public int getHandle() {
+        return handle;
+    }
+
+    void setHandle(int handle) {
+        this.handle = handle;
+    }
+
     public String getName() {
         return name;
     }
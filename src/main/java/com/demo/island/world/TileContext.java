@@ -12,7 +12,7 @@ public final class TileContext {
 
     private final String baseDescription;
     private String currentDescription;
-    private final List<TileHistoryEntry> history = new ArrayList<>();
+    private List<TileHistoryEntry> history;
     private int sequenceCounter = 0;
 
     public TileContext(String baseDescription) {
@@ -20,6 +20,17 @@ public final class TileContext {
         this.currentDescription = baseDescription;
     }
 
+    /**
+     * Independent copy carrying the current description and history so far.
+     */
+    TileContext copy() {
+        TileContext copy = new TileContext(baseDescription);
+        copy.currentDescription = currentDescription;
+        copy.history = history == null ? null : new ArrayList<>(history);
+        copy.sequenceCounter = sequenceCounter;
+        return copy;
+    }
+
     public String getBaseDescription() {
         return baseDescription;
     }
@@ -33,10 +44,13 @@ public final class TileContext {
     }
 
     public List<TileHistoryEntry> getHistory() {
-        return Collections.unmodifiableList(history);
+        return history == null ? List.of() : Collections.unmodifiableList(history);
     }
 
     public void appendHistory(int turnIndex, TurnClock.TimePhase phase, String eventType, String summary) {
+        if (history == null) {
+            history = new ArrayList<>();
+        }
         history.add(new TileHistoryEntry(++sequenceCounter, turnIndex, phase, eventType, summary));
     }
 }
@@ -0,0 +1,87 @@
+package com.demo.island.world;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable view of a plot's exits: the directions that lead to another plot and a short summary of each
+ * neighbor, in {@link Direction8} order. Built by {@link IslandMap#exits} and kept on the tile until a neighbor
+ * is replaced with different terrain.
+ */
+public final class TileExits {
+
+    private final Map<Direction8, String> summaries;
+    private final Map<String, String> summariesByName;
+    private final List<String> names;
+
+    private TileExits(Map<Direction8, String> summaries) {
+        this.summaries = Collections.unmodifiableMap(summaries);
+        Map<String, String> byName = new LinkedHashMap<>();
+        List<String> directionNames = new ArrayList<>(summaries.size());
+        summaries.forEach((dir, summary) -> {
+            byName.put(dir.name(), summary);
+            directionNames.add(dir.name());
+        });
+        this.summariesByName = Collections.unmodifiableMap(byName);
+        this.names = List.copyOf(directionNames);
+    }
+
+    static TileExits of(IslandMap map, IslandTile tile) {
+        Map<Direction8, String> summaries = new EnumMap<>(Direction8.class);
+        for (Direction8 dir : Direction8.values()) {
+            IslandTile neighbor = map.neighbor(tile, dir);
+            if (neighbor != null) {
+                summaries.put(dir, summary(neighbor, dir));
+            }
+        }
+        return new TileExits(summaries);
+    }
+
+    /**
+     * Neighbor summaries by direction, e.g. "Path N toward jungle" or "beach lies E".
+     */
+    public Map<Direction8, String> getSummaries() {
+        return summaries;
+    }
+
+    /**
+     * The same summaries keyed by direction name.
+     */
+    public Map<String, String> getSummariesByName() {
+        return summariesByName;
+    }
+
+    /**
+     * Names of the directions that lead somewhere.
+     */
+    public List<String> getDirectionNames() {
+        return names;
+    }
+
+    public boolean has(Direction8 dir) {
+        return summaries.containsKey(dir);
+    }
+
+    private static String summary(IslandTile neighbor, Direction8 dir) {
+        String biome = neighbor.getBiome().replace('_', ' ');
+        if (neighbor.getFeatures().contains(TerrainFeature.PATH)) {
+            return "Path " + dir.name() + " toward " + biome;
+        }
+        return biome + " lies " + dir.name();
+    }
+
+    /**
+     * True when replacing {@code previous} with {@code next} can change a neighbor's exits.
+     */
+    static boolean affectsNeighbors(IslandTile previous, IslandTile next) {
+        return previous == null
+                || !Objects.equals(previous.getBiome(), next.getBiome())
+                || !previous.getFeatures().equals(next.getFeatures())
+                || previous.getSafety() != next.getSafety();
+    }
+}
@@ -2,8 +2,11 @@ package com.demo.island.world;
 
 import com.demo.island.core.WorldState;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 /**
- * Backward-compatible entrypoint to build the canonical world.
+ * Backward-compatible entrypoint to build the canonical world, plus loading of pre-gardened world files.
  */
 public final class WorldFactory {
 
@@ -13,4 +16,32 @@ public final class WorldFactory {
     public static WorldState createDemoWorld(String sessionId) {
         return WorldBuilder.build(sessionId);
     }
+
+    /**
+     * Opens a world written by {@link WorldFile#write}. Tiles decode lazily from the mapped file, so this returns
+     * in milliseconds regardless of island size. The report carries geometry and load timing only; the build
+     * checks ran when the file was written.
+     */
+    public static IslandCreationResult openIsland(Path path) throws IOException {
+        long startNanos = System.nanoTime();
+        IslandMap map = WorldFile.open(path);
+        WorldGeometryConfig geometry = map.getGeometry();
+
+        IslandCreationReport report = IslandCreationReport.empty();
+        report.meta.worldId = "demo-island";
+        report.meta.buildVersion = "binary-v" + WorldFile.VERSION;
+        report.geometry.worldMinX = geometry.getWorldMinX();
+        report.geometry.worldMaxX = geometry.getWorldMaxX();
+        report.geometry.worldMinY = geometry.getWorldMinY();
+        report.geometry.worldMaxY = geometry.getWorldMaxY();
+        report.geometry.islandMinX = geometry.getIslandMinX();
+        report.geometry.islandMaxX = geometry.getIslandMaxX();
+        report.geometry.islandMinY = geometry.getIslandMinY();
+        report.geometry.islandMaxY = geometry.getIslandMaxY();
+        report.geometry.islandEligiblePlotCount = geometry.getIslandEligiblePlotCount();
+        report.spawnPlotId = AnchorTiles.startTile().getTileId();
+        report.build.plotCount = map.allTiles().size();
+        report.build.totalMillis = (System.nanoTime() - startNanos) / 1_000_000L;
+        return new IslandCreationResult(map, report);
+    }
 }
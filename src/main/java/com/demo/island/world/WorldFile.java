@@ -0,0 +1,359 @@
+package com.demo.island.world;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Versioned binary world file, read through a memory-mapped buffer.
+ * <p>
+ * Layout (big-endian): header (magic, version, island width/height, grid width/height, tile count), a
+ * dictionary of biome/region/elevation strings, a pool of descriptions and non-derived tile ids, a table of
+ * distinct secondary-flora lists, the non-derived id table, then one fixed-width record per grid cell.
+ * Gardened ids ({@code G_x_y}) are derived from the cell and not stored. Opening decodes only the header and
+ * the string tables; tiles are decoded from their record on first lookup.
+ * <p>
+ * The geometry is stored as its island band size: every {@link WorldGeometryConfig} is
+ * {@link WorldGeometryConfig#island(int, int)} of some size, and that size determines the rest.
+ */
+public final class WorldFile {
+
+    static final int MAGIC = 0x49534C57; // "ISLW"
+    static final int VERSION = 1;
+
+    // Record: flags, kind, difficulty, safety | id code | biome, region | elevation, primary, density |
+    // feature bits | secondary list, reserved | base description | current description
+    static final int RECORD_BYTES = 32;
+    private static final int FLAG_PRESENT = 1;
+    private static final int FLAG_WALKABLE = 2;
+    private static final int DERIVED_ID = -1;
+    private static final int NONE = -1;
+
+    private WorldFile() {
+    }
+
+    /**
+     * Writes every grid tile of the map.
+     *
+     * @throws IllegalArgumentException if the map holds tiles outside the world envelope, which have no record
+     */
+    public static void write(IslandMap map, Path path) throws IOException {
+        WorldGeometryConfig geometry = map.getGeometry();
+        if (!WorldGeometryConfig.island(geometry.getIslandWidth(), geometry.getIslandHeight()).equals(geometry)) {
+            throw new IllegalArgumentException("Geometry cannot be stored as an island band size: " + geometry);
+        }
+        int cells = map.getWidth() * map.getHeight();
+        Dictionary dictionary = new Dictionary();
+        Dictionary pool = new Dictionary();
+        Map<List<PlantFamily>, Integer> secondaryLists = new LinkedHashMap<>();
+        Map<String, Integer> customIds = new LinkedHashMap<>();
+        ByteBuffer records = ByteBuffer.allocate(Math.multiplyExact(cells, RECORD_BYTES));
+        int tileCount = 0;
+
+        for (int index = 0; index < cells; index++) {
+            IslandTile tile = map.byIndex(index);
+            if (tile == null) {
+                records.position(records.position() + RECORD_BYTES);
+                continue;
+            }
+            tileCount++;
+            Position pos = tile.getPosition();
+            int idCode = DERIVED_ID;
+            if (!tile.getTileId().equals(gardenId(pos.x(), pos.y()))) {
+                idCode = pool.code(tile.getTileId());
+                customIds.put(tile.getTileId(), index);
+            }
+            records.put((byte) (FLAG_PRESENT | (tile.isWalkable() ? FLAG_WALKABLE : 0)));
+            records.put((byte) tile.getKind().ordinal());
+            records.put((byte) tile.getDifficulty().ordinal());
+            records.put((byte) tile.getSafety().ordinal());
+            records.putInt(idCode);
+            records.putShort(dictionary.shortCode(tile.getBiome()));
+            records.putShort(dictionary.shortCode(tile.getRegion()));
+            records.putShort(dictionary.shortCode(tile.getElevation()));
+            records.put((byte) (tile.getPrimaryPlantFamily() == null ? NONE : tile.getPrimaryPlantFamily().ordinal()));
+            records.put((byte) (tile.getPlantDensity() == null ? NONE : tile.getPlantDensity().ordinal()));
+            records.putInt(featureBits(tile.getFeatures()));
+            Integer listCode = secondaryLists.computeIfAbsent(tile.getSecondaryPlantFamilies(), l -> secondaryLists.size());
+            records.putShort(listCode.shortValue());
+            records.putShort((short) 0);
+            records.putInt(pool.code(tile.getContext().getBaseDescription()));
+            records.putInt(pool.code(tile.getContext().getCurrentDescription()));
+        }
+        int outside = map.allTiles().size() - tileCount;
+        if (outside > 0) {
+            throw new IllegalArgumentException(outside + " tiles lie outside the world envelope and cannot be written");
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(geometry.getIslandWidth());
+            out.writeInt(geometry.getIslandHeight());
+            out.writeInt(map.getWidth());
+            out.writeInt(map.getHeight());
+            out.writeInt(tileCount);
+            dictionary.writeTo(out);
+            pool.writeTo(out);
+            out.writeInt(secondaryLists.size());
+            for (List<PlantFamily> list : secondaryLists.keySet()) {
+                out.writeByte(list.size());
+                for (PlantFamily family : list) {
+                    out.writeByte(family.ordinal());
+                }
+            }
+            out.writeInt(customIds.size());
+            for (Map.Entry<String, Integer> entry : customIds.entrySet()) {
+                out.writeInt(pool.code(entry.getKey()));
+                out.writeInt(entry.getValue());
+            }
+            out.write(records.array());
+        }
+    }
+
+    /**
+     * Maps the file read-only and returns a map whose tiles are decoded from it on first lookup.
+     */
+    public static IslandMap open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("World file too large to map: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            return read(buffer, path);
+        } catch (RuntimeException ex) {
+            throw new IOException("Malformed world file " + path + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    private static IslandMap read(ByteBuffer buffer, Path path) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a world file: " + path);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported world file version " + version + " in " + path);
+        }
+        WorldGeometryConfig geometry = WorldGeometryConfig.island(buffer.getInt(), buffer.getInt());
+        int gridWidth = buffer.getInt();
+        int gridHeight = buffer.getInt();
+        if (gridWidth != geometry.getWorldMaxX() - geometry.getWorldMinX() + 1
+                || gridHeight != geometry.getWorldMaxY() - geometry.getWorldMinY() + 1) {
+            throw new IOException("Grid " + gridWidth + "x" + gridHeight + " does not match geometry in " + path);
+        }
+        int tileCount = buffer.getInt();
+        String[] dictionary = readStrings(buffer);
+        String[] pool = readStrings(buffer);
+        List<List<PlantFamily>> secondaryLists = new ArrayList<>();
+        int listCount = buffer.getInt();
+        for (int i = 0; i < listCount; i++) {
+            int size = buffer.get();
+            List<PlantFamily> list = new ArrayList<>(size);
+            for (int j = 0; j < size; j++) {
+                list.add(PlantFamily.values()[buffer.get()]);
+            }
+            secondaryLists.add(List.copyOf(list));
+        }
+        Map<String, Integer> customIds = new HashMap<>();
+        int customCount = buffer.getInt();
+        for (int i = 0; i < customCount; i++) {
+            customIds.put(pool[buffer.getInt()], buffer.getInt());
+        }
+        int recordsStart = buffer.position();
+        if ((long) recordsStart + (long) gridWidth * gridHeight * RECORD_BYTES > buffer.limit()) {
+            throw new IOException("Truncated world file " + path);
+        }
+        MappedSource source = new MappedSource(buffer, recordsStart, geometry, tileCount, dictionary, pool,
+                secondaryLists, customIds);
+        return new IslandMap(geometry, source);
+    }
+
+    private static String[] readStrings(ByteBuffer buffer) {
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static int featureBits(Set<TerrainFeature> features) {
+        int bits = 0;
+        for (TerrainFeature feature : features) {
+            bits |= 1 << feature.ordinal();
+        }
+        return bits;
+    }
+
+    private static String gardenId(int x, int y) {
+        return "G_" + x + "_" + y;
+    }
+
+    /**
+     * Insertion-ordered string table; the code of a string is its position.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new LinkedHashMap<>();
+
+        int code(String value) {
+            return codes.computeIfAbsent(value, v -> codes.size());
+        }
+
+        short shortCode(String value) {
+            int code = code(value);
+            if (code > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many distinct biome/region/elevation values for the world file");
+            }
+            return (short) code;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(codes.size());
+            for (String value : codes.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Decodes tiles straight from the mapped records. Only absolute reads are used, so concurrent loads are safe.
+     */
+    private static final class MappedSource implements IslandMap.TileSource {
+        private final ByteBuffer buffer;
+        private final int recordsStart;
+        private final int minX;
+        private final int minY;
+        private final int width;
+        private final int cells;
+        private final int tileCount;
+        private final String[] dictionary;
+        private final String[] pool;
+        private final List<List<PlantFamily>> secondaryLists;
+        private final Map<String, Integer> customIds;
+
+        MappedSource(ByteBuffer buffer, int recordsStart, WorldGeometryConfig geometry, int tileCount,
+                     String[] dictionary, String[] pool, List<List<PlantFamily>> secondaryLists,
+                     Map<String, Integer> customIds) {
+            this.buffer = buffer;
+            this.recordsStart = recordsStart;
+            this.minX = geometry.getWorldMinX();
+            this.minY = geometry.getWorldMinY();
+            this.width = geometry.getWorldMaxX() - minX + 1;
+            this.cells = width * (geometry.getWorldMaxY() - minY + 1);
+            this.tileCount = tileCount;
+            this.dictionary = dictionary;
+            this.pool = pool;
+            this.secondaryLists = secondaryLists;
+            this.customIds = customIds;
+        }
+
+        @Override
+        public int tileCount() {
+            return tileCount;
+        }
+
+        @Override
+        public boolean has(int index) {
+            return (buffer.get(recordsStart + index * RECORD_BYTES) & FLAG_PRESENT) != 0;
+        }
+
+        @Override
+        public IslandTile load(int index) {
+            int at = recordsStart + index * RECORD_BYTES;
+            int flags = buffer.get(at);
+            int x = minX + index % width;
+            int y = minY + index / width;
+            int idCode = buffer.getInt(at + 4);
+            int primary = buffer.get(at + 14);
+            int density = buffer.get(at + 15);
+            TileContext context = new TileContext(pool[buffer.getInt(at + 24)]);
+            String current = pool[buffer.getInt(at + 28)];
+            if (!current.equals(context.getBaseDescription())) {
+                context.setCurrentDescription(current);
+            }
+            return new IslandTile(
+                    idCode == DERIVED_ID ? gardenId(x, y) : pool[idCode],
+                    TileKind.values()[buffer.get(at + 1)],
+                    new Position(x, y),
+                    dictionary[buffer.getShort(at + 8)],
+                    dictionary[buffer.getShort(at + 10)],
+                    dictionary[buffer.getShort(at + 12)],
+                    TerrainDifficulty.values()[buffer.get(at + 2)],
+                    TileSafety.values()[buffer.get(at + 3)],
+                    (flags & FLAG_WALKABLE) != 0,
+                    features(buffer.getInt(at + 16)),
+                    primary == NONE ? null : PlantFamily.values()[primary],
+                    secondaryLists.get(buffer.getShort(at + 20)),
+                    density == NONE ? null : PlantDensity.values()[density],
+                    context
+            );
+        }
+
+        @Override
+        public IslandTile peek(int index) {
+            return load(index);
+        }
+
+        @Override
+        public int indexOf(String tileId) {
+            Integer custom = customIds.get(tileId);
+            if (custom != null) {
+                return custom;
+            }
+            int index = derivedIndex(tileId);
+            return index >= 0 && has(index) && buffer.getInt(recordsStart + index * RECORD_BYTES + 4) == DERIVED_ID
+                    ? index : -1;
+        }
+
+        private int derivedIndex(String tileId) {
+            if (!tileId.startsWith("G_")) {
+                return -1;
+            }
+            int split = tileId.indexOf('_', tileId.charAt(2) == '-' ? 3 : 2);
+            if (split < 0) {
+                return -1;
+            }
+            try {
+                int dx = Integer.parseInt(tileId, 2, split, 10) - minX;
+                int dy = Integer.parseInt(tileId, split + 1, tileId.length(), 10) - minY;
+                int index = dx + width * dy;
+                return dx < 0 || dx >= width || dy < 0 || index >= cells ? -1 : index;
+            } catch (NumberFormatException ex) {
+                return -1;
+            }
+        }
+
+        private static Set<TerrainFeature> features(int bits) {
+            if (bits == 0) {
+                return Set.of();
+            }
+            Set<TerrainFeature> features = EnumSet.noneOf(TerrainFeature.class);
+            for (TerrainFeature feature : TerrainFeature.values()) {
+                if ((bits & (1 << feature.ordinal())) != 0) {
+                    features.add(feature);
+                }
+            }
+            return features;
+        }
+    }
+}
@@ -34,20 +34,32 @@ public final class WorldGeometry {
     }
 
     public static boolean isInsideWorldEnvelope(Position pos) {
-        return pos.x() >= WORLD_MIN_X && pos.x() <= WORLD_MAX_X
-                && pos.y() >= WORLD_MIN_Y && pos.y() <= WORLD_MAX_Y;
+        return isInsideWorldEnvelope(pos.x(), pos.y());
+    }
+
+    public static boolean isInsideWorldEnvelope(int x, int y) {
+        return x >= WORLD_MIN_X && x <= WORLD_MAX_X
+                && y >= WORLD_MIN_Y && y <= WORLD_MAX_Y;
     }
 
     public static boolean isInsideIslandBand(Position pos) {
-        return pos.x() >= ISLAND_MIN_X && pos.x() <= ISLAND_MAX_X
-                && pos.y() >= ISLAND_MIN_Y && pos.y() <= ISLAND_MAX_Y;
+        return isInsideIslandBand(pos.x(), pos.y());
+    }
+
+    public static boolean isInsideIslandBand(int x, int y) {
+        return x >= ISLAND_MIN_X && x <= ISLAND_MAX_X
+                && y >= ISLAND_MIN_Y && y <= ISLAND_MAX_Y;
     }
 
     public static Classification classify(Position pos) {
-        if (!isInsideWorldEnvelope(pos)) {
+        return classify(pos.x(), pos.y());
+    }
+
+    public static Classification classify(int x, int y) {
+        if (!isInsideWorldEnvelope(x, y)) {
             return Classification.OFF_WORLD;
         }
-        if (isInsideIslandBand(pos)) {
+        if (isInsideIslandBand(x, y)) {
             return Classification.ISLAND_ELIGIBLE;
         }
         return Classification.BOUNDARY;
@@ -0,0 +1,169 @@
+package com.demo.island.world;
+
+/**
+ * Per-world geometry: envelope, island band, spawn, and the last walkable row before the rim.
+ * The default config matches the canonical {@link WorldGeometry} constants.
+ */
+public final class WorldGeometryConfig {
+
+    /** Upper bound on gardened plots so a mistyped size cannot exhaust the heap (2048 x 2048). */
+    public static final int MAX_ISLAND_PLOTS = 2048 * 2048;
+
+    private static final int MIN_ISLAND_WIDTH = 10;
+    private static final int MIN_ISLAND_HEIGHT = 9;
+    private static final int RIM_DEPTH = 4;
+
+    private static final WorldGeometryConfig DEFAULT = new WorldGeometryConfig(
+            WorldGeometry.ISLAND_MIN_X, WorldGeometry.ISLAND_MAX_X,
+            WorldGeometry.ISLAND_MIN_Y, WorldGeometry.ISLAND_MAX_Y,
+            WorldGeometry.ISLAND_MAX_Y - RIM_DEPTH);
+
+    private final int worldMinX;
+    private final int worldMaxX;
+    private final int worldMinY;
+    private final int worldMaxY;
+    private final int islandMinX;
+    private final int islandMaxX;
+    private final int islandMinY;
+    private final int islandMaxY;
+    private final int rimStartY;
+    private final Position spawn;
+
+    private WorldGeometryConfig(int islandMinX, int islandMaxX, int islandMinY, int islandMaxY, int walkableMaxY) {
+        this.islandMinX = islandMinX;
+        this.islandMaxX = islandMaxX;
+        this.islandMinY = islandMinY;
+        this.islandMaxY = islandMaxY;
+        // One boundary ring around the island band
+        this.worldMinX = islandMinX - 1;
+        this.worldMaxX = islandMaxX + 1;
+        this.worldMinY = islandMinY - 1;
+        this.worldMaxY = islandMaxY + 1;
+        this.rimStartY = walkableMaxY + 1;
+        this.spawn = WorldGeometry.SPAWN;
+    }
+
+    public static WorldGeometryConfig defaultConfig() {
+        return DEFAULT;
+    }
+
+    /**
+     * Island band of {@code width x height} plots laid out around the canonical anchors:
+     * x spans {@code [1 - width/2, width - width/2]} and y spans {@code [0, height - 1]}.
+     * {@code island(10, 9)} reproduces the default geometry.
+     */
+    public static WorldGeometryConfig island(int width, int height) {
+        if (width < MIN_ISLAND_WIDTH || height < MIN_ISLAND_HEIGHT) {
+            throw new IllegalArgumentException("Island band must be at least " + MIN_ISLAND_WIDTH + "x" + MIN_ISLAND_HEIGHT
+                    + " to hold the anchors and cave; got " + width + "x" + height);
+        }
+        if ((long) width * height > MAX_ISLAND_PLOTS) {
+            throw new IllegalArgumentException("Island band " + width + "x" + height + " exceeds " + MAX_ISLAND_PLOTS + " plots");
+        }
+        int minX = 1 - width / 2;
+        int maxX = minX + width - 1;
+        int maxY = height - 1;
+        return new WorldGeometryConfig(minX, maxX, 0, maxY, maxY - RIM_DEPTH);
+    }
+
+    public int getWorldMinX() {
+        return worldMinX;
+    }
+
+    public int getWorldMaxX() {
+        return worldMaxX;
+    }
+
+    public int getWorldMinY() {
+        return worldMinY;
+    }
+
+    public int getWorldMaxY() {
+        return worldMaxY;
+    }
+
+    public int getIslandMinX() {
+        return islandMinX;
+    }
+
+    public int getIslandMaxX() {
+        return islandMaxX;
+    }
+
+    public int getIslandMinY() {
+        return islandMinY;
+    }
+
+    public int getIslandMaxY() {
+        return islandMaxY;
+    }
+
+    /**
+     * First row of the impassable top rim; gardened plots at or above it start IMPOSSIBLE.
+     */
+    public int getRimStartY() {
+        return rimStartY;
+    }
+
+    public Position getSpawn() {
+        return spawn;
+    }
+
+    public int getIslandWidth() {
+        return islandMaxX - islandMinX + 1;
+    }
+
+    public int getIslandHeight() {
+        return islandMaxY - islandMinY + 1;
+    }
+
+    public int getIslandEligiblePlotCount() {
+        return getIslandWidth() * getIslandHeight();
+    }
+
+    public boolean isInsideWorldEnvelope(int x, int y) {
+        return x >= worldMinX && x <= worldMaxX
+                && y >= worldMinY && y <= worldMaxY;
+    }
+
+    public boolean isInsideIslandBand(int x, int y) {
+        return x >= islandMinX && x <= islandMaxX
+                && y >= islandMinY && y <= islandMaxY;
+    }
+
+    public WorldGeometry.Classification classify(int x, int y) {
+        if (!isInsideWorldEnvelope(x, y)) {
+            return WorldGeometry.Classification.OFF_WORLD;
+        }
+        if (isInsideIslandBand(x, y)) {
+            return WorldGeometry.Classification.ISLAND_ELIGIBLE;
+        }
+        return WorldGeometry.Classification.BOUNDARY;
+    }
+
+    public WorldGeometry.Classification classify(Position pos) {
+        return classify(pos.x(), pos.y());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof WorldGeometryConfig other)) return false;
+        // Envelope and spawn derive from the band and rim
+        return islandMinX == other.islandMinX && islandMaxX == other.islandMaxX
+                && islandMinY == other.islandMinY && islandMaxY == other.islandMaxY
+                && rimStartY == other.rimStartY;
+    }
+
+    @Override
+    public int hashCode() {
+        return java.util.Objects.hash(islandMinX, islandMaxX, islandMinY, islandMaxY, rimStartY);
+    }
+
+    @Override
+    public String toString() {
+        return "envelope x=[" + worldMinX + "," + worldMaxX + "] y=[" + worldMinY + "," + worldMaxY + "]; "
+                + "islandBand x=[" + islandMinX + "," + islandMaxX + "] y=[" + islandMinY + "," + islandMaxY + "]; "
+                + "rimStartY=" + rimStartY + "; spawn=" + spawn;
+    }
+}
@@ -0,0 +1,57 @@
+package com.demo.island.world;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds each world configuration once and hands out copy-on-write overlays of it.
+ * <p>
+ * World building is deterministic for a given geometry and gardener config, so the built map is kept as an
+ * immutable template. Callers get a fresh {@link IslandMap#overlay()} sharing the template's terrain; the
+ * creation report is shared and must be treated as read-only. Navigation fields for every anchor and every
+ * plot's exits are built into the template, so overlays route to anchors without searching and describe exits
+ * without rebuilding them.
+ */
+public final class WorldTemplateCache {
+
+    private record Key(WorldGeometryConfig geometry, GardenerWorldConfig gardener) {
+    }
+
+    private static final Map<Key, IslandCreationResult> TEMPLATES = new ConcurrentHashMap<>();
+
+    private WorldTemplateCache() {
+    }
+
+    public static IslandCreationResult instantiate() {
+        return instantiate(WorldGeometryConfig.defaultConfig(), GardenerWorldConfig.defaultConfig());
+    }
+
+    public static IslandCreationResult instantiate(WorldGeometryConfig geometry, GardenerWorldConfig gardener) {
+        IslandCreationResult template = TEMPLATES.computeIfAbsent(new Key(geometry, gardener),
+                key -> withPrecomputedRouting(IslandWorldBuilder.buildWorldWithLogging(key.geometry(), key.gardener())));
+        return new IslandCreationResult(template.getMap().overlay(), template.getReport());
+    }
+
+    private static IslandCreationResult withPrecomputedRouting(IslandCreationResult result) {
+        IslandMap map = result.getMap();
+        List<String> anchors = new ArrayList<>();
+        for (IslandTile tile : map.allTiles()) {
+            map.exits(tile);
+            if (tile.getKind() == TileKind.ANCHOR) {
+                anchors.add(tile.getTileId());
+            }
+        }
+        map.getNavigation().precompute(anchors);
+        return result;
+    }
+
+    public static int size() {
+        return TEMPLATES.size();
+    }
+
+    public static void clear() {
+        TEMPLATES.clear();
+    }
+}
@@ -1,26 +1,101 @@
 package com.demo.island.world;
 
+import com.demo.island.game.GameItemType;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+/**
+ * Registry of Things with secondary indexes by carrier, by item type per plot, by tag, and by tag per plot.
+ * <p>
+ * Each registered Thing gets a dense int handle; plot occupancy stores handles, and string ids are only
+ * needed at the DTO and prompt boundary.
+ * <p>
+ * {@link #moveThing}, {@link #registerThing} and {@link ItemThing#setCarriedByCharacterId} keep the indexes in
+ * step. Tags are indexed when a Thing is registered; tags added later are not seen by {@link #getThingsWithTag}
+ * or {@link #isTaggedThingAt}.
+ */
 public final class WorldThingIndex {
 
     private final IslandMap map;
     private final Map<String, Thing> thingsById = new HashMap<>();
+    private final List<Thing> thingsByHandle = new ArrayList<>();
+    private final Map<String, Set<ItemThing>> itemsByCarrier = new HashMap<>();
+    private final Map<String, Map<GameItemType, Set<ItemThing>>> itemsByPlot = new HashMap<>();
+    private final Map<String, Set<Thing>> thingsByTag = new HashMap<>();
+    // plot id -> tag -> Things with the tag that are in the plot or call it home
+    private final Map<String, Map<String, Integer>> tagCountsByPlot = new HashMap<>();
+    private long version;
 
     public WorldThingIndex(IslandMap map) {
         this.map = map;
     }
 
     public void registerThing(Thing thing) {
-        thingsById.put(thing.getId(), thing);
-        if (thing.getCurrentPlotId() != null) {
-            map.get(thing.getCurrentPlotId()).ifPresent(tile -> tile.getThingsPresent().add(thing.getId()));
+        version++;
+        Thing previous = thingsById.put(thing.getId(), thing);
+        if (previous != null) {
+            unindex(previous);
+            thing.setHandle(previous.getHandle());
+            thingsByHandle.set(previous.getHandle(), thing);
+        } else {
+            thing.setHandle(thingsByHandle.size());
+            thingsByHandle.add(thing);
+        }
+        int handle = thing.getHandle();
+        IslandTile current = plot(thing.getCurrentPlotId());
+        if (current != null) {
+            current.getThingHandlesPresent().add(handle);
         }
         for (String home : thing.getHomePlotIds()) {
-            map.get(home).ifPresent(tile -> tile.getThingsAnchoredHere().add(thing.getId()));
+            IslandTile tile = plot(home);
+            if (tile != null) {
+                tile.getThingHandlesAnchoredHere().add(handle);
+            }
+        }
+        for (String tag : thing.getTags()) {
+            thingsByTag.computeIfAbsent(tag, k -> new LinkedHashSet<>()).add(thing);
+        }
+        for (String plotId : tagPlots(thing)) {
+            countTags(thing, plotId, 1);
+        }
+        if (thing instanceof ItemThing item) {
+            item.attachIndex(this);
+            indexInPlot(item, item.getCurrentPlotId());
+            carrierChanged(item, null, item.getCarriedByCharacterId());
+        }
+    }
+
+    private void unindex(Thing thing) {
+        IslandTile current = plot(thing.getCurrentPlotId());
+        if (current != null) {
+            current.getThingHandlesPresent().remove(thing.getHandle());
+        }
+        for (String home : thing.getHomePlotIds()) {
+            IslandTile tile = plot(home);
+            if (tile != null) {
+                tile.getThingHandlesAnchoredHere().remove(thing.getHandle());
+            }
+        }
+        for (String tag : thing.getTags()) {
+            Set<Thing> tagged = thingsByTag.get(tag);
+            if (tagged != null) {
+                tagged.remove(thing);
+            }
+        }
+        for (String plotId : tagPlots(thing)) {
+            countTags(thing, plotId, -1);
+        }
+        if (thing instanceof ItemThing item) {
+            unindexInPlot(item, item.getCurrentPlotId());
+            carrierChanged(item, item.getCarriedByCharacterId(), null);
+            item.attachIndex(null);
         }
     }
 
@@ -28,33 +103,182 @@ public final class WorldThingIndex {
         return thingsById.get(id);
     }
 
+    /**
+     * Thing registered under the handle, or null.
+     */
+    public Thing getThing(int handle) {
+        return handle >= 0 && handle < thingsByHandle.size() ? thingsByHandle.get(handle) : null;
+    }
+
+    /**
+     * Handle for a string id, or -1 when not registered.
+     */
+    public int handleOf(String id) {
+        Thing thing = thingsById.get(id);
+        return thing == null ? -1 : thing.getHandle();
+    }
+
     public List<Thing> getThingsInPlot(String plotId) {
-        List<Thing> list = new ArrayList<>();
-        map.get(plotId).ifPresent(tile -> {
-            for (String tid : tile.getThingsPresent()) {
-                Thing t = thingsById.get(tid);
-                if (t != null) {
-                    list.add(t);
-                }
+        return getThingsInPlot(plot(plotId));
+    }
+
+    public List<Thing> getThingsInPlot(IslandTile tile) {
+        if (tile == null) {
+            return List.of();
+        }
+        IntIdSet handles = tile.getThingHandlesPresent();
+        List<Thing> list = new ArrayList<>(handles.size());
+        for (int i = 0; i < handles.size(); i++) {
+            Thing t = getThing(handles.get(i));
+            if (t != null) {
+                list.add(t);
             }
-        });
+        }
         return list;
     }
 
     public void moveThing(String thingId, String newPlotId) {
         Thing thing = thingsById.get(thingId);
         if (thing == null) return;
+        version++;
         String old = thing.getCurrentPlotId();
-        if (old != null) {
-            map.get(old).ifPresent(tile -> tile.getThingsPresent().remove(thingId));
+        IslandTile oldTile = plot(old);
+        if (oldTile != null) {
+            oldTile.getThingHandlesPresent().remove(thing.getHandle());
+        }
+        if (thing instanceof ItemThing item) {
+            unindexInPlot(item, old);
+            indexInPlot(item, newPlotId);
+        }
+        // Home plots count whether or not the Thing is there
+        if (!thing.getHomePlotIds().contains(old)) {
+            countTags(thing, old, -1);
+        }
+        if (!thing.getHomePlotIds().contains(newPlotId)) {
+            countTags(thing, newPlotId, 1);
         }
         thing.setCurrentPlotId(newPlotId);
-        if (newPlotId != null) {
-            map.get(newPlotId).ifPresent(tile -> tile.getThingsPresent().add(thingId));
+        IslandTile newTile = plot(newPlotId);
+        if (newTile != null) {
+            newTile.getThingHandlesPresent().add(thing.getHandle());
         }
     }
 
+    private IslandTile plot(String plotId) {
+        return plotId == null ? null : map.tile(plotId);
+    }
+
+    /**
+     * Items carried by the character, in the order they were picked up.
+     */
+    public Set<ItemThing> getCarriedBy(String carrierId) {
+        Set<ItemThing> carried = carrierId == null ? null : itemsByCarrier.get(carrierId);
+        return carried == null ? Set.of() : Collections.unmodifiableSet(carried);
+    }
+
+    /**
+     * First item of the type carried by the character, or null.
+     */
+    public ItemThing findCarried(String carrierId, GameItemType type) {
+        if (type == null) return null;
+        for (ItemThing item : getCarriedBy(carrierId)) {
+            if (item.getItemType() == type) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Items of the type lying in the plot, in arrival order.
+     */
+    public Set<ItemThing> getItemsInPlot(String plotId, GameItemType type) {
+        if (plotId == null || type == null) return Set.of();
+        Map<GameItemType, Set<ItemThing>> byType = itemsByPlot.get(plotId);
+        Set<ItemThing> items = byType == null ? null : byType.get(type);
+        return items == null ? Set.of() : Collections.unmodifiableSet(items);
+    }
+
+    public Set<Thing> getThingsWithTag(String tag) {
+        Set<Thing> tagged = tag == null ? null : thingsByTag.get(tag);
+        return tagged == null ? Set.of() : Collections.unmodifiableSet(tagged);
+    }
+
+    /**
+     * True when a Thing with the tag is in the plot or calls it home; one lookup in the per-plot tag counts.
+     */
+    public boolean isTaggedThingAt(String plotId, String tag) {
+        if (plotId == null || tag == null) return false;
+        Map<String, Integer> counts = tagCountsByPlot.get(plotId);
+        return counts != null && counts.containsKey(tag);
+    }
+
+    /**
+     * Bumped whenever a Thing is registered, moved, or changes carrier; equal versions mean every plot still
+     * holds the same Things.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     public Map<String, Thing> getAll() {
         return thingsById;
     }
+
+    void carrierChanged(ItemThing item, String oldCarrierId, String newCarrierId) {
+        version++;
+        if (oldCarrierId != null) {
+            Set<ItemThing> carried = itemsByCarrier.get(oldCarrierId);
+            if (carried != null) {
+                carried.remove(item);
+                if (carried.isEmpty()) {
+                    itemsByCarrier.remove(oldCarrierId);
+                }
+            }
+        }
+        if (newCarrierId != null) {
+            itemsByCarrier.computeIfAbsent(newCarrierId, k -> new LinkedHashSet<>()).add(item);
+        }
+    }
+
+    private static Set<String> tagPlots(Thing thing) {
+        Set<String> plots = new LinkedHashSet<>(thing.getHomePlotIds());
+        if (thing.getCurrentPlotId() != null) {
+            plots.add(thing.getCurrentPlotId());
+        }
+        return plots;
+    }
+
+    private void countTags(Thing thing, String plotId, int delta) {
+        if (plotId == null || thing.getTags().isEmpty()) return;
+        Map<String, Integer> counts = tagCountsByPlot.computeIfAbsent(plotId, k -> new HashMap<>());
+        for (String tag : thing.getTags()) {
+            counts.merge(tag, delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+        if (counts.isEmpty()) {
+            tagCountsByPlot.remove(plotId);
+        }
+    }
+
+    private void indexInPlot(ItemThing item, String plotId) {
+        if (plotId == null || item.getItemType() == null) return;
+        itemsByPlot.computeIfAbsent(plotId, k -> new EnumMap<>(GameItemType.class))
+                .computeIfAbsent(item.getItemType(), k -> new LinkedHashSet<>())
+                .add(item);
+    }
+
+    private void unindexInPlot(ItemThing item, String plotId) {
+        if (plotId == null || item.getItemType() == null) return;
+        Map<GameItemType, Set<ItemThing>> byType = itemsByPlot.get(plotId);
+        if (byType == null) return;
+        Set<ItemThing> items = byType.get(item.getItemType());
+        if (items == null) return;
+        items.remove(item);
+        if (items.isEmpty()) {
+            byType.remove(item.getItemType());
+            if (byType.isEmpty()) {
+                itemsByPlot.remove(plotId);
+            }
+        }
+    }
 }
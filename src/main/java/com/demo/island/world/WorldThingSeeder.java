@@ -12,13 +12,16 @@ import java.util.Set;
  */
 public final class WorldThingSeeder {
 
+    /** String id of the player character; {@link WorldThingIndex} looks Things up by this id, not by handle. */
+    public static final String PLAYER_ID = "THING_PLAYER";
+
     private WorldThingSeeder() {
     }
 
     public static WorldThingIndex seed(IslandMap map) {
         WorldThingIndex index = new WorldThingIndex(map);
 
-        CharacterThing player = new CharacterThing("THING_PLAYER", "you", ThingKind.CHARACTER, "T_WRECK_BEACH");
+        CharacterThing player = new CharacterThing(PLAYER_ID, "you", ThingKind.CHARACTER, "T_WRECK_BEACH");
         player.getAbilityScores().put(Ability.STR, 12);
         player.getAbilityScores().put(Ability.DEX, 14);
         player.getAbilityScores().put(Ability.CON, 12);
@@ -0,0 +1,77 @@
+package com.demo.island.ai;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AgentUsageTest {
+
+    private static final Duration LONG = Duration.ofSeconds(10);
+    private static final String SYSTEM = "You are the DM.";
+    private static final String USER = "DM_AGENT_CONTEXT\nCoreDM: You see sand.";
+
+    @Test
+    void recordsPromptCharsTokensAndLatencyPerAgent() throws Exception {
+        StandInChatModel model = StandInChatModel.instant(1L);
+        AgentUsage usage = new AgentUsage();
+        try (LlmGateway gateway = new LlmGateway(2, 10)) {
+            ChatResponse response = usage.call(gateway, "dm", LONG, SYSTEM, USER,
+                    () -> model.call(new Prompt(List.of(new SystemMessage(SYSTEM), new UserMessage(USER)))));
+            assertThat(response.getResult().getOutput().getText()).isEqualTo("You see sand.");
+        }
+        usage.recordFallback("player", "no_tool_call");
+
+        AgentUsage.Stats dm = usage.getAgentStats().get("dm");
+        assertThat(dm.calls()).isEqualTo(1);
+        assertThat(dm.promptChars()).isEqualTo(SYSTEM.length() + USER.length());
+        assertThat(dm.promptTokens()).isEqualTo((SYSTEM.length() + USER.length() + 3) / 4);
+        assertThat(dm.completionTokens()).isPositive();
+        assertThat(dm.maxLatencyMillis()).isGreaterThanOrEqualTo(0.0);
+        assertThat(usage.getAgentStats().get("player").fallbacks()).containsEntry("no_tool_call", 1L);
+        assertThat(usage.getTotals().calls()).isEqualTo(1);
+        assertThat(usage.getTotals().fallbackCount()).isEqualTo(1);
+    }
+
+    @Test
+    void timeoutsAreRecordedAsFallbacks() {
+        AgentUsage usage = new AgentUsage();
+        try (LlmGateway gateway = new LlmGateway(1, 0)) {
+            assertThatThrownBy(() -> usage.call(gateway, "ghost", Duration.ofMillis(20), SYSTEM, USER, () -> {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            })).isInstanceOf(TimeoutException.class);
+        }
+        AgentUsage.Stats ghost = usage.getAgentStats().get("ghost");
+        assertThat(ghost.calls()).isEqualTo(1);
+        assertThat(ghost.totalTokens()).isZero();
+        assertThat(ghost.fallbacks()).containsEntry("timeout", 1L);
+    }
+
+    @Test
+    void budgetTripsOnceALimitIsCrossed() throws Exception {
+        StandInChatModel model = StandInChatModel.instant(1L);
+        AgentUsage usage = new AgentUsage(new AgentUsage.Budget(0, 2, 0));
+        try (LlmGateway gateway = new LlmGateway(1, 10)) {
+            for (int i = 0; i < 2; i++) {
+                usage.call(gateway, "dm", LONG, SYSTEM, USER, () -> model.call(new Prompt(new UserMessage(USER))));
+            }
+            assertThat(usage.isOverBudget()).isFalse();
+            usage.call(gateway, "dm", LONG, SYSTEM, USER, () -> model.call(new Prompt(new UserMessage(USER))));
+        }
+        assertThat(usage.isOverBudget()).isTrue();
+        assertThat(AgentUsage.Budget.UNLIMITED.exceededBy(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE)).isFalse();
+    }
+}
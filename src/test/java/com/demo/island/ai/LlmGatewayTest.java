@@ -0,0 +1,116 @@
+package com.demo.island.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LlmGatewayTest {
+
+    private static final Duration LONG = Duration.ofSeconds(10);
+
+    @Test
+    void capsInFlightCallsAndQueuesTheRest() throws Exception {
+        try (LlmGateway gateway = new LlmGateway(2, 10)) {
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger peak = new AtomicInteger();
+            AtomicInteger running = new AtomicInteger();
+            CompletableFuture<?>[] calls = new CompletableFuture<?>[5];
+            for (int i = 0; i < calls.length; i++) {
+                calls[i] = gateway.submit("dm", LONG, () -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    await(release);
+                    running.decrementAndGet();
+                    return "ok";
+                });
+            }
+            waitUntil(() -> gateway.getInFlight() == 2);
+            assertThat(gateway.getQueueDepth()).isEqualTo(3);
+
+            release.countDown();
+            CompletableFuture.allOf(calls).get(5, TimeUnit.SECONDS);
+            assertThat(peak.get()).isEqualTo(2);
+            LlmGateway.AgentStats stats = gateway.getAgentStats().get("dm");
+            assertThat(stats.calls()).isEqualTo(5);
+            assertThat(stats.succeeded()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void timeoutInterruptsTheRunningCall() throws Exception {
+        try (LlmGateway gateway = new LlmGateway(1, 10)) {
+            AtomicBoolean interrupted = new AtomicBoolean();
+            CountDownLatch finished = new CountDownLatch(1);
+            assertThatThrownBy(() -> gateway.call("ghost", Duration.ofMillis(50), () -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                } finally {
+                    finished.countDown();
+                }
+                return "late";
+            })).isInstanceOf(TimeoutException.class);
+
+            assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(interrupted).isTrue();
+            assertThat(gateway.getAgentStats().get("ghost").timedOut()).isEqualTo(1);
+            assertThat(gateway.call("ghost", LONG, () -> "next")).isEqualTo("next");
+        }
+    }
+
+    @Test
+    void rejectsWhenQueueIsFullAndDropsCancelledQueuedCalls() throws Exception {
+        try (LlmGateway gateway = new LlmGateway(1, 1)) {
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<String> busy = gateway.submit("monkey", LONG, () -> {
+                await(release);
+                return "busy";
+            });
+            waitUntil(() -> gateway.getInFlight() == 1);
+            AtomicBoolean ran = new AtomicBoolean();
+            CompletableFuture<String> queued = gateway.submit("monkey", LONG, () -> {
+                ran.set(true);
+                return "queued";
+            });
+            CompletableFuture<String> overflow = gateway.submit("monkey", LONG, () -> "overflow");
+            assertThatThrownBy(overflow::join).hasCauseInstanceOf(RejectedExecutionException.class);
+
+            queued.cancel(true);
+            assertThat(gateway.getQueueDepth()).isZero();
+            release.countDown();
+            assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo("busy");
+            assertThat(ran).isFalse();
+
+            LlmGateway.AgentStats stats = gateway.getAgentStats().get("monkey");
+            assertThat(stats.rejected()).isEqualTo(1);
+            assertThat(stats.cancelled()).isEqualTo(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,75 @@
+package com.demo.island.ai;
+
+import com.demo.island.game.AgentDecision;
+import com.demo.island.game.ExternalPlayerAgent;
+import com.demo.island.game.GameSession;
+import com.demo.island.game.monkey.MonkeyDecision;
+import com.demo.island.game.monkey.MonkeyState;
+import com.demo.island.game.monkey.SpringAiMonkeyAgent;
+import com.demo.island.player.LlmExternalPlayerAgent;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StandInChatModelTest {
+
+    @Test
+    void playerAgentGetsAMappableToolCall() {
+        ChatClient client = ChatClient.builder(StandInChatModel.instant(3L)).build();
+        LlmExternalPlayerAgent agent = new LlmExternalPlayerAgent(client, "You are the player.", Map.of());
+
+        AgentDecision decision = agent.decideNext(GameSession.newSession(), null);
+
+        assertThat(decision.getReason()).doesNotStartWith("Fallback");
+    }
+
+    @Test
+    void droppedPlayerProposalLeavesTheAgentUnchanged() {
+        StandInChatModel standIn = StandInChatModel.instant(3L);
+        List<String> prompts = new ArrayList<>();
+        ChatModel recording = prompt -> {
+            prompts.add(prompt.getContents());
+            return standIn.call(prompt);
+        };
+        LlmExternalPlayerAgent agent = new LlmExternalPlayerAgent(ChatClient.builder(recording).build(),
+                "You are the player.", Map.of());
+        GameSession session = GameSession.newSession();
+
+        ExternalPlayerAgent.Proposal dropped = agent.proposeNext(session, null);
+        ExternalPlayerAgent.Proposal kept = agent.proposeNext(session, null);
+        kept.accept();
+        agent.decideNext(session, null);
+
+        assertThat(prompts.get(0)).contains("Turn: 1");
+        assertThat(prompts.get(1)).contains("Turn: 1");
+        assertThat(prompts.get(2)).contains("Turn: 2");
+        assertThatThrownBy(dropped::accept).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void monkeyAgentGetsAHeuristicMove() {
+        ChatClient client = ChatClient.builder(StandInChatModel.instant(3L)).build();
+        SpringAiMonkeyAgent agent = new SpringAiMonkeyAgent(client, "You are a monkey.");
+
+        MonkeyDecision decision = agent.decide(new MonkeyState(4, "THING_MONKEY", "T_VINE_FOREST", "T_VINE_FOREST",
+                "Vines.", Map.of("N", "Trees", "S", "Beach"), false));
+
+        assertThat(decision).isNotNull();
+        assertThat(decision.request().getDirection()).isNotNull();
+    }
+
+    @Test
+    void failureRateOneAlwaysFails() {
+        StandInChatModel model = new StandInChatModel(1L, 0, 0, 0, 1.0);
+
+        assertThatThrownBy(() -> model.call("hello")).isInstanceOf(IllegalStateException.class);
+        assertThat(model.getFailures()).isEqualTo(1);
+    }
+}
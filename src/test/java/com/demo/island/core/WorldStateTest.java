@@ -0,0 +1,85 @@
+package com.demo.island.core;
+
+import com.demo.island.world.WorldFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorldStateTest {
+
+    @Test
+    void snapshotSharesUntilTheLiveWorldChanges() {
+        WorldState live = WorldFactory.createDemoWorld("snapshot");
+        String playerId = live.getPlayers().keySet().iterator().next();
+        Player before = live.getPlayer(playerId);
+        String startTile = before.getCurrentTileId();
+
+        WorldState snapshot = live.snapshot();
+        assertThat(snapshot.isSnapshot()).isTrue();
+        assertThat(snapshot.snapshot()).isSameAs(snapshot);
+        assertThat(snapshot.getPlayer(playerId)).isSameAs(before);
+
+        Player player = live.getPlayer(playerId);
+        player.moveToTile("T_BAMBOO");
+        player.getStats().set("HP", 1);
+        player.addItem("ITEM_X");
+        live.getTile("T_BAMBOO").setDiscovered(true);
+        live.getSession().advanceTurn();
+        live.getTiles().put("T_NEW", new Tile("T_NEW", "BEACH", "SOUTH", TextFace.empty("New")));
+
+        assertThat(player).isNotSameAs(before);
+        assertThat(live.getPlayer(playerId)).isSameAs(player);
+        assertThat(snapshot.getPlayer(playerId).getCurrentTileId()).isEqualTo(startTile);
+        assertThat(snapshot.getPlayer(playerId).getStats().has("HP")).isFalse();
+        assertThat(snapshot.getPlayer(playerId).getInventoryItemIds()).doesNotContain("ITEM_X");
+        assertThat(snapshot.getTile("T_BAMBOO").isDiscovered()).isFalse();
+        assertThat(snapshot.getSession().getTurnNumber()).isZero();
+        assertThat(snapshot.getTiles()).doesNotContainKey("T_NEW");
+        assertThat(live.getTiles()).containsKey("T_NEW");
+        assertThatThrownBy(() -> snapshot.getTiles().remove("T_CAMP"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void iteratingTheLiveWorldCopiesEachEntityOnce() {
+        WorldState live = WorldFactory.createDemoWorld("snapshot-iterate");
+        WorldState snapshot = live.snapshot();
+
+        for (Tile tile : live.getTiles().values()) {
+            assertThat(tile).isNotSameAs(snapshot.getTile(tile.getTileId()));
+            assertThat(live.getTile(tile.getTileId())).isSameAs(tile);
+            tile.setDiscovered(true);
+        }
+        live.getTiles().entrySet().removeIf(e -> e.getKey().equals("T_CAMP"));
+
+        assertThat(snapshot.getTiles().values()).noneMatch(Tile::isDiscovered);
+        assertThat(snapshot.getTiles()).containsKey("T_CAMP");
+        assertThat(live.getTiles()).doesNotContainKey("T_CAMP").hasSize(snapshot.getTiles().size() - 1);
+    }
+
+    @Test
+    void snapshotsReadOnAnotherThreadSeeOneTurn() throws Exception {
+        WorldState live = WorldFactory.createDemoWorld("snapshot-threads");
+        String playerId = live.getPlayers().keySet().iterator().next();
+        for (int turn = 0; turn < 50; turn++) {
+            WorldState snapshot = live.snapshot();
+            int expected = snapshot.getSession().getTurnNumber();
+            String tile = snapshot.getPlayer(playerId).getCurrentTileId();
+            CompletableFuture<Boolean> consistent = CompletableFuture.supplyAsync(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    if (snapshot.getSession().getTurnNumber() != expected
+                            || !snapshot.getPlayer(playerId).getCurrentTileId().equals(tile)) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+            live.getPlayer(playerId).moveToTile(turn % 2 == 0 ? "T_BAMBOO" : "T_CAMP");
+            live.getSession().advanceTurn();
+            assertThat(consistent.get()).isTrue();
+        }
+    }
+}
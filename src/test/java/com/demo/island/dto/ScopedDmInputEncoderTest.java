@@ -0,0 +1,145 @@
+package com.demo.island.dto;
+
+import com.demo.island.ai.SpringAiDmAgent;
+import com.demo.island.ai.StandInChatModel;
+import com.demo.island.core.Creature;
+import com.demo.island.core.GameSession;
+import com.demo.island.core.ItemInstance;
+import com.demo.island.core.ItemType;
+import com.demo.island.core.Player;
+import com.demo.island.core.TextFace;
+import com.demo.island.core.Tile;
+import com.demo.island.core.WorldState;
+import com.demo.island.engine.DmDecision;
+import com.demo.island.engine.DmInput;
+import com.demo.island.engine.PlayerCommand;
+import com.demo.island.world.WorldFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScopedDmInputEncoderTest {
+
+    private static final PlayerCommand LOOK = new PlayerCommand("p1", "LOOK AROUND");
+
+    @Test
+    void sendsEverythingWithinTheRadiusAndNothingBeyond() {
+        WorldState world = corridor();
+        ScopedDmInputEncoder encoder = new ScopedDmInputEncoder(3, 32);
+
+        DmInputDto payload = encoder.encode(world, LOOK);
+        assertThat(tileIds(payload)).containsExactly("T0", "T1", "T2", "T3");
+        assertThat(payload.getItems()).extracting(ItemSnapshot::getItemId).containsExactly("ROPE");
+        assertThat(payload.getCreatures()).extracting(CreatureSnapshot::getCreatureId).containsExactly("GHOST");
+        assertThat(payload.getPlayers()).extracting(PlayerSnapshot::getPlayerId).containsExactly("p1");
+        assertThat(payload.getScope()).isEqualTo(new DmInputDto.Scope(3, 0));
+
+        ScopedDmInputEncoder.Metrics metrics = encoder.getMetrics();
+        assertThat(metrics.payloads()).isEqualTo(1);
+        assertThat(metrics.near()).isEqualTo(3);
+        assertThat(metrics.far()).isEqualTo(4);
+    }
+
+    @Test
+    void everyPayloadStandsOnItsOwn() {
+        WorldState world = corridor();
+        ScopedDmInputEncoder encoder = new ScopedDmInputEncoder(3, 32);
+
+        // Whether or not the DM call for the first payload succeeded, the next one repeats what is still in range
+        DmInputDto first = encoder.encode(world, LOOK);
+        world.getSession().advanceTurn();
+        DmInputDto second = encoder.encode(world, LOOK);
+
+        assertThat(tileIds(second)).isEqualTo(tileIds(first));
+        assertThat(second.getItems()).extracting(ItemSnapshot::getItemId)
+                .containsExactlyElementsOf(first.getItems().stream().map(ItemSnapshot::getItemId).toList());
+        assertThat(second.getCreatures()).extracting(CreatureSnapshot::getCreatureId)
+                .containsExactlyElementsOf(first.getCreatures().stream().map(CreatureSnapshot::getCreatureId).toList());
+    }
+
+    @Test
+    void aFailedDmCallChangesNothingForTheNextPayload() {
+        WorldState world = corridor();
+        List<String> prompts = new ArrayList<>();
+        ChatModel failingOnce = prompt -> {
+            prompts.add(prompt.getContents());
+            if (prompts.size() == 1) {
+                throw new IllegalStateException("model unavailable");
+            }
+            return StandInChatModel.instant(1L).call(prompt);
+        };
+        SpringAiDmAgent agent = new SpringAiDmAgent(ChatClient.builder(failingOnce).build(), null, null,
+                "You are the DM.", "");
+        agent.setPayloadEncoder(new ScopedDmInputEncoder(3, 32));
+
+        DmDecision failed = agent.decide(new DmInput(world, LOOK));
+        agent.decide(new DmInput(world, LOOK));
+
+        assertThat(failed.getErrors()).isNotEmpty();
+        assertThat(prompts).hasSize(2);
+        assertThat(prompts.get(1)).isEqualTo(prompts.get(0)).contains("\"ROPE\"", "\"GHOST\"");
+    }
+
+    @Test
+    void theBudgetGoesToTheNearestEntries() {
+        WorldState world = corridor();
+        ScopedDmInputEncoder encoder = new ScopedDmInputEncoder(3, 2);
+
+        DmInputDto payload = encoder.encode(world, LOOK);
+        // T0 and T1 are next to the player; the rope and T2 use the budget, T3 and the ghost are left out
+        assertThat(tileIds(payload)).containsExactly("T0", "T1", "T2");
+        assertThat(payload.getItems()).extracting(ItemSnapshot::getItemId).containsExactly("ROPE");
+        assertThat(payload.getCreatures()).isEmpty();
+        assertThat(payload.getScope().omitted()).isEqualTo(2);
+        assertThat(encoder.getMetrics().omitted()).isEqualTo(2);
+    }
+
+    @Test
+    void fullPayloadsKeepTheirShape() throws Exception {
+        WorldState world = WorldFactory.createDemoWorld("dto-shape");
+        ObjectMapper mapper = new ObjectMapper();
+
+        String full = mapper.writeValueAsString(DmInputDto.from(world, new PlayerCommand("player-1", "LOOK")));
+        String scoped = mapper.writeValueAsString(
+                new ScopedDmInputEncoder(3, 32).encode(world, new PlayerCommand("player-1", "LOOK")));
+
+        assertThat(full).doesNotContain("\"scope\"");
+        assertThat(scoped).contains("\"scope\"");
+    }
+
+    private static List<String> tileIds(DmInputDto dto) {
+        return dto.getTiles().stream().map(TileSnapshot::getTileId).toList();
+    }
+
+    /**
+     * T0 - T1 - T2 - T3 - T4 from west to east; the player at T0, rope on T2, ghost on T3.
+     */
+    private static WorldState corridor() {
+        WorldState world = new WorldState(new GameSession("corridor", 12));
+        Tile previous = null;
+        for (int i = 0; i < 5; i++) {
+            Tile tile = new Tile("T" + i, "BEACH", "COAST", TextFace.empty("Tile " + i));
+            if (previous != null) {
+                previous.connect(Tile.Direction.E, tile.getTileId());
+                tile.connect(Tile.Direction.W, previous.getTileId());
+            }
+            world.getTiles().put(tile.getTileId(), tile);
+            previous = tile;
+        }
+        world.getPlayers().put("p1", new Player("p1", "Ada", "HUMAN", "T0", TextFace.empty("Ada")));
+        world.getCreatures().put("GHOST",
+                new Creature("GHOST", Creature.CreatureKind.GHOST, "T3", TextFace.empty("Ghost")));
+        world.getItemTypes().put("rope", new ItemType("rope", TextFace.empty("Rope"), List.of("tool"), List.of()));
+        world.getItems().put("ROPE",
+                new ItemInstance("ROPE", "rope", ItemInstance.OwnerKind.TILE, "T2", TextFace.empty("Rope")));
+        world.getItems().put("SHELL",
+                new ItemInstance("SHELL", "rope", ItemInstance.OwnerKind.TILE, "T4", TextFace.empty("Shell")));
+        return world;
+    }
+}
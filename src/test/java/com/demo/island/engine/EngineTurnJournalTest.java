@@ -0,0 +1,80 @@
+package com.demo.island.engine;
+
+import com.demo.island.core.WorldState;
+import com.demo.island.engine.check.CheckConfig;
+import com.demo.island.engine.dice.DiceService;
+import com.demo.island.world.WorldFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TurnJournalTest {
+
+    private static final List<String> COMMANDS = List.of("LOOK AROUND", "GO N", "LOOK AROUND", "GO S", "TAKE",
+            "LOOK AROUND", "GO E", "LOOK AROUND", "GO W", "LOOK AROUND", "HELP");
+
+    @Test
+    void replayReproducesTheRecordedEpisodeWithoutTheDm() {
+        WorldState recorded = WorldFactory.createDemoWorld("journal");
+        TurnEngine engine = new TurnEngine(new DiceService(42L));
+        EngineTurnJournal journal = EngineTurnJournal.attach(engine);
+        DmAgent dm = new SimpleDmStubAgent();
+        for (String command : COMMANDS) {
+            engine.runTurn(recorded, new PlayerCommand("player-1", command), dm);
+        }
+
+        WorldState replayed = WorldFactory.createDemoWorld("journal");
+        int turns = journal.replay(replayed, Integer.MAX_VALUE);
+
+        assertThat(turns).isEqualTo(COMMANDS.size());
+        assertThat(journal.getEntries().stream().mapToInt(e -> e.rolls().size()).sum()).isPositive();
+        assertThat(replayed.getSession().getTurnNumber()).isEqualTo(recorded.getSession().getTurnNumber());
+        assertThat(replayed.getSession().getTimePhase()).isEqualTo(recorded.getSession().getTimePhase());
+        assertThat(replayed.getPlayer("player-1").getCurrentTileId())
+                .isEqualTo(recorded.getPlayer("player-1").getCurrentTileId());
+    }
+
+    @Test
+    void journalRoundTripsThroughJsonLines() throws Exception {
+        WorldState recorded = WorldFactory.createDemoWorld("journal");
+        TurnEngine engine = new TurnEngine(new DiceService(42L));
+        EngineTurnJournal journal = EngineTurnJournal.attach(engine);
+        DmAgent dm = new SimpleDmStubAgent();
+        for (String command : COMMANDS) {
+            engine.runTurn(recorded, new PlayerCommand("player-1", command), dm);
+        }
+
+        StringWriter out = new StringWriter();
+        journal.write(out);
+        EngineTurnJournal read = EngineTurnJournal.read(new StringReader(out.toString()), CheckConfig.defaultConfig());
+        assertThat(read.getEntries()).hasSameSizeAs(journal.getEntries());
+        assertThat(read.getEntries().get(1).dmDecision().getStateChanges()).hasSize(
+                journal.getEntries().get(1).dmDecision().getStateChanges().size());
+
+        WorldState replayed = WorldFactory.createDemoWorld("journal");
+        assertThat(read.replay(replayed, Integer.MAX_VALUE)).isEqualTo(COMMANDS.size());
+        assertThat(replayed.getSession().getTurnNumber()).isEqualTo(recorded.getSession().getTurnNumber());
+        assertThat(replayed.getPlayer("player-1").getCurrentTileId())
+                .isEqualTo(recorded.getPlayer("player-1").getCurrentTileId());
+    }
+
+    @Test
+    void replayingOntoADifferentStartingStateReportsDivergence() {
+        TurnEngine engine = new TurnEngine(new DiceService(7L));
+        EngineTurnJournal journal = EngineTurnJournal.attach(engine);
+        WorldState recorded = WorldFactory.createDemoWorld("journal");
+        engine.runTurn(recorded, new PlayerCommand("player-1", "LOOK AROUND"), new SimpleDmStubAgent());
+
+        WorldState advanced = WorldFactory.createDemoWorld("journal");
+        advanced.getSession().advanceTurn();
+
+        assertThatThrownBy(() -> journal.replay(advanced, 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("diverged at journal entry 1");
+    }
+}
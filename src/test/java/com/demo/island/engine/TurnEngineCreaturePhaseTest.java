@@ -0,0 +1,127 @@
+package com.demo.island.engine;
+
+import com.demo.island.core.Creature;
+import com.demo.island.core.WorldState;
+import com.demo.island.engine.check.CheckService;
+import com.demo.island.engine.dice.DiceService;
+import com.demo.island.ghost.GhostDecision;
+import com.demo.island.ghost.GhostIntent;
+import com.demo.island.monkey.MonkeyDecision;
+import com.demo.island.world.WorldFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TurnEngineCreaturePhaseTest {
+
+    private static final DmAgent CONSUMING_DM = input -> new DmDecision("You act.", true);
+
+    @Test
+    void creatureAgentsDecideConcurrentlyOnTheSameWorld() {
+        WorldState world = WorldFactory.createDemoWorld("creature-phase");
+        CountDownLatch bothDeciding = new CountDownLatch(2);
+        AtomicBoolean ghostSawMonkey = new AtomicBoolean();
+        AtomicBoolean monkeySawGhost = new AtomicBoolean();
+        AtomicInteger turnSeenByMonkey = new AtomicInteger(-1);
+        DiceService dice = new DiceService(1L);
+        TurnEngine engine = new TurnEngine(dice, new CheckService(dice),
+                input -> {
+                    bothDeciding.countDown();
+                    ghostSawMonkey.set(await(bothDeciding));
+                    return new GhostDecision("", true);
+                },
+                input -> {
+                    bothDeciding.countDown();
+                    monkeySawGhost.set(await(bothDeciding));
+                    turnSeenByMonkey.set(input.getWorldState().getSession().getTurnNumber());
+                    return new MonkeyDecision("", true);
+                });
+
+        engine.runTurn(world, new PlayerCommand("player-1", "LOOK AROUND"), CONSUMING_DM);
+
+        assertThat(ghostSawMonkey).isTrue();
+        assertThat(monkeySawGhost).isTrue();
+        assertThat(turnSeenByMonkey).hasValue(1);
+    }
+
+    @Test
+    void decisionsApplyInFixedOrderWithTheCreaturesOwnDecisionLast() {
+        WorldState world = WorldFactory.createDemoWorld("creature-order");
+        Creature monkey = world.getCreatures().values().stream()
+                .filter(c -> c.getKind() == Creature.CreatureKind.MONKEY_TROOP)
+                .findFirst()
+                .orElseThrow();
+        DiceService dice = new DiceService(1L);
+        TurnEngine engine = new TurnEngine(dice, new CheckService(dice),
+                input -> {
+                    GhostDecision decision = new GhostDecision("", true);
+                    decision.addAction(GhostIntent.setTargetTile(monkey.getCreatureId(), "T_CAMP"));
+                    return decision;
+                },
+                input -> {
+                    MonkeyDecision decision = new MonkeyDecision("", true);
+                    decision.setTargetTileId("T_BAMBOO");
+                    return decision;
+                });
+
+        for (int i = 0; i < 5; i++) {
+            engine.runTurn(world, new PlayerCommand("player-1", "LOOK AROUND"), CONSUMING_DM);
+            assertThat(world.getCreature(monkey.getCreatureId()).getTargetTileId()).isEqualTo("T_BAMBOO");
+        }
+    }
+
+    @Test
+    void agentFailuresSurfaceFromTheTurn() {
+        WorldState world = WorldFactory.createDemoWorld("creature-failure");
+        DiceService dice = new DiceService(1L);
+        TurnEngine engine = new TurnEngine(dice, new CheckService(dice),
+                input -> {
+                    throw new IllegalStateException("ghost offline");
+                },
+                input -> new MonkeyDecision("", true));
+
+        assertThatThrownBy(() -> engine.runTurn(world, new PlayerCommand("player-1", "LOOK AROUND"), CONSUMING_DM))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("ghost offline");
+    }
+
+    @Test
+    void agentCallsStillQueuedAreCancelledWhenAnotherAgentFails() {
+        WorldState world = WorldFactory.createDemoWorld("creature-cancel");
+        List<Runnable> queued = new ArrayList<>();
+        AtomicBoolean ghostCalled = new AtomicBoolean();
+        DiceService dice = new DiceService(1L);
+        TurnEngine engine = new TurnEngine(dice, new CheckService(dice),
+                input -> {
+                    ghostCalled.set(true);
+                    return new GhostDecision("", true);
+                },
+                input -> {
+                    throw new IllegalStateException("monkey offline");
+                });
+        engine.setCreatureExecutor(queued::add);
+
+        assertThatThrownBy(() -> engine.runTurn(world, new PlayerCommand("player-1", "LOOK AROUND"), CONSUMING_DM))
+                .hasMessage("monkey offline");
+        assertThat(queued).hasSize(1);
+        queued.get(0).run();
+        assertThat(ghostCalled).isFalse();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.demo.island.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingDmAgentTest {
+
+    @Test
+    void reusesRewritesOnceVarietyBudgetIsFilled() {
+        CountingAgent delegate = new CountingAgent();
+        CachingDmAgent cache = new CachingDmAgent(delegate, 16, Duration.ofMinutes(5), 2);
+
+        assertThat(cache.rewrite(context(1, "T_CAMP", "You look around."))).isEqualTo("line-1");
+        assertThat(cache.rewrite(context(2, "T_CAMP", "You look  around. "))).isEqualTo("line-2");
+        // Budget filled: rotate through the collected variants
+        assertThat(cache.rewrite(context(3, "T_CAMP", "You look around."))).isEqualTo("line-1");
+        assertThat(cache.rewrite(context(4, "T_CAMP", "You look around."))).isEqualTo("line-2");
+        assertThat(delegate.calls.get()).isEqualTo(2);
+        assertThat(cache.getHits()).isEqualTo(2);
+
+        cache.rewrite(context(5, "T_BEACH", "You look around."));
+        assertThat(delegate.calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void entriesExpireAfterTtlAndLruIsBounded() {
+        CountingAgent delegate = new CountingAgent();
+        AtomicLong now = new AtomicLong();
+        CachingDmAgent cache = new CachingDmAgent(delegate, 2, Duration.ofSeconds(10), 1, now::get);
+
+        cache.rewrite(context(1, "A", "x"));
+        cache.rewrite(context(2, "A", "x"));
+        assertThat(delegate.calls.get()).isEqualTo(1);
+
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertThat(cache.rewrite(context(3, "A", "x"))).isEqualTo("line-2");
+
+        cache.rewrite(context(4, "B", "x"));
+        cache.rewrite(context(5, "C", "x"));
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void deterministicDelegateIsCalledOncePerBudget() {
+        AtomicInteger calls = new AtomicInteger();
+        DmAgent deterministic = context -> {
+            calls.incrementAndGet();
+            return "The same line.";
+        };
+        CachingDmAgent cache = new CachingDmAgent(deterministic, 16, Duration.ofMinutes(5), 3);
+
+        for (int turn = 1; turn <= 10; turn++) {
+            assertThat(cache.rewrite(context(turn, "T_CAMP", "You look around."))).isEqualTo("The same line.");
+        }
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(cache.getHits()).isEqualTo(7);
+    }
+
+    @Test
+    void declinedRewritesAreNotCached() {
+        DmAgent declining = context -> null;
+        CachingDmAgent cache = new CachingDmAgent(declining, 4, Duration.ofMinutes(1), 1);
+
+        assertThat(cache.rewrite(context(1, "A", "x"))).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private static DmAgentContext context(int turn, String plotId, String coreText) {
+        DmAgentPlotView plot = new DmAgentPlotView(plotId, plotId, "beach", "coast", "desc", Map.of(), List.of());
+        DmAgentActionOutcome outcome = new DmAgentActionOutcome("LOOK", "", OutcomeType.SUCCESS, ReasonCode.OK, coreText, "");
+        DmAgentGhostView ghost = new DmAgentGhostView(false, null, null, null, null, null);
+        DmAgentPlayerView player = new DmAgentPlayerView("Player 1", List.of(), null, null, List.of());
+        return new DmAgentContext(turn, "[" + turn + "]", "DAY", player, plot, outcome, ghost);
+    }
+
+    private static final class CountingAgent implements DmAgent {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String rewrite(DmAgentContext context) {
+            return "line-" + calls.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.demo.island.game;
+
+import com.demo.island.dto.PlotContext;
+import com.demo.island.world.ItemThing;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContextBuilderTest {
+
+    @Test
+    void contextsAreReusedUntilTheWorldMoves() {
+        GameSession session = GameSession.newSession();
+
+        PlotContext first = ContextBuilder.buildPlotContext(session);
+        PlotContext again = ContextBuilder.buildPlotContext(session, session.getLocation().getTileId());
+        session.getClock().advance(1);
+        PlotContext later = ContextBuilder.buildPlotContext(session);
+
+        assertThat(again).isSameAs(first);
+        assertThat(later).isNotSameAs(first);
+        assertThat(session.getPlotContexts().getHits()).isEqualTo(1);
+        assertThat(session.getPlotContexts().getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void thingMovesStartAFreshContext() {
+        GameSession session = GameSession.newSession();
+        PlotContext before = ContextBuilder.buildPlotContext(session);
+        assertThat(before.getVisibleThings()).anyMatch(t -> "THING_HATCHET".equals(t.getId()));
+
+        ((ItemThing) session.getThingIndex().getThing("THING_HATCHET")).setCarriedByCharacterId("THING_PLAYER");
+        session.getThingIndex().moveThing("THING_HATCHET", null);
+        PlotContext after = ContextBuilder.buildPlotContext(session);
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getVisibleThings()).noneMatch(t -> "THING_HATCHET".equals(t.getId()));
+    }
+
+    @Test
+    void neighborSummariesAndThingsAreBuiltOnFirstRead() {
+        GameSession session = GameSession.newSession();
+        PlotContext ctx = ContextBuilder.buildPlotContext(session);
+
+        ctx.setHiddenThings(java.util.List.of());
+
+        assertThat(ctx.getHiddenThings()).isEmpty();
+        assertThat(ctx.getNeighborSummaries()).isNotEmpty().isSameAs(ctx.getNeighborSummaries());
+        assertThat(ctx.getVisibleThings()).isSameAs(ctx.getVisibleThings());
+    }
+}
@@ -0,0 +1,57 @@
+package com.demo.island.game;
+
+import com.demo.island.world.Direction8;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EngineContextTest {
+
+    private static DiceService fixedDice(int roll) {
+        return new DiceService(new Random() {
+            @Override
+            public int nextInt(int bound) {
+                return roll;
+            }
+        });
+    }
+
+    @Test
+    void sessionsUseTheirOwnDiceConcurrently() throws Exception {
+        GameSession lucky = GameSession.newSession(EngineContext.defaults().withDice(fixedDice(17)));
+        GameSession unlucky = GameSession.newSession(EngineContext.defaults().withDice(fixedDice(0)));
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<GameActionResult> a = pool.submit(() -> GameEngine.perform(lucky, GameAction.move(GameActionType.JUMP, Direction8.N)));
+            Future<GameActionResult> b = pool.submit(() -> GameEngine.perform(unlucky, GameAction.move(GameActionType.JUMP, Direction8.N)));
+            assertThat(a.get().isSuccess()).isTrue();
+            assertThat(b.get().isSuccess()).isFalse();
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(lucky.getLocation().getTileId()).isEqualTo("T_CAMP");
+        assertThat(unlucky.getLocation().getTileId()).isEqualTo("T_WRECK_BEACH");
+        assertThat(unlucky.getClock().getTotalPips()).isEqualTo(9);
+    }
+
+    @Test
+    void sessionContextOverridesStaticDefault() {
+        GameEngine.setChallengeResolverForTests(new ChallengeResolver(fixedDice(0)));
+        try {
+            GameSession bound = GameSession.newSession(EngineContext.defaults().withDice(fixedDice(17)));
+            GameSession unbound = GameSession.newSession();
+
+            assertThat(GameEngine.perform(bound, GameAction.move(GameActionType.JUMP, Direction8.N)).isSuccess()).isTrue();
+            assertThat(GameEngine.perform(unbound, GameAction.move(GameActionType.JUMP, Direction8.N)).isSuccess()).isFalse();
+        } finally {
+            GameEngine.setChallengeResolverForTests(new ChallengeResolver(new DiceService()));
+        }
+    }
+}
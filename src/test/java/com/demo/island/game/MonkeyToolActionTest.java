@@ -15,7 +15,7 @@ class MonkeyToolActionTest {
         CharacterThing monkey = findMonkey(session);
         String startPlot = monkey.getCurrentPlotId();
         PlotContext plot = ContextBuilder.buildPlotContext(session, startPlot);
-        Direction8 dir = plot.neighborSummaries.keySet().iterator().next();
+        Direction8 dir = plot.getNeighborSummaries().keySet().iterator().next();
 
         PlayerToolRequest req = PlayerToolRequest.move(dir);
         ToolContext ctx = ToolActionExecutor.buildContext(session, plot, req, dir.name(), "Explore", "CURIOUS", "", monkey.getId());
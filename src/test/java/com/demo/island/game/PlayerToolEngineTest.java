@@ -3,6 +3,11 @@ package com.demo.island.game;
 import com.demo.island.world.Direction8;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class PlayerToolEngineTest {
@@ -23,4 +28,34 @@ class PlayerToolEngineTest {
         assertThat(search.getState().locationId).isEqualTo("T_CAMP");
         assertThat(search.getText()).contains("[");
     }
+
+    @Test
+    void stagedInvokeNarratesAsynchronously() {
+        CountDownLatch release = new CountDownLatch(1);
+        DmAgent slowDm = context -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "The camp smells of smoke.";
+        };
+        GameSession session = GameSession.newSession(EngineContext.defaults().withDmAgent(slowDm));
+        PlayerToolEngine engine = new PlayerToolEngine(session);
+        ExecutorService narration = Executors.newSingleThreadExecutor();
+        try {
+            StagedToolResult staged = engine.invokeStaged(PlayerToolRequest.move(Direction8.N), narration);
+
+            assertThat(staged.getProvisional().getState().locationId).isEqualTo("T_CAMP");
+            assertThat(staged.getProvisional().getText()).doesNotContain("smoke");
+            assertThat(staged.getNarrated()).isNotDone();
+
+            release.countDown();
+            PlayerToolResult narrated = staged.getNarrated().join();
+            assertThat(narrated.getText()).contains("The camp smells of smoke.");
+            assertThat(narrated.getState()).isSameAs(staged.getProvisional().getState());
+        } finally {
+            narration.shutdownNow();
+        }
+    }
 }
@@ -28,7 +28,7 @@ class TakeMovesItemTest {
         assertThat(hatchet.getCarriedByCharacterId()).isEqualTo("THING_PLAYER");
         assertThat(hatchet.getCurrentPlotId()).isNull();
         assertThat(index.getThingsInPlot("T_WRECK_BEACH")).noneMatch(t -> t.getId().equals("THING_HATCHET"));
-        assertThat(res.getTurnContext().plotContext.visibleThings)
+        assertThat(res.getTurnContext().plotContext.getVisibleThings())
                 .noneMatch(tc -> "rusty hatchet".equalsIgnoreCase(tc.getName()));
     }
 
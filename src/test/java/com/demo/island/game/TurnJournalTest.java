@@ -0,0 +1,115 @@
+package com.demo.island.game;
+
+import com.demo.island.world.CharacterThing;
+import com.demo.island.world.Direction8;
+import com.demo.island.world.GardenerWorldConfig;
+import com.demo.island.world.WorldGeometryConfig;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TurnJournalTest {
+
+    @Test
+    void journalRoundTripsAndReplaysWithoutAgents() throws Exception {
+        GameSession recorded = GameSession.newSession(EngineContext.seeded(7));
+        TurnJournal journal = TurnJournal.attach(recorded);
+        play(recorded, 150);
+
+        StringWriter out = new StringWriter();
+        journal.write(out);
+        TurnJournal read = TurnJournal.read(new StringReader(out.toString()));
+        assertThat(read.getEntries()).isEqualTo(journal.getEntries());
+        assertThat(read.getEntries()).anyMatch(e -> !e.rolls().isEmpty());
+        assertThat(read.getEntries()).anyMatch(e -> !e.isPlayerTurn());
+
+        TurnReplayer.Result result = TurnReplayer.replay(read, GameSession.newSession(), Integer.MAX_VALUE);
+
+        assertThat(result.matched()).as(result.divergence()).isTrue();
+        assertThat(result.turnsReplayed()).isEqualTo(journal.size());
+        GameSession replayed = result.session();
+        assertThat(replayed.getLocation().getTileId()).isEqualTo(recorded.getLocation().getTileId());
+        assertThat(replayed.getClock().getTotalPips()).isEqualTo(recorded.getClock().getTotalPips());
+        assertThat(replayed.getInventory()).isEqualTo(recorded.getInventory());
+        assertThat(replayed.getRaftProgress()).isEqualTo(recorded.getRaftProgress());
+    }
+
+    @Test
+    void replayFastForwardsAndReportsDivergence() throws Exception {
+        GameSession recorded = GameSession.newSession(EngineContext.seeded(11));
+        TurnJournal journal = TurnJournal.attach(recorded);
+        play(recorded, 40);
+
+        TurnReplayer.Result partial = TurnReplayer.replay(journal, GameSession.newSession(), 20);
+        assertThat(partial.matched()).isTrue();
+        assertThat(partial.turnsReplayed()).isEqualTo(20);
+        assertThat(partial.session().getClock().getTotalPips()).isEqualTo(journal.getEntries().get(19).totalPips());
+
+        StringWriter out = new StringWriter();
+        journal.write(out);
+        String firstPips = "\"totalPips\":" + journal.getEntries().get(0).totalPips();
+        String tampered = out.toString().replaceFirst(firstPips, "\"totalPips\":-1");
+        TurnReplayer.Result diverged = TurnReplayer.replay(TurnJournal.read(new StringReader(tampered)),
+                GameSession.newSession(), Integer.MAX_VALUE);
+
+        assertThat(diverged.matched()).isFalse();
+        assertThat(diverged.divergedAtTurn()).isEqualTo(1);
+        assertThat(diverged.turnsReplayed()).isZero();
+        assertThat(diverged.divergence()).contains("pips");
+    }
+
+    @Test
+    void replayRebuildsTheWorldTheJournalStartedOn() throws Exception {
+        GameSession recorded = GameSession.newSession(WorldGeometryConfig.island(14, 11),
+                new GardenerWorldConfig(300, 9L));
+        recorded.setEngineContext(EngineContext.seeded(5));
+        TurnJournal journal = TurnJournal.attach(recorded);
+        play(recorded, 60);
+
+        StringWriter out = new StringWriter();
+        journal.write(out);
+        TurnJournal read = TurnJournal.read(new StringReader(out.toString()));
+        assertThat(read.getWorld()).isEqualTo(new TurnJournal.World(14, 11, 300, 9L));
+
+        TurnReplayer.Result result = TurnReplayer.replay(read);
+
+        assertThat(result.matched()).as(result.divergence()).isTrue();
+        assertThat(result.session().getMap().getGeometry()).isEqualTo(recorded.getMap().getGeometry());
+        assertThat(result.session().getGardenerConfig()).isEqualTo(recorded.getGardenerConfig());
+        assertThat(result.session().getLocation().getTileId()).isEqualTo(recorded.getLocation().getTileId());
+    }
+
+    private static void play(GameSession session, int steps) {
+        Random random = new Random(steps);
+        PlayerToolEngine engine = new PlayerToolEngine(session);
+        ToolActionExecutor executor = new ToolActionExecutor();
+        CharacterThing monkey = findMonkey(session);
+        Direction8[] dirs = Direction8.values();
+        for (int i = 0; i < steps && session.getStatus() == GameStatus.IN_PROGRESS; i++) {
+            int pick = random.nextInt(10);
+            if (pick == 0) {
+                PlayerToolRequest req = PlayerToolRequest.move(dirs[random.nextInt(dirs.length)]);
+                executor.execute(ToolActionExecutor.buildContext(session, null, req, "", "Explore", "CURIOUS", "",
+                        monkey.getId()));
+            } else if (pick < 3) {
+                engine.invoke(PlayerToolRequest.search());
+            } else if (pick == 3) {
+                engine.invoke(PlayerToolRequest.look());
+            } else {
+                engine.invoke(PlayerToolRequest.move(dirs[random.nextInt(dirs.length)]));
+            }
+        }
+    }
+
+    private static CharacterThing findMonkey(GameSession session) {
+        return session.getThingIndex().getThingsWithTag("MONKEY_TROOP").stream()
+                .filter(t -> t instanceof CharacterThing)
+                .map(t -> (CharacterThing) t)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,72 @@
+package com.demo.island.game.host;
+
+import com.demo.island.game.EngineContext;
+import com.demo.island.game.GameItemType;
+import com.demo.island.game.GameSession;
+import com.demo.island.game.PlayerToolEngine;
+import com.demo.island.game.PlayerToolRequest;
+import com.demo.island.game.PlayerToolResult;
+import com.demo.island.world.Direction8;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionHostTest {
+
+    private static final List<PlayerToolRequest> SCRIPT = List.of(
+            PlayerToolRequest.look(),
+            PlayerToolRequest.move(Direction8.N),
+            PlayerToolRequest.search(),
+            PlayerToolRequest.take(GameItemType.WOOD_LOG),
+            PlayerToolRequest.move(Direction8.NE),
+            PlayerToolRequest.move(Direction8.S),
+            PlayerToolRequest.move(Direction8.N),
+            PlayerToolRequest.status()
+    );
+
+    @Test
+    void turnsRunInSubmissionOrderPerSession() {
+        List<String> expected = new ArrayList<>();
+        PlayerToolEngine reference = new PlayerToolEngine(GameSession.newSession(EngineContext.seeded(7L)));
+        for (PlayerToolRequest request : SCRIPT) {
+            expected.add(fingerprint(reference.invoke(request)));
+        }
+
+        try (SessionHost host = new SessionHost(4)) {
+            List<String> ids = new ArrayList<>();
+            List<List<CompletableFuture<PlayerToolResult>>> results = new ArrayList<>();
+            for (int s = 0; s < 6; s++) {
+                ids.add(host.openSession(EngineContext.seeded(7L)));
+                results.add(new ArrayList<>());
+            }
+            // Interleave submissions across sessions; each session must still see its own script in order
+            for (PlayerToolRequest request : SCRIPT) {
+                for (int s = 0; s < ids.size(); s++) {
+                    results.get(s).add(host.submit(ids.get(s), request));
+                }
+            }
+            for (List<CompletableFuture<PlayerToolResult>> sessionResults : results) {
+                List<String> actual = sessionResults.stream().map(f -> fingerprint(f.join())).toList();
+                assertThat(actual).containsExactlyElementsOf(expected);
+            }
+            assertThat(host.completedTurns()).isEqualTo((long) SCRIPT.size() * ids.size());
+        }
+    }
+
+    @Test
+    void unknownSessionFailsTheFuture() {
+        try (SessionHost host = new SessionHost(1)) {
+            assertThatThrownBy(() -> host.submit("missing", PlayerToolRequest.look()).join())
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static String fingerprint(PlayerToolResult result) {
+        return result.getState().time + "|" + result.getState().locationId + "|" + result.getState().lastToolResult;
+    }
+}
@@ -0,0 +1,101 @@
+package com.demo.island.player;
+
+import com.demo.island.game.GameSession;
+import com.demo.island.game.PlayerTool;
+import com.demo.island.game.PlayerToolResult;
+import com.demo.island.game.PlayerToolState;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerPromptBuilderTest {
+
+    @Test
+    void systemPromptIsRenderedOnceWithToolList() {
+        PlayerPromptBuilder builder = builder();
+
+        assertThat(builder.systemPrompt()).isSameAs(builder.systemPrompt());
+        assertThat(builder.systemPrompt())
+                .startsWith("You are stranded.\n\nTools:\n")
+                .contains("- LOOK: inspect around free")
+                .endsWith("Invoke exactly one of the tools below.\n");
+    }
+
+    @Test
+    void unchangedSectionsAreReusedAndTurnClockComesLast() {
+        PlayerPromptBuilder builder = builder();
+        GameSession session = GameSession.newSession();
+
+        String first = builder.userPrompt(session, result("[23:59]", List.of("hatchet")), 1, "None", "", "None");
+        int missesAfterFirst = builder.getSectionMisses();
+        String second = builder.userPrompt(session, result("[23:55]", List.of("hatchet")), 2, "LOOK", "", "None");
+
+        assertThat(missesAfterFirst).isEqualTo(3);
+        assertThat(builder.getSectionMisses()).isEqualTo(3);
+        assertThat(builder.getSectionHits()).isEqualTo(3);
+        assertThat(first).startsWith("GAME STATE\n\nNotes:\n")
+                .contains("Exits:\n  N, E\n")
+                .contains("Inventory:\n  hatchet\n")
+                .contains("Memory:\n  How memory works:")
+                .endsWith("Turn: 1\nTime: [23:59] (Phase: NIGHT)\n");
+        String sharedPrefix = first.substring(0, first.indexOf("Last action:"));
+        assertThat(second).startsWith(sharedPrefix);
+    }
+
+    @Test
+    void changedInputsReRenderOnlyTheirSection() {
+        PlayerPromptBuilder builder = builder();
+        GameSession session = GameSession.newSession();
+
+        builder.userPrompt(session, result("[23:59]", List.of()), 1, "None", "", "None");
+        String next = builder.userPrompt(session, result("[23:55]", List.of("wood log")), 2, "TAKE", "wood log", "None");
+
+        assertThat(builder.getSectionMisses()).isEqualTo(4);
+        assertThat(next).contains("Inventory:\n  wood log\n").contains("  Target: wood log\n");
+    }
+
+    @Test
+    void memoryIsRebuiltOnlyWhenItsInputsChange() {
+        PlayerPromptBuilder builder = builder();
+        GameSession session = GameSession.newSession();
+        String plotId = session.getLocation().getTileId();
+        session.getPlayerMemory().recordVisit(plotId, "Beach", "Wet sand.", "Wet sand.", "[23:59]");
+
+        String first = builder.userPrompt(session, result("[23:59]", List.of()), 1, "None", "", "None");
+        builder.userPrompt(session, result("[23:55]", List.of()), 2, "LOOK", "", "None");
+        assertThat(builder.getSectionMisses()).isEqualTo(3);
+
+        session.getMap().tile(plotId).getContext().setCurrentDescription("Scorched sand.");
+        String changed = builder.userPrompt(session, result("[23:50]", List.of()), 3, "LOOK", "", "None");
+        assertThat(builder.getSectionMisses()).isEqualTo(4);
+        assertThat(first).doesNotContain("Scorched sand.");
+        assertThat(changed).contains("Scorched sand.");
+
+        session.getPlayerMemory().recordVisit(plotId, "Beach", "Scorched sand.", "Scorched sand.", "[23:50]");
+        builder.userPrompt(session, result("[23:45]", List.of()), 4, "LOOK", "", "None");
+        assertThat(builder.getSectionMisses()).isEqualTo(5);
+    }
+
+    private static PlayerPromptBuilder builder() {
+        return new PlayerPromptBuilder("You are stranded.",
+                Map.of(PlayerTool.LOOK, new ToolPrompt("inspect", "around", "free")));
+    }
+
+    private static PlayerToolResult result(String time, List<String> inventory) {
+        PlayerToolState state = new PlayerToolState();
+        state.time = time;
+        state.phase = "NIGHT";
+        state.locationId = "T_CAMP";
+        state.locationSummary = "A rough camp.";
+        state.visibleExits = new LinkedHashMap<>();
+        state.visibleExits.put("N", "Beach");
+        state.visibleExits.put("E", "Forest");
+        state.visibleItems = List.of();
+        state.inventory = inventory;
+        return new PlayerToolResult(time + " You look around.", state, null);
+    }
+}
@@ -0,0 +1,51 @@
+package com.demo.island.sim;
+
+import com.demo.island.game.GameEndReason;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EpisodeFarmTest {
+
+    @Test
+    void parallelBatchMatchesSerialBatch() {
+        ToolEpisodeConfig config = new ToolEpisodeConfig(40);
+
+        EpisodeFarmStats serial = new EpisodeFarm(1).run(12, 100L, seed -> new SmartAiTestAgent(), config);
+        EpisodeFarmStats parallel = new EpisodeFarm(4).run(12, 100L, seed -> new SmartAiTestAgent(), config);
+
+        assertThat(serial.getEpisodes()).isEqualTo(12);
+        assertThat(parallel.getEpisodes()).isEqualTo(12);
+        assertThat(parallel.getEndReasonCounts()).isEqualTo(serial.getEndReasonCounts());
+        assertThat(parallel.getAnchorVisitCounts()).isEqualTo(serial.getAnchorVisitCounts());
+        assertThat(parallel.getAverageTurns()).isEqualTo(serial.getAverageTurns());
+        assertThat(serial.getEndReasonCounts().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(12);
+    }
+
+    @Test
+    void statsCountWinsAndTurnsToWin() {
+        EpisodeFarmStats stats = new EpisodeFarmStats();
+        stats.add(summary(GameEndReason.RAFT_LAUNCHED, 50));
+        stats.add(summary(GameEndReason.RAFT_LAUNCHED, 50));
+        EpisodeFarmStats other = new EpisodeFarmStats();
+        other.add(summary(GameEndReason.OUT_OF_TIME, 80));
+        other.add(summary(null, 10));
+        stats.merge(other);
+
+        assertThat(stats.getEpisodes()).isEqualTo(4);
+        assertThat(stats.getWinRate()).isEqualTo(0.5);
+        assertThat(stats.getTurnsToWinHistogram()).containsEntry(50, 2L).hasSize(1);
+        assertThat(stats.getEndReasonCounts()).containsEntry(GameEndReason.NONE, 1L);
+        assertThat(stats.getAnchorVisitFrequency("T_CAMP")).isEqualTo(1.0);
+    }
+
+    private static EpisodeSummary summary(GameEndReason reason, int turns) {
+        EpisodeSummary summary = new EpisodeSummary();
+        summary.gameEndReason = reason;
+        summary.turnsUsed = turns;
+        summary.anchorsVisited = Set.of("T_CAMP");
+        return summary;
+    }
+}
@@ -0,0 +1,60 @@
+package com.demo.island.sim;
+
+import com.demo.island.ai.AgentUsage;
+import com.demo.island.ai.LlmGateway;
+import com.demo.island.game.DmAgent;
+import com.demo.island.game.EngineContext;
+import com.demo.island.game.ghost.GhostAgent;
+import com.demo.island.game.ghost.GhostManifestation;
+import com.demo.island.game.ghost.GhostMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.model.ChatResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolEpisodeRunnerTest {
+
+    @Test
+    void noModelCallsAfterTheBudgetTrips() {
+        AgentUsage usage = new AgentUsage(new AgentUsage.Budget(0, 3, 0));
+        AtomicInteger gatewayCalls = new AtomicInteger();
+        AtomicInteger callsWhenTripped = new AtomicInteger(-1);
+        try (LlmGateway gateway = new LlmGateway(2, 4)) {
+            Runnable call = () -> {
+                try {
+                    usage.call(gateway, "test", Duration.ofSeconds(5), "system", "user", () -> {
+                        gatewayCalls.incrementAndGet();
+                        return new ChatResponse(List.of());
+                    });
+                } catch (TimeoutException e) {
+                    throw new IllegalStateException(e);
+                }
+                if (usage.isOverBudget()) {
+                    callsWhenTripped.compareAndSet(-1, gatewayCalls.get());
+                }
+            };
+            DmAgent dm = context -> {
+                call.run();
+                return null;
+            };
+            GhostAgent ghost = state -> {
+                call.run();
+                return new GhostManifestation(GhostMode.PRESENCE_ONLY, "a cold draft");
+            };
+            EngineContext engineContext = EngineContext.seeded(7L).withDmAgent(dm).withGhostAgent(ghost);
+
+            EpisodeSummary summary = new ToolEpisodeRunner()
+                    .runEpisode(new SmartAiTestAgent(), new ToolEpisodeConfig(30), engineContext, usage);
+
+            assertThat(summary.budgetDegradedAtTurn).isPositive();
+            assertThat(summary.turnsUsed).isGreaterThan(summary.budgetDegradedAtTurn);
+            // Only the rest of the turn that tripped the budget may still call out
+            assertThat(gatewayCalls.get()).isLessThanOrEqualTo(callsWhenTripped.get() + 1);
+        }
+    }
+}
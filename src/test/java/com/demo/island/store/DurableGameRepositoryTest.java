@@ -0,0 +1,150 @@
+package com.demo.island.store;
+
+import com.demo.island.core.ActorEvent;
+import com.demo.island.core.Player;
+import com.demo.island.core.WorldState;
+import com.demo.island.world.WorldFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DurableGameRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void savedSessionsSurviveAReopenAndLaterSavesLogOnlyChanges() {
+        DurableGameRepository repo = new DurableGameRepository(dir, 1_000);
+        WorldState a = WorldFactory.createDemoWorld("a");
+        repo.createNewSession(a);
+        repo.createNewSession(WorldFactory.createDemoWorld("b"));
+        long fullBytes = repo.getMetrics().logBytes() / 2;
+
+        Player player = a.getPlayers().values().iterator().next();
+        a.getSession().advanceTurn();
+        player.getStats().set("HP", 4);
+        player.recordEvent(new ActorEvent(1, player.getCurrentTileId(), "LOOK", null, "looked"));
+        repo.save(a);
+        repo.save(a);
+        DurableGameRepository.Metrics metrics = repo.getMetrics();
+        repo.close();
+
+        assertThat(metrics.saves()).isEqualTo(4);
+        assertThat(metrics.records()).isEqualTo(3);
+        assertThat(metrics.logBytes() - 2 * fullBytes).isLessThan(fullBytes / 4);
+        assertThatThrownBy(() -> repo.save(a)).isInstanceOf(IllegalStateException.class);
+
+        DurableGameRepository reopened = new DurableGameRepository(dir, 1_000);
+        WorldState back = reopened.findBySessionId("a").orElseThrow();
+        assertThat(back.getSession().getTurnNumber()).isEqualTo(1);
+        Player backPlayer = back.getPlayer(player.getPlayerId());
+        assertThat(backPlayer.getStats().asUnmodifiableMap()).isEqualTo(player.getStats().asUnmodifiableMap());
+        assertThat(backPlayer.getRecentEvents()).extracting(ActorEvent::getSummary).containsExactly("looked");
+        assertThat(back.getItems().keySet()).isEqualTo(a.getItems().keySet());
+        assertThat(reopened.findSessions(null, 10)).extracting(w -> w.getSession().getSessionId())
+                .containsExactly("a", "b");
+        reopened.close();
+    }
+
+    @Test
+    void snapshotsReplaceTheSegmentsTheyCover() throws Exception {
+        DurableGameRepository repo = new DurableGameRepository(dir, 3);
+        WorldState world = WorldFactory.createDemoWorld("s");
+        for (int turn = 0; turn < 10; turn++) {
+            world.getSession().advanceTurn();
+            repo.save(world);
+        }
+        repo.close();
+        assertThat(repo.getMetrics().snapshots()).isPositive();
+
+        assertThat(files("wal-")).hasSizeLessThanOrEqualTo(2);
+        assertThat(files("snapshot-")).hasSize(1);
+        DurableGameRepository reopened = new DurableGameRepository(dir, 3);
+        assertThat(reopened.findBySessionId("s").orElseThrow().getSession().getTurnNumber()).isEqualTo(10);
+        reopened.close();
+    }
+
+    @Test
+    void aTornRecordAtTheEndOfTheLogIsDropped() throws Exception {
+        DurableGameRepository repo = new DurableGameRepository(dir, 1_000);
+        WorldState world = WorldFactory.createDemoWorld("t");
+        repo.save(world);
+        world.getSession().advanceTurn();
+        repo.save(world);
+        repo.close();
+        Path last = files("wal-").get(files("wal-").size() - 1);
+        Files.write(last, new byte[]{0, 0, 1, 0, 7, 7}, StandardOpenOption.APPEND);
+
+        for (int reopen = 0; reopen < 2; reopen++) {
+            DurableGameRepository reopened = new DurableGameRepository(dir, 1_000);
+            assertThat(reopened.findBySessionId("t").orElseThrow().getSession().getTurnNumber()).isEqualTo(1);
+            reopened.close();
+        }
+    }
+
+    @Test
+    void savesFailInsteadOfBlockingOnceTheWriterStops() throws Exception {
+        DurableGameRepository repo = new DurableGameRepository(dir, 1_000);
+        WorldState world = WorldFactory.createDemoWorld("w");
+        repo.save(world);
+        Thread writer = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("island-session-log"))
+                .findFirst().orElseThrow();
+        writer.interrupt();
+        writer.join(10_000);
+
+        world.getSession().advanceTurn();
+        assertThatThrownBy(() -> repo.save(world)).isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(InterruptedException.class);
+        repo.close();
+    }
+
+    @Test
+    void concurrentSavesAreAllRecovered() throws Exception {
+        DurableGameRepository repo = new DurableGameRepository(dir, 50);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> saves = new ArrayList<>();
+        for (int s = 0; s < 16; s++) {
+            String sessionId = "c" + s;
+            saves.add(pool.submit(() -> {
+                WorldState world = WorldFactory.createDemoWorld(sessionId);
+                for (int turn = 0; turn < 20; turn++) {
+                    world.getSession().advanceTurn();
+                    repo.save(world);
+                }
+            }));
+        }
+        for (Future<?> save : saves) {
+            save.get();
+        }
+        pool.shutdown();
+        DurableGameRepository.Metrics metrics = repo.getMetrics();
+        repo.close();
+
+        assertThat(metrics.records()).isEqualTo(16 * 20);
+        assertThat(metrics.commits()).isLessThanOrEqualTo(metrics.records());
+        DurableGameRepository reopened = new DurableGameRepository(dir, 50);
+        assertThat(reopened.findAllSessions()).hasSize(16)
+                .allSatisfy(world -> assertThat(world.getSession().getTurnNumber()).isEqualTo(20));
+        reopened.close();
+    }
+
+    private List<Path> files(String prefix) throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.demo.island.store;
+
+import com.demo.island.core.ActorEvent;
+import com.demo.island.core.Player;
+import com.demo.island.core.Tile;
+import com.demo.island.core.TileEvent;
+import com.demo.island.core.WorldState;
+import com.demo.island.world.WorldFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TieredGameRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void leastRecentlyUsedSessionsArePassivatedAndRehydrated() {
+        TieredGameRepository repo = new TieredGameRepository(dir, 2, Duration.ofHours(1));
+        WorldState a = WorldFactory.createDemoWorld("a");
+        Player player = a.getPlayers().values().iterator().next();
+        Tile tile = a.getTile(player.getCurrentTileId());
+        a.getSession().advanceTurn();
+        a.getSession().advanceTurn();
+        player.getStats().set("HP", 3);
+        player.recordEvent(new ActorEvent(1, tile.getTileId(), "MOVE", null, "first"));
+        player.recordEvent(new ActorEvent(2, tile.getTileId(), "LOOK", null, "second"));
+        tile.recordEvent(new TileEvent(tile.getTileId(), 2, player.getPlayerId(), "LOOK", "looked"));
+        repo.createNewSession(a);
+        repo.createNewSession(WorldFactory.createDemoWorld("b"));
+        repo.createNewSession(WorldFactory.createDemoWorld("c"));
+
+        assertThat(repo.getMetrics().hotSessions()).isEqualTo(2);
+        assertThat(repo.getMetrics().coldSessions()).isEqualTo(1);
+
+        WorldState back = repo.findBySessionId("a").orElseThrow();
+        assertThat(back).isNotSameAs(a);
+        assertThat(back.getSession().getTurnNumber()).isEqualTo(2);
+        Player backPlayer = back.getPlayer(player.getPlayerId());
+        assertThat(backPlayer.getStats().asUnmodifiableMap()).isEqualTo(player.getStats().asUnmodifiableMap());
+        assertThat(backPlayer.getRecentEvents()).extracting(ActorEvent::getSummary).containsExactly("second", "first");
+        assertThat(back.getTile(tile.getTileId()).getNeighbors()).isEqualTo(tile.getNeighbors());
+        assertThat(back.getTile(tile.getTileId()).getRecentEvents()).extracting(TileEvent::getSummary)
+                .containsExactly("looked");
+        assertThat(back.getItems().keySet()).isEqualTo(a.getItems().keySet());
+        assertThat(back.getCreatures().keySet()).isEqualTo(a.getCreatures().keySet());
+
+        assertThat(repo.findBySessionId("c")).isPresent();
+        TieredGameRepository.Metrics metrics = repo.getMetrics();
+        assertThat(metrics.misses()).isEqualTo(1);
+        assertThat(metrics.hits()).isEqualTo(1);
+        assertThat(metrics.passivations()).isEqualTo(2);
+        assertThat(repo.findBySessionId("missing")).isEmpty();
+    }
+
+    @Test
+    void idleSessionsArePassivatedAndPagesCoverBothTiers() {
+        AtomicLong now = new AtomicLong();
+        TieredGameRepository repo = new TieredGameRepository(dir, 10, Duration.ofMinutes(5), now::get);
+        for (String id : List.of("s1", "s2", "s3", "s4", "s5")) {
+            repo.save(WorldFactory.createDemoWorld(id));
+        }
+        now.addAndGet(Duration.ofMinutes(4).toMillis());
+        repo.findBySessionId("s4");
+        now.addAndGet(Duration.ofMinutes(2).toMillis());
+        repo.evictIdle();
+
+        assertThat(repo.getMetrics().hotSessions()).isEqualTo(1);
+        assertThat(repo.getMetrics().coldSessions()).isEqualTo(4);
+
+        List<WorldState> first = repo.findSessions(null, 2);
+        List<WorldState> second = repo.findSessions(first.get(1).getSession().getSessionId(), 2);
+        List<WorldState> last = repo.findSessions("s4", 2);
+        assertThat(first).extracting(w -> w.getSession().getSessionId()).containsExactly("s1", "s2");
+        assertThat(second).extracting(w -> w.getSession().getSessionId()).containsExactly("s3", "s4");
+        assertThat(last).extracting(w -> w.getSession().getSessionId()).containsExactly("s5");
+        assertThat(repo.getMetrics().coldSessions()).isEqualTo(4);
+        assertThat(repo.findAllSessions()).hasSize(5);
+    }
+
+    @Test
+    void sessionsLeftOnDiskArePickedUpByTheNextRepository() throws Exception {
+        TieredGameRepository first = new TieredGameRepository(dir, 1, Duration.ofHours(1));
+        for (String id : List.of("x1", "x/2", "x3")) {
+            first.save(WorldFactory.createDemoWorld(id));
+        }
+        Files.writeString(dir.resolve("x4.session.tmp"), "partial");
+
+        TieredGameRepository second = new TieredGameRepository(dir, 1, Duration.ofHours(1));
+
+        assertThat(second.getMetrics().coldSessions()).isEqualTo(2);
+        assertThat(second.findSessions(null, 10)).extracting(w -> w.getSession().getSessionId())
+                .containsExactly("x/2", "x1");
+        assertThat(second.findBySessionId("x/2")).isPresent();
+        assertThat(dir.resolve("x4.session.tmp")).doesNotExist();
+    }
+}
@@ -2,8 +2,13 @@ package com.demo.island.world;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -59,6 +64,49 @@ class GardenCoverageTest {
         }
     }
 
+    @Test
+    void parallelGardenMatchesSingleThreaded() {
+        WorldGeometryConfig geometry = WorldGeometryConfig.island(96, 96);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool wide = new ForkJoinPool(4);
+        try {
+            IslandMap sequential = IslandGardener.garden(geometry, single);
+            IslandMap parallel = IslandGardener.garden(geometry, wide);
+
+            assertThat(parallel.allTiles()).hasSize(sequential.allTiles().size());
+            Iterator<IslandTile> expected = sequential.allTiles().iterator();
+            for (IslandTile tile : parallel.allTiles()) {
+                IslandTile other = expected.next();
+                assertThat(tile.getTileId()).isEqualTo(other.getTileId());
+                assertThat(tile.getBiome()).isEqualTo(other.getBiome());
+                assertThat(tile.getRegion()).isEqualTo(other.getRegion());
+                assertThat(tile.getElevation()).isEqualTo(other.getElevation());
+                assertThat(tile.getDifficulty()).isEqualTo(other.getDifficulty());
+                assertThat(tile.getSafety()).isEqualTo(other.getSafety());
+                assertThat(tile.getPrimaryPlantFamily()).isEqualTo(other.getPrimaryPlantFamily());
+                assertThat(tile.getContext().getBaseDescription()).isEqualTo(other.getContext().getBaseDescription());
+            }
+        } finally {
+            single.shutdown();
+            wide.shutdown();
+        }
+    }
+
+    @Test
+    void influenceDoesNotDependOnAnchorOrder() {
+        WorldGeometryConfig geometry = WorldGeometryConfig.island(40, 40);
+        List<AnchorTile> anchors = new ArrayList<>(AnchorTiles.all());
+        AnchorInfluenceField declared = new AnchorInfluenceField(anchors, geometry);
+        Collections.reverse(anchors);
+        AnchorInfluenceField reversed = new AnchorInfluenceField(anchors, geometry);
+
+        for (int y = geometry.getIslandMinY(); y <= geometry.getIslandMaxY(); y++) {
+            for (int x = geometry.getIslandMinX(); x <= geometry.getIslandMaxX(); x++) {
+                assertThat(reversed.at(x, y)).isEqualTo(declared.at(x, y));
+            }
+        }
+    }
+
     @Test
     void tileContextBasics() {
         IslandMap map = IslandGardener.garden();
@@ -0,0 +1,118 @@
+package com.demo.island.world;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IslandMapTest {
+
+    @Test
+    void gridLookupsMatchPositionAndIdLookups() {
+        IslandMap map = IslandGardener.garden();
+        for (IslandTile tile : map.allTiles()) {
+            Position pos = tile.getPosition();
+            assertThat(map.tileAt(pos.x(), pos.y())).isSameAs(tile);
+            assertThat(map.get(pos)).containsSame(tile);
+            assertThat(map.tile(tile.getTileId())).isSameAs(tile);
+            int index = map.indexOf(tile.getTileId());
+            assertThat(index).isEqualTo(map.indexOf(pos.x(), pos.y()));
+            assertThat(map.byIndex(index)).isSameAs(tile);
+        }
+    }
+
+    @Test
+    void neighborMatchesStep() {
+        IslandMap map = IslandGardener.garden();
+        IslandTile spawn = map.tile(AnchorTiles.startTile().getTileId());
+        for (Direction8 dir : Direction8.values()) {
+            IslandTile expected = map.get(spawn.getPosition().step(dir)).orElse(null);
+            assertThat(map.neighbor(spawn, dir)).isSameAs(expected);
+        }
+    }
+
+    @Test
+    void replacingTileAtPositionDropsOldId() {
+        IslandMap map = IslandGardener.garden();
+        IslandTile cave = map.tile("T_CAVE_FIRST_CHAMBER");
+        assertThat(cave).isNotNull();
+        assertThat(map.tile("G_3_2")).isNull();
+        assertThat(map.get("G_3_2")).isEmpty();
+        assertThat(map.indexOf("G_3_2")).isEqualTo(-1);
+        assertThat(map.allTiles()).hasSize((WorldGeometry.ISLAND_MAX_X - WorldGeometry.ISLAND_MIN_X + 1)
+                * (WorldGeometry.ISLAND_MAX_Y - WorldGeometry.ISLAND_MIN_Y + 1));
+
+        // Replacing a template tile in an overlay drops its id there but not in the template
+        IslandMap overlay = map.overlay();
+        Position pos = cave.getPosition();
+        IslandTile flooded = new IslandTile("T_FLOODED", TileKind.BOUNDARY, pos, "sea", "open_water", "low",
+                TerrainDifficulty.NORMAL, TileSafety.IMPOSSIBLE, false, null, PlantFamily.MOSS, null, PlantDensity.SPARSE,
+                new TileContext("Flooded."));
+        overlay.put(flooded);
+        assertThat(overlay.indexOf("T_CAVE_FIRST_CHAMBER")).isEqualTo(-1);
+        assertThat(overlay.get("T_CAVE_FIRST_CHAMBER")).isEmpty();
+        assertThat(overlay.tileAt(pos.x(), pos.y())).isSameAs(flooded);
+        assertThat(map.tile("T_CAVE_FIRST_CHAMBER")).isSameAs(cave);
+    }
+
+    @Test
+    void positionsOutsideEnvelopeUseSparseFallback() {
+        IslandMap map = new IslandMap();
+        IslandTile far = new IslandTile("FAR", TileKind.BOUNDARY, new Position(10, 10), "sea", "open_water", "low",
+                TerrainDifficulty.NORMAL, TileSafety.IMPOSSIBLE, false, null, PlantFamily.MOSS, null, PlantDensity.SPARSE,
+                new TileContext("Open water."));
+        map.put(far);
+        assertThat(map.indexOf(10, 10)).isEqualTo(-1);
+        assertThat(map.tileAt(10, 10)).isSameAs(far);
+        assertThat(map.tile("FAR")).isSameAs(far);
+        assertThat(map.allTiles()).containsExactly(far);
+    }
+
+    @Test
+    void overlayCopiesTilesOnFirstLookup() {
+        IslandMap template = IslandGardener.garden();
+        IslandMap first = template.overlay();
+        IslandMap second = template.overlay();
+        String spawnId = AnchorTiles.startTile().getTileId();
+
+        IslandTile tile = first.tile(spawnId);
+        tile.getThingHandlesPresent().add(99);
+        tile.setPlayerMemoryNote("been here");
+        tile.getContext().appendHistory(1, TurnClock.TimePhase.LIGHT, "TEST", "Visited");
+
+        assertThat(first.tile(spawnId)).isSameAs(tile);
+        assertThat(second.tile(spawnId).getThingHandlesPresent().isEmpty()).isTrue();
+        assertThat(second.tile(spawnId).getPlayerMemoryNote()).isEmpty();
+        assertThat(second.tile(spawnId).getContext().getHistory()).isEmpty();
+        assertThat(template.tile(spawnId).getThingHandlesPresent().isEmpty()).isTrue();
+        assertThat(first.allTiles()).hasSameSizeAs(template.allTiles());
+        assertThat(second.tile(spawnId).getBiome()).isEqualTo(template.tile(spawnId).getBiome());
+    }
+
+    @Test
+    void iteratingAnOverlaySharesTemplateTilesUntilLookedUp() {
+        IslandMap template = IslandGardener.garden();
+        IslandMap overlay = template.overlay();
+        String spawnId = AnchorTiles.startTile().getTileId();
+        IslandTile shared = template.tile(spawnId);
+
+        assertThat(overlay.allTiles()).hasSameSizeAs(template.allTiles()).contains(shared);
+
+        IslandTile own = overlay.tile(spawnId);
+        assertThat(own).isNotSameAs(shared);
+        assertThat(overlay.allTiles()).contains(own).doesNotContain(shared);
+    }
+
+    @Test
+    void templateCacheBuildsEachConfigOnce() {
+        WorldTemplateCache.clear();
+        IslandCreationResult a = WorldTemplateCache.instantiate();
+        IslandCreationResult b = WorldTemplateCache.instantiate();
+        assertThat(WorldTemplateCache.size()).isEqualTo(1);
+        assertThat(a.getMap()).isNotSameAs(b.getMap());
+        assertThat(a.getReport()).isSameAs(b.getReport());
+
+        String spawnId = AnchorTiles.startTile().getTileId();
+        a.getMap().tile(spawnId).getThingHandlesPresent().add(99);
+        assertThat(b.getMap().tile(spawnId).getThingHandlesPresent().isEmpty()).isTrue();
+    }
+}
@@ -22,7 +22,7 @@ class MovementSafetyDifficultyTest {
         Direction8 dirUsed = null;
         for (Direction8 dir : Direction8.values()) {
             Position candidate = new Position(hardPos.x() - dir.dx(), hardPos.y() - dir.dy());
-            if (map.get(candidate).map(IslandTile::getSafety).orElse(TileSafety.NORMAL) == TileSafety.NORMAL) {
+            if (map.get(candidate).map(IslandTile::getSafety).orElse(TileSafety.IMPOSSIBLE) == TileSafety.NORMAL) {
                 fromPos = candidate;
                 dirUsed = dir;
                 break;
@@ -0,0 +1,101 @@
+package com.demo.island.world;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NavigationIndexTest {
+
+    @Test
+    void nextStepsFollowACheapestLegalPathToEveryAnchor() {
+        IslandMap map = WorldTemplateCache.instantiate().getMap();
+        NavigationIndex nav = map.getNavigation();
+        String start = AnchorTiles.startTile().getTileId();
+
+        for (IslandTile anchor : anchors(map)) {
+            int expected = nav.distance(start, anchor.getTileId());
+            if (expected == NavigationIndex.UNREACHABLE) {
+                continue;
+            }
+            PlayerLocation location = new PlayerLocation(start);
+            int spent = 0;
+            for (int steps = 0; !location.getTileId().equals(anchor.getTileId()); steps++) {
+                assertThat(steps).isLessThan(map.getWidth() * map.getHeight());
+                Direction8 dir = nav.nextStep(map.tile(location.getTileId()), anchor.getTileId());
+                MoveResult move = IslandMovement.move(map, location, dir, new TurnClock());
+                assertThat(move.getOutcome()).isEqualTo(MoveOutcome.MOVE_OK);
+                spent += move.getTimeCost();
+                location = move.getLocation();
+            }
+            assertThat(spent).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void overlaysInheritTemplateFields() {
+        IslandMap map = WorldTemplateCache.instantiate().getMap();
+
+        assertThat(map.getNavigation().fieldCount()).isEqualTo(anchors(map).size());
+    }
+
+    @Test
+    void buildingAFieldOnAnOverlayLeavesTemplateTilesShared() {
+        IslandMap template = IslandGardener.garden();
+        IslandMap overlay = template.overlay();
+        String start = AnchorTiles.startTile().getTileId();
+        String target = overlay.allTiles().stream()
+                .filter(t -> t.getKind() != TileKind.ANCHOR && overlay.getNavigation().distance(start, t.getTileId()) > 0)
+                .map(IslandTile::getTileId)
+                .filter(id -> overlay.getNavigation().distance(start, id) != NavigationIndex.UNREACHABLE)
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(overlay.getNavigation().nextStep(template.tile(start), target)).isNotNull();
+        assertThat(overlay.allTiles()).allMatch(tile -> template.tile(tile.getTileId()) == tile);
+    }
+
+    @Test
+    void blockingAPlotDropsAffectedFieldsAndReroutes() {
+        IslandMap map = WorldTemplateCache.instantiate().getMap();
+        NavigationIndex nav = map.getNavigation();
+        IslandTile start = map.tile(AnchorTiles.startTile().getTileId());
+        String target = anchors(map).stream()
+                .map(IslandTile::getTileId)
+                .filter(id -> nav.distance(start.getTileId(), id) > 3 && nav.distance(start.getTileId(), id) != NavigationIndex.UNREACHABLE)
+                .findFirst()
+                .orElseThrow();
+        int before = nav.distance(start.getTileId(), target);
+        Direction8 firstStep = nav.nextStep(start, target);
+        IslandTile blocked = map.neighbor(start, firstStep);
+
+        map.put(impassable(blocked));
+
+        assertThat(nav.fieldCount()).isLessThan(anchors(map).size());
+        assertThat(nav.nextStep(start, target)).isNotEqualTo(firstStep);
+        assertThat(nav.distance(start.getTileId(), target)).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void replacementsThatKeepCostAndPassabilityKeepFields() {
+        IslandMap map = WorldTemplateCache.instantiate().getMap();
+        NavigationIndex nav = map.getNavigation();
+        int fields = nav.fieldCount();
+        IslandTile start = map.tile(AnchorTiles.startTile().getTileId());
+
+        map.put(start.freshCopy());
+
+        assertThat(nav.fieldCount()).isEqualTo(fields);
+    }
+
+    private static List<IslandTile> anchors(IslandMap map) {
+        return map.allTiles().stream().filter(t -> t.getKind() == TileKind.ANCHOR).toList();
+    }
+
+    private static IslandTile impassable(IslandTile tile) {
+        return new IslandTile(tile.getTileId(), tile.getKind(), tile.getPosition(), tile.getBiome(), tile.getRegion(),
+                tile.getElevation(), tile.getDifficulty(), TileSafety.IMPOSSIBLE, tile.isWalkable(), tile.getFeatures(),
+                tile.getPrimaryPlantFamily(), tile.getSecondaryPlantFamilies(), tile.getPlantDensity(), tile.getContext());
+    }
+}
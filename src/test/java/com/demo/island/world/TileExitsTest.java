@@ -0,0 +1,57 @@
+package com.demo.island.world;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TileExitsTest {
+
+    @Test
+    void exitsAreBuiltOnceAndSharedWithOverlays() {
+        IslandMap map = WorldTemplateCache.instantiate().getMap();
+        IslandTile start = map.tile(AnchorTiles.startTile().getTileId());
+
+        TileExits exits = map.exits(start);
+
+        assertThat(map.exits(start)).isSameAs(exits);
+        assertThat(exits.getDirectionNames()).containsExactlyElementsOf(exits.getSummariesByName().keySet());
+        IslandMap other = WorldTemplateCache.instantiate().getMap();
+        assertThat(other.exits(other.tile(start.getTileId()))).isSameAs(exits);
+        for (Direction8 dir : Direction8.values()) {
+            assertThat(exits.has(dir)).isEqualTo(map.neighbor(start, dir) != null);
+        }
+    }
+
+    @Test
+    void changingANeighborsTerrainRebuildsTheSummary() {
+        IslandMap map = WorldTemplateCache.instantiate().getMap();
+        IslandTile start = map.tile(AnchorTiles.startTile().getTileId());
+        Direction8 dir = map.exits(start).getSummaries().keySet().iterator().next();
+        IslandTile neighbor = map.neighbor(start, dir);
+        TileExits before = map.exits(start);
+
+        map.put(neighbor.freshCopy());
+        assertThat(map.exits(start)).isSameAs(before);
+
+        Set<TerrainFeature> features = EnumSet.noneOf(TerrainFeature.class);
+        features.addAll(neighbor.getFeatures());
+        boolean hadPath = !features.add(TerrainFeature.PATH);
+        if (hadPath) {
+            features.remove(TerrainFeature.PATH);
+        }
+        map.put(withFeatures(neighbor, features));
+
+        assertThat(map.exits(start)).isNotSameAs(before);
+        assertThat(map.exits(start).getSummaries().get(dir).startsWith("Path " + dir.name() + " toward "))
+                .isEqualTo(!hadPath);
+    }
+
+    private static IslandTile withFeatures(IslandTile tile, Set<TerrainFeature> features) {
+        return new IslandTile(tile.getTileId(), tile.getKind(), tile.getPosition(), tile.getBiome(), tile.getRegion(),
+                tile.getElevation(), tile.getDifficulty(), tile.getSafety(), tile.isWalkable(), features,
+                tile.getPrimaryPlantFamily(), tile.getSecondaryPlantFamilies(), tile.getPlantDensity(), tile.getContext());
+    }
+}
@@ -0,0 +1,97 @@
+package com.demo.island.world;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorldFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsEveryTile() throws IOException {
+        IslandMap built = IslandWorldBuilder.buildWorldWithLogging().getMap();
+        Path file = dir.resolve("default.island");
+        WorldFile.write(built, file);
+
+        IslandCreationResult opened = WorldFactory.openIsland(file);
+        IslandMap map = opened.getMap();
+        assertThat(map.getGeometry()).isEqualTo(built.getGeometry());
+        assertThat(opened.getReport().build.plotCount).isEqualTo(built.allTiles().size());
+        assertThat(map.allTiles()).hasSameSizeAs(built.allTiles());
+
+        Iterator<IslandTile> expected = built.allTiles().iterator();
+        for (IslandTile tile : map.allTiles()) {
+            IslandTile other = expected.next();
+            assertThat(tile.getTileId()).isEqualTo(other.getTileId());
+            assertThat(tile.getKind()).isEqualTo(other.getKind());
+            assertThat(tile.getPosition()).isEqualTo(other.getPosition());
+            assertThat(tile.getBiome()).isEqualTo(other.getBiome());
+            assertThat(tile.getRegion()).isEqualTo(other.getRegion());
+            assertThat(tile.getElevation()).isEqualTo(other.getElevation());
+            assertThat(tile.getDifficulty()).isEqualTo(other.getDifficulty());
+            assertThat(tile.getSafety()).isEqualTo(other.getSafety());
+            assertThat(tile.isWalkable()).isEqualTo(other.isWalkable());
+            assertThat(tile.getFeatures()).isEqualTo(other.getFeatures());
+            assertThat(tile.getPrimaryPlantFamily()).isEqualTo(other.getPrimaryPlantFamily());
+            assertThat(tile.getSecondaryPlantFamilies()).isEqualTo(other.getSecondaryPlantFamilies());
+            assertThat(tile.getPlantDensity()).isEqualTo(other.getPlantDensity());
+            assertThat(tile.getContext().getBaseDescription()).isEqualTo(other.getContext().getBaseDescription());
+            assertThat(map.tile(other.getTileId())).isSameAs(tile);
+        }
+        assertThat(map.tile("T_CAVE_FIRST_CHAMBER")).isNotNull();
+        assertThat(map.tile("G_3_2")).isNull();
+        assertThat(map.tile("G_99_99")).isNull();
+    }
+
+    @Test
+    void overlaysOfAnOpenedWorldStayIndependent() throws IOException {
+        Path file = dir.resolve("default.island");
+        WorldFile.write(IslandGardener.garden(), file);
+        IslandMap template = WorldFile.open(file);
+        IslandMap first = template.overlay();
+        IslandMap second = template.overlay();
+
+        String spawnId = AnchorTiles.startTile().getTileId();
+        first.tile(spawnId).getThingHandlesPresent().add(99);
+        assertThat(second.tile(spawnId).getThingHandlesPresent().isEmpty()).isTrue();
+        assertThat(second.tile(spawnId).getBiome()).isEqualTo(first.tile(spawnId).getBiome());
+    }
+
+    @Test
+    void roundTripsNonDefaultGeometry() throws IOException {
+        WorldGeometryConfig geometry = WorldGeometryConfig.island(16, 12);
+        IslandMap built = IslandGardener.garden(geometry);
+        Path file = dir.resolve("wide.island");
+        WorldFile.write(built, file);
+
+        IslandMap map = WorldFile.open(file);
+        assertThat(map.getGeometry()).isEqualTo(geometry);
+        assertThat(map.allTiles()).hasSameSizeAs(built.allTiles());
+    }
+
+    @Test
+    void rejectsTilesOutsideTheEnvelope() {
+        IslandMap map = IslandGardener.garden();
+        map.put(new IslandTile("FAR", TileKind.BOUNDARY, new Position(99, 99), "sea", "open_water", "low",
+                TerrainDifficulty.NORMAL, TileSafety.IMPOSSIBLE, false, null, PlantFamily.MOSS, null, PlantDensity.SPARSE,
+                new TileContext("Open water.")));
+        assertThatThrownBy(() -> WorldFile.write(map, dir.resolve("far.island")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsFilesThatAreNotWorlds() throws IOException {
+        Path file = dir.resolve("bogus.island");
+        Files.writeString(file, "not a world file at all");
+        assertThatThrownBy(() -> WorldFile.open(file)).isInstanceOf(IOException.class);
+    }
+}
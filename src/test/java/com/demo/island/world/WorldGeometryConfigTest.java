@@ -0,0 +1,69 @@
+package com.demo.island.world;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorldGeometryConfigTest {
+
+    @Test
+    void defaultConfigMatchesCanonicalConstants() {
+        WorldGeometryConfig geometry = WorldGeometryConfig.defaultConfig();
+        assertThat(geometry.getWorldMinX()).isEqualTo(WorldGeometry.WORLD_MIN_X);
+        assertThat(geometry.getWorldMaxX()).isEqualTo(WorldGeometry.WORLD_MAX_X);
+        assertThat(geometry.getWorldMinY()).isEqualTo(WorldGeometry.WORLD_MIN_Y);
+        assertThat(geometry.getWorldMaxY()).isEqualTo(WorldGeometry.WORLD_MAX_Y);
+        assertThat(geometry.getIslandMinX()).isEqualTo(WorldGeometry.ISLAND_MIN_X);
+        assertThat(geometry.getIslandMaxX()).isEqualTo(WorldGeometry.ISLAND_MAX_X);
+        assertThat(geometry.getIslandMinY()).isEqualTo(WorldGeometry.ISLAND_MIN_Y);
+        assertThat(geometry.getIslandMaxY()).isEqualTo(WorldGeometry.ISLAND_MAX_Y);
+        assertThat(geometry.getSpawn()).isEqualTo(WorldGeometry.SPAWN);
+
+        WorldGeometryConfig same = WorldGeometryConfig.island(10, 9);
+        assertThat(same.toString()).isEqualTo(geometry.toString());
+    }
+
+    @Test
+    void largeIslandIsFullyGardenedAndConnected() {
+        WorldGeometryConfig geometry = WorldGeometryConfig.island(64, 64);
+        IslandCreationResult result = IslandWorldBuilder.buildWorldWithLogging(geometry);
+        IslandMap map = result.getMap();
+
+        assertThat(map.getGeometry()).isSameAs(geometry);
+        assertThat(map.allTiles()).hasSize(64 * 64);
+        for (AnchorTile anchor : AnchorTiles.all()) {
+            assertThat(map.tile(anchor.getTileId())).isNotNull();
+        }
+        assertThat(result.getReport().geometry.islandEligiblePlotCount).isEqualTo(64 * 64);
+        assertThat(result.getReport().build.plotCount).isEqualTo(64 * 64);
+        assertThat(result.getReport().verdict.readyForCosmos).isTrue();
+    }
+
+    @Test
+    void movementUsesTheMapGeometry() {
+        WorldGeometryConfig geometry = WorldGeometryConfig.island(20, 20);
+        IslandMap map = IslandGardener.garden(geometry);
+        // (0,9) is a boundary row in the default world but open island here
+        assertThat(WorldGeometry.classify(new Position(0, 9))).isEqualTo(WorldGeometry.Classification.BOUNDARY);
+        assertThat(geometry.classify(new Position(0, 9))).isEqualTo(WorldGeometry.Classification.ISLAND_ELIGIBLE);
+        assertThat(map.tileAt(0, 9)).isNotNull();
+        assertThat(map.tileAt(0, 9).getSafety()).isEqualTo(TileSafety.NORMAL);
+    }
+
+    @Test
+    void shorelineCornersScaleWithTheBand() {
+        WorldGeometryConfig geometry = WorldGeometryConfig.island(20, 20);
+        IslandMap map = IslandGardener.garden(geometry);
+        // x = 4 is a dead corner on the default shore but mid-beach here
+        assertThat(map.tile("G_4_0").getSafety()).isEqualTo(TileSafety.NORMAL);
+        assertThat(map.tile("G_" + geometry.getIslandMaxX() + "_0").getSafety()).isEqualTo(TileSafety.DEAD);
+        assertThat(map.tile("G_" + geometry.getIslandMinX() + "_0").getSafety()).isEqualTo(TileSafety.DEAD);
+    }
+
+    @Test
+    void rejectsIslandsTooSmallOrTooLarge() {
+        assertThatThrownBy(() -> WorldGeometryConfig.island(9, 9)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorldGeometryConfig.island(4096, 4096)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
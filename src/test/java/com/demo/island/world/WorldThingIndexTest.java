@@ -0,0 +1,68 @@
+package com.demo.island.world;
+
+import com.demo.island.game.GameItemType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorldThingIndexTest {
+
+    @Test
+    void secondaryIndexesFollowMovesAndCarriers() {
+        WorldThingIndex index = WorldThingSeeder.seed(IslandGardener.garden());
+        ItemThing hatchet = (ItemThing) index.getThing("THING_HATCHET");
+
+        assertThat(index.getItemsInPlot("T_WRECK_BEACH", GameItemType.HATCHET)).containsExactly(hatchet);
+        assertThat(index.getCarriedBy("THING_PLAYER")).isEmpty();
+
+        index.moveThing(hatchet.getId(), null);
+        hatchet.setCarriedByCharacterId("THING_PLAYER");
+        assertThat(index.getItemsInPlot("T_WRECK_BEACH", GameItemType.HATCHET)).isEmpty();
+        assertThat(index.getCarriedBy("THING_PLAYER")).containsExactly(hatchet);
+        assertThat(index.findCarried("THING_PLAYER", GameItemType.HATCHET)).isSameAs(hatchet);
+        assertThat(index.findCarried("THING_PLAYER", GameItemType.WOOD_LOG)).isNull();
+
+        index.moveThing(hatchet.getId(), "T_CAMP");
+        hatchet.setCarriedByCharacterId(null);
+        assertThat(index.getCarriedBy("THING_PLAYER")).isEmpty();
+        assertThat(index.getItemsInPlot("T_CAMP", GameItemType.HATCHET)).containsExactly(hatchet);
+    }
+
+    @Test
+    void tagIndexAnswersTerritoryQueries() {
+        WorldThingIndex index = WorldThingSeeder.seed(IslandGardener.garden());
+
+        assertThat(index.getThingsWithTag("MONKEY_TROOP")).extracting(Thing::getId).containsExactly("THING_MONKEY_TROOP_CAMP");
+        assertThat(index.isTaggedThingAt("T_VINE_FOREST", "MONKEY_TROOP")).isTrue();
+        assertThat(index.isTaggedThingAt("T_CAMP", "MONKEY_TROOP")).isFalse();
+
+        index.moveThing("THING_MONKEY_TROOP_CAMP", "T_CAMP");
+        assertThat(index.isTaggedThingAt("T_CAMP", "MONKEY_TROOP")).isTrue();
+        // Home plot still counts as territory
+        assertThat(index.isTaggedThingAt("T_VINE_FOREST", "MONKEY_TROOP")).isTrue();
+
+        index.moveThing("THING_MONKEY_TROOP_CAMP", "T_VINE_FOREST");
+        assertThat(index.isTaggedThingAt("T_CAMP", "MONKEY_TROOP")).isFalse();
+        assertThat(index.isTaggedThingAt("T_VINE_FOREST", "MONKEY_TROOP")).isTrue();
+        index.moveThing("THING_MONKEY_TROOP_CAMP", "T_CAMP");
+        index.registerThing(index.getThing("THING_MONKEY_TROOP_CAMP"));
+        assertThat(index.isTaggedThingAt("T_CAMP", "MONKEY_TROOP")).isTrue();
+    }
+
+    @Test
+    void occupancyUsesDenseHandles() {
+        IslandMap map = IslandGardener.garden();
+        WorldThingIndex index = WorldThingSeeder.seed(map);
+        Thing player = index.getThing(WorldThingSeeder.PLAYER_ID);
+
+        assertThat(player.getHandle()).isEqualTo(0);
+        assertThat(index.handleOf("THING_HATCHET")).isEqualTo(3);
+        assertThat(index.getThing(player.getHandle())).isSameAs(player);
+        assertThat(map.tile("T_WRECK_BEACH").getThingHandlesPresent().contains(player.getHandle())).isTrue();
+
+        index.moveThing(WorldThingSeeder.PLAYER_ID, "T_CAMP");
+        assertThat(map.tile("T_WRECK_BEACH").getThingHandlesPresent().contains(player.getHandle())).isFalse();
+        assertThat(index.getThingsInPlot(map.tile("T_CAMP"))).containsExactly(player);
+        assertThat(map.tile("T_VINE_FOREST").getThingHandlesAnchoredHere().contains(index.handleOf("THING_MONKEY_TROOP_CAMP"))).isTrue();
+    }
+}